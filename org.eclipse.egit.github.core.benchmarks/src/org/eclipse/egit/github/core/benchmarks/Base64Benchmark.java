@@ -0,0 +1,78 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.egit.github.core.util.EncodingUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of Base64 encoding and decoding blobs through
+ * {@link EncodingUtils}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class Base64Benchmark {
+
+	/**
+	 * Blob size in megabytes
+	 */
+	@Param({ "1", "10", "50" })
+	public int megabytes;
+
+	private byte[] content;
+
+	private String encoded;
+
+	/**
+	 * Create random blob
+	 */
+	@Setup
+	public void setup() {
+		content = new byte[megabytes << 20];
+		new Random(megabytes).nextBytes(content);
+		encoded = EncodingUtils.toBase64(content);
+	}
+
+	/**
+	 * @return encoded blob
+	 */
+	@Benchmark
+	public String encode() {
+		return EncodingUtils.toBase64(content);
+	}
+
+	/**
+	 * @return decoded blob
+	 */
+	@Benchmark
+	public byte[] decode() {
+		return EncodingUtils.fromBase64(encoded);
+	}
+}
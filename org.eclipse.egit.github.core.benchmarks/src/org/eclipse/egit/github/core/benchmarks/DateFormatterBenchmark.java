@@ -0,0 +1,108 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.benchmarks;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.egit.github.core.client.DateFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link DateFormatter} with the v3 format and the v2 fallback
+ * formats, measuring the latency of a single thread and the throughput of 4
+ * threads sharing one formatter like they share {@link
+ * org.eclipse.egit.github.core.client.GsonUtils#getGson()}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateFormatterBenchmark {
+
+	/**
+	 * Formatted date
+	 */
+	@Param({ "2024-03-04T05:06:07Z", "2024/03/04 05:06:07 +0000",
+			"2024-03-04T05:06:07" })
+	public String value;
+
+	private final DateFormatter formatter = new DateFormatter();
+
+	private JsonElement json;
+
+	private Date date;
+
+	/**
+	 * Create date to format and parse
+	 */
+	@Setup
+	public void setup() {
+		json = new JsonPrimitive(value);
+		date = formatter.deserialize(json, Date.class, null);
+	}
+
+	/**
+	 * @return parsed date
+	 */
+	@Benchmark
+	public Date deserialize() {
+		return formatter.deserialize(json, Date.class, null);
+	}
+
+	/**
+	 * @return parsed date
+	 */
+	@Benchmark
+	@Threads(4)
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public Date deserializeThroughput() {
+		return formatter.deserialize(json, Date.class, null);
+	}
+
+	/**
+	 * @return formatted date
+	 */
+	@Benchmark
+	public JsonElement serialize() {
+		return formatter.serialize(date, Date.class, null);
+	}
+
+	/**
+	 * @return formatted date
+	 */
+	@Benchmark
+	@Threads(4)
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public JsonElement serializeThroughput() {
+		return formatter.serialize(date, Date.class, null);
+	}
+}
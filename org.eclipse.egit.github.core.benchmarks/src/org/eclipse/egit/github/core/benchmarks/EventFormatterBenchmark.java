@@ -0,0 +1,88 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.benchmarks;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.egit.github.core.client.EventFormatter;
+import org.eclipse.egit.github.core.client.GsonUtils;
+import org.eclipse.egit.github.core.event.Event;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link EventFormatter} binding an event of each payload type
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventFormatterBenchmark {
+
+	/**
+	 * Event type
+	 */
+	@Param({ "CommitCommentEvent", "CreateEvent", "DeleteEvent",
+			"DownloadEvent", "FollowEvent", "ForkEvent", "ForkApplyEvent",
+			"GistEvent", "GollumEvent", "IssueCommentEvent", "IssuesEvent",
+			"MemberEvent", "PublicEvent", "PullRequestEvent",
+			"PullRequestReviewCommentEvent", "PushEvent", "ReleaseEvent",
+			"TeamAddEvent", "WatchEvent" })
+	public String type;
+
+	private final Gson gson = GsonUtils.getGson();
+
+	private String json;
+
+	private JsonElement tree;
+
+	/**
+	 * Create event of the type
+	 */
+	@Setup
+	public void setup() {
+		json = Payloads.event(type);
+		tree = JsonParser.parseString(json);
+	}
+
+	/**
+	 * @return event bound from a parsed JSON tree
+	 */
+	@Benchmark
+	public Event deserializeTree() {
+		return gson.fromJson(tree, Event.class);
+	}
+
+	/**
+	 * @return event bound from a string
+	 */
+	@Benchmark
+	public Event deserialize() {
+		return gson.fromJson(json, Event.class);
+	}
+}
@@ -0,0 +1,145 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.benchmarks;
+
+import com.google.gson.reflect.TypeToken;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.egit.github.core.Issue;
+import org.eclipse.egit.github.core.RepositoryCommit;
+import org.eclipse.egit.github.core.client.GitHubClient;
+import org.eclipse.egit.github.core.client.GsonUtils;
+import org.eclipse.egit.github.core.event.Event;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of binding pages of 100 resources with {@link GsonUtils} and
+ * {@link GitHubClient#parseJson(java.io.InputStream, Type)}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+
+	/**
+	 * Client exposing the parsing of response bodies
+	 */
+	static class ParsingClient extends GitHubClient {
+
+		<V> V parse(byte[] json, Type type) throws IOException {
+			return parseJson(new ByteArrayInputStream(json), type);
+		}
+
+		<V> V parse(byte[] json, Type type, Set<String> fields)
+				throws IOException {
+			return parseJson(new ByteArrayInputStream(json), type, null,
+					fields);
+		}
+	}
+
+	/**
+	 * Resource type of the page
+	 */
+	@Param({ "issues", "events", "commits" })
+	public String resource;
+
+	private final ParsingClient client = new ParsingClient();
+
+	private String json;
+
+	private byte[] bytes;
+
+	private Type type;
+
+	private Set<String> fields;
+
+	private static Set<String> fields(String... names) {
+		return new HashSet<>(Arrays.asList(names));
+	}
+
+	/**
+	 * Create page of 100 resources
+	 */
+	@Setup
+	public void setup() {
+		switch (resource) {
+		case "issues": //$NON-NLS-1$
+			json = Payloads.issues(100);
+			type = new TypeToken<List<Issue>>() {
+			}.getType();
+			fields = fields("number", "state", "title", "updated_at"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			break;
+		case "events": //$NON-NLS-1$
+			json = Payloads.events(100);
+			type = new TypeToken<List<Event>>() {
+			}.getType();
+			fields = fields("id", "type", "created_at"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			break;
+		default:
+			json = Payloads.commits(100);
+			type = new TypeToken<List<RepositoryCommit>>() {
+			}.getType();
+			fields = fields("sha", "commit"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		bytes = json.getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * @return resources bound from a string
+	 */
+	@Benchmark
+	public List<?> gsonFromJson() {
+		return GsonUtils.fromJson(json, type);
+	}
+
+	/**
+	 * @return resources bound from a response stream
+	 * @throws IOException
+	 */
+	@Benchmark
+	public List<?> parseJson() throws IOException {
+		return client.parse(bytes, type);
+	}
+
+	/**
+	 * @return resources bound from a response stream decoding only the fields
+	 *         a list view shows
+	 * @throws IOException
+	 */
+	@Benchmark
+	public List<?> parseJsonProjected() throws IOException {
+		return client.parse(bytes, type, fields);
+	}
+}
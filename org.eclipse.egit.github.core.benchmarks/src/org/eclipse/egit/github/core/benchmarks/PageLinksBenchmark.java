@@ -0,0 +1,98 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.benchmarks;
+
+import static org.eclipse.egit.github.core.client.IGitHubConstants.HEADER_LINK;
+
+import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.egit.github.core.client.GitHubResponse;
+import org.eclipse.egit.github.core.client.PageLinks;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of parsing the 'Link' header of a page with {@link PageLinks}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageLinksBenchmark {
+
+	private static final String LINKS = "<https://api.github.com/repositories/1296269/issues?state=all&per_page=100&page=3>; rel=\"next\", " //$NON-NLS-1$
+			+ "<https://api.github.com/repositories/1296269/issues?state=all&per_page=100&page=50>; rel=\"last\", " //$NON-NLS-1$
+			+ "<https://api.github.com/repositories/1296269/issues?state=all&per_page=100&page=1>; rel=\"first\", " //$NON-NLS-1$
+			+ "<https://api.github.com/repositories/1296269/issues?state=all&per_page=100&page=1>; rel=\"prev\""; //$NON-NLS-1$
+
+	/**
+	 * Connection answering headers without a network
+	 */
+	static class HeaderConnection extends HttpURLConnection {
+
+		HeaderConnection() throws MalformedURLException {
+			super(new URL("https://api.github.com")); //$NON-NLS-1$
+		}
+
+		@Override
+		public String getHeaderField(String name) {
+			return HEADER_LINK.equals(name) ? LINKS : null;
+		}
+
+		@Override
+		public void disconnect() {
+		}
+
+		@Override
+		public boolean usingProxy() {
+			return false;
+		}
+
+		@Override
+		public void connect() {
+		}
+	}
+
+	private GitHubResponse response;
+
+	/**
+	 * Create response with links to all pages
+	 *
+	 * @throws MalformedURLException
+	 */
+	@Setup
+	public void setup() throws MalformedURLException {
+		response = new GitHubResponse(new HeaderConnection(), null);
+	}
+
+	/**
+	 * @return parsed links
+	 */
+	@Benchmark
+	public PageLinks parse() {
+		return new PageLinks(response);
+	}
+}
@@ -0,0 +1,392 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.benchmarks;
+
+import static org.eclipse.egit.github.core.event.Event.TYPE_COMMIT_COMMENT;
+import static org.eclipse.egit.github.core.event.Event.TYPE_CREATE;
+import static org.eclipse.egit.github.core.event.Event.TYPE_DELETE;
+import static org.eclipse.egit.github.core.event.Event.TYPE_DOWNLOAD;
+import static org.eclipse.egit.github.core.event.Event.TYPE_FOLLOW;
+import static org.eclipse.egit.github.core.event.Event.TYPE_FORK;
+import static org.eclipse.egit.github.core.event.Event.TYPE_FORK_APPLY;
+import static org.eclipse.egit.github.core.event.Event.TYPE_GIST;
+import static org.eclipse.egit.github.core.event.Event.TYPE_GOLLUM;
+import static org.eclipse.egit.github.core.event.Event.TYPE_ISSUES;
+import static org.eclipse.egit.github.core.event.Event.TYPE_ISSUE_COMMENT;
+import static org.eclipse.egit.github.core.event.Event.TYPE_MEMBER;
+import static org.eclipse.egit.github.core.event.Event.TYPE_PUBLIC;
+import static org.eclipse.egit.github.core.event.Event.TYPE_PULL_REQUEST;
+import static org.eclipse.egit.github.core.event.Event.TYPE_PULL_REQUEST_REVIEW_COMMENT;
+import static org.eclipse.egit.github.core.event.Event.TYPE_PUSH;
+import static org.eclipse.egit.github.core.event.Event.TYPE_RELEASE;
+import static org.eclipse.egit.github.core.event.Event.TYPE_TEAM_ADD;
+import static org.eclipse.egit.github.core.event.Event.TYPE_WATCH;
+
+/**
+ * Generator of JSON payloads shaped like real GitHub API v3 responses,
+ * including the URL and id fields the model classes do not bind so parsing
+ * has to skip them like it does in production.
+ */
+public final class Payloads {
+
+	/**
+	 * All event types with a typed payload
+	 */
+	public static final String[] EVENT_TYPES = { TYPE_COMMIT_COMMENT,
+			TYPE_CREATE, TYPE_DELETE, TYPE_DOWNLOAD, TYPE_FOLLOW, TYPE_FORK,
+			TYPE_FORK_APPLY, TYPE_GIST, TYPE_GOLLUM, TYPE_ISSUE_COMMENT,
+			TYPE_ISSUES, TYPE_MEMBER, TYPE_PUBLIC, TYPE_PULL_REQUEST,
+			TYPE_PULL_REQUEST_REVIEW_COMMENT, TYPE_PUSH, TYPE_RELEASE,
+			TYPE_TEAM_ADD, TYPE_WATCH };
+
+	private static final String API = "https://api.github.com"; //$NON-NLS-1$
+
+	private static final String BODY = "Steps to reproduce:\\r\\n\\r\\n1. Open the "
+			+ "repository view\\r\\n2. Refresh twice\\r\\n\\r\\nThe second refresh "
+			+ "fails with a `NullPointerException` in the \\\"Issues\\\" "
+			+ "connector, see the attached log."; //$NON-NLS-1$
+
+	private Payloads() {
+	}
+
+	/**
+	 * Create 40 character hexadecimal SHA-1 derived from the number
+	 *
+	 * @param number
+	 * @return SHA-1
+	 */
+	public static String sha(int number) {
+		StringBuilder sha = new StringBuilder(40);
+		long seed = number * 0x9E3779B97F4A7C15L;
+		while (sha.length() < 40) {
+			seed ^= seed << 13;
+			seed ^= seed >>> 7;
+			seed ^= seed << 17;
+			sha.append(Long.toHexString(seed & 0xffffffffL));
+		}
+		sha.setLength(40);
+		return sha.toString();
+	}
+
+	private static String date(int number) {
+		return String.format("\"2024-%02d-%02dT%02d:%02d:%02dZ\"", //$NON-NLS-1$
+				1 + number % 12, 1 + number % 28, number % 24, number % 60,
+				(number * 7) % 60);
+	}
+
+	private static StringBuilder user(StringBuilder json, String login,
+			int id) {
+		return json.append("{\"login\":\"").append(login) //$NON-NLS-1$
+				.append("\",\"id\":").append(id) //$NON-NLS-1$
+				.append(",\"node_id\":\"MDQ6VXNlcj").append(id) //$NON-NLS-1$
+				.append("\",\"avatar_url\":\"https://avatars.githubusercontent.com/u/") //$NON-NLS-1$
+				.append(id).append("?v=4\",\"gravatar_id\":\"\",\"url\":\"") //$NON-NLS-1$
+				.append(API).append("/users/").append(login) //$NON-NLS-1$
+				.append("\",\"html_url\":\"https://github.com/").append(login) //$NON-NLS-1$
+				.append("\",\"followers_url\":\"").append(API) //$NON-NLS-1$
+				.append("/users/").append(login) //$NON-NLS-1$
+				.append("/followers\",\"repos_url\":\"").append(API) //$NON-NLS-1$
+				.append("/users/").append(login) //$NON-NLS-1$
+				.append("/repos\",\"type\":\"User\",\"site_admin\":false}"); //$NON-NLS-1$
+	}
+
+	private static StringBuilder repository(StringBuilder json, int id) {
+		json.append("{\"id\":").append(id) //$NON-NLS-1$
+				.append(",\"name\":\"hello-world\",\"full_name\":\"octocat/hello-world\",\"owner\":"); //$NON-NLS-1$
+		user(json, "octocat", 583231); //$NON-NLS-1$
+		return json.append(",\"private\":false,\"html_url\":\"https://github.com/octocat/hello-world\"") //$NON-NLS-1$
+				.append(",\"description\":\"My first repository on GitHub!\",\"fork\":false") //$NON-NLS-1$
+				.append(",\"url\":\"").append(API).append("/repos/octocat/hello-world\"") //$NON-NLS-1$ //$NON-NLS-2$
+				.append(",\"created_at\":").append(date(id)) //$NON-NLS-1$
+				.append(",\"updated_at\":").append(date(id + 1)) //$NON-NLS-1$
+				.append(",\"pushed_at\":").append(date(id + 2)) //$NON-NLS-1$
+				.append(",\"homepage\":\"\",\"size\":108,\"stargazers_count\":80") //$NON-NLS-1$
+				.append(",\"watchers_count\":80,\"language\":\"Java\",\"has_issues\":true") //$NON-NLS-1$
+				.append(",\"has_downloads\":true,\"has_wiki\":true,\"forks_count\":9") //$NON-NLS-1$
+				.append(",\"open_issues_count\":2,\"forks\":9,\"open_issues\":2") //$NON-NLS-1$
+				.append(",\"watchers\":80,\"default_branch\":\"master\"}"); //$NON-NLS-1$
+	}
+
+	private static StringBuilder issue(StringBuilder json, int number) {
+		json.append("{\"url\":\"").append(API) //$NON-NLS-1$
+				.append("/repos/octocat/hello-world/issues/").append(number) //$NON-NLS-1$
+				.append("\",\"repository_url\":\"").append(API) //$NON-NLS-1$
+				.append("/repos/octocat/hello-world\",\"html_url\":\"https://github.com/octocat/hello-world/issues/") //$NON-NLS-1$
+				.append(number).append("\",\"id\":").append(1000000 + number) //$NON-NLS-1$
+				.append(",\"node_id\":\"MDU6SXNzdWUx\",\"number\":").append(number) //$NON-NLS-1$
+				.append(",\"title\":\"Found a bug in the issue connector #") //$NON-NLS-1$
+				.append(number).append("\",\"user\":"); //$NON-NLS-1$
+		user(json, "reporter" + number % 10, 2000 + number % 10); //$NON-NLS-1$
+		json.append(",\"labels\":[{\"id\":208045946,\"url\":\"").append(API) //$NON-NLS-1$
+				.append("/repos/octocat/hello-world/labels/bug\",\"name\":\"bug\"") //$NON-NLS-1$
+				.append(",\"color\":\"f29513\",\"default\":true},{\"id\":208045947") //$NON-NLS-1$
+				.append(",\"url\":\"").append(API) //$NON-NLS-1$
+				.append("/repos/octocat/hello-world/labels/connector\",\"name\":\"connector\"") //$NON-NLS-1$
+				.append(",\"color\":\"c5def5\",\"default\":false}],\"state\":\"open\"") //$NON-NLS-1$
+				.append(",\"locked\":false,\"assignee\":"); //$NON-NLS-1$
+		user(json, "octocat", 583231); //$NON-NLS-1$
+		json.append(",\"milestone\":{\"url\":\"").append(API) //$NON-NLS-1$
+				.append("/repos/octocat/hello-world/milestones/1\",\"id\":1002604") //$NON-NLS-1$
+				.append(",\"number\":1,\"state\":\"open\",\"title\":\"v1.0\"") //$NON-NLS-1$
+				.append(",\"description\":\"Tracking milestone for version 1.0\",\"creator\":"); //$NON-NLS-1$
+		user(json, "octocat", 583231); //$NON-NLS-1$
+		return json.append(",\"open_issues\":4,\"closed_issues\":8") //$NON-NLS-1$
+				.append(",\"created_at\":").append(date(1)) //$NON-NLS-1$
+				.append(",\"due_on\":").append(date(2)) //$NON-NLS-1$
+				.append("},\"comments\":").append(number % 7) //$NON-NLS-1$
+				.append(",\"created_at\":").append(date(number)) //$NON-NLS-1$
+				.append(",\"updated_at\":").append(date(number + 3)) //$NON-NLS-1$
+				.append(",\"closed_at\":null,\"author_association\":\"CONTRIBUTOR\"") //$NON-NLS-1$
+				.append(",\"body\":\"").append(BODY).append("\"}"); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private static StringBuilder comment(StringBuilder json, int id) {
+		json.append("{\"url\":\"").append(API) //$NON-NLS-1$
+				.append("/repos/octocat/hello-world/issues/comments/").append(id) //$NON-NLS-1$
+				.append("\",\"id\":").append(id).append(",\"user\":"); //$NON-NLS-1$ //$NON-NLS-2$
+		user(json, "commenter", 3000); //$NON-NLS-1$
+		return json.append(",\"created_at\":").append(date(id)) //$NON-NLS-1$
+				.append(",\"updated_at\":").append(date(id + 1)) //$NON-NLS-1$
+				.append(",\"body\":\"").append(BODY).append("\"}"); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private static StringBuilder commitComment(StringBuilder json, int id) {
+		json.append("{\"url\":\"").append(API) //$NON-NLS-1$
+				.append("/repos/octocat/hello-world/comments/").append(id) //$NON-NLS-1$
+				.append("\",\"id\":").append(id) //$NON-NLS-1$
+				.append(",\"path\":\"src/Main.java\",\"position\":4,\"line\":14") //$NON-NLS-1$
+				.append(",\"commit_id\":\"").append(sha(id)) //$NON-NLS-1$
+				.append("\",\"user\":"); //$NON-NLS-1$
+		user(json, "reviewer", 4000); //$NON-NLS-1$
+		return json.append(",\"created_at\":").append(date(id)) //$NON-NLS-1$
+				.append(",\"updated_at\":").append(date(id + 1)) //$NON-NLS-1$
+				.append(",\"body\":\"").append(BODY).append("\"}"); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private static StringBuilder pullRequest(StringBuilder json, int number) {
+		json.append("{\"url\":\"").append(API) //$NON-NLS-1$
+				.append("/repos/octocat/hello-world/pulls/").append(number) //$NON-NLS-1$
+				.append("\",\"id\":").append(5000000 + number) //$NON-NLS-1$
+				.append(",\"number\":").append(number) //$NON-NLS-1$
+				.append(",\"state\":\"open\",\"title\":\"Fix the issue connector\",\"user\":"); //$NON-NLS-1$
+		user(json, "contributor", 5000); //$NON-NLS-1$
+		json.append(",\"body\":\"").append(BODY) //$NON-NLS-1$
+				.append("\",\"created_at\":").append(date(number)) //$NON-NLS-1$
+				.append(",\"updated_at\":").append(date(number + 1)) //$NON-NLS-1$
+				.append(",\"merged\":false,\"mergeable\":true,\"comments\":3") //$NON-NLS-1$
+				.append(",\"commits\":2,\"additions\":40,\"deletions\":12,\"changed_files\":3") //$NON-NLS-1$
+				.append(",\"head\":{\"label\":\"contributor:fix\",\"ref\":\"fix\",\"sha\":\"") //$NON-NLS-1$
+				.append(sha(number)).append("\",\"user\":"); //$NON-NLS-1$
+		user(json, "contributor", 5000); //$NON-NLS-1$
+		json.append(",\"repo\":"); //$NON-NLS-1$
+		repository(json, 1296269);
+		json.append("},\"base\":{\"label\":\"octocat:master\",\"ref\":\"master\",\"sha\":\"") //$NON-NLS-1$
+				.append(sha(number + 1)).append("\",\"user\":"); //$NON-NLS-1$
+		user(json, "octocat", 583231); //$NON-NLS-1$
+		json.append(",\"repo\":"); //$NON-NLS-1$
+		return repository(json, 1296269).append("}}"); //$NON-NLS-1$
+	}
+
+	private static StringBuilder gitCommit(StringBuilder json, int number) {
+		return json.append("{\"sha\":\"").append(sha(number)) //$NON-NLS-1$
+				.append("\",\"url\":\"").append(API) //$NON-NLS-1$
+				.append("/repos/octocat/hello-world/git/commits/").append(sha(number)) //$NON-NLS-1$
+				.append("\",\"author\":{\"name\":\"Monalisa Octocat\",\"email\":\"support@github.com\",\"date\":") //$NON-NLS-1$
+				.append(date(number))
+				.append("},\"committer\":{\"name\":\"Monalisa Octocat\",\"email\":\"support@github.com\",\"date\":") //$NON-NLS-1$
+				.append(date(number))
+				.append("},\"message\":\"Fix all the bugs\\n\\nThe connector no longer fails on refresh.\"") //$NON-NLS-1$
+				.append(",\"tree\":{\"url\":\"").append(API) //$NON-NLS-1$
+				.append("/repos/octocat/hello-world/tree/").append(sha(number + 1)) //$NON-NLS-1$
+				.append("\",\"sha\":\"").append(sha(number + 1)) //$NON-NLS-1$
+				.append("\"},\"comment_count\":0}"); //$NON-NLS-1$
+	}
+
+	private static StringBuilder commit(StringBuilder json, int number) {
+		json.append("{\"url\":\"").append(API) //$NON-NLS-1$
+				.append("/repos/octocat/hello-world/commits/").append(sha(number)) //$NON-NLS-1$
+				.append("\",\"sha\":\"").append(sha(number)) //$NON-NLS-1$
+				.append("\",\"node_id\":\"MDY6Q29tbWl0\",\"html_url\":\"https://github.com/octocat/hello-world/commit/") //$NON-NLS-1$
+				.append(sha(number)).append("\",\"commit\":"); //$NON-NLS-1$
+		gitCommit(json, number).append(",\"author\":"); //$NON-NLS-1$
+		user(json, "octocat", 583231).append(",\"committer\":"); //$NON-NLS-1$
+		user(json, "octocat", 583231); //$NON-NLS-1$
+		return json.append(",\"parents\":[{\"url\":\"").append(API) //$NON-NLS-1$
+				.append("/repos/octocat/hello-world/commits/").append(sha(number + 2)) //$NON-NLS-1$
+				.append("\",\"sha\":\"").append(sha(number + 2)) //$NON-NLS-1$
+				.append("\"}],\"stats\":{\"additions\":104,\"deletions\":4,\"total\":108}") //$NON-NLS-1$
+				.append(",\"files\":[{\"filename\":\"src/Main.java\",\"additions\":10") //$NON-NLS-1$
+				.append(",\"deletions\":2,\"changes\":12,\"status\":\"modified\"") //$NON-NLS-1$
+				.append(",\"raw_url\":\"https://github.com/octocat/hello-world/raw/") //$NON-NLS-1$
+				.append(sha(number)).append("/src/Main.java\",\"blob_url\":\"https://github.com/octocat/hello-world/blob/") //$NON-NLS-1$
+				.append(sha(number)).append("/src/Main.java\",\"patch\":\"@@ -29,7 +29,7 @@\\n-old\\n+new\"}]}"); //$NON-NLS-1$
+	}
+
+	private static StringBuilder payload(StringBuilder json, String type,
+			int id) {
+		switch (type) {
+		case TYPE_COMMIT_COMMENT:
+			return commitComment(json.append("{\"comment\":"), id).append('}'); //$NON-NLS-1$
+		case TYPE_CREATE:
+			return json.append("{\"ref_type\":\"branch\",\"ref\":\"feature-") //$NON-NLS-1$
+					.append(id).append("\",\"master_branch\":\"master\"") //$NON-NLS-1$
+					.append(",\"description\":\"My first repository\",\"pusher_type\":\"user\"}"); //$NON-NLS-1$
+		case TYPE_DELETE:
+			return json.append("{\"ref_type\":\"branch\",\"ref\":\"feature-") //$NON-NLS-1$
+					.append(id).append("\",\"pusher_type\":\"user\"}"); //$NON-NLS-1$
+		case TYPE_DOWNLOAD:
+			return json.append("{\"download\":{\"url\":\"").append(API) //$NON-NLS-1$
+					.append("/repos/octocat/hello-world/downloads/").append(id) //$NON-NLS-1$
+					.append("\",\"html_url\":\"https://github.com/repos/octocat/hello-world/downloads/new_file.jpg\"") //$NON-NLS-1$
+					.append(",\"id\":").append(id) //$NON-NLS-1$
+					.append(",\"name\":\"new_file.jpg\",\"description\":\"Description of your download\"") //$NON-NLS-1$
+					.append(",\"size\":1024,\"download_count\":40,\"content_type\":\".jpg\"}}"); //$NON-NLS-1$
+		case TYPE_FOLLOW:
+			return user(json.append("{\"target\":"), "target", id).append('}'); //$NON-NLS-1$ //$NON-NLS-2$
+		case TYPE_FORK:
+			return repository(json.append("{\"forkee\":"), id).append('}'); //$NON-NLS-1$
+		case TYPE_FORK_APPLY:
+			return json.append("{\"head\":\"master\",\"before\":\"").append(sha(id)) //$NON-NLS-1$
+					.append("\",\"after\":\"").append(sha(id + 1)).append("\"}"); //$NON-NLS-1$ //$NON-NLS-2$
+		case TYPE_GIST:
+			json.append("{\"action\":\"create\",\"gist\":{\"url\":\"").append(API) //$NON-NLS-1$
+					.append("/gists/").append(id).append("\",\"id\":\"").append(id) //$NON-NLS-1$ //$NON-NLS-2$
+					.append("\",\"description\":\"description of gist\",\"public\":true,\"owner\":"); //$NON-NLS-1$
+			return user(json, "octocat", 583231) //$NON-NLS-1$
+					.append(",\"files\":{\"ring.erl\":{\"size\":932,\"filename\":\"ring.erl\"") //$NON-NLS-1$
+					.append(",\"raw_url\":\"https://gist.githubusercontent.com/raw/365370/ring.erl\"}}") //$NON-NLS-1$
+					.append(",\"comments\":0,\"created_at\":").append(date(id)) //$NON-NLS-1$
+					.append(",\"updated_at\":").append(date(id + 1)).append("}}"); //$NON-NLS-1$ //$NON-NLS-2$
+		case TYPE_GOLLUM:
+			return json.append("{\"pages\":[{\"page_name\":\"Home\",\"title\":\"Home\"") //$NON-NLS-1$
+					.append(",\"summary\":null,\"action\":\"edited\",\"sha\":\"").append(sha(id)) //$NON-NLS-1$
+					.append("\",\"html_url\":\"https://github.com/octocat/hello-world/wiki/Home\"}]}"); //$NON-NLS-1$
+		case TYPE_ISSUE_COMMENT:
+			issue(json.append("{\"action\":\"created\",\"issue\":"), id); //$NON-NLS-1$
+			return comment(json.append(",\"comment\":"), id).append('}'); //$NON-NLS-1$
+		case TYPE_ISSUES:
+			return issue(json.append("{\"action\":\"opened\",\"issue\":"), id) //$NON-NLS-1$
+					.append('}');
+		case TYPE_MEMBER:
+			return user(json.append("{\"member\":"), "member", id) //$NON-NLS-1$ //$NON-NLS-2$
+					.append(",\"action\":\"added\"}"); //$NON-NLS-1$
+		case TYPE_PUBLIC:
+			return json.append("{}"); //$NON-NLS-1$
+		case TYPE_PULL_REQUEST:
+			json.append("{\"action\":\"opened\",\"number\":").append(id) //$NON-NLS-1$
+					.append(",\"pull_request\":"); //$NON-NLS-1$
+			return pullRequest(json, id).append('}');
+		case TYPE_PULL_REQUEST_REVIEW_COMMENT:
+			commitComment(json.append("{\"action\":\"created\",\"comment\":"), id); //$NON-NLS-1$
+			return pullRequest(json.append(",\"pull_request\":"), id) //$NON-NLS-1$
+					.append('}');
+		case TYPE_PUSH:
+			json.append("{\"push_id\":").append(id) //$NON-NLS-1$
+					.append(",\"size\":2,\"distinct_size\":2,\"ref\":\"refs/heads/master\"") //$NON-NLS-1$
+					.append(",\"head\":\"").append(sha(id)) //$NON-NLS-1$
+					.append("\",\"before\":\"").append(sha(id + 1)) //$NON-NLS-1$
+					.append("\",\"commits\":["); //$NON-NLS-1$
+			for (int i = 0; i < 2; i++) {
+				if (i > 0)
+					json.append(',');
+				json.append("{\"sha\":\"").append(sha(id + i)) //$NON-NLS-1$
+						.append("\",\"author\":{\"email\":\"support@github.com\",\"name\":\"Monalisa Octocat\"}") //$NON-NLS-1$
+						.append(",\"message\":\"Fix all the bugs\",\"distinct\":true,\"url\":\"") //$NON-NLS-1$
+						.append(API).append("/repos/octocat/hello-world/commits/") //$NON-NLS-1$
+						.append(sha(id + i)).append("\"}"); //$NON-NLS-1$
+			}
+			return json.append("]}"); //$NON-NLS-1$
+		case TYPE_RELEASE:
+			return json.append("{\"action\":\"published\",\"release\":{\"url\":\"") //$NON-NLS-1$
+					.append(API).append("/repos/octocat/hello-world/releases/").append(id) //$NON-NLS-1$
+					.append("\",\"id\":").append(id) //$NON-NLS-1$
+					.append(",\"tag_name\":\"v1.0.0\",\"target_commitish\":\"master\"") //$NON-NLS-1$
+					.append(",\"name\":\"v1.0.0\",\"body\":\"Description of the release\"") //$NON-NLS-1$
+					.append(",\"draft\":false,\"prerelease\":false,\"created_at\":") //$NON-NLS-1$
+					.append(date(id)).append(",\"published_at\":").append(date(id + 1)) //$NON-NLS-1$
+					.append("}}"); //$NON-NLS-1$
+		case TYPE_TEAM_ADD:
+			json.append("{\"team\":{\"url\":\"").append(API).append("/teams/1") //$NON-NLS-1$ //$NON-NLS-2$
+					.append("\",\"name\":\"Owners\",\"id\":1,\"permission\":\"admin\"") //$NON-NLS-1$
+					.append(",\"members_count\":3,\"repos_count\":10},\"user\":"); //$NON-NLS-1$
+			user(json, "member", id); //$NON-NLS-1$
+			return repository(json.append(",\"repo\":"), id).append('}'); //$NON-NLS-1$
+		case TYPE_WATCH:
+			return json.append("{\"action\":\"started\"}"); //$NON-NLS-1$
+		default:
+			throw new IllegalArgumentException(type);
+		}
+	}
+
+	private static StringBuilder event(StringBuilder json, String type, int id) {
+		json.append("{\"id\":\"").append(20000000000L + id) //$NON-NLS-1$
+				.append("\",\"type\":\"").append(type) //$NON-NLS-1$
+				.append("\",\"actor\":"); //$NON-NLS-1$
+		user(json, "actor" + id % 10, 6000 + id % 10); //$NON-NLS-1$
+		json.append(",\"repo\":{\"id\":1296269,\"name\":\"octocat/hello-world\",\"url\":\"") //$NON-NLS-1$
+				.append(API).append("/repos/octocat/hello-world\"},\"payload\":"); //$NON-NLS-1$
+		payload(json, type, id);
+		return json.append(",\"public\":true,\"created_at\":").append(date(id)) //$NON-NLS-1$
+				.append('}');
+	}
+
+	/**
+	 * Create JSON array of issues
+	 *
+	 * @param count
+	 * @return JSON
+	 */
+	public static String issues(int count) {
+		StringBuilder json = new StringBuilder(count * 4096).append('[');
+		for (int i = 1; i <= count; i++)
+			issue(i > 1 ? json.append(',') : json, i);
+		return json.append(']').toString();
+	}
+
+	/**
+	 * Create JSON array of repository commits
+	 *
+	 * @param count
+	 * @return JSON
+	 */
+	public static String commits(int count) {
+		StringBuilder json = new StringBuilder(count * 4096).append('[');
+		for (int i = 1; i <= count; i++)
+			commit(i > 1 ? json.append(',') : json, i);
+		return json.append(']').toString();
+	}
+
+	/**
+	 * Create JSON array of events cycling through all event types
+	 *
+	 * @param count
+	 * @return JSON
+	 */
+	public static String events(int count) {
+		StringBuilder json = new StringBuilder(count * 4096).append('[');
+		for (int i = 1; i <= count; i++)
+			event(i > 1 ? json.append(',') : json,
+					EVENT_TYPES[(i - 1) % EVENT_TYPES.length], i);
+		return json.append(']').toString();
+	}
+
+	/**
+	 * Create JSON of single event of the type
+	 *
+	 * @param type
+	 * @return JSON
+	 */
+	public static String event(String type) {
+		return event(new StringBuilder(4096), type, 1).toString();
+	}
+}
@@ -0,0 +1,90 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.benchmarks;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.egit.github.core.client.GitHubRequest;
+import org.eclipse.egit.github.core.client.PagedRequest;
+import org.eclipse.egit.github.core.util.UrlUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of generating request URIs with {@link GitHubRequest} and
+ * {@link UrlUtils}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UriBenchmark {
+
+	private GitHubRequest request;
+
+	private PagedRequest<?> pagedRequest;
+
+	/**
+	 * Create issue query requests
+	 */
+	@Setup
+	public void setup() {
+		Map<String, String> params = new LinkedHashMap<>();
+		params.put("state", "open"); //$NON-NLS-1$ //$NON-NLS-2$
+		params.put("labels", "bug,help wanted,good first issue"); //$NON-NLS-1$ //$NON-NLS-2$
+		params.put("sort", "updated"); //$NON-NLS-1$ //$NON-NLS-2$
+		params.put("direction", "desc"); //$NON-NLS-1$ //$NON-NLS-2$
+		params.put("since", "2024-03-04T05:06:07Z"); //$NON-NLS-1$ //$NON-NLS-2$
+		request = new GitHubRequest().setUri(
+				"/repos/octocat/hello-world/issues").setParams(params); //$NON-NLS-1$
+		pagedRequest = new PagedRequest<>(3, 100);
+		pagedRequest.setUri("/repos/octocat/hello-world/issues") //$NON-NLS-1$
+				.setParams(params);
+	}
+
+	/**
+	 * @return generated uri
+	 */
+	@Benchmark
+	public String generateUri() {
+		return request.generateUri();
+	}
+
+	/**
+	 * @return generated uri with page parameters
+	 */
+	@Benchmark
+	public String generatePagedUri() {
+		return pagedRequest.generateUri();
+	}
+
+	/**
+	 * @return encoded value
+	 */
+	@Benchmark
+	public String encode() {
+		return UrlUtils.encode("label:\"help wanted\" repo:octocat/hello-world cr\u00e9\u00e9"); //$NON-NLS-1$
+	}
+}
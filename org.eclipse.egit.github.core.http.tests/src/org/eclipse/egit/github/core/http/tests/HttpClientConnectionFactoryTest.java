@@ -0,0 +1,370 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.http.tests;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.net.ServerSocket;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.egit.github.core.http.HttpClientConnectionFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link HttpClientConnectionFactory} against a local server
+ */
+public class HttpClientConnectionFactoryTest {
+
+	private HttpServer server;
+
+	private HttpClientConnectionFactory factory;
+
+	private final AtomicReference<HttpExchange> exchange = new AtomicReference<>();
+
+	private final AtomicReference<byte[]> received = new AtomicReference<>();
+
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	/**
+	 * Start server
+	 *
+	 * @throws IOException
+	 */
+	@Before
+	public void before() throws IOException {
+		server = HttpServer.create(
+				new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/ok", e -> respond(e, 200, "ok"));
+		server.createContext("/missing", e -> respond(e, 404, "missing"));
+		server.createContext("/echo", e -> respond(e, 201, "created"));
+		server.createContext("/stalled-headers", e -> {
+			stall();
+			respond(e, 200, "ok");
+		});
+		server.createContext("/stalled-body", e -> {
+			e.sendResponseHeaders(200, 2);
+			try (OutputStream out = e.getResponseBody()) {
+				out.write('o');
+				out.flush();
+				stall();
+				out.write('k');
+			}
+		});
+		server.setExecutor(Executors.newCachedThreadPool());
+		server.start();
+		factory = new HttpClientConnectionFactory(Duration.ofSeconds(5),
+				Duration.ofSeconds(5));
+	}
+
+	/**
+	 * Stop server
+	 */
+	@After
+	public void after() {
+		release.countDown();
+		server.stop(0);
+	}
+
+	private void stall() {
+		try {
+			release.await(10, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void respond(HttpExchange e, int code, String body)
+			throws IOException {
+		exchange.set(e);
+		received.set(e.getRequestBody().readAllBytes());
+		byte[] bytes = body.getBytes(UTF_8);
+		e.getResponseHeaders().add("X-Test", "one");
+		e.getResponseHeaders().add("X-Test", "two");
+		e.sendResponseHeaders(code, bytes.length);
+		try (OutputStream out = e.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	private HttpURLConnection open(String path) throws IOException {
+		URL url = new URL("http", "localhost", server.getAddress().getPort(),
+				path);
+		return factory.createConnection(url, Proxy.NO_PROXY);
+	}
+
+	private static String read(InputStream stream) throws IOException {
+		try (InputStream in = stream) {
+			return new String(in.readAllBytes(), UTF_8);
+		}
+	}
+
+	private static byte[] content(int length) {
+		byte[] content = new byte[length];
+		for (int i = 0; i < length; i++)
+			content[i] = (byte) i;
+		return content;
+	}
+
+	/**
+	 * Read status code, headers and body of a successful response
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void statusAndHeaders() throws IOException {
+		HttpURLConnection connection = open("/ok");
+		connection.setRequestProperty("Accept", "application/json");
+		assertEquals(200, connection.getResponseCode());
+		assertEquals("one", connection.getHeaderField("X-Test"));
+		List<String> values = connection.getHeaderFields().get("x-test");
+		assertEquals(List.of("one", "two"), values);
+		assertEquals("ok", read(connection.getInputStream()));
+		assertNull(connection.getErrorStream());
+		assertEquals("application/json",
+				exchange.get().getRequestHeaders().getFirst("Accept"));
+	}
+
+	/**
+	 * Read body of an error response from the error stream
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void errorStream() throws IOException {
+		HttpURLConnection connection = open("/missing");
+		assertEquals(404, connection.getResponseCode());
+		assertEquals("missing", read(connection.getErrorStream()));
+		try {
+			connection.getInputStream();
+			fail("Exception not thrown");
+		} catch (IOException e) {
+			assertTrue(e.getMessage().contains("404"));
+		}
+	}
+
+	/**
+	 * Failed connect fails every later access to the response
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void failedConnect() throws IOException {
+		int port;
+		try (ServerSocket socket = new ServerSocket(0, 1,
+				InetAddress.getLoopbackAddress())) {
+			port = socket.getLocalPort();
+		}
+		HttpURLConnection connection = factory.createConnection(
+				new URL("http", "localhost", port, "/"), Proxy.NO_PROXY);
+		try {
+			connection.getResponseCode();
+			fail("Exception not thrown");
+		} catch (IOException e) {
+			// Expected
+		}
+		try {
+			connection.getResponseCode();
+			fail("Exception not thrown");
+		} catch (IOException e) {
+			assertTrue(e.getCause() instanceof IOException);
+		}
+		try {
+			connection.getInputStream();
+			fail("Exception not thrown");
+		} catch (IOException e) {
+			// Expected
+		}
+		assertNull(connection.getHeaderField("X-Test"));
+		assertTrue(connection.getHeaderFields().isEmpty());
+		assertNull(connection.getHeaderFieldKey(0));
+		assertNull(connection.getErrorStream());
+	}
+
+	/**
+	 * Send a request body collected before the response is requested
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void requestBody() throws IOException {
+		HttpURLConnection connection = open("/echo");
+		connection.setRequestMethod("POST");
+		connection.setDoOutput(true);
+		connection.setRequestProperty("Content-Type", "application/json");
+		try (OutputStream out = connection.getOutputStream()) {
+			out.write("{\"a\":1}".getBytes(UTF_8));
+		}
+		assertEquals(201, connection.getResponseCode());
+		assertEquals("created", read(connection.getInputStream()));
+		assertEquals("{\"a\":1}", new String(received.get(), UTF_8));
+		assertEquals("application/json",
+				exchange.get().getRequestHeaders().getFirst("Content-Type"));
+	}
+
+	/**
+	 * Stream a request body of a fixed length
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void fixedLengthRequestBody() throws IOException {
+		byte[] content = content(1 << 20);
+		HttpURLConnection connection = open("/echo");
+		connection.setRequestMethod("POST");
+		connection.setDoOutput(true);
+		connection.setFixedLengthStreamingMode(content.length);
+		try (OutputStream out = connection.getOutputStream()) {
+			for (int i = 0; i < content.length; i += 8192)
+				out.write(content, i, 8192);
+		}
+		assertEquals(201, connection.getResponseCode());
+		assertArrayEquals(content, received.get());
+		assertEquals(Integer.toString(content.length), exchange.get()
+				.getRequestHeaders().getFirst("Content-Length"));
+	}
+
+	/**
+	 * Stream a request body of an unknown length
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void chunkedRequestBody() throws IOException {
+		byte[] content = content(1 << 20);
+		HttpURLConnection connection = open("/echo");
+		connection.setRequestMethod("PUT");
+		connection.setDoOutput(true);
+		connection.setChunkedStreamingMode(4096);
+		try (OutputStream out = connection.getOutputStream()) {
+			for (byte b : content(100))
+				out.write(b);
+			out.write(content, 100, content.length - 100);
+		}
+		assertEquals(201, connection.getResponseCode());
+		assertArrayEquals(content, received.get());
+		assertEquals("PUT", exchange.get().getRequestMethod());
+	}
+
+	/**
+	 * Stream an empty request body of a fixed length
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void emptyFixedLengthRequestBody() throws IOException {
+		HttpURLConnection connection = open("/echo");
+		connection.setRequestMethod("POST");
+		connection.setDoOutput(true);
+		connection.setFixedLengthStreamingMode(0);
+		connection.getOutputStream().close();
+		assertEquals(201, connection.getResponseCode());
+		assertEquals(0, received.get().length);
+	}
+
+	/**
+	 * Writing after the response was read fails
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void writeAfterResponse() throws IOException {
+		HttpURLConnection connection = open("/ok");
+		connection.setDoOutput(true);
+		assertEquals(200, connection.getResponseCode());
+		try {
+			connection.getOutputStream();
+			fail("Exception not thrown");
+		} catch (IOException e) {
+			// Expected
+		}
+	}
+
+	/**
+	 * Connection defaults to the timeouts of the factory
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void defaultTimeouts() throws IOException {
+		HttpURLConnection connection = open("/ok");
+		assertEquals(5000, connection.getConnectTimeout());
+		assertEquals(5000, connection.getReadTimeout());
+	}
+
+	/**
+	 * Response headers not arriving within the timeouts set on the connection
+	 * fail the request
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void stalledHeaders() throws IOException {
+		HttpURLConnection connection = open("/stalled-headers");
+		connection.setConnectTimeout(100);
+		connection.setReadTimeout(200);
+		long start = System.nanoTime();
+		try {
+			connection.getResponseCode();
+			fail("Exception not thrown");
+		} catch (IOException e) {
+			// Expected
+		}
+		assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+	}
+
+	/**
+	 * Reading a response body that stalls fails once the read timeout set on
+	 * the connection elapses
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void stalledBody() throws IOException {
+		HttpURLConnection connection = open("/stalled-body");
+		connection.setReadTimeout(200);
+		assertEquals(200, connection.getResponseCode());
+		InputStream in = connection.getInputStream();
+		assertEquals('o', in.read());
+		try {
+			in.read();
+			fail("Exception not thrown");
+		} catch (SocketTimeoutException e) {
+			// Expected
+		}
+		connection.disconnect();
+	}
+}
@@ -0,0 +1,181 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.http.HttpClient;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pipe handing a request body written by the caller to the {@link HttpClient}
+ * thread sending it.
+ * <p>
+ * At most {@link #CAPACITY} written chunks are held at a time, so streamed
+ * bodies are never buffered in memory as a whole. Writes fail once the pipe is
+ * aborted, and reads fail when the writer does not write or close the body
+ * within the read timeout of the connection, so neither side can block
+ * forever on the other.
+ */
+class BodyPipe {
+
+	/**
+	 * Number of written chunks held before writes block
+	 */
+	static final int CAPACITY = 16;
+
+	private static final byte[] END = new byte[0];
+
+	private static final long POLL_INTERVAL = 100;
+
+	private final BlockingQueue<byte[]> chunks = new ArrayBlockingQueue<>(
+			CAPACITY);
+
+	private final int timeout;
+
+	private volatile IOException failure;
+
+	private final OutputStream output = new OutputStream() {
+
+		private boolean closed;
+
+		@Override
+		public void write(int b) throws IOException {
+			write(new byte[] { (byte) b }, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			if (closed)
+				throw new IOException("Stream closed"); //$NON-NLS-1$
+			if (len > 0)
+				put(Arrays.copyOfRange(b, off, off + len));
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (closed)
+				return;
+			closed = true;
+			try {
+				put(END);
+			} catch (IOException e) {
+				// Nothing is left to send once the request has completed
+				if (failure == null)
+					throw e;
+			}
+		}
+	};
+
+	private final InputStream input = new InputStream() {
+
+		private byte[] chunk;
+
+		private int position;
+
+		@Override
+		public int read() throws IOException {
+			byte[] single = new byte[1];
+			return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (len == 0)
+				return 0;
+			if (chunk != END && (chunk == null || position == chunk.length)) {
+				chunk = take();
+				position = 0;
+			}
+			if (chunk == END)
+				return -1;
+			int read = Math.min(len, chunk.length - position);
+			System.arraycopy(chunk, position, b, off, read);
+			position += read;
+			return read;
+		}
+	};
+
+	/**
+	 * Create pipe
+	 *
+	 * @param timeout
+	 *            maximum time in milliseconds the reader waits for the
+	 *            writer, zero to wait indefinitely
+	 */
+	BodyPipe(int timeout) {
+		this.timeout = timeout;
+	}
+
+	/**
+	 * @return stream the caller writes the body to
+	 */
+	OutputStream getOutputStream() {
+		return output;
+	}
+
+	/**
+	 * @return stream the body is sent from
+	 */
+	InputStream getInputStream() {
+		return input;
+	}
+
+	/**
+	 * Fail all further writes
+	 *
+	 * @param cause
+	 */
+	void abort(IOException cause) {
+		failure = cause;
+		chunks.clear();
+	}
+
+	private void put(byte[] chunk) throws IOException {
+		try {
+			do
+				checkFailure();
+			while (!chunks.offer(chunk, POLL_INTERVAL, TimeUnit.MILLISECONDS));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException(e.getMessage());
+		}
+	}
+
+	private byte[] take() throws IOException {
+		byte[] chunk;
+		try {
+			chunk = timeout > 0 ? chunks.poll(timeout, TimeUnit.MILLISECONDS)
+					: chunks.take();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException(e.getMessage());
+		}
+		checkFailure();
+		if (chunk == null)
+			throw new IOException(
+					"Timed out waiting for the request body to be written"); //$NON-NLS-1$
+		return chunk;
+	}
+
+	private void checkFailure() throws IOException {
+		IOException cause = failure;
+		if (cause != null)
+			throw new IOException(cause.getMessage(), cause);
+	}
+}
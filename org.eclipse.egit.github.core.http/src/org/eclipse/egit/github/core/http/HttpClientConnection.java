@@ -0,0 +1,325 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.http;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.ProtocolException;
+import java.net.Proxy;
+import java.net.SocketTimeoutException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * {@link HttpURLConnection} that sends its request through a shared
+ * {@link HttpClient}. The request body written to {@link #getOutputStream()}
+ * is collected and sent once the response is first requested, or streamed as
+ * it is written when a streaming mode is set. A failed request fails every
+ * later access to the response.
+ * <p>
+ * The connect timeout selects the {@link HttpClient} the request is sent
+ * through. The read timeout bounds the wait for the response headers once the
+ * request body is sent and each read of the response body.
+ */
+class HttpClientConnection extends HttpURLConnection {
+
+	/**
+	 * Headers managed by {@link HttpClient} itself that cannot be set on a
+	 * request
+	 */
+	private static final Set<String> RESTRICTED_HEADERS = new HashSet<>(
+			Arrays.asList("connection", "content-length", "expect", "host", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+					"upgrade")); //$NON-NLS-1$
+
+	private final HttpClientConnectionFactory factory;
+
+	private final Proxy proxy;
+
+	private ByteArrayOutputStream body;
+
+	private BodyPipe pipe;
+
+	private CompletableFuture<HttpResponse<InputStream>> pending;
+
+	private HttpResponse<InputStream> response;
+
+	private IOException failure;
+
+	private List<Entry<String, String>> headerList;
+
+	private InputStream responseBody;
+
+	/**
+	 * Create connection with the default timeouts of the factory
+	 *
+	 * @param url
+	 * @param factory
+	 * @param proxy
+	 *            may be {@code null}
+	 */
+	HttpClientConnection(URL url, HttpClientConnectionFactory factory,
+			Proxy proxy) {
+		super(url);
+		this.factory = factory;
+		this.proxy = proxy;
+		setConnectTimeout(toMillis(factory.getConnectTimeout()));
+		setReadTimeout(toMillis(factory.getReadTimeout()));
+	}
+
+	private static int toMillis(Duration timeout) {
+		return (int) Math.min(timeout.toMillis(), Integer.MAX_VALUE);
+	}
+
+	@Override
+	public void connect() throws IOException {
+		if (failure != null)
+			throw new IOException(failure.getMessage(), failure);
+		if (connected)
+			return;
+		try {
+			if (pending == null) {
+				BodyPublisher publisher = body != null
+						? BodyPublishers.ofByteArray(body.toByteArray())
+						: BodyPublishers.noBody();
+				body = null;
+				pending = send(publisher, true);
+			}
+			HttpResponse<InputStream> received = await();
+			response = received;
+			responseBody = TimeoutInputStream.wrap(received.body(),
+					getReadTimeout());
+			responseCode = received.statusCode();
+			connected = true;
+		} catch (IOException e) {
+			failure = e;
+			throw e;
+		}
+	}
+
+	/**
+	 * Send the request
+	 *
+	 * @param publisher
+	 * @param timed
+	 *            true to bound the time until the response headers by the
+	 *            connect and read timeouts, false if the body is still being
+	 *            written and the wait is bounded by {@link #await()}
+	 * @return response
+	 * @throws IOException
+	 */
+	private CompletableFuture<HttpResponse<InputStream>> send(
+			BodyPublisher publisher, boolean timed) throws IOException {
+		HttpRequest.Builder builder;
+		try {
+			builder = HttpRequest.newBuilder(url.toURI());
+		} catch (URISyntaxException e) {
+			throw new IOException(e);
+		}
+		int readTimeout = getReadTimeout();
+		if (timed && readTimeout > 0)
+			builder.timeout(Duration.ofMillis(
+					(long) getConnectTimeout() + readTimeout));
+		for (Entry<String, List<String>> property : getRequestProperties()
+				.entrySet()) {
+			String name = property.getKey();
+			if (name == null || RESTRICTED_HEADERS
+					.contains(name.toLowerCase(Locale.ROOT)))
+				continue;
+			for (String value : property.getValue())
+				builder.header(name, value);
+		}
+		builder.method(method, publisher);
+		HttpClient client = factory.getHttpClient(proxy, getConnectTimeout());
+		return client.sendAsync(builder.build(), BodyHandlers.ofInputStream());
+	}
+
+	private HttpResponse<InputStream> await() throws IOException {
+		int readTimeout = getReadTimeout();
+		try {
+			// Requests streaming their body carry no timeout of their own
+			if (pipe != null && readTimeout > 0)
+				return pending.get(readTimeout, TimeUnit.MILLISECONDS);
+			return pending.get();
+		} catch (TimeoutException e) {
+			pending.cancel(true);
+			throw new SocketTimeoutException("Read timed out"); //$NON-NLS-1$
+		} catch (InterruptedException e) {
+			pending.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException(e.getMessage());
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException)
+				throw (IOException) cause;
+			throw new IOException(cause);
+		}
+	}
+
+	/**
+	 * Get the stream the request body is written to.
+	 * <p>
+	 * Without a streaming mode the body is collected and sent once the
+	 * response is first requested. With
+	 * {@link #setFixedLengthStreamingMode(long)} or
+	 * {@link #setChunkedStreamingMode(int)} the request is sent right away and
+	 * the body is streamed to the server as it is written, so it must be
+	 * closed before the response is requested.
+	 */
+	@Override
+	public OutputStream getOutputStream() throws IOException {
+		if (connected || failure != null)
+			throw new ProtocolException(
+					"Cannot write output after reading input"); //$NON-NLS-1$
+		if (!doOutput)
+			throw new ProtocolException(
+					"Cannot write to a URLConnection if doOutput=false"); //$NON-NLS-1$
+		if (pipe != null)
+			return pipe.getOutputStream();
+		if (body != null)
+			return body;
+		long length = fixedContentLengthLong != -1 ? fixedContentLengthLong
+				: fixedContentLength;
+		if (length == -1 && chunkLength == -1) {
+			body = new ByteArrayOutputStream();
+			return body;
+		}
+		BodyPipe streamed = new BodyPipe(getReadTimeout());
+		BodyPublisher publisher = BodyPublishers
+				.ofInputStream(streamed::getInputStream);
+		if (length == 0)
+			publisher = BodyPublishers.noBody();
+		else if (length > 0)
+			publisher = BodyPublishers.fromPublisher(publisher, length);
+		pending = send(publisher, false);
+		pending.whenComplete((received, error) -> streamed.abort(
+				error != null ? new IOException(error.getMessage(), error)
+						: new IOException(
+								"Response received before the request body was written"))); //$NON-NLS-1$
+		pipe = streamed;
+		return streamed.getOutputStream();
+	}
+
+	@Override
+	public int getResponseCode() throws IOException {
+		connect();
+		return responseCode;
+	}
+
+	@Override
+	public InputStream getInputStream() throws IOException {
+		connect();
+		if (responseCode >= HTTP_BAD_REQUEST)
+			throw new IOException("Server returned HTTP response code: " //$NON-NLS-1$
+					+ responseCode + " for URL: " + url); //$NON-NLS-1$
+		return responseBody;
+	}
+
+	@Override
+	public InputStream getErrorStream() {
+		if (response == null || responseCode < HTTP_BAD_REQUEST)
+			return null;
+		return responseBody;
+	}
+
+	private boolean hasResponse() {
+		try {
+			connect();
+			return true;
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	@Override
+	public String getHeaderField(String name) {
+		if (name == null || !hasResponse())
+			return null;
+		return response.headers().firstValue(name).orElse(null);
+	}
+
+	@Override
+	public Map<String, List<String>> getHeaderFields() {
+		if (!hasResponse())
+			return Collections.emptyMap();
+		return response.headers().map();
+	}
+
+	private List<Entry<String, String>> getHeaderList() {
+		if (headerList == null) {
+			List<Entry<String, String>> headers = new ArrayList<>();
+			for (Entry<String, List<String>> header : getHeaderFields()
+					.entrySet())
+				for (String value : header.getValue())
+					headers.add(Map.entry(header.getKey(), value));
+			headerList = headers;
+		}
+		return headerList;
+	}
+
+	@Override
+	public String getHeaderFieldKey(int n) {
+		List<Entry<String, String>> headers = getHeaderList();
+		return n >= 0 && n < headers.size() ? headers.get(n).getKey() : null;
+	}
+
+	@Override
+	public String getHeaderField(int n) {
+		List<Entry<String, String>> headers = getHeaderList();
+		return n >= 0 && n < headers.size() ? headers.get(n).getValue()
+				: null;
+	}
+
+	@Override
+	public void disconnect() {
+		if (pending != null && !pending.isDone()) {
+			pending.cancel(true);
+			if (pipe != null)
+				pipe.abort(new IOException("Connection closed")); //$NON-NLS-1$
+		}
+		if (responseBody != null)
+			try {
+				responseBody.close();
+			} catch (IOException ignored) {
+				// Ignored
+			}
+	}
+
+	@Override
+	public boolean usingProxy() {
+		return proxy != null && proxy.type() != Proxy.Type.DIRECT;
+	}
+}
@@ -0,0 +1,195 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.http;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.net.ProxySelector;
+import java.net.SocketAddress;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpClient.Redirect;
+import java.net.http.HttpClient.Version;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import org.eclipse.egit.github.core.client.GitHubClient;
+import org.eclipse.egit.github.core.client.IConnectionFactory;
+
+/**
+ * {@link IConnectionFactory} backed by a {@link HttpClient}. Connections
+ * created by this factory share the connection pool of a single
+ * {@link HttpClient} per proxy and use HTTP/2 when the server supports it, so
+ * concurrent requests are multiplexed over a few connections.
+ * <p>
+ * A factory is intended to be shared by all {@link GitHubClient} instances of
+ * an application:
+ *
+ * <pre>
+ * HttpClientConnectionFactory factory = new HttpClientConnectionFactory(
+ * 		Duration.ofSeconds(10), Duration.ofSeconds(30));
+ * GitHubClient client = new GitHubClient().setConnectionFactory(factory);
+ * </pre>
+ */
+public class HttpClientConnectionFactory implements IConnectionFactory {
+
+	/**
+	 * Default connect timeout
+	 */
+	public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration
+			.ofSeconds(30);
+
+	/**
+	 * Default read timeout
+	 */
+	public static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(60);
+
+	private static final Object NO_PROXY = new Object();
+
+	private final Duration connectTimeout;
+
+	private final Duration readTimeout;
+
+	private final Executor executor;
+
+	private final Map<Object, HttpClient> clients = new ConcurrentHashMap<>();
+
+	/**
+	 * Create factory with default timeouts
+	 */
+	public HttpClientConnectionFactory() {
+		this(DEFAULT_CONNECT_TIMEOUT, DEFAULT_READ_TIMEOUT);
+	}
+
+	/**
+	 * Create factory with timeouts
+	 *
+	 * @param connectTimeout
+	 *            default maximum time to establish a connection
+	 * @param readTimeout
+	 *            default maximum time to wait for the response headers of a
+	 *            request and for each read of the response body
+	 */
+	public HttpClientConnectionFactory(Duration connectTimeout,
+			Duration readTimeout) {
+		this(connectTimeout, readTimeout, null);
+	}
+
+	/**
+	 * Create factory with timeouts and the executor used by the underlying
+	 * {@link HttpClient}
+	 *
+	 * @param connectTimeout
+	 *            default maximum time to establish a connection
+	 * @param readTimeout
+	 *            default maximum time to wait for the response headers of a
+	 *            request and for each read of the response body
+	 * @param executor
+	 *            may be {@code null}, in which case the default executor of
+	 *            {@link HttpClient} is used
+	 */
+	public HttpClientConnectionFactory(Duration connectTimeout,
+			Duration readTimeout, Executor executor) {
+		if (connectTimeout == null || connectTimeout.isNegative()
+				|| connectTimeout.isZero())
+			throw new IllegalArgumentException(
+					"Connect timeout must be positive"); //$NON-NLS-1$
+		if (readTimeout == null || readTimeout.isNegative()
+				|| readTimeout.isZero())
+			throw new IllegalArgumentException(
+					"Read timeout must be positive"); //$NON-NLS-1$
+		this.connectTimeout = connectTimeout;
+		this.readTimeout = readTimeout;
+		this.executor = executor;
+	}
+
+	/**
+	 * Get the connect timeout connections are created with
+	 *
+	 * @return timeout
+	 */
+	public Duration getConnectTimeout() {
+		return connectTimeout;
+	}
+
+	/**
+	 * Get the read timeout connections are created with
+	 *
+	 * @return timeout
+	 */
+	public Duration getReadTimeout() {
+		return readTimeout;
+	}
+
+	@Override
+	public HttpURLConnection createConnection(URL url, Proxy proxy)
+			throws IOException {
+		return new HttpClientConnection(url, this, proxy);
+	}
+
+	/**
+	 * Get the shared {@link HttpClient} for the proxy and connect timeout,
+	 * creating it if needed
+	 *
+	 * @param proxy
+	 *            may be {@code null}
+	 * @param connectTimeout
+	 *            in milliseconds, zero for no timeout
+	 * @return client
+	 */
+	protected HttpClient getHttpClient(Proxy proxy, int connectTimeout) {
+		List<Object> key = List.of(proxy != null ? proxy : NO_PROXY,
+				Integer.valueOf(connectTimeout));
+		return clients.computeIfAbsent(key,
+				k -> createHttpClient(proxy, connectTimeout));
+	}
+
+	/**
+	 * Create the {@link HttpClient} used for connections through the proxy
+	 *
+	 * @param proxy
+	 *            may be {@code null}
+	 * @param connectTimeout
+	 *            in milliseconds, zero for no timeout
+	 * @return client
+	 */
+	protected HttpClient createHttpClient(Proxy proxy, int connectTimeout) {
+		HttpClient.Builder builder = HttpClient.newBuilder()
+				.version(Version.HTTP_2).followRedirects(Redirect.NORMAL);
+		if (connectTimeout > 0)
+			builder.connectTimeout(Duration.ofMillis(connectTimeout));
+		if (executor != null)
+			builder.executor(executor);
+		if (proxy != null)
+			switch (proxy.type()) {
+			case DIRECT:
+				builder.proxy(HttpClient.Builder.NO_PROXY);
+				break;
+			case HTTP:
+				SocketAddress address = proxy.address();
+				if (address instanceof InetSocketAddress)
+					builder.proxy(ProxySelector
+							.of((InetSocketAddress) address));
+				break;
+			default:
+				throw new IllegalArgumentException(
+						"Unsupported proxy type: " + proxy.type()); //$NON-NLS-1$
+			}
+		return builder.build();
+	}
+}
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.http;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketTimeoutException;
+import java.net.http.HttpClient;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stream over a response body failing reads that do not complete within the
+ * read timeout.
+ * <p>
+ * The body streams of {@link HttpClient} block until data arrives. A read
+ * taking longer than the timeout closes the underlying stream, which releases
+ * the blocked read, and fails with a {@link SocketTimeoutException} like a
+ * read of a {@link java.net.HttpURLConnection} would.
+ */
+class TimeoutInputStream extends FilterInputStream {
+
+	private interface Read {
+
+		long run() throws IOException;
+	}
+
+	private static final ScheduledThreadPoolExecutor WATCHDOG;
+
+	static {
+		WATCHDOG = new ScheduledThreadPoolExecutor(1, runnable -> {
+			Thread thread = new Thread(runnable, "HttpClientConnection-timeout"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		WATCHDOG.setRemoveOnCancelPolicy(true);
+	}
+
+	/**
+	 * Wrap the stream if the timeout is set
+	 *
+	 * @param in
+	 * @param timeout
+	 *            in milliseconds, zero for no timeout
+	 * @return stream
+	 */
+	static InputStream wrap(InputStream in, int timeout) {
+		return timeout > 0 ? new TimeoutInputStream(in, timeout) : in;
+	}
+
+	private final int timeout;
+
+	private volatile boolean timedOut;
+
+	private TimeoutInputStream(InputStream in, int timeout) {
+		super(in);
+		this.timeout = timeout;
+	}
+
+	private long guard(Read read) throws IOException {
+		if (timedOut)
+			throw new SocketTimeoutException("Read timed out"); //$NON-NLS-1$
+		ScheduledFuture<?> timer = WATCHDOG.schedule(this::expire, timeout,
+				TimeUnit.MILLISECONDS);
+		try {
+			long result = read.run();
+			if (timedOut)
+				throw new SocketTimeoutException("Read timed out"); //$NON-NLS-1$
+			return result;
+		} catch (IOException e) {
+			if (timedOut && !(e instanceof SocketTimeoutException))
+				throw new SocketTimeoutException("Read timed out"); //$NON-NLS-1$
+			throw e;
+		} finally {
+			timer.cancel(false);
+		}
+	}
+
+	private void expire() {
+		timedOut = true;
+		try {
+			in.close();
+		} catch (IOException ignored) {
+			// Ignored
+		}
+	}
+
+	@Override
+	public int read() throws IOException {
+		return (int) guard(() -> in.read());
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		return (int) guard(() -> in.read(b, off, len));
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		return guard(() -> in.skip(n));
+	}
+}
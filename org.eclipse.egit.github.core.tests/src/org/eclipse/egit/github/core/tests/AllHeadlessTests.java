@@ -44,6 +44,7 @@ import org.junit.runners.Suite.SuiteClasses;
 		DateUtilsTest.class, //
 		DeletePayloadTest.class, //
 		DeployKeyServiceTest.class, //
+		DiskResponseCacheTest.class, //
 		DownloadPayloadTest.class, //
 		DownloadResourceTest.class, //
 		DownloadServiceTest.class, //
@@ -70,6 +71,7 @@ import org.junit.runners.Suite.SuiteClasses;
 		GsonUtilsTest.class, //
 		IdTest.class, //
 		IssueCommentPayloadTest.class, //
+		IssueCommentTest.class, //
 		IssueEventTest.class, //
 		IssueServiceTest.class, //
 		IssueTest.class, //
@@ -80,20 +82,28 @@ import org.junit.runners.Suite.SuiteClasses;
 		LabelTest.class, //
 		LanguagesTest.class, //
 		MarkdownServiceTest.class, //
+		MemoryResponseCacheTest.class, //
+		MetricsAggregatorTest.class, //
 		MemberPayloadTest.class, //
 		MergeStatusTest.class, //
 		MilestoneComparatorTest.class, //
 		MilestoneServiceTest.class, //
 		MilestoneTest.class, //
+		ModelAdapterFactoryTest.class, //
+		MultiPartUtilsTest.class, //
 		OAuthServiceTest.class, //
 		OrganizationServiceTest.class, //
 		PagedRequestTest.class, //
+		ParallelPageIteratorTest.class, //
+		PrefetchingPageIteratorTest.class, //
 		PullRequestMarkerTest.class, //
 		PullRequestPayloadTest.class, //
 		PullRequestReviewCommentPayloadTest.class, //
 		PullRequestServiceTest.class, //
 		PullRequestTest.class, //
 		PushPayloadTest.class, //
+		RangeDownloaderTest.class, //
+		RateLimitSchedulerTest.class, //
 		ReferenceTest.class, //
 		RepositoryBranchTest.class, //
 		RepositoryCommitCompareTest.class, //
@@ -106,8 +116,12 @@ import org.junit.runners.Suite.SuiteClasses;
 		RepositoryServiceTest.class, //
 		RepositoryTagTest.class, //
 		RepositoryTest.class, //
+		RequestCoalescerTest.class, //
 		RequestErrorTest.class, //
 		RequestExceptionTest.class, //
+		RequestMetricsTest.class, //
+		ResourceIteratorTest.class, //
+		RetryPolicyTest.class, //
 		SearchIssueTest.class, //
 		SearchRepositoryTest.class, //
 		ShaResourceTest.class, //
@@ -116,6 +130,7 @@ import org.junit.runners.Suite.SuiteClasses;
 		TeamAddPayloadTest.class, //
 		TeamServiceTest.class, //
 		TeamTest.class, //
+		TokenPoolTest.class, //
 		TreeEntryTest.class, //
 		TreeTest.class, //
 		TypedResourceTest.class, //
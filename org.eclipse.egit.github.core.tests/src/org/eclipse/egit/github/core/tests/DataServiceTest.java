@@ -12,15 +12,22 @@
  *****************************************************************************/
 package org.eclipse.egit.github.core.tests;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.verify;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Random;
 
 import org.eclipse.egit.github.core.Blob;
 import org.eclipse.egit.github.core.Commit;
@@ -33,7 +40,9 @@ import org.eclipse.egit.github.core.TypedResource;
 import org.eclipse.egit.github.core.client.GitHubClient;
 import org.eclipse.egit.github.core.client.GitHubRequest;
 import org.eclipse.egit.github.core.client.GitHubResponse;
+import org.eclipse.egit.github.core.client.GsonUtils;
 import org.eclipse.egit.github.core.service.DataService;
+import org.eclipse.egit.github.core.util.EncodingUtils;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -482,4 +491,83 @@ public class DataServiceTest {
 		service.deleteTag(repo, tag);
 		verify(client).delete(eq("/repos/o/n/git/refs/tags/tag"));
 	}
+
+	private static byte[] readAll(InputStream input) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		try {
+			byte[] buffer = new byte[5];
+			int read;
+			while ((read = input.read(buffer)) != -1)
+				output.write(buffer, 0, read);
+		} finally {
+			input.close();
+		}
+		return output.toByteArray();
+	}
+
+	/**
+	 * Create blob streaming its content
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void createBlobStream() throws IOException {
+		byte[] content = new byte[100];
+		new Random(1).nextBytes(content);
+		MockGitHubClient mock = new MockGitHubClient();
+		mock.setBufferSize(16);
+		mock.respond(201, "{\"sha\":\"abc\"}");
+		assertEquals("abc", new DataService(mock).createBlob(repo,
+				new ByteArrayInputStream(content), content.length));
+		MockHttpURLConnection connection = mock.getConnections().get(0);
+		byte[] body = connection.getRequestBody();
+		assertEquals(body.length, connection.getFixedLength());
+		Blob blob = GsonUtils.fromJson(
+				new String(body, StandardCharsets.UTF_8), Blob.class);
+		assertEquals(Blob.ENCODING_BASE64, blob.getEncoding());
+		assertArrayEquals(content, EncodingUtils.fromBase64(blob.getContent()));
+	}
+
+	/**
+	 * Create blob from stream shorter than the given length
+	 *
+	 * @throws IOException
+	 */
+	@Test(expected = IOException.class)
+	public void createBlobStreamTooShort() throws IOException {
+		MockGitHubClient mock = new MockGitHubClient();
+		mock.respond(201, "{\"sha\":\"abc\"}");
+		new DataService(mock).createBlob(repo,
+				new ByteArrayInputStream(new byte[2]), 3);
+	}
+
+	/**
+	 * Get blob content as stream
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void getBlobStream() throws IOException {
+		MockGitHubClient mock = new MockGitHubClient();
+		mock.setBufferSize(4);
+		mock.respond(200, "{ \"sha\" : \"abc\", \"size\": 11,\"url\":\"u\\\"\","
+				+ "\"links\":{\"a\":[1,\"}\",null]},\"content\":"
+				+ "\"aGVsbG8g\\nd29y\\u0062GQ=\\n\",\"encoding\":\"base64\"}");
+		InputStream stream = new DataService(mock).getBlobStream(repo, "abc");
+		assertEquals("hello world",
+				new String(readAll(stream), StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Get blob content as stream of blob without content
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void getBlobStreamNoContent() throws IOException {
+		MockGitHubClient mock = new MockGitHubClient();
+		mock.respond(200, "{\"sha\":\"abc\",\"content\":null}");
+		assertEquals(0, readAll(new DataService(mock).getBlobStream(repo,
+				"abc")).length);
+	}
 }
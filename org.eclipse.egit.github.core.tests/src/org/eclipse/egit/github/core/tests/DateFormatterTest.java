@@ -12,15 +12,29 @@
  *****************************************************************************/
 package org.eclipse.egit.github.core.tests;
 
+import static org.eclipse.egit.github.core.client.IGitHubConstants.DATE_FORMAT;
+import static org.eclipse.egit.github.core.client.IGitHubConstants.DATE_FORMAT_V2_1;
+import static org.eclipse.egit.github.core.client.IGitHubConstants.DATE_FORMAT_V2_2;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParseException;
 import com.google.gson.JsonPrimitive;
 
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.egit.github.core.client.DateFormatter;
 import org.junit.Test;
@@ -54,4 +68,128 @@ public class DateFormatterTest {
 	public void emptyInput() {
 		new DateFormatter().deserialize(new JsonPrimitive(""), null, null);
 	}
+
+	private static DateFormat format(String pattern) {
+		DateFormat format = new SimpleDateFormat(pattern);
+		format.setTimeZone(TimeZone.getTimeZone("Zulu"));
+		return format;
+	}
+
+	/**
+	 * Parse value the way the formatter did with only date formats
+	 *
+	 * @param value
+	 * @return date or null if unparseable
+	 */
+	private static Date parse(String value) {
+		for (String pattern : new String[] { DATE_FORMAT, DATE_FORMAT_V2_1,
+				DATE_FORMAT_V2_2 })
+			try {
+				return format(pattern).parse(value);
+			} catch (ParseException e) {
+				// Try next format
+			}
+		return null;
+	}
+
+	private static void assertParsed(DateFormatter formatter, String value) {
+		Date expected = parse(value);
+		try {
+			Date actual = formatter.deserialize(new JsonPrimitive(value),
+					null, null);
+			assertNotNull(value, expected);
+			assertEquals(value, expected.getTime(), actual.getTime());
+		} catch (JsonParseException e) {
+			assertEquals(value, null, expected);
+		}
+	}
+
+	/**
+	 * Verify dates are parsed exactly like with date formats
+	 */
+	@Test
+	public void deserializeLikeDateFormat() {
+		DateFormatter formatter = new DateFormatter();
+		String[] values = { "2011-04-14T16:00:49Z", "1970-01-01T00:00:00Z",
+				"1600-01-01T00:00:00Z", "1599-12-31T23:59:59Z",
+				"9999-12-31T23:59:59Z", "2000-02-29T12:00:00Z",
+				"2023-02-29T12:00:00Z", "2023-04-31T12:00:00Z",
+				"2023-13-01T12:00:00Z", "2023-00-10T12:00:00Z",
+				"2023-01-00T12:00:00Z", "2023-01-01T24:00:00Z",
+				"2023-01-01T23:60:00Z", "2023-01-01T23:59:60Z",
+				"2011-04-14T16:00:49Ztrailing", "2011-04-14T16:00:49+02:00",
+				"2011-04-14T16:00:49", "2011-04-14 16:00:49Z",
+				"2011/04/14 16:00:49 -0700", "2011/04/14 16:00:49 +0000",
+				"0024-04-14T16:00:49Z", "12011-04-14T16:00:49Z",
+				"2O11-04-14T16:00:49Z", "2011-4-14T16:00:49Z",
+				"not a date", "" };
+		for (String value : values)
+			assertParsed(formatter, value);
+		Random random = new Random(42);
+		for (int i = 0; i < 5000; i++) {
+			long time = random.nextLong() % 300000000000000L;
+			assertParsed(formatter, format(DATE_FORMAT).format(new Date(time)));
+			assertParsed(formatter,
+					format(DATE_FORMAT_V2_1).format(new Date(time)));
+		}
+	}
+
+	/**
+	 * Verify dates are formatted exactly like with the v3 date format
+	 */
+	@Test
+	public void serializeLikeDateFormat() {
+		DateFormatter formatter = new DateFormatter();
+		DateFormat format = format(DATE_FORMAT);
+		long[] times = { 0, -1, 1, Long.MAX_VALUE / 2, Long.MIN_VALUE / 2,
+				-11676096000000L, -11676096000001L, 253402300799999L,
+				253402300800000L, 951782400000L, 951868799999L };
+		for (long time : times)
+			assertEquals(Long.toString(time), format.format(new Date(time)),
+					formatter.serialize(new Date(time), null, null)
+							.getAsString());
+		Random random = new Random(7);
+		for (int i = 0; i < 20000; i++) {
+			long time = random.nextLong() % 300000000000000L;
+			assertEquals(Long.toString(time), format.format(new Date(time)),
+					formatter.serialize(new Date(time), null, null)
+							.getAsString());
+		}
+	}
+
+	/**
+	 * Verify formatter can be shared by threads
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void concurrentDeserialize() throws Exception {
+		final DateFormatter formatter = new DateFormatter();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < 4; t++) {
+				final int offset = t;
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < 2000; i++) {
+						long time = (offset * 2000L + i) * 86399999L;
+						for (String pattern : new String[] { DATE_FORMAT,
+								DATE_FORMAT_V2_1 }) {
+							String value = format(pattern).format(
+									new Date(time));
+							Date date = formatter.deserialize(
+									new JsonPrimitive(value), null, null);
+							if (date.getTime() != time / 1000 * 1000)
+								fail(value);
+						}
+					}
+					return null;
+				}));
+			}
+			for (Future<?> future : futures)
+				future.get();
+		} finally {
+			executor.shutdownNow();
+		}
+	}
 }
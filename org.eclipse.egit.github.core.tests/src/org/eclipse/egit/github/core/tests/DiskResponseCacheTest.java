@@ -0,0 +1,124 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import org.eclipse.egit.github.core.client.CachedResponse;
+import org.eclipse.egit.github.core.client.DiskResponseCache;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit tests of {@link DiskResponseCache}
+ */
+public class DiskResponseCacheTest {
+
+	/**
+	 * Temporary cache directory
+	 */
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private static CachedResponse response(String body) {
+		return new CachedResponse("\"etag\"", "yesterday",
+				body.getBytes(StandardCharsets.UTF_8),
+				Collections.singletonMap("Link", "<next>; rel=\"next\""));
+	}
+
+	/**
+	 * Create cache with null directory
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void nullDirectory() {
+		new DiskResponseCache(null);
+	}
+
+	/**
+	 * Verify stored responses are read back by a new cache instance
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void persistAcrossInstances() throws IOException {
+		File directory = folder.newFolder();
+		new DiskResponseCache(directory).put("key", response("[1,2,3]"));
+
+		DiskResponseCache cache = new DiskResponseCache(directory);
+		assertEquals(1, cache.getCount());
+		CachedResponse cached = cache.get("key");
+		assertNotNull(cached);
+		assertEquals("\"etag\"", cached.getEtag());
+		assertEquals("yesterday", cached.getLastModified());
+		assertEquals("<next>; rel=\"next\"", cached.getHeader("Link"));
+		assertArrayEquals("[1,2,3]".getBytes(StandardCharsets.UTF_8),
+				cached.getBody());
+		assertNull(cache.get("other"));
+	}
+
+	/**
+	 * Verify least recently used responses are evicted once the size bound
+	 * is exceeded
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void evictBySize() throws IOException {
+		File directory = folder.newFolder();
+		DiskResponseCache unbounded = new DiskResponseCache(directory);
+		unbounded.put("a", response("a"));
+		long entrySize = unbounded.getSize();
+		unbounded.clear();
+
+		DiskResponseCache cache = new DiskResponseCache(directory,
+				entrySize * 2);
+		cache.put("a", response("a"));
+		cache.put("b", response("b"));
+		assertNotNull(cache.get("a"));
+		cache.put("c", response("c"));
+		assertEquals(2, cache.getCount());
+		assertTrue(cache.getSize() <= entrySize * 2);
+		assertNotNull(cache.get("a"));
+		assertNull(cache.get("b"));
+		assertNotNull(cache.get("c"));
+		assertEquals(2, directory.list().length);
+	}
+
+	/**
+	 * Remove and clear cached responses
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void removeAndClear() throws IOException {
+		DiskResponseCache cache = new DiskResponseCache(folder.newFolder());
+		cache.put("a", response("a"));
+		cache.put("b", response("b"));
+		cache.remove("a");
+		assertNull(cache.get("a"));
+		assertEquals(1, cache.getCount());
+		cache.clear();
+		assertEquals(0, cache.getCount());
+		assertEquals(0, cache.getSize());
+	}
+}
@@ -12,10 +12,19 @@
  *****************************************************************************/
 package org.eclipse.egit.github.core.tests;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
 import org.eclipse.egit.github.core.util.EncodingUtils;
 import org.junit.Test;
 
@@ -40,4 +49,33 @@ public class EncodingUtilsTest {
 		assertEquals(test, new String(decoded));
 	}
 
+	/**
+	 * Encode and decode content with streams
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void encodeDecodeStream() throws IOException {
+		byte[] content = new byte[1000];
+		new Random(1).nextBytes(content);
+		ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+		try (OutputStream output = EncodingUtils.toBase64(encoded)) {
+			output.write(content, 0, 500);
+			output.write(content, 500, 500);
+		}
+		assertEquals(EncodingUtils.toBase64(content),
+				new String(encoded.toByteArray(), StandardCharsets.US_ASCII));
+		String wrapped = EncodingUtils.toBase64(content).replaceAll(
+				"(.{60})", "$1\n");
+		ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+		try (InputStream input = EncodingUtils.fromBase64(
+				new ByteArrayInputStream(wrapped
+						.getBytes(StandardCharsets.US_ASCII)))) {
+			byte[] buffer = new byte[7];
+			int read;
+			while ((read = input.read(buffer)) != -1)
+				decoded.write(buffer, 0, read);
+		}
+		assertArrayEquals(content, decoded.toByteArray());
+	}
 }
@@ -13,15 +13,25 @@
 package org.eclipse.egit.github.core.tests;
 
 import static org.eclipse.egit.github.core.event.Event.TYPE_FOLLOW;
+import static org.eclipse.egit.github.core.event.Event.TYPE_ISSUES;
+import static org.eclipse.egit.github.core.event.Event.TYPE_PUSH;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.google.gson.JsonElement;
+import com.google.gson.reflect.TypeToken;
+
+import java.util.List;
 
 import org.eclipse.egit.github.core.client.EventFormatter;
 import org.eclipse.egit.github.core.client.GsonUtils;
 import org.eclipse.egit.github.core.event.Event;
 import org.eclipse.egit.github.core.event.EventPayload;
 import org.eclipse.egit.github.core.event.FollowPayload;
+import org.eclipse.egit.github.core.event.IssuesPayload;
+import org.eclipse.egit.github.core.event.PushPayload;
 import org.junit.Test;
 
 /**
@@ -73,4 +83,64 @@ public class EventFormatterTest {
 		assertNotNull(event);
 		assertNull(event.getPayload());
 	}
+
+	/**
+	 * Payload appearing before the type is typed once the type is read
+	 */
+	@Test
+	public void payloadBeforeType() {
+		Event event = GsonUtils.fromJson("{\"payload\":{\"action\":\"opened\","
+				+ "\"issue\":{\"number\":3}},\"id\":\"12\",\"type\":\""
+				+ TYPE_ISSUES + "\"}", Event.class);
+		assertEquals("12", event.getId());
+		assertEquals(IssuesPayload.class, event.getPayload().getClass());
+		IssuesPayload payload = (IssuesPayload) event.getPayload();
+		assertEquals("opened", payload.getAction());
+		assertEquals(3, payload.getIssue().getNumber());
+	}
+
+	/**
+	 * Payload not matching its class is returned as {@link EventPayload} and
+	 * the rest of the event and the following events are still read
+	 */
+	@Test
+	public void legacyPayload() {
+		List<Event> events = GsonUtils.fromJson("[{\"type\":\"" + TYPE_PUSH
+				+ "\",\"payload\":{\"size\":1,\"commits\":[[\"abc\","
+				+ "\"a@b.c\",\"message\",\"name\"]],\"head\":\"abc\"},"
+				+ "\"public\":true,\"id\":\"1\"},{\"type\":\"" + TYPE_PUSH
+				+ "\",\"payload\":{\"size\":2},\"id\":\"2\"}]",
+				new TypeToken<List<Event>>() {
+				}.getType());
+		assertEquals(2, events.size());
+		assertEquals(EventPayload.class, events.get(0).getPayload().getClass());
+		assertTrue(events.get(0).isPublic());
+		assertEquals("1", events.get(0).getId());
+		assertEquals(PushPayload.class, events.get(1).getPayload().getClass());
+		assertEquals(2, ((PushPayload) events.get(1).getPayload()).getSize());
+	}
+
+	/**
+	 * Null payload and unknown fields
+	 */
+	@Test
+	public void nullPayload() {
+		Event event = GsonUtils.fromJson("{\"type\":\"" + TYPE_FOLLOW
+				+ "\",\"payload\":null,\"extra\":{\"a\":[1,2]},"
+				+ "\"created_at\":\"2011-04-14T16:00:49Z\"}", Event.class);
+		assertNull(event.getPayload());
+		assertNotNull(event.getCreatedAt());
+	}
+
+	/**
+	 * Deserialize event from tree
+	 */
+	@Test
+	public void deserializeTree() {
+		Event event = new EventFormatter().deserialize(
+				GsonUtils.getGson().fromJson("{\"type\":\"" + TYPE_FOLLOW
+						+ "\",\"payload\":{}}", JsonElement.class),
+				Event.class, null);
+		assertEquals(FollowPayload.class, event.getPayload().getClass());
+	}
 }
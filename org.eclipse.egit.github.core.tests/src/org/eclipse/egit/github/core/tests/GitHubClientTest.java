@@ -13,9 +13,47 @@
 package org.eclipse.egit.github.core.tests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import com.google.gson.reflect.TypeToken;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.Proxy;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.egit.github.core.Gist;
+import org.eclipse.egit.github.core.Issue;
+import org.eclipse.egit.github.core.Label;
 import org.eclipse.egit.github.core.client.GitHubClient;
+import org.eclipse.egit.github.core.client.GitHubRequest;
+import org.eclipse.egit.github.core.client.GitHubResponse;
+import org.eclipse.egit.github.core.client.GsonUtils;
+import org.eclipse.egit.github.core.client.IConnectionFactory;
 import org.eclipse.egit.github.core.client.IGitHubConstants;
+import org.eclipse.egit.github.core.client.IRateLimiter;
+import org.eclipse.egit.github.core.client.IRequestBody;
+import org.eclipse.egit.github.core.client.MemoryResponseCache;
+import org.eclipse.egit.github.core.client.RequestCoalescer;
+import org.eclipse.egit.github.core.client.RequestException;
+import org.eclipse.egit.github.core.client.RequestMetrics;
+import org.eclipse.egit.github.core.client.ResponseStatusException;
+import org.eclipse.egit.github.core.client.RetryPolicy;
+import org.eclipse.egit.github.core.client.TokenPool;
 import org.junit.Test;
 
 /**
@@ -55,4 +93,555 @@ public class GitHubClientTest {
 		assertEquals("/api/v3/repos/o/n", client.uri("/repos/o/n"));
 		assertEquals("/api/v3/repos/o/n", client.uri("/api/v3/repos/o/n"));
 	}
+
+	private static GitHubRequest labelsRequest() {
+		return new GitHubRequest().setUri("/repos/o/n/labels").setType(
+				new TypeToken<List<Label>>() {
+				}.getType());
+	}
+
+	/**
+	 * Verify a 304 response is served from the cached body
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void conditionalGetNotModified() throws IOException {
+		MockGitHubClient client = new MockGitHubClient();
+		MemoryResponseCache cache = new MemoryResponseCache();
+		client.setResponseCache(cache);
+		client.respond(200, "[{\"name\":\"bug\"}]")
+				.setHeader("ETag", "\"abc\"")
+				.setHeader("Link",
+						"<https://localhost/repos/o/n/labels?page=2>; rel=\"next\"");
+		client.respond(304, null);
+
+		GitHubResponse first = client.get(labelsRequest());
+		assertFalse(first.isCached());
+		assertEquals(1, cache.size());
+
+		GitHubResponse second = client.get(labelsRequest());
+		assertTrue(second.isCached());
+		List<?> labels = (List<?>) second.getBody();
+		assertNotNull(labels);
+		assertEquals(1, labels.size());
+		assertEquals("bug", ((Label) labels.get(0)).getName());
+		assertEquals("https://localhost/repos/o/n/labels?page=2",
+				second.getNext());
+		assertEquals("\"abc\"",
+				client.getConnections().get(1).getRequestProperty(
+						"If-None-Match"));
+		assertNull(client.getConnections().get(0).getRequestProperty(
+				"If-None-Match"));
+	}
+
+	/**
+	 * Verify responses without validators are not cached
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void conditionalGetNoValidator() throws IOException {
+		MockGitHubClient client = new MockGitHubClient();
+		MemoryResponseCache cache = new MemoryResponseCache();
+		client.setResponseCache(cache);
+		client.respond(200, "[]");
+		client.get(labelsRequest());
+		assertEquals(0, cache.size());
+	}
+
+	/**
+	 * Verify cached responses are not shared across credentials
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void conditionalGetSeparatesCredentials() throws IOException {
+		MemoryResponseCache cache = new MemoryResponseCache();
+		MockGitHubClient client1 = new MockGitHubClient();
+		client1.setOAuth2Token("one").setResponseCache(cache);
+		MockGitHubClient client2 = new MockGitHubClient();
+		client2.setOAuth2Token("two").setResponseCache(cache);
+		client1.respond(200, "[]").setHeader("Last-Modified",
+				"Tue, 13 Oct 2026 10:00:00 GMT");
+		client2.respond(200, "[]");
+		client1.get(labelsRequest());
+		client2.get(labelsRequest());
+		assertNull(client2.getConnections().get(0).getRequestProperty(
+				"If-Modified-Since"));
+		assertEquals(1, cache.size());
+	}
+
+	/**
+	 * Verify connections are opened through the configured factory
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void connectionFactory() throws IOException {
+		final List<URL> urls = new ArrayList<>();
+		GitHubClient client = new GitHubClient("localhost", 8080, "http");
+		client.setConnectionFactory(new IConnectionFactory() {
+
+			@Override
+			public HttpURLConnection createConnection(URL url, Proxy proxy)
+					throws IOException {
+				urls.add(url);
+				return new MockHttpURLConnection(url, 204, null);
+			}
+		});
+		client.delete("/repos/o/n/labels/bug");
+		assertEquals(1, urls.size());
+		assertEquals("http://localhost:8080/api/v3/repos/o/n/labels/bug",
+				urls.get(0).toString());
+	}
+
+	/**
+	 * Verify asynchronous requests complete on the configured executor
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void getAsync() throws Exception {
+		MockGitHubClient client = new MockGitHubClient();
+		ExecutorService executor = GitHubClient.createExecutor(2);
+		try {
+			client.setExecutor(executor);
+			client.respond(200, "[{\"name\":\"bug\"}]");
+			CompletableFuture<GitHubResponse> future = client
+					.getAsync(labelsRequest());
+			List<?> labels = (List<?>) future.get().getBody();
+			assertEquals(1, labels.size());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Verify failed asynchronous requests complete exceptionally with the
+	 * request exception
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void deleteAsyncFailure() throws Exception {
+		MockGitHubClient client = new MockGitHubClient();
+		client.respond(404, "{\"message\":\"Not Found\"}");
+		try {
+			client.deleteAsync("/repos/o/n/labels/bug", null).get();
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof RequestException);
+			assertEquals(404, ((RequestException) e.getCause()).getStatus());
+			return;
+		}
+		fail("Exception not thrown");
+	}
+
+	/**
+	 * Create executor with invalid concurrency
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void createExecutorInvalid() {
+		GitHubClient.createExecutor(0);
+	}
+
+	/**
+	 * Verify the rate limiter is consulted before and updated after each
+	 * request
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void rateLimiter() throws IOException {
+		final List<String> calls = new ArrayList<>();
+		MockGitHubClient client = new MockGitHubClient();
+		client.setRateLimiter(new IRateLimiter() {
+
+			@Override
+			public long reserve(String uri) {
+				calls.add("reserve " + uri);
+				return 0;
+			}
+
+			@Override
+			public void update(HttpURLConnection response) {
+				calls.add("update");
+			}
+		});
+		client.respond(200, "[]").setHeader("X-RateLimit-Reset", "1500000000");
+		client.get(labelsRequest());
+		assertEquals(2, calls.size());
+		assertEquals("reserve /repos/o/n/labels", calls.get(0));
+		assertEquals("update", calls.get(1));
+		assertEquals(1500000000L, client.getRateLimitReset());
+	}
+
+	/**
+	 * Verify a request fails instead of waiting longer than the maximum rate
+	 * limit wait
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void maxRateLimitWait() throws IOException {
+		MockGitHubClient client = new MockGitHubClient();
+		client.setRateLimiter(new IRateLimiter() {
+
+			@Override
+			public long reserve(String uri) {
+				return 60 * 60 * 1000L;
+			}
+
+			@Override
+			public void update(HttpURLConnection response) {
+			}
+		});
+		client.setMaxRateLimitWait(60 * 1000L);
+		client.respond(200, "[]");
+		try {
+			client.get(labelsRequest());
+			fail("Exception not thrown");
+		} catch (IOException e) {
+			assertTrue(e.getMessage().contains("3600 seconds"));
+		}
+		assertTrue(client.getConnections().isEmpty());
+	}
+
+	/**
+	 * Verify requests are authenticated with a token of the pool
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void tokenPool() throws IOException {
+		MockGitHubClient client = new MockGitHubClient();
+		client.setOAuth2Token("single");
+		client.setTokenPool(new TokenPool("first", "second"));
+		client.respond(200, "[]").setHeader("X-RateLimit-Remaining", "0")
+				.setHeader("X-RateLimit-Reset",
+						Long.toString(System.currentTimeMillis() / 1000 + 60));
+		client.respond(200, "[]");
+		client.get(labelsRequest());
+		client.get(labelsRequest());
+		List<MockHttpURLConnection> connections = client.getConnections();
+		assertEquals("token first",
+				connections.get(0).getRequestProperty("Authorization"));
+		assertEquals("token second",
+				connections.get(1).getRequestProperty("Authorization"));
+	}
+
+	/**
+	 * Verify gzip encoded responses are decoded and counted
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void gzipResponse() throws IOException {
+		String json = "[{\"name\":\"bug\"},{\"name\":\"bug\"},{\"name\":\"bug\"}]";
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+		try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+			gzip.write(json.getBytes(StandardCharsets.UTF_8));
+		}
+		MockGitHubClient client = new MockGitHubClient();
+		client.respond(200, null).setResponseBody(compressed.toByteArray())
+				.setHeader("Content-Encoding", "gzip");
+		List<?> labels = (List<?>) client.get(labelsRequest()).getBody();
+		assertEquals(3, labels.size());
+		assertEquals("gzip, deflate", client.getConnections().get(0)
+				.getRequestProperty("Accept-Encoding"));
+		assertEquals(compressed.size(), client.getWireBytes());
+		assertEquals(json.length(), client.getDecodedBytes());
+		client.resetByteCounters();
+		assertEquals(0, client.getWireBytes());
+	}
+
+	/**
+	 * Verify no encoding is advertised when compression is disabled
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void compressionDisabled() throws IOException {
+		MockGitHubClient client = new MockGitHubClient();
+		client.setCompressionEnabled(false);
+		client.respond(200, "[]");
+		client.get(labelsRequest());
+		assertNull(client.getConnections().get(0)
+				.getRequestProperty("Accept-Encoding"));
+		assertEquals(2, client.getWireBytes());
+		assertEquals(2, client.getDecodedBytes());
+	}
+
+	/**
+	 * Verify requests sent through a coalescer complete and leave nothing in
+	 * flight
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void requestCoalescer() throws IOException {
+		RequestCoalescer coalescer = new RequestCoalescer();
+		MockGitHubClient client = new MockGitHubClient();
+		client.setRequestCoalescer(coalescer);
+		client.respond(200, "[{\"name\":\"bug\"}]");
+		client.respond(404, "{\"message\":\"Not Found\"}");
+		assertEquals(1, ((List<?>) client.get(labelsRequest()).getBody())
+				.size());
+		try {
+			client.get(labelsRequest());
+			fail("Exception not thrown");
+		} catch (RequestException e) {
+			assertEquals(404, e.getStatus());
+		}
+		assertEquals(2, client.getConnections().size());
+		assertEquals(0, coalescer.getInFlightCount());
+	}
+
+	/**
+	 * Verify request listeners are notified of successful and failed requests
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void requestListener() throws IOException {
+		final List<RequestMetrics> metrics = new ArrayList<>();
+		MockGitHubClient client = new MockGitHubClient();
+		client.addRequestListener(metrics::add);
+		client.respond(200, "[{\"name\":\"bug\"}]")
+				.setHeader(IGitHubConstants.HEADER_RATE_LIMIT, "5000")
+				.setHeader(IGitHubConstants.HEADER_RATE_REMAINING, "4999");
+		client.respond(404, "{\"message\":\"Not Found\"}");
+		client.get(labelsRequest().setUri("/repos/o/n/labels?page=2"));
+		try {
+			client.get(labelsRequest());
+			fail("Exception not thrown");
+		} catch (RequestException e) {
+			assertEquals(404, e.getStatus());
+		}
+		assertEquals(2, metrics.size());
+		RequestMetrics ok = metrics.get(0);
+		assertEquals("GET", ok.getMethod());
+		assertEquals("/repos/{owner}/{repo}/labels", ok.getTemplate());
+		assertEquals(200, ok.getStatus());
+		assertEquals(2, ok.getPage());
+		assertEquals(5000, ok.getRateLimit());
+		assertEquals(4999, ok.getRateLimitRemaining());
+		assertEquals(16, ok.getDecodedBytes());
+		assertTrue(ok.getTimeToFirstByte() >= 0);
+		assertTrue(ok.getTotalTime() >= ok.getTimeToFirstByte());
+		assertNull(ok.getFailure());
+		RequestMetrics failed = metrics.get(1);
+		assertEquals(404, failed.getStatus());
+		assertEquals(-1, failed.getPage());
+		assertTrue(failed.getFailure() instanceof RequestException);
+	}
+
+	/**
+	 * Verify listeners of stream requests are notified once the stream is
+	 * closed
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void requestListenerStream() throws IOException {
+		final List<RequestMetrics> metrics = new ArrayList<>();
+		MockGitHubClient client = new MockGitHubClient();
+		client.addRequestListener(metrics::add);
+		client.respond(200, "content");
+		InputStream stream = client.getStream(new GitHubRequest()
+				.setUri("/repos/o/n/contents/a/b.txt"));
+		assertTrue(metrics.isEmpty());
+		while (stream.read() != -1)
+			;
+		stream.close();
+		assertEquals(1, metrics.size());
+		assertEquals("/repos/{owner}/{repo}/contents/{path}", metrics.get(0)
+				.getTemplate());
+		assertEquals(7, metrics.get(0).getDecodedBytes());
+	}
+
+	/**
+	 * Verify GET requests failing with a transient error are retried
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void retryTransientGet() throws IOException {
+		MockGitHubClient client = new MockGitHubClient();
+		client.setRetryPolicy(new RetryPolicy(3, 0, 0, 1000));
+		client.respond(503, "<html>Service Unavailable</html>");
+		client.respond(502, "<html>Bad Gateway</html>");
+		client.respond(200, "[{\"name\":\"bug\"}]");
+		GitHubResponse response = client.get(labelsRequest());
+		assertEquals(1, ((List<?>) response.getBody()).size());
+		assertEquals(2, response.getRetries());
+		assertEquals(2, client.getRetryCount());
+		assertEquals(3, client.getConnections().size());
+	}
+
+	/**
+	 * Verify retries stop after the maximum number of attempts
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void retryExhausted() throws IOException {
+		MockGitHubClient client = new MockGitHubClient();
+		client.setRetryPolicy(new RetryPolicy(2, 0, 0, 1000));
+		client.respond(503, "unavailable");
+		client.respond(504, "timeout");
+		client.respond(200, "[]");
+		try {
+			client.get(labelsRequest());
+			fail("Exception not thrown");
+		} catch (ResponseStatusException e) {
+			assertEquals(504, e.getStatus());
+		}
+		assertEquals(2, client.getConnections().size());
+	}
+
+	/**
+	 * Verify POST requests are not retried
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void noRetryPost() throws IOException {
+		MockGitHubClient client = new MockGitHubClient();
+		client.setRetryPolicy(new RetryPolicy(3, 0, 0, 1000));
+		client.respond(503, "unavailable");
+		client.respond(201, "{}");
+		try {
+			client.post("/repos/o/n/labels", new Label(), Label.class);
+			fail("Exception not thrown");
+		} catch (ResponseStatusException e) {
+			assertEquals(503, e.getStatus());
+		}
+		assertEquals(1, client.getConnections().size());
+		assertEquals(0, client.getRetryCount());
+	}
+
+	/**
+	 * Verify only the requested fields of the outermost models are decoded
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void projectedFields() throws IOException {
+		MockGitHubClient client = new MockGitHubClient();
+		client.respond(200, "[{\"number\":1,\"title\":\"a\",\"body\":\"text\","
+				+ "\"labels\":[{\"name\":\"bug\"}],\"user\":{\"login\":\"u\","
+				+ "\"url\":\"https://api/users/u\"}}]");
+		GitHubRequest request = new GitHubRequest().setUri("/repos/o/n/issues")
+				.setType(new TypeToken<List<Issue>>() {
+				}.getType()).setFields("number", "user");
+		List<?> issues = (List<?>) client.get(request).getBody();
+		Issue issue = (Issue) issues.get(0);
+		assertEquals(1, issue.getNumber());
+		assertNull(issue.getTitle());
+		assertNull(issue.getBody());
+		assertNull(issue.getLabels());
+		assertEquals("u", issue.getUser().getLogin());
+		assertEquals("https://api/users/u", issue.getUser().getUrl());
+	}
+
+	/**
+	 * Verify models nested in resources read by other adapters are not
+	 * projected
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void projectedFieldsNested() throws IOException {
+		MockGitHubClient client = new MockGitHubClient();
+		client.respond(200, "{\"id\":\"1\",\"description\":\"d\","
+				+ "\"owner\":{\"login\":\"u\",\"url\":\"https://api/users/u\"}}");
+		GitHubRequest request = new GitHubRequest().setUri("/gists/1")
+				.setType(Gist.class).setFields("description", "owner");
+		Gist gist = (Gist) client.get(request).getBody();
+		assertEquals("d", gist.getDescription());
+		assertEquals("u", gist.getOwner().getLogin());
+		assertEquals("https://api/users/u", gist.getOwner().getUrl());
+	}
+
+	/**
+	 * Verify bodies within the streaming threshold are sent with a fixed
+	 * length
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void sendFixedLengthBody() throws IOException {
+		MockGitHubClient client = new MockGitHubClient();
+		client.respond(201, "{\"name\":\"bug\"}");
+		Label label = new Label().setName("bug");
+		client.post("/repos/o/n/labels", label, Label.class);
+		MockHttpURLConnection connection = client.getConnections().get(0);
+		byte[] body = connection.getRequestBody();
+		assertEquals(GsonUtils.toJson(label),
+				new String(body, StandardCharsets.UTF_8));
+		assertEquals(body.length, connection.getFixedLength());
+		assertEquals(-1, connection.getChunkLength());
+	}
+
+	/**
+	 * Verify bodies exceeding the streaming threshold are sent chunked
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void sendChunkedBody() throws IOException {
+		MockGitHubClient client = new MockGitHubClient();
+		client.setStreamingThreshold(8).setBufferSize(4);
+		client.respond(201, "{}");
+		Label label = new Label().setName("b\u00fcg").setColor("ff0000");
+		client.post("/repos/o/n/labels", label, Label.class);
+		MockHttpURLConnection connection = client.getConnections().get(0);
+		assertEquals(GsonUtils.toJson(label), new String(connection.getRequestBody(),
+						StandardCharsets.UTF_8));
+		assertEquals(-1, connection.getFixedLength());
+		assertEquals(4, connection.getChunkLength());
+	}
+
+	/**
+	 * Verify a negative streaming threshold is rejected
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void negativeStreamingThreshold() {
+		new GitHubClient().setStreamingThreshold(-1);
+	}
+
+	/**
+	 * Verify request bodies of unknown length are written chunked
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void sendRequestBody() throws IOException {
+		MockGitHubClient client = new MockGitHubClient();
+		client.respond(201, "{}");
+		client.post("/markdown/raw", new IRequestBody() {
+
+			@Override
+			public String getContentType() {
+				return "text/plain";
+			}
+
+			@Override
+			public long getLength() {
+				return -1;
+			}
+
+			@Override
+			public void writeTo(OutputStream output) throws IOException {
+				output.write("# title".getBytes(StandardCharsets.UTF_8));
+			}
+		}, null);
+		MockHttpURLConnection connection = client.getConnections().get(0);
+		assertEquals("# title", new String(connection.getRequestBody(),
+				StandardCharsets.UTF_8));
+		assertEquals("text/plain",
+				connection.getRequestProperty("Content-Type"));
+		assertEquals(client.getBufferSize(), connection.getChunkLength());
+	}
 }
@@ -0,0 +1,56 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.eclipse.egit.github.core.IssueComment;
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link IssueComment}
+ */
+public class IssueCommentTest {
+
+	/**
+	 * Test default state of comment
+	 */
+	@Test
+	public void defaultState() {
+		IssueComment comment = new IssueComment();
+		assertNull(comment.getIssueUrl());
+		assertEquals(-1, comment.getIssueNumber());
+	}
+
+	/**
+	 * Test updating comment fields
+	 */
+	@Test
+	public void updateFields() {
+		IssueComment comment = new IssueComment();
+		assertEquals("https://api/repos/o/r/issues/12", comment
+				.setIssueUrl("https://api/repos/o/r/issues/12").getIssueUrl());
+		assertEquals(12, comment.getIssueNumber());
+	}
+
+	/**
+	 * Test issue number of malformed issue URL
+	 */
+	@Test
+	public void malformedIssueUrl() {
+		IssueComment comment = new IssueComment();
+		assertEquals(-1, comment.setIssueUrl("https://api/repos/o/r/issues/")
+				.getIssueNumber());
+	}
+}
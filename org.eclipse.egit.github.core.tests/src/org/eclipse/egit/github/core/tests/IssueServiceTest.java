@@ -14,18 +14,21 @@ package org.eclipse.egit.github.core.tests;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.verify;
 
 import java.io.IOException;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.eclipse.egit.github.core.Comment;
 import org.eclipse.egit.github.core.Issue;
+import org.eclipse.egit.github.core.IssueComment;
 import org.eclipse.egit.github.core.IssueEvent;
 import org.eclipse.egit.github.core.RepositoryId;
 import org.eclipse.egit.github.core.RepositoryIssue;
@@ -916,4 +919,48 @@ public class IssueServiceTest {
 				.page("/legacy/issues/search/user/repo/open/a%20and%20a%2E"));
 		verify(gitHubClient).get(request);
 	}
+
+	/**
+	 * Page issues for repository decoding only some fields
+	 */
+	@Test
+	public void pageRepositoryIssuesWithFields() {
+		RepositoryId id = new RepositoryId("user", "repo");
+		PageIterator<Issue> iterator = issueService.pageIssues(id, null, 1,
+				100, "number", "title");
+		assertEquals(Utils.page("/repos/user/repo/issues"), iterator
+				.getRequest().generateUri());
+		assertEquals(2, iterator.getRequest().getFields().size());
+		assertTrue(iterator.getRequest().getFields().contains("title"));
+	}
+
+	/**
+	 * Page comments on all issues of a repository
+	 */
+	@Test
+	public void pageRepositoryComments() {
+		RepositoryId id = new RepositoryId("user", "repo");
+		PageIterator<IssueComment> iterator = issueService
+				.pageRepositoryComments(id, null);
+		assertEquals("/repos/user/repo/issues/comments", iterator
+				.getRequest().getUri());
+		Map<String, String> params = iterator.getRequest().getParams();
+		assertEquals("created", params.get("sort"));
+		assertEquals("asc", params.get("direction"));
+		assertNull(params.get("since"));
+	}
+
+	/**
+	 * Page comments on all issues of a repository updated since a date
+	 */
+	@Test
+	public void pageRepositoryCommentsSince() {
+		RepositoryId id = new RepositoryId("user", "repo");
+		PageIterator<IssueComment> iterator = issueService
+				.pageRepositoryComments(id, new Date(1303479228000L), 2, 50);
+		assertEquals("2011-04-22T13:33:48Z", iterator.getRequest()
+				.getParams().get("since"));
+		assertEquals(2, iterator.getRequest().getPage());
+		assertEquals(50, iterator.getRequest().getPageSize());
+	}
 }
@@ -0,0 +1,70 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import org.eclipse.egit.github.core.client.CachedResponse;
+import org.eclipse.egit.github.core.client.MemoryResponseCache;
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link MemoryResponseCache}
+ */
+public class MemoryResponseCacheTest {
+
+	/**
+	 * Create cache with invalid size
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidSize() {
+		new MemoryResponseCache(0);
+	}
+
+	/**
+	 * Verify least recently used response is evicted
+	 */
+	@Test
+	public void evictLeastRecentlyUsed() {
+		MemoryResponseCache cache = new MemoryResponseCache(2);
+		CachedResponse response = new CachedResponse("e", null, new byte[0],
+				null);
+		cache.put("a", response);
+		cache.put("b", response);
+		assertNotNull(cache.get("a"));
+		cache.put("c", response);
+		assertEquals(2, cache.size());
+		assertNotNull(cache.get("a"));
+		assertNull(cache.get("b"));
+		assertNotNull(cache.get("c"));
+	}
+
+	/**
+	 * Remove and clear cached responses
+	 */
+	@Test
+	public void removeAndClear() {
+		MemoryResponseCache cache = new MemoryResponseCache();
+		CachedResponse response = new CachedResponse(null, "date",
+				new byte[0], null);
+		cache.put("a", response);
+		cache.put("b", response);
+		cache.remove("a");
+		assertNull(cache.get("a"));
+		assertEquals(1, cache.size());
+		cache.clear();
+		assertEquals(0, cache.size());
+	}
+}
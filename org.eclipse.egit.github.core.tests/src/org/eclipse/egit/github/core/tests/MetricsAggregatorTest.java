@@ -0,0 +1,116 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.egit.github.core.client.MetricsAggregator;
+import org.eclipse.egit.github.core.client.MetricsAggregator.EndpointMetrics;
+import org.eclipse.egit.github.core.client.RequestMetrics;
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link MetricsAggregator}
+ */
+public class MetricsAggregatorTest {
+
+	private static RequestMetrics metrics(String uri, int status, long millis) {
+		long time = TimeUnit.MILLISECONDS.toNanos(millis);
+		return new RequestMetrics("GET", uri, status, time / 2, 0, time, 10,
+				20, -1, -1, -1, -1, status >= 400 ? new IOException() : null);
+	}
+
+	/**
+	 * Requests are aggregated per method and template
+	 */
+	@Test
+	public void aggregateByTemplate() {
+		MetricsAggregator aggregator = new MetricsAggregator();
+		aggregator.requestCompleted(metrics("/repos/a/b/issues/1", 200, 10));
+		aggregator.requestCompleted(metrics("/repos/c/d/issues/2", 404, 30));
+		aggregator.requestCompleted(metrics("/users/e", 200, 5));
+		Map<String, EndpointMetrics> endpoints = aggregator.getEndpoints();
+		assertEquals(2, endpoints.size());
+		EndpointMetrics issues = aggregator.getEndpoint("GET",
+				"/repos/{owner}/{repo}/issues/{number}");
+		assertNotNull(issues);
+		assertEquals(2, issues.getCount());
+		assertEquals(1, issues.getErrorCount());
+		assertEquals(TimeUnit.MILLISECONDS.toNanos(30), issues.getMaxTime());
+		assertEquals(TimeUnit.MILLISECONDS.toNanos(20), issues.getMeanTime());
+		assertEquals(20, issues.getWireBytes());
+		assertEquals(40, issues.getDecodedBytes());
+		assertNull(aggregator.getEndpoint("POST", "/users/{user}"));
+		aggregator.reset();
+		assertTrue(aggregator.getEndpoints().isEmpty());
+	}
+
+	/**
+	 * Requests to endpoints beyond the maximum are aggregated together
+	 */
+	@Test
+	public void maxEndpoints() {
+		MetricsAggregator aggregator = new MetricsAggregator(2);
+		aggregator.requestCompleted(metrics("/user", 200, 1));
+		aggregator.requestCompleted(metrics("/users/a", 200, 1));
+		aggregator.requestCompleted(metrics("/user/repos", 200, 1));
+		aggregator.requestCompleted(metrics("/user/keys", 200, 1));
+		aggregator.requestCompleted(metrics("/user", 200, 1));
+		assertEquals(3, aggregator.getEndpoints().size());
+		assertEquals(2, aggregator.getEndpoint("GET", "/user").getCount());
+		assertEquals(2, aggregator
+				.getEndpoint("GET", MetricsAggregator.OTHER).getCount());
+		assertNull(aggregator.getEndpoint("GET", "/user/repos"));
+	}
+
+	/**
+	 * Percentiles are within the histogram precision of the recorded times
+	 */
+	@Test
+	public void percentiles() {
+		MetricsAggregator aggregator = new MetricsAggregator();
+		for (int i = 1; i <= 100; i++)
+			aggregator.requestCompleted(metrics("/user", 200, i));
+		EndpointMetrics user = aggregator.getEndpoint("GET", "/user");
+		assertTrue(user.getPercentile(0) > 0);
+		assertPercentile(50, user.getPercentile(50));
+		assertPercentile(90, user.getPercentile(90));
+		assertPercentile(99, user.getPercentile(99));
+		assertEquals(TimeUnit.MILLISECONDS.toNanos(100),
+				user.getPercentile(100));
+		user.reset();
+		assertEquals(0, user.getCount());
+		assertEquals(0, user.getPercentile(50));
+	}
+
+	private static void assertPercentile(long expectedMillis, long actual) {
+		long expected = TimeUnit.MILLISECONDS.toNanos(expectedMillis);
+		assertTrue(actual + " < " + expected, actual >= expected);
+		assertTrue(actual + " > " + expected, actual <= expected * 5 / 4);
+	}
+
+	/**
+	 * Percentile out of range
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidPercentile() {
+		new MetricsAggregator.EndpointMetrics("GET", "/").getPercentile(101);
+	}
+}
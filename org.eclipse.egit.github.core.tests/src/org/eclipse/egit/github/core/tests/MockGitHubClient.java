@@ -0,0 +1,75 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.tests;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.eclipse.egit.github.core.client.GitHubClient;
+
+/**
+ * {@link GitHubClient} that hands out queued {@link MockHttpURLConnection}
+ * instances instead of connecting to a server
+ */
+public class MockGitHubClient extends GitHubClient {
+
+	private final LinkedList<MockHttpURLConnection> responses = new LinkedList<>();
+
+	private final List<MockHttpURLConnection> connections = new ArrayList<>();
+
+	/**
+	 * Create client for localhost
+	 */
+	public MockGitHubClient() {
+		super("localhost");
+	}
+
+	/**
+	 * Queue response to be returned by the next created connection
+	 *
+	 * @param code
+	 * @param body
+	 * @return queued connection
+	 * @throws IOException
+	 */
+	public synchronized MockHttpURLConnection respond(int code, String body)
+			throws IOException {
+		MockHttpURLConnection connection = new MockHttpURLConnection(new URL(
+				"http://localhost"), code, body);
+		responses.add(connection);
+		return connection;
+	}
+
+	/**
+	 * Get connections created so far
+	 *
+	 * @return connections
+	 */
+	public synchronized List<MockHttpURLConnection> getConnections() {
+		return new ArrayList<>(connections);
+	}
+
+	@Override
+	protected synchronized HttpURLConnection createConnection(String uri)
+			throws IOException {
+		MockHttpURLConnection connection = responses.poll();
+		if (connection == null)
+			throw new IOException("No response queued for " + uri);
+		connections.add(connection);
+		return connection;
+	}
+}
@@ -0,0 +1,213 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.tests;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@link HttpURLConnection} returning a canned response without opening a
+ * socket
+ */
+public class MockHttpURLConnection extends HttpURLConnection {
+
+	private final Map<String, String> responseHeaders = new LinkedHashMap<>();
+
+	private final Map<String, String> requestHeaders = new LinkedHashMap<>();
+
+	private final ByteArrayOutputStream requestBody = new ByteArrayOutputStream();
+
+	private byte[] responseBody = new byte[0];
+
+	private int failAfter = -1;
+
+	/**
+	 * Create connection to URL responding with given status and body
+	 *
+	 * @param url
+	 * @param code
+	 * @param body
+	 */
+	public MockHttpURLConnection(URL url, int code, String body) {
+		super(url);
+		responseCode = code;
+		if (body != null)
+			responseBody = body.getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Set response body
+	 *
+	 * @param body
+	 * @return this connection
+	 */
+	public MockHttpURLConnection setResponseBody(byte[] body) {
+		responseBody = body;
+		return this;
+	}
+
+	/**
+	 * Fail reading the response body after the given number of bytes
+	 *
+	 * @param bytes
+	 * @return this connection
+	 */
+	public MockHttpURLConnection setFailAfter(int bytes) {
+		failAfter = bytes;
+		return this;
+	}
+
+	/**
+	 * Set response header
+	 *
+	 * @param name
+	 * @param value
+	 * @return this connection
+	 */
+	public MockHttpURLConnection setHeader(String name, String value) {
+		responseHeaders.put(name, value);
+		return this;
+	}
+
+	/**
+	 * Get body written to the request
+	 *
+	 * @return request body
+	 */
+	public byte[] getRequestBody() {
+		return requestBody.toByteArray();
+	}
+
+	/**
+	 * Get length set with fixed-length streaming mode
+	 *
+	 * @return length or -1 if not set
+	 */
+	public long getFixedLength() {
+		return fixedContentLength != -1 ? fixedContentLength
+				: fixedContentLengthLong;
+	}
+
+	/**
+	 * Get chunk length set with chunked streaming mode
+	 *
+	 * @return chunk length or -1 if not set
+	 */
+	public int getChunkLength() {
+		return chunkLength;
+	}
+
+	/**
+	 * Was the connection opened?
+	 *
+	 * @return true if connected, false otherwise
+	 */
+	public boolean isConnected() {
+		return connected;
+	}
+
+	@Override
+	public void setRequestProperty(String key, String value) {
+		super.setRequestProperty(key, value);
+		requestHeaders.put(key, value);
+	}
+
+	@Override
+	public String getRequestProperty(String key) {
+		return requestHeaders.get(key);
+	}
+
+	@Override
+	public void connect() throws IOException {
+		connected = true;
+	}
+
+	@Override
+	public void disconnect() {
+		connected = false;
+	}
+
+	@Override
+	public boolean usingProxy() {
+		return false;
+	}
+
+	@Override
+	public int getResponseCode() throws IOException {
+		connect();
+		return responseCode;
+	}
+
+	@Override
+	public String getResponseMessage() throws IOException {
+		connect();
+		return responseMessage;
+	}
+
+	@Override
+	public String getHeaderField(String name) {
+		for (Map.Entry<String, String> header : responseHeaders.entrySet())
+			if (header.getKey().equalsIgnoreCase(name))
+				return header.getValue();
+		return null;
+	}
+
+	@Override
+	public InputStream getInputStream() throws IOException {
+		connect();
+		if (responseCode >= HTTP_BAD_REQUEST)
+			throw new IOException("Server returned " + responseCode);
+		if (failAfter < 0)
+			return new ByteArrayInputStream(responseBody);
+		return new FilterInputStream(new ByteArrayInputStream(responseBody, 0,
+				failAfter)) {
+
+			@Override
+			public int read() throws IOException {
+				int read = super.read();
+				if (read == -1)
+					throw new IOException("Connection reset");
+				return read;
+			}
+
+			@Override
+			public int read(byte[] b, int off, int len) throws IOException {
+				int read = super.read(b, off, len);
+				if (read == -1)
+					throw new IOException("Connection reset");
+				return read;
+			}
+		};
+	}
+
+	@Override
+	public InputStream getErrorStream() {
+		if (responseCode < HTTP_BAD_REQUEST)
+			return null;
+		return new ByteArrayInputStream(responseBody);
+	}
+
+	@Override
+	public OutputStream getOutputStream() throws IOException {
+		return requestBody;
+	}
+}
@@ -0,0 +1,317 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.tests;
+
+import static com.google.gson.FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.egit.github.core.Commit;
+import org.eclipse.egit.github.core.CommitComment;
+import org.eclipse.egit.github.core.CommitFile;
+import org.eclipse.egit.github.core.CommitStats;
+import org.eclipse.egit.github.core.CommitUser;
+import org.eclipse.egit.github.core.Issue;
+import org.eclipse.egit.github.core.IssueComment;
+import org.eclipse.egit.github.core.Label;
+import org.eclipse.egit.github.core.Milestone;
+import org.eclipse.egit.github.core.PullRequest;
+import org.eclipse.egit.github.core.PullRequestMarker;
+import org.eclipse.egit.github.core.Repository;
+import org.eclipse.egit.github.core.RepositoryCommit;
+import org.eclipse.egit.github.core.RepositoryIssue;
+import org.eclipse.egit.github.core.Tree;
+import org.eclipse.egit.github.core.TreeEntry;
+import org.eclipse.egit.github.core.User;
+import org.eclipse.egit.github.core.UserPlan;
+import org.eclipse.egit.github.core.client.DateFormatter;
+import org.eclipse.egit.github.core.client.GsonUtils;
+import org.eclipse.egit.github.core.client.ModelAdapterFactory;
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link ModelAdapterFactory}
+ */
+public class ModelAdapterFactoryTest {
+
+	private static final String USER = "{\"login\":\"octocat\",\"id\":1,"
+			+ "\"avatar_url\":\"https://a/u/1\",\"gravatar_id\":\"\","
+			+ "\"url\":\"https://api/users/octocat\","
+			+ "\"html_url\":\"https://github.com/octocat\",\"type\":\"User\","
+			+ "\"site_admin\":false,\"public_repos\":null,\"plan\":{\"name\":\"pro\","
+			+ "\"space\":976562499,\"collaborators\":0,\"private_repos\":9999}}";
+
+	private static final String REPOSITORY = "{\"id\":1296269,\"name\":\"hello\","
+			+ "\"full_name\":\"octocat/hello\",\"owner\":" + USER + ",\"private\":false,"
+			+ "\"fork\":true,\"created_at\":\"2011-01-26T19:01:12Z\","
+			+ "\"pushed_at\":\"2011-01-26T19:06:43Z\",\"stargazers_count\":80,"
+			+ "\"watchers_count\":80,\"has_issues\":true,\"has_wiki\":true,"
+			+ "\"forks\":9,\"open_issues\":0,\"watchers\":80,\"size\":108,"
+			+ "\"default_branch\":\"master\",\"mirror_url\":null,\"topics\":[\"a\"]}";
+
+	private static final String MILESTONE = "{\"url\":\"https://api/m/1\","
+			+ "\"number\":1,\"state\":\"open\",\"title\":\"v1.0\",\"creator\":"
+			+ USER + ",\"open_issues\":4,\"closed_issues\":8,"
+			+ "\"created_at\":\"2011-04-10T20:09:31Z\",\"due_on\":null}";
+
+	private static final String ISSUE = "{\"id\":1,\"url\":\"https://api/i/1347\","
+			+ "\"number\":1347,\"state\":\"open\",\"title\":\"Found a bug\","
+			+ "\"body\":\"I'm having a problem\",\"user\":" + USER + ","
+			+ "\"labels\":[{\"url\":\"https://api/l/bug\",\"name\":\"bug\","
+			+ "\"color\":\"f29513\"}],\"assignee\":" + USER + ",\"milestone\":"
+			+ MILESTONE + ",\"comments\":0,\"pull_request\":{\"html_url\":"
+			+ "\"https://github.com/pull/1347\",\"diff_url\":\"d\",\"patch_url\":\"p\"},"
+			+ "\"closed_at\":null,\"created_at\":\"2011-04-22T13:33:48Z\","
+			+ "\"updated_at\":\"2011-04-22T13:33:48Z\",\"closed_by\":null}";
+
+	private static final String PULL_REQUEST = "{\"id\":1,\"number\":1347,"
+			+ "\"state\":\"open\",\"title\":\"new-feature\",\"body\":\"Please pull\","
+			+ "\"created_at\":\"2011-01-26T19:01:12Z\",\"merged_at\":null,"
+			+ "\"head\":{\"label\":\"new-topic\",\"ref\":\"new-topic\",\"sha\":\"6dcb09\","
+			+ "\"user\":" + USER + ",\"repo\":" + REPOSITORY + "},\"base\":{\"label\":"
+			+ "\"master\",\"ref\":\"master\",\"sha\":\"6dcb09\",\"user\":" + USER
+			+ ",\"repo\":" + REPOSITORY + "},\"merged\":false,\"mergeable\":true,"
+			+ "\"mergeable_state\":\"clean\",\"merged_by\":null,\"comments\":10,"
+			+ "\"commits\":3,\"additions\":100,\"deletions\":3,\"changed_files\":5,"
+			+ "\"assignees\":[" + USER + "],\"milestone\":" + MILESTONE + "}";
+
+	private static final String COMMIT = "{\"url\":\"https://api/c/6dcb09\","
+			+ "\"sha\":\"6dcb09\",\"commit\":{\"url\":\"https://api/git/c/6dcb09\","
+			+ "\"author\":{\"name\":\"Monalisa\",\"email\":\"m@github.com\","
+			+ "\"date\":\"2011-04-14T16:00:49Z\"},\"committer\":{\"name\":\"Monalisa\","
+			+ "\"email\":\"m@github.com\",\"date\":\"2011-04-14T16:00:49Z\"},"
+			+ "\"message\":\"Fix all the bugs\",\"tree\":{\"url\":\"https://api/t/6dcb09\","
+			+ "\"sha\":\"6dcb09\"},\"comment_count\":0},\"author\":" + USER
+			+ ",\"committer\":" + USER + ",\"parents\":[{\"url\":\"https://api/c/1\","
+			+ "\"sha\":\"1\"}],\"stats\":{\"additions\":104,\"deletions\":4,"
+			+ "\"total\":108},\"files\":[{\"filename\":\"file1.txt\",\"additions\":10,"
+			+ "\"deletions\":2,\"changes\":12,\"status\":\"modified\",\"raw_url\":\"r\","
+			+ "\"blob_url\":\"b\",\"patch\":\"@@ -29,7 +29,7 @@\"}]}";
+
+	private static final String COMMIT_COMMENT = "{\"url\":\"https://api/cc/1\","
+			+ "\"id\":1,\"body\":\"Great stuff\",\"path\":\"file1.txt\",\"position\":4,"
+			+ "\"line\":14,\"commit_id\":\"6dcb09\",\"original_commit_id\":\"6dcb09\","
+			+ "\"original_position\":4,\"diff_hunk\":\"@@ -16,33 +16,40 @@\","
+			+ "\"user\":" + USER + ",\"created_at\":\"2011-04-14T16:00:49Z\","
+			+ "\"updated_at\":\"2011-04-14T16:00:49Z\"}";
+
+	private static final String ISSUE_COMMENT = "{\"id\":1,"
+			+ "\"url\":\"https://api/ic/1\",\"issue_url\":\"https://api/i/1347\","
+			+ "\"body\":\"Me too\",\"user\":" + USER + ","
+			+ "\"created_at\":\"2011-04-14T16:00:49Z\","
+			+ "\"updated_at\":\"2011-04-14T16:00:49Z\"}";
+
+	private static final String TREE = "{\"sha\":\"9fb037\",\"url\":\"https://api/t/9fb037\","
+			+ "\"tree\":[{\"path\":\"file.rb\",\"mode\":\"100644\",\"type\":\"blob\","
+			+ "\"size\":30,\"sha\":\"44b4fc\",\"url\":\"https://api/b/44b4fc\"}]}";
+
+	/**
+	 * Gson binding models with the reflective adapter
+	 */
+	private static final Gson REFLECTIVE = new GsonBuilder()
+			.registerTypeAdapter(Date.class, new DateFormatter())
+			.setFieldNamingPolicy(LOWER_CASE_WITH_UNDERSCORES).serializeNulls()
+			.create();
+
+	/**
+	 * Models bound by {@link ModelAdapterFactory}
+	 */
+	private static final List<Class<?>> MODELS = Arrays.asList(Commit.class,
+			CommitComment.class, IssueComment.class, CommitFile.class,
+			CommitStats.class, CommitUser.class, Issue.class, Label.class,
+			Milestone.class, PullRequest.class, PullRequestMarker.class,
+			Repository.class, RepositoryCommit.class, RepositoryIssue.class,
+			Tree.class, TreeEntry.class, User.class, UserPlan.class);
+
+	/**
+	 * Model fields intentionally not bound by {@link ModelAdapterFactory}, the
+	 * legacy repository watchers are read into the subscribers count
+	 */
+	private static final Set<String> UNBOUND = Collections
+			.singleton("Repository.watchers");
+
+	private static String getPropertyName(Field field) {
+		SerializedName name = field.getAnnotation(SerializedName.class);
+		return name != null ? name.value()
+				: LOWER_CASE_WITH_UNDERSCORES.translateName(field);
+	}
+
+	private static String getSample(Class<?> type) {
+		if (type == String.class)
+			return "\"sample\"";
+		if (type == Date.class)
+			return "\"2011-04-14T16:00:49Z\"";
+		if (type == int.class || type == Integer.class || type == long.class
+				|| type == Long.class)
+			return "7";
+		if (type == boolean.class || type == Boolean.class)
+			return "true";
+		if (List.class.isAssignableFrom(type))
+			return "[]";
+		return "{}";
+	}
+
+	private static boolean isSet(Object value) {
+		if (value instanceof Number)
+			return ((Number) value).longValue() != 0;
+		if (value instanceof Boolean)
+			return ((Boolean) value).booleanValue();
+		return value != null;
+	}
+
+	private static void assertReadLikeReflection(String json, Type type) {
+		Object expected = REFLECTIVE.fromJson(json, type);
+		Object actual = GsonUtils.getGson().fromJson(json, type);
+		assertNotNull(actual);
+		assertEquals(expected.getClass(), actual.getClass());
+		// Repositories store the legacy watchers field as subscribers count,
+		// both report the same Repository.getWatchers()
+		assertEquals(REFLECTIVE.toJson(expected),
+				REFLECTIVE.toJson(actual).replace(
+						"\"subscribers_count\":80", "\"subscribers_count\":-1")
+						.replace("\"watchers\":0,", "\"watchers\":80,"));
+	}
+
+	/**
+	 * Verify models are read like with the reflective adapter
+	 */
+	@Test
+	public void readLikeReflection() {
+		assertReadLikeReflection(ISSUE, Issue.class);
+		assertReadLikeReflection(PULL_REQUEST, PullRequest.class);
+		assertReadLikeReflection(REPOSITORY, Repository.class);
+		assertReadLikeReflection(COMMIT, RepositoryCommit.class);
+		assertReadLikeReflection(COMMIT_COMMENT, CommitComment.class);
+		assertReadLikeReflection(ISSUE_COMMENT, IssueComment.class);
+		assertReadLikeReflection(TREE, Tree.class);
+		assertNull(GsonUtils.fromJson("null", User.class));
+	}
+
+	/**
+	 * Verify every field of the bound models is read by a registered property
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void fieldsBound() throws Exception {
+		Gson gson = GsonUtils.getGson();
+		for (Class<?> model : MODELS) {
+			assertNotNull(model.getName(), new ModelAdapterFactory()
+					.create(gson, TypeToken.get(model)));
+			for (Class<?> type = model; type != Object.class; type = type
+					.getSuperclass())
+				for (Field field : type.getDeclaredFields()) {
+					int modifiers = field.getModifiers();
+					if (Modifier.isStatic(modifiers)
+							|| Modifier.isTransient(modifiers))
+						continue;
+					String name = getPropertyName(field);
+					if (UNBOUND.contains(type.getSimpleName() + '.' + name))
+						continue;
+					Object read = gson.fromJson("{\"" + name + "\":"
+							+ getSample(field.getType()) + "}", model);
+					field.setAccessible(true);
+					assertTrue(model.getSimpleName() + "." + name,
+							isSet(field.get(read)));
+				}
+		}
+	}
+
+	/**
+	 * Verify models are written like with the reflective adapter
+	 */
+	@Test
+	public void writeLikeReflection() {
+		Issue issue = new Issue().setTitle("title").setNumber(3)
+				.setLabels(Collections.singletonList(new Label().setName("bug")))
+				.setCreatedAt(new Date(1000000))
+				.setUser(new User().setLogin("octocat"));
+		assertEquals(REFLECTIVE.toJson(issue), GsonUtils.toJson(issue));
+		Repository repository = new Repository().setName("hello")
+				.setWatchers(3);
+		assertEquals(REFLECTIVE.toJson(repository),
+				GsonUtils.toJson(repository));
+		assertEquals(new GsonBuilder()
+				.setFieldNamingPolicy(LOWER_CASE_WITH_UNDERSCORES).create()
+				.toJson(repository), GsonUtils.toJson(repository, false));
+	}
+
+	/**
+	 * Verify fields without accessors survive reading and writing
+	 */
+	@Test
+	public void roundTripWithoutAccessor() {
+		String json = "{\"login\":\"octocat\",\"gravatar_id\":\"abc\"}";
+		assertEquals(REFLECTIVE.toJson(REFLECTIVE.fromJson(json, User.class)),
+				GsonUtils.toJson(GsonUtils.fromJson(json, User.class)));
+		assertTrue(GsonUtils.toJson(GsonUtils.fromJson(json, User.class))
+				.contains("\"gravatar_id\":\"abc\""));
+	}
+
+	/**
+	 * Verify watchers of repositories with and without the subscribers count
+	 */
+	@Test
+	public void repositoryWatchers() {
+		assertEquals(5, GsonUtils.fromJson("{\"watchers\":5}", Repository.class)
+				.getWatchers());
+		assertEquals(7, GsonUtils.fromJson(
+				"{\"subscribers_count\":7,\"watchers\":5}", Repository.class)
+				.getWatchers());
+		assertEquals(7, GsonUtils.fromJson(
+				"{\"watchers\":5,\"subscribers_count\":7}", Repository.class)
+				.getWatchers());
+		assertEquals(5, GsonUtils.fromJson(
+				"{\"watchers\":5,\"subscribers_count\":-1}", Repository.class)
+				.getWatchers());
+		assertEquals(0, GsonUtils.fromJson("{}", Repository.class)
+				.getWatchers());
+	}
+
+	/**
+	 * Verify null values of primitive properties keep the default
+	 */
+	@Test
+	public void nullPrimitive() {
+		Issue issue = GsonUtils.fromJson(
+				"{\"number\":null,\"title\":null,\"extra\":[1,{\"a\":2}]}",
+				Issue.class);
+		assertEquals(0, issue.getNumber());
+		assertNull(issue.getTitle());
+	}
+
+	/**
+	 * Verify malformed numbers fail like with the reflective adapter
+	 */
+	@Test(expected = JsonSyntaxException.class)
+	public void malformedNumber() {
+		GsonUtils.fromJson("{\"number\":\"one\"}", Issue.class);
+	}
+}
@@ -0,0 +1,140 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.egit.github.core.util.MultiPartUtils;
+import org.eclipse.egit.github.core.util.MultiPartUtils.StreamPart;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit tests of {@link MultiPartUtils}
+ */
+public class MultiPartUtilsTest {
+
+	/**
+	 * Temporary folder
+	 */
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private static MockHttpURLConnection connection() throws IOException {
+		return new MockHttpURLConnection(new URL("http://localhost"), 201,
+				null);
+	}
+
+	private static String getBoundary(MockHttpURLConnection connection) {
+		String type = connection.getRequestProperty("Content-Type");
+		assertTrue(type.startsWith("multipart/form-data; boundary="));
+		return type.substring(type.indexOf('=') + 1);
+	}
+
+	/**
+	 * Parts of known length are sent with a fixed length
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void fixedLength() throws IOException {
+		File file = folder.newFile();
+		Files.write(file.toPath(), "file content".getBytes(
+				StandardCharsets.UTF_8));
+		Map<String, Object> parts = new LinkedHashMap<>();
+		parts.put("key", "value");
+		parts.put("stream", new StreamPart(new ByteArrayInputStream(
+				"stream content and more".getBytes(StandardCharsets.UTF_8)),
+				14));
+		parts.put("file", file);
+		parts.put("path", file.toPath());
+		MockHttpURLConnection connection = connection();
+		MultiPartUtils.post(connection, parts);
+
+		String boundary = getBoundary(connection);
+		String body = new String(connection.getRequestBody(),
+				StandardCharsets.UTF_8);
+		assertEquals("--" + boundary + "\r\n"
+				+ "Content-Disposition: form-data; name=\"key\"\r\n\r\n"
+				+ "value\r\n"
+				+ "--" + boundary + "\r\n"
+				+ "Content-Disposition: form-data; name=\"stream\"\r\n\r\n"
+				+ "stream content\r\n"
+				+ "--" + boundary + "\r\n"
+				+ "Content-Disposition: form-data; name=\"file\"\r\n\r\n"
+				+ "file content\r\n"
+				+ "--" + boundary + "\r\n"
+				+ "Content-Disposition: form-data; name=\"path\"\r\n\r\n"
+				+ "file content\r\n"
+				+ "--" + boundary + "--\r\n", body);
+		assertEquals(connection.getRequestBody().length,
+				connection.getFixedLength());
+		assertEquals(-1, connection.getChunkLength());
+	}
+
+	/**
+	 * Streams of unknown length are sent chunked
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void chunked() throws IOException {
+		Map<String, Object> parts = new LinkedHashMap<>();
+		parts.put("stream", new ByteArrayInputStream(new byte[100]));
+		MockHttpURLConnection connection = connection();
+		MultiPartUtils.post(connection, parts);
+		assertEquals(-1, connection.getFixedLength());
+		assertTrue(connection.getChunkLength() > 0);
+	}
+
+	/**
+	 * Each request uses a different boundary
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void randomBoundary() throws IOException {
+		Map<String, Object> parts = new LinkedHashMap<>();
+		parts.put("key", "value");
+		MockHttpURLConnection first = connection();
+		MultiPartUtils.post(first, parts);
+		MockHttpURLConnection second = connection();
+		MultiPartUtils.post(second, parts);
+		assertFalse(getBoundary(first).equals(getBoundary(second)));
+	}
+
+	/**
+	 * Stream part shorter than its length fails
+	 *
+	 * @throws IOException
+	 */
+	@Test(expected = IOException.class)
+	public void streamTooShort() throws IOException {
+		Map<String, Object> parts = new LinkedHashMap<>();
+		parts.put("stream", new StreamPart(new ByteArrayInputStream(
+				new byte[2]), 3));
+		MultiPartUtils.post(connection(), parts);
+	}
+}
@@ -12,8 +12,13 @@
  *****************************************************************************/
 package org.eclipse.egit.github.core.tests;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+import java.util.HashSet;
+
 import org.eclipse.egit.github.core.client.PagedRequest;
 import org.junit.Test;
 
@@ -31,4 +36,19 @@ public class PagedRequestTest {
 		assertTrue(request.getPage() > 0);
 		assertTrue(request.getPageSize() > 0);
 	}
+
+	/**
+	 * Test fields to decode of a request
+	 */
+	@Test
+	public void fields() {
+		PagedRequest<String> request = new PagedRequest<>();
+		assertNull(request.getFields());
+		request.setFields("title", "number");
+		assertEquals(new HashSet<>(Arrays.asList("number", "title")),
+				request.getFields());
+		assertEquals("[number, title]", request.getFields().toString());
+		request.setFields();
+		assertNull(request.getFields());
+	}
 }
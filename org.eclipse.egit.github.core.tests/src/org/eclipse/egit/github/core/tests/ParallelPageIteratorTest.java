@@ -0,0 +1,192 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.egit.github.core.User;
+import org.eclipse.egit.github.core.client.GitHubClient;
+import org.eclipse.egit.github.core.client.NoSuchPageException;
+import org.eclipse.egit.github.core.client.PagedRequest;
+import org.eclipse.egit.github.core.client.ParallelPageIterator;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.reflect.TypeToken;
+
+/**
+ * Unit tests of {@link ParallelPageIterator}
+ */
+public class ParallelPageIteratorTest {
+
+	private static final Pattern PAGE = Pattern.compile("[?&]page=(\\d+)");
+
+	private static final String BASE = "https://localhost/api/v3/users?per_page=1&page=";
+
+	/**
+	 * Client serving single user pages up to a last page
+	 */
+	private static class PagesClient extends GitHubClient {
+
+		final List<String> uris = Collections
+				.synchronizedList(new ArrayList<String>());
+
+		final int lastPage;
+
+		final int failPage;
+
+		PagesClient(int lastPage, int failPage) {
+			super("localhost");
+			this.lastPage = lastPage;
+			this.failPage = failPage;
+		}
+
+		@Override
+		protected HttpURLConnection createConnection(String uri)
+				throws IOException {
+			uris.add(uri);
+			URL url = new URL("http://localhost");
+			Matcher matcher = PAGE.matcher(uri);
+			int page = matcher.find() ? Integer.parseInt(matcher.group(1))
+					: 1;
+			if (page == failPage)
+				return new MockHttpURLConnection(url, 500,
+						"{\"message\":\"failed\"}");
+			MockHttpURLConnection connection = new MockHttpURLConnection(
+					url, 200, "[{\"login\":\"user" + page + "\"}]");
+			if (page == 1)
+				connection.setHeader("Link", "<" + BASE + 2
+						+ ">; rel=\"next\", <" + BASE + lastPage
+						+ ">; rel=\"last\"");
+			return connection;
+		}
+	}
+
+	private PagedRequest<User> request;
+
+	/**
+	 * Create request
+	 */
+	@Before
+	public void before() {
+		request = new PagedRequest<>(1, 1);
+		request.setUri("/users");
+		request.setType(new TypeToken<List<User>>() {
+		}.getType());
+	}
+
+	/**
+	 * Pages are returned in order and each page is requested once
+	 */
+	@Test
+	public void pagesInOrder() {
+		PagesClient client = new PagesClient(7, -1);
+		ParallelPageIterator<User> iterator = new ParallelPageIterator<>(
+				request, client, 3);
+		List<String> logins = new ArrayList<>();
+		while (iterator.hasNext())
+			for (User user : iterator.next())
+				logins.add(user.getLogin());
+		assertEquals(7, logins.size());
+		for (int i = 0; i < logins.size(); i++)
+			assertEquals("user" + (i + 1), logins.get(i));
+		assertEquals(7, client.uris.size());
+		assertEquals(-1, iterator.getNextPage());
+	}
+
+	/**
+	 * Window of one fetches pages sequentially
+	 */
+	@Test
+	public void sequentialWindow() {
+		PagesClient client = new PagesClient(3, -1);
+		ParallelPageIterator<User> iterator = new ParallelPageIterator<>(
+				request, client, 1);
+		Collection<User> page = iterator.next();
+		assertEquals("user1", page.iterator().next().getLogin());
+		assertEquals(1, client.uris.size());
+		assertTrue(iterator.hasNext());
+	}
+
+	/**
+	 * Failed page surfaces as {@link NoSuchPageException}
+	 */
+	@Test
+	public void failedPage() {
+		PagesClient client = new PagesClient(4, 3);
+		ParallelPageIterator<User> iterator = new ParallelPageIterator<>(
+				request, client, 2);
+		iterator.next();
+		iterator.next();
+		try {
+			iterator.next();
+			fail("Exception not thrown");
+		} catch (NoSuchPageException e) {
+			assertTrue(e.getCause() instanceof IOException);
+		}
+		assertFalse(iterator.hasNext());
+	}
+
+	/**
+	 * Iterating from a callable of a saturated single thread executor fetches
+	 * pages without waiting on the executor
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void submittedSingleThread() throws Exception {
+		PagesClient client = new PagesClient(5, -1);
+		ExecutorService executor = GitHubClient.createExecutor(1);
+		try {
+			client.setExecutor(executor);
+			List<String> logins = client.submit(() -> {
+				ParallelPageIterator<User> iterator = new ParallelPageIterator<>(
+						request, client, 3);
+				List<String> found = new ArrayList<>();
+				while (iterator.hasNext())
+					for (User user : iterator.next())
+						found.add(user.getLogin());
+				return found;
+			}).get(10, TimeUnit.SECONDS);
+			assertEquals(5, logins.size());
+			for (int i = 0; i < logins.size(); i++)
+				assertEquals("user" + (i + 1), logins.get(i));
+			assertEquals(5, client.uris.size());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Invalid window
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidWindow() {
+		new ParallelPageIterator<>(request, new PagesClient(1, -1), 0);
+	}
+}
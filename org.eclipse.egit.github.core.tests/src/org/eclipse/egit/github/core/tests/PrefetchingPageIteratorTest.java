@@ -0,0 +1,208 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.egit.github.core.User;
+import org.eclipse.egit.github.core.client.GitHubClient;
+import org.eclipse.egit.github.core.client.NoSuchPageException;
+import org.eclipse.egit.github.core.client.PagedRequest;
+import org.eclipse.egit.github.core.client.PrefetchingPageIterator;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.reflect.TypeToken;
+
+/**
+ * Unit tests of {@link PrefetchingPageIterator}
+ */
+public class PrefetchingPageIteratorTest {
+
+	private static final Pattern PAGE = Pattern.compile("[?&]page=(\\d+)");
+
+	private static final String BASE = "https://localhost/api/v3/users?per_page=1&page=";
+
+	/**
+	 * Client serving single user pages that link to the following page
+	 */
+	private static class PagesClient extends GitHubClient {
+
+		final List<String> uris = Collections
+				.synchronizedList(new ArrayList<String>());
+
+		final List<Runnable> tasks = new ArrayList<>();
+
+		final int lastPage;
+
+		final int failPage;
+
+		PagesClient(int lastPage, int failPage, boolean queue) {
+			super("localhost");
+			this.lastPage = lastPage;
+			this.failPage = failPage;
+			if (queue)
+				setExecutor(tasks::add);
+			else
+				setExecutor(Runnable::run);
+		}
+
+		void runTasks() {
+			while (!tasks.isEmpty())
+				tasks.remove(0).run();
+		}
+
+		@Override
+		protected HttpURLConnection createConnection(String uri)
+				throws IOException {
+			uris.add(uri);
+			URL url = new URL("http://localhost");
+			Matcher matcher = PAGE.matcher(uri);
+			int page = matcher.find() ? Integer.parseInt(matcher.group(1))
+					: 1;
+			if (page == failPage)
+				return new MockHttpURLConnection(url, 500,
+						"{\"message\":\"failed\"}");
+			MockHttpURLConnection connection = new MockHttpURLConnection(
+					url, 200, "[{\"login\":\"user" + page + "\"}]");
+			if (page < lastPage)
+				connection.setHeader("Link", "<" + BASE + (page + 1)
+						+ ">; rel=\"next\", <" + BASE + lastPage
+						+ ">; rel=\"last\"");
+			return connection;
+		}
+	}
+
+	private PagedRequest<User> request;
+
+	/**
+	 * Create request
+	 */
+	@Before
+	public void before() {
+		request = new PagedRequest<>(1, 1);
+		request.setUri("/users");
+		request.setType(new TypeToken<List<User>>() {
+		}.getType());
+	}
+
+	/**
+	 * Pages are fetched ahead and returned in order
+	 */
+	@Test
+	public void pagesInOrder() {
+		PagesClient client = new PagesClient(5, -1, false);
+		PrefetchingPageIterator<User> iterator = new PrefetchingPageIterator<>(
+				request, client, 2);
+		assertEquals("user1", iterator.next().iterator().next().getLogin());
+		assertEquals(3, client.uris.size());
+		assertEquals(2, iterator.getNextPage());
+		assertEquals(5, iterator.getLastPage());
+		List<String> logins = new ArrayList<>();
+		while (iterator.hasNext())
+			for (User user : iterator.next())
+				logins.add(user.getLogin());
+		assertEquals(4, logins.size());
+		for (int i = 0; i < logins.size(); i++)
+			assertEquals("user" + (i + 2), logins.get(i));
+		assertEquals(5, client.uris.size());
+	}
+
+	/**
+	 * Cancelled iterator does not fetch pages requested ahead
+	 */
+	@Test
+	public void cancel() {
+		PagesClient client = new PagesClient(5, -1, true);
+		PrefetchingPageIterator<User> iterator = new PrefetchingPageIterator<>(
+				request, client, 3);
+		iterator.next();
+		assertEquals(1, client.uris.size());
+		iterator.cancel();
+		assertFalse(iterator.hasNext());
+		client.runTasks();
+		assertEquals(1, client.uris.size());
+	}
+
+	/**
+	 * Failure of a page fetched ahead surfaces when that page is reached
+	 */
+	@Test
+	public void failedPage() {
+		PagesClient client = new PagesClient(5, 3, false);
+		PrefetchingPageIterator<User> iterator = new PrefetchingPageIterator<>(
+				request, client, 2);
+		iterator.next();
+		assertEquals("user2", iterator.next().iterator().next().getLogin());
+		try {
+			iterator.next();
+			fail("Exception not thrown");
+		} catch (NoSuchPageException e) {
+			assertTrue(e.getCause() instanceof IOException);
+		}
+		assertFalse(iterator.hasNext());
+	}
+
+	/**
+	 * Iterating from a callable of a saturated single thread executor fetches
+	 * pages without waiting on the executor
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void submittedSingleThread() throws Exception {
+		PagesClient client = new PagesClient(5, -1, false);
+		ExecutorService executor = GitHubClient.createExecutor(1);
+		try {
+			client.setExecutor(executor);
+			List<String> logins = client.submit(() -> {
+				PrefetchingPageIterator<User> iterator = new PrefetchingPageIterator<>(
+						request, client, 2);
+				List<String> found = new ArrayList<>();
+				while (iterator.hasNext())
+					for (User user : iterator.next())
+						found.add(user.getLogin());
+				return found;
+			}).get(10, TimeUnit.SECONDS);
+			assertEquals(5, logins.size());
+			for (int i = 0; i < logins.size(); i++)
+				assertEquals("user" + (i + 1), logins.get(i));
+			assertEquals(5, client.uris.size());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Invalid depth
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidDepth() {
+		new PrefetchingPageIterator<>(request, new PagesClient(1, -1, false),
+				0);
+	}
+}
@@ -0,0 +1,341 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.eclipse.egit.github.core.client.GitHubRequest;
+import org.eclipse.egit.github.core.client.RangeDownloader;
+import org.eclipse.egit.github.core.client.RequestException;
+import org.eclipse.egit.github.core.client.ResponseStatusException;
+import org.eclipse.egit.github.core.client.RetryPolicy;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit tests of {@link RangeDownloader}
+ */
+public class RangeDownloaderTest {
+
+	/**
+	 * Temporary folder
+	 */
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private MockGitHubClient client;
+
+	private GitHubRequest request;
+
+	private Path file;
+
+	/**
+	 * Create client, request and target file
+	 *
+	 * @throws IOException
+	 */
+	@Before
+	public void before() throws IOException {
+		client = new MockGitHubClient();
+		request = new GitHubRequest().setUri("/repos/o/n/contents/file");
+		file = folder.newFile().toPath();
+		Files.write(file, "previous content of the file".getBytes(
+				StandardCharsets.UTF_8));
+	}
+
+	private String content() throws IOException {
+		return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Download whole body in one request
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void download() throws IOException {
+		client.respond(200, "0123456789").setHeader("Content-Length", "10");
+		long[] progress = new long[2];
+		long size = new RangeDownloader(client).setListener(
+				(received, length, bytesPerSecond) -> {
+					progress[0] = received;
+					progress[1] = length;
+				}).download(request, file);
+		assertEquals(10, size);
+		assertEquals("0123456789", content());
+		assertArrayEquals(new long[] { 10, 10 }, progress);
+		MockHttpURLConnection connection = client.getConnections().get(0);
+		assertEquals("identity",
+				connection.getRequestProperty("Accept-Encoding"));
+		assertNull(connection.getRequestProperty("Range"));
+	}
+
+	/**
+	 * Resume from the last byte received validating with a strong ETag
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void resume() throws IOException {
+		client.respond(200, "0123456789").setHeader("Content-Length", "10")
+				.setHeader("Accept-Ranges", "bytes")
+				.setHeader("ETag", "\"abc\"").setFailAfter(4);
+		client.respond(206, "456789").setHeader("Content-Range",
+				"bytes 4-9/10");
+		assertEquals(10, new RangeDownloader(client).download(request, file));
+		assertEquals("0123456789", content());
+		MockHttpURLConnection resumed = client.getConnections().get(1);
+		assertEquals("bytes=4-", resumed.getRequestProperty("Range"));
+		assertEquals("\"abc\"", resumed.getRequestProperty("If-Range"));
+	}
+
+	/**
+	 * Resume validating with the last modified date when the ETag is weak
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void resumeWeakETag() throws IOException {
+		String modified = "Tue, 15 Nov 1994 12:45:26 GMT";
+		client.respond(200, "0123456789").setHeader("Accept-Ranges", "bytes")
+				.setHeader("ETag", "W/\"abc\"")
+				.setHeader("Last-Modified", modified).setFailAfter(6);
+		client.respond(206, "6789").setHeader("Content-Range", "bytes 6-9/*");
+		assertEquals(10, new RangeDownloader(client).download(request, file));
+		assertEquals("0123456789", content());
+		assertEquals(modified, client.getConnections().get(1)
+				.getRequestProperty("If-Range"));
+	}
+
+	/**
+	 * Download again from the start when the resource changed
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void resumeChanged() throws IOException {
+		long[] received = new long[1];
+		client.respond(200, "0123456789").setHeader("Accept-Ranges", "bytes")
+				.setHeader("ETag", "\"abc\"").setFailAfter(4);
+		client.respond(200, "abcdef").setHeader("ETag", "\"def\"");
+		assertEquals(6, new RangeDownloader(client).setListener(
+				(bytes, length, bytesPerSecond) -> received[0] = bytes)
+				.download(request, file));
+		assertEquals("abcdef", content());
+		assertEquals(6, received[0]);
+	}
+
+	/**
+	 * Request whole body again when the server does not support ranges
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void noRanges() throws IOException {
+		client.respond(200, "0123456789").setHeader("ETag", "\"abc\"")
+				.setFailAfter(4);
+		client.respond(200, "0123456789");
+		assertEquals(10, new RangeDownloader(client).download(request, file));
+		assertEquals("0123456789", content());
+		assertNull(client.getConnections().get(1).getRequestProperty("Range"));
+	}
+
+	/**
+	 * Fail after the maximum number of attempts
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void maxAttempts() throws IOException {
+		client.respond(200, "0123456789").setFailAfter(4);
+		client.respond(200, "0123456789").setFailAfter(4);
+		try {
+			new RangeDownloader(client).setMaxAttempts(2).download(request,
+					file);
+			fail("Exception not thrown");
+		} catch (IOException e) {
+			assertEquals("Connection reset", e.getMessage());
+		}
+		assertEquals(2, client.getConnections().size());
+	}
+
+	/**
+	 * Error responses are not requested again
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void notFound() throws IOException {
+		client.respond(404, "{\"message\":\"Not Found\"}");
+		try {
+			new RangeDownloader(client).download(request, file);
+			fail("Exception not thrown");
+		} catch (RequestException e) {
+			assertEquals(404, e.getStatus());
+		}
+		assertEquals(1, client.getConnections().size());
+	}
+
+	/**
+	 * Transient error responses are requested again
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void serviceUnavailable() throws IOException {
+		client.setRetryPolicy(new RetryPolicy(4, 1, 1, 1000));
+		client.respond(503, "{\"message\":\"Service Unavailable\"}");
+		client.respond(200, "0123456789");
+		assertEquals(10, new RangeDownloader(client).download(request, file));
+		assertEquals("0123456789", content());
+		assertEquals(2, client.getConnections().size());
+	}
+
+	/**
+	 * Transient error responses count against the maximum attempts
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void serviceUnavailableMaxAttempts() throws IOException {
+		client.setRetryPolicy(new RetryPolicy(4, 1, 1, 1000));
+		client.respond(503, "");
+		client.respond(503, "");
+		try {
+			new RangeDownloader(client).setMaxAttempts(2).download(request,
+					file);
+			fail("Exception not thrown");
+		} catch (ResponseStatusException e) {
+			assertEquals(503, e.getStatus());
+		}
+		assertEquals(2, client.getConnections().size());
+	}
+
+	/**
+	 * Error responses without an error body are not requested again
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void forbiddenWithoutBody() throws IOException {
+		client.respond(403, "");
+		try {
+			new RangeDownloader(client).download(request, file);
+			fail("Exception not thrown");
+		} catch (ResponseStatusException e) {
+			assertEquals(403, e.getStatus());
+		}
+		assertEquals(1, client.getConnections().size());
+	}
+
+	/**
+	 * Download parts of a resource in parallel
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void parallel() throws IOException {
+		client.setExecutor(Runnable::run);
+		client.respond(206, "0123").setHeader("Content-Range", "bytes 0-3/10")
+				.setHeader("ETag", "\"abc\"");
+		client.respond(206, "4567").setHeader("Content-Range", "bytes 4-7/10");
+		client.respond(206, "89").setHeader("Content-Range", "bytes 8-9/10");
+		assertEquals(10, new RangeDownloader(client).setParallelism(3)
+				.setPartSize(4).download(request, file));
+		assertEquals("0123456789", content());
+		List<MockHttpURLConnection> connections = client.getConnections();
+		assertEquals("bytes=0-3", connections.get(0).getRequestProperty("Range"));
+		assertNull(connections.get(0).getRequestProperty("If-Range"));
+		assertEquals("bytes=4-7", connections.get(1).getRequestProperty("Range"));
+		assertEquals("\"abc\"", connections.get(1).getRequestProperty("If-Range"));
+		assertEquals("bytes=8-9", connections.get(2).getRequestProperty("Range"));
+	}
+
+	/**
+	 * Parallel download of a resource smaller than the part size ends with the
+	 * first part
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void parallelSmall() throws IOException {
+		client.respond(206, "0123456789").setHeader("Content-Range",
+				"bytes 0-9/10");
+		assertEquals(10, new RangeDownloader(client).setParallelism(3)
+				.setPartSize(100).setMaxAttempts(1).download(request, file));
+		assertEquals("0123456789", content());
+		assertEquals(1, client.getConnections().size());
+		assertEquals("bytes=0-99", client.getConnections().get(0)
+				.getRequestProperty("Range"));
+	}
+
+	/**
+	 * Download whole body when the server ignores the range of the first part
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void parallelNoRanges() throws IOException {
+		client.respond(200, "0123456789");
+		assertEquals(10, new RangeDownloader(client).setParallelism(3)
+				.setPartSize(4).download(request, file));
+		assertEquals("0123456789", content());
+		assertEquals(1, client.getConnections().size());
+	}
+
+	/**
+	 * Resume a part of a parallel download
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void parallelResume() throws IOException {
+		client.setExecutor(Runnable::run);
+		client.respond(206, "0123").setHeader("Content-Range", "bytes 0-3/8")
+				.setHeader("ETag", "\"abc\"");
+		client.respond(206, "4567").setHeader("Content-Range", "bytes 4-7/8")
+				.setFailAfter(1);
+		client.respond(206, "567").setHeader("Content-Range", "bytes 5-7/8");
+		assertEquals(8, new RangeDownloader(client).setParallelism(2)
+				.setPartSize(4).download(request, file));
+		assertEquals("01234567", content());
+		assertEquals("bytes=5-7", client.getConnections().get(2)
+				.getRequestProperty("Range"));
+	}
+
+	/**
+	 * Parallel download of an empty resource ends with the unsatisfiable
+	 * first part
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void parallelEmpty() throws IOException {
+		client.respond(416, "").setHeader("Content-Range", "bytes */0");
+		assertEquals(0, new RangeDownloader(client).setParallelism(3)
+				.setPartSize(4).setMaxAttempts(1).download(request, file));
+		assertEquals("", content());
+		assertEquals(1, client.getConnections().size());
+	}
+}
@@ -0,0 +1,301 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.net.URL;
+
+import org.eclipse.egit.github.core.client.RateLimitScheduler;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link RateLimitScheduler}
+ */
+public class RateLimitSchedulerTest {
+
+	private static final long NOW = 1000000000000L;
+
+	private static final String ISSUES = "/repos/o/r/issues";
+
+	private static final String SEARCH = "/search/issues?q=bug";
+
+	/**
+	 * Scheduler with a fixed clock
+	 */
+	private static class FixedClockScheduler extends RateLimitScheduler {
+
+		long now = NOW;
+
+		@Override
+		protected long currentTimeMillis() {
+			return now;
+		}
+	}
+
+	private FixedClockScheduler scheduler;
+
+	/**
+	 * Create scheduler
+	 */
+	@Before
+	public void before() {
+		scheduler = new FixedClockScheduler();
+	}
+
+	private MockHttpURLConnection response(int code, int limit,
+			int remaining, long reset) throws IOException {
+		MockHttpURLConnection response = new MockHttpURLConnection(new URL(
+				"http://localhost"), code, "{}");
+		response.setHeader("X-RateLimit-Limit", Integer.toString(limit));
+		response.setHeader("X-RateLimit-Remaining",
+				Integer.toString(remaining));
+		response.setHeader("X-RateLimit-Reset", Long.toString(reset / 1000));
+		return response;
+	}
+
+	/**
+	 * Requests are not delayed before any response is seen
+	 */
+	@Test
+	public void unknownLimits() {
+		assertEquals(0, scheduler.reserve(ISSUES));
+		assertEquals(-1, scheduler.getRemaining());
+	}
+
+	/**
+	 * Requests are not delayed while plenty of the budget remains but are
+	 * counted against it
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void plentyRemaining() throws IOException {
+		scheduler.update(response(200, 5000, 4000, NOW + 60000));
+		assertEquals(0, scheduler.reserve(ISSUES));
+		assertEquals(0, scheduler.reserve(ISSUES));
+		assertEquals(3998, scheduler.getRemaining());
+		assertEquals(NOW + 60000, scheduler.getReset());
+	}
+
+	/**
+	 * Exhausted budget holds requests until the reset
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void exhausted() throws IOException {
+		scheduler.update(response(200, 5000, 0, NOW + 30000));
+		assertEquals(30000, scheduler.reserve(ISSUES));
+		scheduler.now = NOW + 40000;
+		assertEquals(0, scheduler.reserve(ISSUES));
+	}
+
+	/**
+	 * Low budget is spread over the time left until the reset
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void pacing() throws IOException {
+		scheduler.update(response(200, 100, 5, NOW + 10000));
+		assertEquals(0, scheduler.reserve(ISSUES));
+		assertEquals(2000, scheduler.reserve(ISSUES));
+		assertEquals(4000, scheduler.reserve(ISSUES));
+		assertEquals(2, scheduler.getRemaining());
+	}
+
+	/**
+	 * Retry-After header on a 403 response holds requests
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void retryAfterSeconds() throws IOException {
+		MockHttpURLConnection response = response(403, 5000, 4000,
+				NOW + 60000);
+		response.setHeader("Retry-After", "30");
+		scheduler.update(response);
+		assertEquals(NOW + 30000, scheduler.getBlockedUntil());
+		assertEquals(30000, scheduler.reserve(ISSUES));
+	}
+
+	/**
+	 * Retry-After header given as an HTTP date
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void retryAfterDate() throws IOException {
+		MockHttpURLConnection response = new MockHttpURLConnection(new URL(
+				"http://localhost"), 429, "{}");
+		// NOW + 15 seconds
+		response.setHeader("Retry-After", "Sun, 09 Sep 2001 01:46:55 GMT");
+		scheduler.update(response);
+		assertEquals(15000, scheduler.reserve(ISSUES));
+	}
+
+	/**
+	 * 429 response without Retry-After header holds requests for the default
+	 * delay
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void tooManyRequests() throws IOException {
+		scheduler.update(new MockHttpURLConnection(new URL("http://localhost"),
+				429, "{}"));
+		assertEquals(RateLimitScheduler.DEFAULT_RETRY_DELAY,
+				scheduler.reserve(ISSUES));
+	}
+
+	/**
+	 * 403 response with remaining requests and without Retry-After header is
+	 * a secondary rate limit holding requests for the default delay
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void forbiddenSecondary() throws IOException {
+		scheduler.update(response(403, 5000, 4000, NOW + 20000));
+		assertEquals(NOW + RateLimitScheduler.DEFAULT_RETRY_DELAY,
+				scheduler.getBlockedUntil());
+		assertEquals(RateLimitScheduler.DEFAULT_RETRY_DELAY,
+				scheduler.reserve(ISSUES));
+	}
+
+	/**
+	 * 403 response without rate limit headers holds no requests
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void forbiddenWithoutRateLimit() throws IOException {
+		scheduler.update(new MockHttpURLConnection(new URL("http://localhost"),
+				403, "{}"));
+		assertEquals(0, scheduler.getBlockedUntil());
+		assertEquals(0, scheduler.reserve(ISSUES));
+	}
+
+	/**
+	 * 403 response without remaining requests holds requests of its resource
+	 * until the reset
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void forbiddenExhausted() throws IOException {
+		scheduler.update(response(403, 5000, 0, NOW + 20000));
+		assertEquals(0, scheduler.getBlockedUntil());
+		assertEquals(20000, scheduler.reserve(ISSUES));
+	}
+
+	/**
+	 * 429 response without remaining requests holds requests of its resource
+	 * until the reset instead of the default delay
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void tooManyRequestsExhausted() throws IOException {
+		MockHttpURLConnection response = response(429, 30, 0, NOW + 20000);
+		response.setHeader("X-RateLimit-Resource", "search");
+		scheduler.update(response);
+		assertEquals(0, scheduler.getBlockedUntil());
+		assertEquals(20000, scheduler.reserve(SEARCH));
+		assertEquals(0, scheduler.reserve(ISSUES));
+	}
+
+	/**
+	 * Exhausted search budget does not hold other requests
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void separateResources() throws IOException {
+		MockHttpURLConnection response = response(200, 30, 0, NOW + 30000);
+		response.setHeader("X-RateLimit-Resource", "search");
+		scheduler.update(response);
+		scheduler.update(response(200, 5000, 4000, NOW + 60000));
+		assertEquals(30000, scheduler.reserve(SEARCH));
+		assertEquals(0, scheduler.reserve(ISSUES));
+		assertEquals(0, scheduler.getRemaining("search"));
+		assertEquals(30, scheduler.getLimit("search"));
+		assertEquals(NOW + 30000, scheduler.getReset("search"));
+		assertEquals(3999, scheduler.getRemaining());
+		assertEquals(5000, scheduler.getLimit());
+	}
+
+	/**
+	 * Response without a resource header updates the resource of its URL
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void resourceFromUrl() throws IOException {
+		MockHttpURLConnection response = new MockHttpURLConnection(new URL(
+				"https://api.github.com/search/issues?q=bug"), 200, "{}");
+		response.setHeader("X-RateLimit-Limit", "30");
+		response.setHeader("X-RateLimit-Remaining", "0");
+		response.setHeader("X-RateLimit-Reset",
+				Long.toString((NOW + 10000) / 1000));
+		scheduler.update(response);
+		assertEquals(10000, scheduler.reserve(
+				"https://api.github.com/search/issues?q=feature"));
+		assertEquals(-1, scheduler.getRemaining());
+	}
+
+	/**
+	 * Resources of request paths and URIs
+	 */
+	@Test
+	public void getResource() {
+		assertEquals("core", RateLimitScheduler.getResource(ISSUES));
+		assertEquals("core", RateLimitScheduler.getResource("/searches"));
+		assertEquals("search", RateLimitScheduler.getResource(SEARCH));
+		assertEquals("search", RateLimitScheduler
+				.getResource("https://ghe.example.com/api/v3/search/users"));
+		assertEquals("search", RateLimitScheduler
+				.getResource("/legacy/issues/search/o/r/open/bug"));
+		assertEquals("code_search",
+				RateLimitScheduler.getResource("/search/code?q=x"));
+		assertEquals("graphql",
+				RateLimitScheduler.getResource("https://api.github.com/graphql"));
+		assertEquals("core",
+				RateLimitScheduler.getResource("https://api.github.com"));
+	}
+
+	/**
+	 * Retry-After header on a successful response is ignored
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void retryAfterIgnoredOnSuccess() throws IOException {
+		MockHttpURLConnection response = response(200, 5000, 4000,
+				NOW + 60000);
+		response.setHeader("Retry-After", "30");
+		scheduler.update(response);
+		assertEquals(0, scheduler.reserve(ISSUES));
+	}
+
+	/**
+	 * Invalid pacing threshold
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidThreshold() {
+		new RateLimitScheduler(2);
+	}
+}
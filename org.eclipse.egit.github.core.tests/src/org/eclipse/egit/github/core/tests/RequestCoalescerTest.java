@@ -0,0 +1,187 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.egit.github.core.client.GitHubResponse;
+import org.eclipse.egit.github.core.client.IRequestCallable;
+import org.eclipse.egit.github.core.client.RequestCoalescer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link RequestCoalescer}
+ */
+public class RequestCoalescerTest {
+
+	private RequestCoalescer coalescer;
+
+	private ExecutorService executor;
+
+	private ExecutorService otherExecutor;
+
+	/**
+	 * Create coalescer and executors
+	 */
+	@Before
+	public void before() {
+		coalescer = new RequestCoalescer();
+		executor = Executors.newSingleThreadExecutor();
+		otherExecutor = Executors.newSingleThreadExecutor();
+	}
+
+	/**
+	 * Shut down executors
+	 */
+	@After
+	public void after() {
+		executor.shutdownNow();
+		otherExecutor.shutdownNow();
+	}
+
+	/**
+	 * Request blocking until released
+	 */
+	private static class BlockingRequest implements
+			IRequestCallable<GitHubResponse> {
+
+		final CountDownLatch started = new CountDownLatch(1);
+
+		final CountDownLatch release = new CountDownLatch(1);
+
+		final AtomicInteger calls = new AtomicInteger();
+
+		final GitHubResponse response;
+
+		final IOException failure;
+
+		BlockingRequest(GitHubResponse response, IOException failure) {
+			this.response = response;
+			this.failure = failure;
+		}
+
+		@Override
+		public GitHubResponse call() throws IOException {
+			calls.incrementAndGet();
+			started.countDown();
+			try {
+				release.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				throw new IOException(e);
+			}
+			if (failure != null)
+				throw failure;
+			return response;
+		}
+	}
+
+	private Future<GitHubResponse> executeInBackground(final String key,
+			final BlockingRequest request) throws InterruptedException {
+		Future<GitHubResponse> future = executor
+				.submit(() -> coalescer.execute(key, request));
+		assertTrue(request.started.await(10, TimeUnit.SECONDS));
+		return future;
+	}
+
+	/**
+	 * Identical request in flight shares its response
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void sharedResponse() throws Exception {
+		GitHubResponse response = new GitHubResponse(null, "body");
+		BlockingRequest first = new BlockingRequest(response, null);
+		Future<GitHubResponse> future = executeInBackground("key", first);
+		BlockingRequest second = new BlockingRequest(null, null);
+		Future<GitHubResponse> waiting = otherExecutor.submit(() -> coalescer
+				.execute("key", second));
+		while (coalescer.getCoalescedCount() == 0)
+			Thread.sleep(1);
+		first.release.countDown();
+		assertSame(response, waiting.get(10, TimeUnit.SECONDS));
+		assertSame(response, future.get());
+		assertEquals(1, first.calls.get());
+		assertEquals(0, second.calls.get());
+		assertEquals(0, coalescer.getInFlightCount());
+	}
+
+	/**
+	 * Failure of the request in flight is propagated to waiting callers
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void sharedFailure() throws Exception {
+		IOException failure = new IOException("failed");
+		BlockingRequest first = new BlockingRequest(null, failure);
+		Future<GitHubResponse> future = executeInBackground("key", first);
+		Future<IOException> caught = otherExecutor.submit(() -> {
+			try {
+				coalescer.execute("key", new BlockingRequest(null, null));
+				return null;
+			} catch (IOException e) {
+				return e;
+			}
+		});
+		while (coalescer.getCoalescedCount() == 0)
+			Thread.sleep(1);
+		first.release.countDown();
+		assertSame(failure, caught.get(10, TimeUnit.SECONDS));
+		try {
+			future.get();
+			fail("Exception not thrown");
+		} catch (ExecutionException e) {
+			assertSame(failure, e.getCause());
+		}
+	}
+
+	/**
+	 * Requests with different keys and sequential requests are not coalesced
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void notCoalesced() throws Exception {
+		BlockingRequest first = new BlockingRequest(new GitHubResponse(null,
+				"a"), null);
+		Future<GitHubResponse> future = executeInBackground("a", first);
+		BlockingRequest other = new BlockingRequest(new GitHubResponse(null,
+				"b"), null);
+		other.release.countDown();
+		assertEquals("b", coalescer.execute("b", other).getBody());
+		first.release.countDown();
+		assertEquals("a", future.get().getBody());
+		BlockingRequest again = new BlockingRequest(new GitHubResponse(null,
+				"c"), null);
+		again.release.countDown();
+		assertNotSame(future.get(), coalescer.execute("a", again));
+		assertEquals(1, again.calls.get());
+		assertEquals(0, coalescer.getCoalescedCount());
+	}
+}
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import org.eclipse.egit.github.core.client.RequestMetrics;
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link RequestMetrics}
+ */
+public class RequestMetricsTest {
+
+	/**
+	 * Template of repository URIs
+	 */
+	@Test
+	public void repositoryTemplate() {
+		assertEquals("/repos/{owner}/{repo}",
+				RequestMetrics.toTemplate("/repos/octocat/hello"));
+		assertEquals("/repos/{owner}/{repo}/issues/{number}/comments",
+				RequestMetrics.toTemplate(
+						"/repos/octocat/hello/issues/3/comments?page=2"));
+		assertEquals("/repos/{owner}/{repo}/commits/{sha}",
+				RequestMetrics.toTemplate("/repos/octocat/hello/commits/"
+						+ "6dcb09b5b57875f334f61aebed695e2e4193db5e"));
+		assertEquals("/repos/{owner}/{repo}/contents/{path}",
+				RequestMetrics.toTemplate("/repos/o/r/contents/src/Main.java"));
+		assertEquals("/repos/{owner}/{repo}/git/refs/{path}",
+				RequestMetrics.toTemplate("/repos/o/r/git/refs/heads/master"));
+	}
+
+	/**
+	 * Free-form segments are replaced with placeholders
+	 */
+	@Test
+	public void nameTemplate() {
+		assertEquals("/repos/{owner}/{repo}/labels/{name}",
+				RequestMetrics.toTemplate("/repos/o/r/labels/needs%20review"));
+		assertEquals("/repos/{owner}/{repo}/branches/{name}",
+				RequestMetrics.toTemplate("/repos/o/r/branches/feature-1"));
+		assertEquals("/repos/{owner}/{repo}/compare/{name}",
+				RequestMetrics.toTemplate("/repos/o/r/compare/master...topic"));
+		assertEquals("/{name}/{name}", RequestMetrics.toTemplate("/a/b"));
+	}
+
+	/**
+	 * Template of user, organization and gist URIs
+	 */
+	@Test
+	public void ownerTemplate() {
+		assertEquals("/users/{user}/repos",
+				RequestMetrics.toTemplate("/users/octocat/repos"));
+		assertEquals("/orgs/{org}/members",
+				RequestMetrics.toTemplate("/orgs/eclipse/members"));
+		assertEquals("/gists/{id}/comments",
+				RequestMetrics.toTemplate("/gists/aa5a315d61ae9438b18d/comments"));
+		assertEquals("/teams/{number}",
+				RequestMetrics.toTemplate("/teams/42"));
+		assertEquals("/user/repos", RequestMetrics.toTemplate("/user/repos"));
+	}
+
+	/**
+	 * Template of enterprise URIs with API prefix
+	 */
+	@Test
+	public void apiPrefix() {
+		assertEquals("/repos/{owner}/{repo}/pulls",
+				RequestMetrics.toTemplate("/api/v3/repos/o/r/pulls"));
+		assertEquals("/", RequestMetrics.toTemplate("/"));
+	}
+}
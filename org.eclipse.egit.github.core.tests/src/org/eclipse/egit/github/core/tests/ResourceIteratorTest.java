@@ -0,0 +1,188 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+
+import org.eclipse.egit.github.core.User;
+import org.eclipse.egit.github.core.client.NoSuchPageException;
+import org.eclipse.egit.github.core.client.PagedRequest;
+import org.eclipse.egit.github.core.client.RequestException;
+import org.eclipse.egit.github.core.client.ResourceIterator;
+import org.eclipse.egit.github.core.client.RetryPolicy;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.reflect.TypeToken;
+
+/**
+ * Unit tests of {@link ResourceIterator}
+ */
+public class ResourceIteratorTest {
+
+	private MockGitHubClient client;
+
+	private PagedRequest<User> request;
+
+	/**
+	 * Create client and request
+	 */
+	@Before
+	public void before() {
+		client = new MockGitHubClient();
+		request = new PagedRequest<>(1, 2);
+		request.setUri("/users");
+		request.setType(new TypeToken<List<User>>() {
+		}.getType());
+	}
+
+	/**
+	 * Resources of all pages are returned in order
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void resourcesAcrossPages() throws Exception {
+		client.respond(200, "[{\"login\":\"a\"},{\"login\":\"b\"}]")
+				.setHeader("Link",
+						"<https://localhost/api/v3/users?page=2&per_page=2>; rel=\"next\"");
+		client.respond(200, "[{\"login\":\"c\"}]");
+		ResourceIterator<User> iterator = client.stream(request);
+		assertEquals("a", iterator.next().getLogin());
+		assertEquals(1, client.getConnections().size());
+		assertEquals("b", iterator.next().getLogin());
+		assertEquals(1, client.getConnections().size());
+		assertTrue(iterator.hasNext());
+		assertEquals(2, client.getConnections().size());
+		assertEquals("c", iterator.next().getLogin());
+		assertFalse(iterator.hasNext());
+		assertEquals(2, client.getConnections().size());
+	}
+
+	/**
+	 * Empty page ends iteration
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void emptyPage() throws Exception {
+		client.respond(200, "[]");
+		assertFalse(client.stream(request).hasNext());
+	}
+
+	/**
+	 * Error response surfaces as {@link NoSuchPageException}
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void errorPage() throws Exception {
+		client.respond(404, "{\"message\":\"Not Found\"}");
+		ResourceIterator<User> iterator = client.stream(request);
+		try {
+			iterator.hasNext();
+			fail("Exception not thrown");
+		} catch (NoSuchPageException e) {
+			assertTrue(e.getCause() instanceof RequestException);
+		}
+		assertFalse(iterator.hasNext());
+	}
+
+	/**
+	 * Page failing with a transient error is requested again
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void retryPage() throws Exception {
+		client.setRetryPolicy(new RetryPolicy(3, 0, 0, 1000));
+		client.respond(200, "[{\"login\":\"a\"}]").setHeader("Link",
+				"<https://localhost/api/v3/users?page=2&per_page=2>; rel=\"next\"");
+		client.respond(503, "");
+		client.respond(200, "[{\"login\":\"b\"}]");
+		ResourceIterator<User> iterator = client.stream(request);
+		assertEquals("a", iterator.next().getLogin());
+		assertEquals("b", iterator.next().getLogin());
+		assertFalse(iterator.hasNext());
+		assertEquals(3, client.getConnections().size());
+		assertEquals(1, client.getRetryCount());
+	}
+
+	/**
+	 * Closed iterator requests no further pages
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void close() throws Exception {
+		client.respond(200, "[{\"login\":\"a\"},{\"login\":\"b\"}]")
+				.setHeader("Link",
+						"<https://localhost/api/v3/users?page=2&per_page=2>; rel=\"next\"");
+		ResourceIterator<User> iterator = client.stream(request);
+		iterator.next();
+		iterator.close();
+		assertFalse(iterator.hasNext());
+		assertEquals(1, client.getConnections().size());
+	}
+
+	/**
+	 * Request type that is not a collection type
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void notCollectionType() {
+		request.setType(User.class);
+		client.stream(request);
+	}
+
+	/**
+	 * Only the requested fields of each resource are decoded
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void projectedFields() throws Exception {
+		client.respond(200, "[{\"login\":\"a\",\"name\":\"A\"}]");
+		request.setFields("login");
+		ResourceIterator<User> iterator = client.stream(request);
+		User user = iterator.next();
+		assertEquals("a", user.getLogin());
+		assertNull(user.getName());
+		assertFalse(iterator.hasNext());
+	}
+
+	/**
+	 * Resource of an unexpected shape surfaces as {@link NoSuchPageException}
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void malformedResource() throws Exception {
+		client.respond(200, "[{\"login\":{}}]");
+		ResourceIterator<User> iterator = client.stream(request);
+		assertTrue(iterator.hasNext());
+		try {
+			iterator.next();
+			fail("Exception not thrown");
+		} catch (NoSuchPageException e) {
+			assertEquals("Parse exception converting JSON to object",
+					e.getCause().getMessage());
+		}
+		assertFalse(iterator.hasNext());
+	}
+}
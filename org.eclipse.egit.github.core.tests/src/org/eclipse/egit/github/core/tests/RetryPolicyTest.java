@@ -0,0 +1,94 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.tests;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+
+import org.eclipse.egit.github.core.RequestError;
+import org.eclipse.egit.github.core.client.RequestException;
+import org.eclipse.egit.github.core.client.ResponseStatusException;
+import org.eclipse.egit.github.core.client.RetryPolicy;
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link RetryPolicy}
+ */
+public class RetryPolicyTest {
+
+	/**
+	 * Idempotent methods are retryable, POST only for safe paths
+	 */
+	@Test
+	public void retryable() {
+		RetryPolicy policy = new RetryPolicy();
+		assertTrue(policy.isRetryable("GET", "/repos/o/r/issues?page=2"));
+		assertTrue(policy.isRetryable("PUT", "/user/starred/o/r"));
+		assertTrue(policy.isRetryable("DELETE", "/user/starred/o/r"));
+		assertFalse(policy.isRetryable("POST", "/markdown"));
+		assertFalse(policy.isRetryable("PATCH", "/repos/o/r/issues/1"));
+		policy.addSafePath("/markdown");
+		assertTrue(policy.isRetryable("POST", "/markdown"));
+		assertTrue(policy.isRetryable("POST", "/markdown/raw?x=1"));
+		assertFalse(policy.isRetryable("POST", "/markdowns"));
+	}
+
+	/**
+	 * Transient failures
+	 */
+	@Test
+	public void transientFailures() {
+		RetryPolicy policy = new RetryPolicy();
+		assertTrue(policy.isTransient(new ResponseStatusException(
+				"Bad Gateway (502)", 502)));
+		assertTrue(policy.isTransient(new RequestException(new RequestError(),
+				503)));
+		assertTrue(policy.isTransient(new ConnectException()));
+		assertTrue(policy.isTransient(new SocketTimeoutException()));
+		assertTrue(policy.isTransient(new EOFException()));
+		assertFalse(policy.isTransient(new RequestException(
+				new RequestError(), 404)));
+		assertFalse(policy.isTransient(new InterruptedIOException()));
+		assertFalse(policy.isTransient(new IOException()));
+	}
+
+	/**
+	 * Delays grow exponentially with jitter up to the maximum delay
+	 */
+	@Test
+	public void delays() {
+		RetryPolicy policy = new RetryPolicy(5, 100, 300, 10000);
+		for (int i = 0; i < 20; i++) {
+			long first = policy.getDelay(1);
+			assertTrue(first >= 50 && first <= 100);
+			long second = policy.getDelay(2);
+			assertTrue(second >= 100 && second <= 200);
+			long fourth = policy.getDelay(4);
+			assertTrue(fourth >= 150 && fourth <= 300);
+		}
+	}
+
+	/**
+	 * Invalid attempts
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidAttempts() {
+		new RetryPolicy(0, 0, 0, 0);
+	}
+}
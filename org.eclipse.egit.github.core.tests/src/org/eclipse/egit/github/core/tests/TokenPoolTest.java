@@ -0,0 +1,132 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.URL;
+
+import org.eclipse.egit.github.core.client.TokenPool;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link TokenPool}
+ */
+public class TokenPoolTest {
+
+	private static final long NOW = 1000000000000L;
+
+	/**
+	 * Pool with a fixed clock
+	 */
+	private static class FixedClockPool extends TokenPool {
+
+		long now = NOW;
+
+		FixedClockPool(String... tokens) {
+			super(tokens);
+		}
+
+		@Override
+		protected long currentTimeMillis() {
+			return now;
+		}
+	}
+
+	private FixedClockPool pool;
+
+	/**
+	 * Create pool
+	 */
+	@Before
+	public void before() {
+		pool = new FixedClockPool("a", "b", "c");
+	}
+
+	private String request(String method, String path, int remaining,
+			long reset) throws IOException {
+		MockHttpURLConnection connection = new MockHttpURLConnection(new URL(
+				"https://api.github.com" + path), 200, "{}");
+		connection.setRequestMethod(method);
+		String token = pool.assign(connection);
+		connection.setHeader("X-RateLimit-Limit", "5000");
+		connection.setHeader("X-RateLimit-Remaining",
+				Integer.toString(remaining));
+		connection.setHeader("X-RateLimit-Reset", Long.toString(reset / 1000));
+		pool.update(connection);
+		return token;
+	}
+
+	/**
+	 * Tokens with unknown limits are tried first, then the token with most
+	 * remaining requests is used
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void mostRemaining() throws IOException {
+		assertEquals("a", request("GET", "/repos/o/r", 100, NOW + 60000));
+		assertEquals("b", request("GET", "/repos/o/r", 300, NOW + 60000));
+		assertEquals("c", request("GET", "/repos/o/r", 200, NOW + 60000));
+		assertEquals("b", pool.select("GET", "/repos/o/r"));
+		assertEquals(299, pool.getRemaining("b"));
+		assertEquals(5000, pool.getLimit("b"));
+	}
+
+	/**
+	 * Exhausted tokens are skipped until their reset
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void exhaustedSkipped() throws IOException {
+		request("GET", "/repos/o/r", 0, NOW + 60000);
+		request("GET", "/repos/o/r", 0, NOW + 30000);
+		request("GET", "/repos/o/r", 1, NOW + 60000);
+		assertEquals("c", pool.select("GET", "/repos/o/r"));
+		// All exhausted, token resetting first is used
+		assertEquals("b", pool.select("GET", "/repos/o/r"));
+		pool.now = NOW + 60000;
+		assertEquals("a", pool.select("GET", "/repos/o/r"));
+	}
+
+	/**
+	 * Writes and sticky paths use the primary token
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void sticky() throws IOException {
+		request("GET", "/repos/o/r", 10, NOW + 60000);
+		request("GET", "/repos/o/r", 300, NOW + 60000);
+		assertEquals("a", pool.select("POST", "/repos/o/r/issues"));
+		assertEquals("a", request("GET", "/api/v3/user", 9, NOW + 60000));
+		assertEquals("a", pool.select("GET", "/user/repos"));
+		assertTrue(pool.isSticky("GET", "/notifications"));
+		assertFalse(pool.isSticky("GET", "/users/octocat"));
+		pool.addStickyPath("/gists");
+		assertTrue(pool.isSticky("GET", "/gists/1"));
+	}
+
+	/**
+	 * Empty pool
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void emptyPool() {
+		new TokenPool();
+	}
+}
@@ -14,20 +14,24 @@ package org.eclipse.egit.github.core.tests;
 
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.verify;
 
 import java.io.IOException;
+import java.util.concurrent.Executor;
 
 import org.eclipse.egit.github.core.Key;
 import org.eclipse.egit.github.core.User;
 import org.eclipse.egit.github.core.client.GitHubClient;
 import org.eclipse.egit.github.core.client.GitHubRequest;
 import org.eclipse.egit.github.core.client.GitHubResponse;
+import org.eclipse.egit.github.core.client.IRequestCallable;
 import org.eclipse.egit.github.core.service.UserService;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -110,6 +114,22 @@ public class UserServiceTest {
 		verify(client).get(request);
 	}
 
+	/**
+	 * Get user asynchronously
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void getUserAsync() throws Exception {
+		doCallRealMethod().when(client)
+				.submit(ArgumentMatchers.<IRequestCallable<User>> any());
+		doReturn((Executor) Runnable::run).when(client).getExecutor();
+		service.getUserAsync("beauser").get();
+		GitHubRequest request = new GitHubRequest();
+		request.setUri("/users/beauser");
+		verify(client).get(request);
+	}
+
 	/**
 	 * Edit user with null user
 	 *
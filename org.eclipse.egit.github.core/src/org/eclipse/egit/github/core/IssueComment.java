@@ -0,0 +1,64 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core;
+
+import org.eclipse.egit.github.core.service.IssueService;
+
+/**
+ * Extension of {@link Comment} that includes the URL of the issue that the
+ * comment is on.
+ * <p>
+ * This type of comment is returned from {@link IssueService} calls that page
+ * the comments of all issues in a repository and therefore the issue is
+ * needed to correlate which comments are on which issues.
+ *
+ * @since 6.2
+ */
+public class IssueComment extends Comment {
+
+	private static final long serialVersionUID = -2516924337208357592L;
+
+	private String issueUrl;
+
+	/**
+	 * @return issueUrl
+	 */
+	public String getIssueUrl() {
+		return issueUrl;
+	}
+
+	/**
+	 * @param issueUrl
+	 * @return this comment
+	 */
+	public IssueComment setIssueUrl(String issueUrl) {
+		this.issueUrl = issueUrl;
+		return this;
+	}
+
+	/**
+	 * Get number of the issue from the last segment of the issue URL
+	 *
+	 * @return issue number or -1 if the issue URL is missing or malformed
+	 */
+	public int getIssueNumber() {
+		if (issueUrl == null)
+			return -1;
+		try {
+			return Integer.parseInt(issueUrl.substring(issueUrl
+					.lastIndexOf('/') + 1));
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+}
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Response stored in a {@link IResponseCache}. A cached response holds the
+ * validators of the response along with the raw response body and the paging
+ * headers needed to rebuild a {@link GitHubResponse} when the server reports
+ * that the resource has not been modified.
+ *
+ * @since 6.2
+ */
+public class CachedResponse {
+
+	private final String etag;
+
+	private final String lastModified;
+
+	private final byte[] body;
+
+	private final Map<String, String> headers;
+
+	/**
+	 * Create cached response
+	 *
+	 * @param etag
+	 *            value of the 'ETag' header, may be null
+	 * @param lastModified
+	 *            value of the 'Last-Modified' header, may be null
+	 * @param body
+	 *            raw response body, must be non-null
+	 * @param headers
+	 *            additional response headers to retain, may be null
+	 */
+	public CachedResponse(String etag, String lastModified, byte[] body,
+			Map<String, String> headers) {
+		if (body == null)
+			throw new IllegalArgumentException("Body cannot be null"); //$NON-NLS-1$
+		this.etag = etag;
+		this.lastModified = lastModified;
+		this.body = body;
+		this.headers = headers != null ? Collections
+				.unmodifiableMap(headers) : Collections
+				.<String, String> emptyMap();
+	}
+
+	/**
+	 * Get value of the 'ETag' header
+	 *
+	 * @return etag or null if not present
+	 */
+	public String getEtag() {
+		return etag;
+	}
+
+	/**
+	 * Get value of the 'Last-Modified' header
+	 *
+	 * @return last modified or null if not present
+	 */
+	public String getLastModified() {
+		return lastModified;
+	}
+
+	/**
+	 * Get raw response body. The returned array is not copied and must not be
+	 * modified.
+	 *
+	 * @return body
+	 */
+	public byte[] getBody() {
+		return body;
+	}
+
+	/**
+	 * Get stream over the raw response body
+	 *
+	 * @return stream
+	 */
+	public InputStream getBodyStream() {
+		return new ByteArrayInputStream(body);
+	}
+
+	/**
+	 * Get retained response header value
+	 *
+	 * @param name
+	 * @return value or null if not retained
+	 */
+	public String getHeader(String name) {
+		return headers.get(name);
+	}
+
+	/**
+	 * Get all retained response headers
+	 *
+	 * @return non-null unmodifiable map of headers
+	 */
+	public Map<String, String> getHeaders() {
+		return headers;
+	}
+
+	/**
+	 * Can this response be used to send a conditional request?
+	 *
+	 * @return true if a validator is present, false otherwise
+	 */
+	public boolean hasValidator() {
+		return etag != null || lastModified != null;
+	}
+}
@@ -27,60 +27,190 @@ import com.google.gson.JsonSerializer;
 import java.lang.reflect.Type;
 import java.text.DateFormat;
 import java.text.ParseException;
+import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.TimeZone;
 
 /**
  * Formatter for date formats present in the GitHub v2 and v3 API.
+ * <p>
+ * Dates in the v3 format between the years 1600 and 9999 are parsed and
+ * formatted directly; all other values fall back to {@link SimpleDateFormat}
+ * instances kept per thread, so the formatter can be shared by threads
+ * without locking and produces the same results as those formats.
  */
 public class DateFormatter implements JsonDeserializer<Date>,
 		JsonSerializer<Date> {
 
-	private final DateFormat[] formats;
+	private static final long MILLIS_PER_DAY = 24 * 60 * 60 * 1000L;
 
 	/**
-	 * Create date formatter
+	 * Length of a date in the v3 format
 	 */
-	public DateFormatter() {
-		formats = new DateFormat[3];
+	private static final int V3_LENGTH = 20;
+
+	private static final int MIN_YEAR = 1600;
+
+	private static final int MAX_YEAR = 9999;
+
+	private static final long MIN_TIME = toDays(MIN_YEAR, 1, 1)
+			* MILLIS_PER_DAY;
+
+	private static final long MAX_TIME = toDays(MAX_YEAR + 1, 1, 1)
+			* MILLIS_PER_DAY;
+
+	private static DateFormat[] createFormats() {
+		DateFormat[] formats = new DateFormat[3];
 		formats[0] = new SimpleDateFormat(DATE_FORMAT);
 		formats[1] = new SimpleDateFormat(DATE_FORMAT_V2_1);
 		formats[2] = new SimpleDateFormat(DATE_FORMAT_V2_2);
 		final TimeZone timeZone = TimeZone.getTimeZone("Zulu"); //$NON-NLS-1$
 		for (DateFormat format : formats)
 			format.setTimeZone(timeZone);
+		return formats;
+	}
+
+	/**
+	 * Get number of days since the epoch of the date in the proleptic
+	 * Gregorian calendar. Days past the end of the month roll over into the
+	 * next month like they do with a lenient {@link SimpleDateFormat}.
+	 *
+	 * @param year
+	 * @param month
+	 *            1-12
+	 * @param day
+	 * @return days
+	 */
+	private static long toDays(int year, int month, int day) {
+		int y = month <= 2 ? year - 1 : year;
+		int era = (y >= 0 ? y : y - 399) / 400;
+		int yearOfEra = y - era * 400;
+		int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5
+				+ day - 1;
+		int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100
+				+ dayOfYear;
+		return era * 146097L + dayOfEra - 719468;
+	}
+
+	private static int digits(String value, int start, int end) {
+		int number = 0;
+		for (int i = start; i < end; i++) {
+			int digit = value.charAt(i) - '0';
+			if (digit < 0 || digit > 9)
+				return -1;
+			number = number * 10 + digit;
+		}
+		return number;
+	}
+
+	/**
+	 * Parse date in the v3 format
+	 *
+	 * @param value
+	 * @return date or null if the value does not
+	 *         strictly have the v3 format
+	 */
+	private static Date parseV3(String value) {
+		if (value.length() != V3_LENGTH || value.charAt(4) != '-'
+				|| value.charAt(7) != '-' || value.charAt(10) != 'T'
+				|| value.charAt(13) != ':' || value.charAt(16) != ':'
+				|| value.charAt(19) != 'Z')
+			return null;
+		int year = digits(value, 0, 4);
+		int month = digits(value, 5, 7);
+		int day = digits(value, 8, 10);
+		int hour = digits(value, 11, 13);
+		int minute = digits(value, 14, 16);
+		int second = digits(value, 17, 19);
+		if (year < MIN_YEAR || month < 1 || month > 12 || day < 1 || day > 31
+				|| hour < 0 || hour > 23 || minute < 0 || minute > 59
+				|| second < 0 || second > 59)
+			return null;
+		return new Date(toDays(year, month, day) * MILLIS_PER_DAY
+				+ ((hour * 60 + minute) * 60 + second) * 1000L);
+	}
+
+	private static void append(char[] buffer, int offset, int number,
+			int length) {
+		for (int i = offset + length - 1; i >= offset; i--) {
+			buffer[i] = (char) ('0' + number % 10);
+			number /= 10;
+		}
+	}
+
+	/**
+	 * Format date in the v3 format
+	 *
+	 * @param time
+	 *            between {@link #MIN_TIME} and {@link #MAX_TIME}
+	 * @return formatted date
+	 */
+	private static String formatV3(long time) {
+		long days = Math.floorDiv(time, MILLIS_PER_DAY);
+		int seconds = (int) (Math.floorMod(time, MILLIS_PER_DAY) / 1000);
+		long z = days + 719468;
+		long era = (z >= 0 ? z : z - 146096) / 146097;
+		int dayOfEra = (int) (z - era * 146097);
+		int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524
+				- dayOfEra / 146096) / 365;
+		int dayOfYear = dayOfEra
+				- (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+		int shiftedMonth = (5 * dayOfYear + 2) / 153;
+		int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+		int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+		int year = (int) (yearOfEra + era * 400) + (month <= 2 ? 1 : 0);
+
+		char[] buffer = new char[V3_LENGTH];
+		append(buffer, 0, year, 4);
+		buffer[4] = '-';
+		append(buffer, 5, month, 2);
+		buffer[7] = '-';
+		append(buffer, 8, day, 2);
+		buffer[10] = 'T';
+		append(buffer, 11, seconds / 3600, 2);
+		buffer[13] = ':';
+		append(buffer, 14, seconds / 60 % 60, 2);
+		buffer[16] = ':';
+		append(buffer, 17, seconds % 60, 2);
+		buffer[19] = 'Z';
+		return new String(buffer);
+	}
+
+	private final ThreadLocal<DateFormat[]> formats = ThreadLocal
+			.withInitial(DateFormatter::createFormats);
+
+	/**
+	 * Create date formatter
+	 */
+	public DateFormatter() {
 	}
 
 	@Override
 	public Date deserialize(JsonElement json, Type typeOfT,
 			JsonDeserializationContext context) throws JsonParseException {
-		JsonParseException exception = null;
 		final String value = json.getAsString();
-		for (DateFormat format : formats) {
-			try {
-				synchronized (format) {
-					return format.parse(value);
-				}
-			} catch (ParseException e) {
-				exception = new JsonParseException(e);
-			}
+		final Date date = parseV3(value);
+		if (date != null)
+			return date;
+		ParsePosition position = null;
+		for (DateFormat format : formats.get()) {
+			position = new ParsePosition(0);
+			Date parsed = format.parse(value, position);
+			if (position.getIndex() != 0)
+				return parsed;
 		}
-		if (exception != null) { // Always true here.
-			throw exception;
-		}
-		// We'll never get here, but JDT's null analysis get's confused.
-		return null;
+		throw new JsonParseException(new ParseException(
+				"Unparseable date: \"" + value + "\"", //$NON-NLS-1$ //$NON-NLS-2$
+				position.getErrorIndex()));
 	}
 
 	@Override
 	public JsonElement serialize(Date date, Type type,
 			JsonSerializationContext context) {
-		final DateFormat primary = formats[0];
-		String formatted;
-		synchronized (primary) {
-			formatted = primary.format(date);
-		}
-		return new JsonPrimitive(formatted);
+		final long time = date.getTime();
+		if (time >= MIN_TIME && time < MAX_TIME)
+			return new JsonPrimitive(formatV3(time));
+		return new JsonPrimitive(formats.get()[0].format(date));
 	}
 }
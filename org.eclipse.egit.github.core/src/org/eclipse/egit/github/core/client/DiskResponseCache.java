@@ -0,0 +1,300 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.client;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * {@link IResponseCache} that persists responses to a directory so that they
+ * survive restarts. Each response is stored in its own file containing the
+ * validators, the retained headers and the gzip compressed body.
+ * <p>
+ * The cache is bounded by the total size in bytes of the stored files; once
+ * that bound is exceeded the least recently used responses are deleted. The
+ * recency order is kept in the file modification times so it is preserved
+ * across restarts.
+ * <p>
+ * A single instance may be shared by several clients. Files are written to a
+ * temporary file first and then renamed so readers never observe a partially
+ * written response. Errors reading or writing the directory are not reported;
+ * the affected response is simply not cached.
+ *
+ * @since 6.2
+ */
+public class DiskResponseCache implements IResponseCache {
+
+	/**
+	 * Default maximum total size in bytes of the cached responses
+	 */
+	public static final long DEFAULT_MAX_SIZE = 50L * 1024 * 1024;
+
+	private static final String SUFFIX = ".response"; //$NON-NLS-1$
+
+	private static final String TEMP_SUFFIX = ".tmp"; //$NON-NLS-1$
+
+	private static final int MAGIC = 0x47484331;
+
+	private final File directory;
+
+	private final long maxSize;
+
+	private final LinkedHashMap<String, Long> index = new LinkedHashMap<>(16,
+			0.75F, true);
+
+	private long size;
+
+	/**
+	 * Create cache in directory bounded by {@link #DEFAULT_MAX_SIZE}
+	 *
+	 * @param directory
+	 */
+	public DiskResponseCache(File directory) {
+		this(directory, DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Create cache in directory bounded by the given total size in bytes
+	 *
+	 * @param directory
+	 * @param maxSize
+	 */
+	public DiskResponseCache(File directory, long maxSize) {
+		if (directory == null)
+			throw new IllegalArgumentException("Directory cannot be null"); //$NON-NLS-1$
+		if (maxSize < 1)
+			throw new IllegalArgumentException(
+					"Maximum size must be greater than zero"); //$NON-NLS-1$
+		this.directory = directory;
+		this.maxSize = maxSize;
+		load();
+	}
+
+	private void load() {
+		directory.mkdirs();
+		File[] files = directory.listFiles();
+		if (files == null)
+			return;
+		Arrays.sort(files, new Comparator<File>() {
+
+			@Override
+			public int compare(File f1, File f2) {
+				return Long.compare(f1.lastModified(), f2.lastModified());
+			}
+		});
+		synchronized (this) {
+			for (File file : files) {
+				String name = file.getName();
+				if (name.endsWith(TEMP_SUFFIX))
+					file.delete();
+				else if (name.endsWith(SUFFIX)) {
+					long length = file.length();
+					index.put(name, Long.valueOf(length));
+					size += length;
+				}
+			}
+			evict();
+		}
+	}
+
+	/**
+	 * Get name of the file storing the response for the key
+	 *
+	 * @param key
+	 * @return file name
+	 */
+	protected String getFileName(String key) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest( //$NON-NLS-1$
+					key.getBytes(StandardCharsets.UTF_8));
+			StringBuilder name = new StringBuilder(digest.length * 2
+					+ SUFFIX.length());
+			for (byte b : digest)
+				name.append(Character.forDigit((b >> 4) & 0xF, 16)).append(
+						Character.forDigit(b & 0xF, 16));
+			return name.append(SUFFIX).toString();
+		} catch (NoSuchAlgorithmException e) {
+			return Integer.toHexString(key.hashCode()) + SUFFIX;
+		}
+	}
+
+	@Override
+	public CachedResponse get(String key) {
+		String name = getFileName(key);
+		synchronized (this) {
+			if (index.get(name) == null)
+				return null;
+			File file = new File(directory, name);
+			CachedResponse response;
+			try {
+				response = read(file, key);
+			} catch (IOException e) {
+				response = null;
+			}
+			if (response == null) {
+				delete(name);
+				return null;
+			}
+			file.setLastModified(System.currentTimeMillis());
+			return response;
+		}
+	}
+
+	@Override
+	public void put(String key, CachedResponse response) {
+		String name = getFileName(key);
+		File temp = null;
+		try {
+			temp = File.createTempFile("response", TEMP_SUFFIX, directory); //$NON-NLS-1$
+			write(temp, key, response);
+			synchronized (this) {
+				Files.move(temp.toPath(), new File(directory, name).toPath(),
+						StandardCopyOption.REPLACE_EXISTING);
+				long length = new File(directory, name).length();
+				Long previous = index.put(name, Long.valueOf(length));
+				if (previous != null)
+					size -= previous.longValue();
+				size += length;
+				evict();
+			}
+		} catch (IOException e) {
+			if (temp != null)
+				temp.delete();
+		}
+	}
+
+	@Override
+	public synchronized void remove(String key) {
+		delete(getFileName(key));
+	}
+
+	@Override
+	public synchronized void clear() {
+		for (String name : index.keySet())
+			new File(directory, name).delete();
+		index.clear();
+		size = 0;
+	}
+
+	/**
+	 * Get total size in bytes of the cached responses
+	 *
+	 * @return size
+	 */
+	public synchronized long getSize() {
+		return size;
+	}
+
+	/**
+	 * Get number of cached responses
+	 *
+	 * @return count
+	 */
+	public synchronized int getCount() {
+		return index.size();
+	}
+
+	private void delete(String name) {
+		Long length = index.remove(name);
+		if (length != null)
+			size -= length.longValue();
+		new File(directory, name).delete();
+	}
+
+	private void evict() {
+		Iterator<Entry<String, Long>> entries = index.entrySet().iterator();
+		while (size > maxSize && entries.hasNext()) {
+			Entry<String, Long> eldest = entries.next();
+			size -= eldest.getValue().longValue();
+			entries.remove();
+			new File(directory, eldest.getKey()).delete();
+		}
+	}
+
+	private static void writeNullable(DataOutputStream output, String value)
+			throws IOException {
+		output.writeBoolean(value != null);
+		if (value != null)
+			output.writeUTF(value);
+	}
+
+	private static String readNullable(DataInputStream input)
+			throws IOException {
+		return input.readBoolean() ? input.readUTF() : null;
+	}
+
+	private void write(File file, String key, CachedResponse response)
+			throws IOException {
+		try (DataOutputStream output = new DataOutputStream(
+				new BufferedOutputStream(new FileOutputStream(file)))) {
+			output.writeInt(MAGIC);
+			output.writeUTF(key);
+			writeNullable(output, response.getEtag());
+			writeNullable(output, response.getLastModified());
+			Map<String, String> headers = response.getHeaders();
+			output.writeInt(headers.size());
+			for (Entry<String, String> header : headers.entrySet()) {
+				output.writeUTF(header.getKey());
+				output.writeUTF(header.getValue());
+			}
+			OutputStream body = new GZIPOutputStream(output);
+			body.write(response.getBody());
+			body.close();
+		}
+	}
+
+	private CachedResponse read(File file, String key) throws IOException {
+		try (DataInputStream input = new DataInputStream(
+				new BufferedInputStream(new FileInputStream(file)))) {
+			if (input.readInt() != MAGIC || !key.equals(input.readUTF()))
+				return null;
+			String etag = readNullable(input);
+			String lastModified = readNullable(input);
+			int count = input.readInt();
+			Map<String, String> headers = new HashMap<>();
+			for (int i = 0; i < count; i++)
+				headers.put(input.readUTF(), input.readUTF());
+			ByteArrayOutputStream body = new ByteArrayOutputStream();
+			InputStream compressed = new GZIPInputStream(input);
+			byte[] buffer = new byte[8192];
+			int read;
+			while ((read = compressed.read(buffer)) != -1)
+				body.write(buffer, 0, read);
+			return new CachedResponse(etag, lastModified, body.toByteArray(),
+					headers);
+		}
+	}
+}
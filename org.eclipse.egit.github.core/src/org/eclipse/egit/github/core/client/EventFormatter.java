@@ -12,7 +12,6 @@
  *******************************************************************************/
 package org.eclipse.egit.github.core.client;
 
-import static com.google.gson.FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES;
 import static org.eclipse.egit.github.core.event.Event.TYPE_COMMIT_COMMENT;
 import static org.eclipse.egit.github.core.event.Event.TYPE_CREATE;
 import static org.eclipse.egit.github.core.event.Event.TYPE_DELETE;
@@ -34,21 +33,31 @@ import static org.eclipse.egit.github.core.event.Event.TYPE_TEAM_ADD;
 import static org.eclipse.egit.github.core.event.Event.TYPE_WATCH;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
 import java.lang.reflect.Type;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
 
+import org.eclipse.egit.github.core.User;
 import org.eclipse.egit.github.core.event.CommitCommentPayload;
 import org.eclipse.egit.github.core.event.CreatePayload;
 import org.eclipse.egit.github.core.event.DeletePayload;
 import org.eclipse.egit.github.core.event.DownloadPayload;
 import org.eclipse.egit.github.core.event.Event;
 import org.eclipse.egit.github.core.event.EventPayload;
+import org.eclipse.egit.github.core.event.EventRepository;
 import org.eclipse.egit.github.core.event.FollowPayload;
 import org.eclipse.egit.github.core.event.ForkApplyPayload;
 import org.eclipse.egit.github.core.event.ForkPayload;
@@ -67,77 +76,218 @@ import org.eclipse.egit.github.core.event.WatchPayload;
 
 /**
  * Formats an event's payload with the appropriate class given a certain event
- * type
+ * type.
+ * <p>
+ * Events are read in a single pass from the stream with the payload decoded
+ * directly as the class of the event type. Only a payload appearing before
+ * the event type is buffered as a tree until the type is known.
  */
-public class EventFormatter implements JsonDeserializer<Event> {
+public class EventFormatter implements TypeAdapterFactory,
+		JsonDeserializer<Event> {
 
-	private final Gson gson = new GsonBuilder()
-			.registerTypeAdapter(Date.class, new DateFormatter())
-			.setFieldNamingPolicy(LOWER_CASE_WITH_UNDERSCORES).create();
+	private static final Map<String, Class<? extends EventPayload>> PAYLOADS = new HashMap<>();
 
-	@Override
-	public Event deserialize(JsonElement json, Type typeOfT,
-			JsonDeserializationContext context) throws JsonParseException {
-		final Event event = gson.fromJson(json, Event.class);
-		if (event == null || !json.isJsonObject())
-			return event;
-		final JsonElement rawPayload = json.getAsJsonObject().get("payload"); //$NON-NLS-1$
-		if (rawPayload == null || !rawPayload.isJsonObject())
-			return event;
-		final String type = event.getType();
-		if (type == null || type.length() == 0)
-			return event;
+	static {
+		PAYLOADS.put(TYPE_COMMIT_COMMENT, CommitCommentPayload.class);
+		PAYLOADS.put(TYPE_CREATE, CreatePayload.class);
+		PAYLOADS.put(TYPE_DELETE, DeletePayload.class);
+		PAYLOADS.put(TYPE_DOWNLOAD, DownloadPayload.class);
+		PAYLOADS.put(TYPE_FOLLOW, FollowPayload.class);
+		PAYLOADS.put(TYPE_FORK, ForkPayload.class);
+		PAYLOADS.put(TYPE_FORK_APPLY, ForkApplyPayload.class);
+		PAYLOADS.put(TYPE_GIST, GistPayload.class);
+		PAYLOADS.put(TYPE_GOLLUM, GollumPayload.class);
+		PAYLOADS.put(TYPE_ISSUE_COMMENT, IssueCommentPayload.class);
+		PAYLOADS.put(TYPE_ISSUES, IssuesPayload.class);
+		PAYLOADS.put(TYPE_MEMBER, MemberPayload.class);
+		PAYLOADS.put(TYPE_PUBLIC, PublicPayload.class);
+		PAYLOADS.put(TYPE_PULL_REQUEST, PullRequestPayload.class);
+		PAYLOADS.put(TYPE_PULL_REQUEST_REVIEW_COMMENT,
+				PullRequestReviewCommentPayload.class);
+		PAYLOADS.put(TYPE_PUSH, PushPayload.class);
+		PAYLOADS.put(TYPE_RELEASE, ReleasePayload.class);
+		PAYLOADS.put(TYPE_TEAM_ADD, TeamAddPayload.class);
+		PAYLOADS.put(TYPE_WATCH, WatchPayload.class);
+	}
 
-		Class<? extends EventPayload> payloadClass;
-		if (TYPE_COMMIT_COMMENT.equals(type))
-			payloadClass = CommitCommentPayload.class;
-		else if (TYPE_CREATE.equals(type))
-			payloadClass = CreatePayload.class;
-		else if (TYPE_DELETE.equals(type))
-			payloadClass = DeletePayload.class;
-		else if (TYPE_DOWNLOAD.equals(type))
-			payloadClass = DownloadPayload.class;
-		else if (TYPE_FOLLOW.equals(type))
-			payloadClass = FollowPayload.class;
-		else if (TYPE_FORK.equals(type))
-			payloadClass = ForkPayload.class;
-		else if (TYPE_FORK_APPLY.equals(type))
-			payloadClass = ForkApplyPayload.class;
-		else if (TYPE_GIST.equals(type))
-			payloadClass = GistPayload.class;
-		else if (TYPE_GOLLUM.equals(type))
-			payloadClass = GollumPayload.class;
-		else if (TYPE_ISSUE_COMMENT.equals(type))
-			payloadClass = IssueCommentPayload.class;
-		else if (TYPE_ISSUES.equals(type))
-			payloadClass = IssuesPayload.class;
-		else if (TYPE_MEMBER.equals(type))
-			payloadClass = MemberPayload.class;
-		else if (TYPE_PUBLIC.equals(type))
-			payloadClass = PublicPayload.class;
-		else if (TYPE_PULL_REQUEST.equals(type))
-			payloadClass = PullRequestPayload.class;
-		else if (TYPE_PULL_REQUEST_REVIEW_COMMENT.equals(type))
-			payloadClass = PullRequestReviewCommentPayload.class;
-		else if (TYPE_PUSH.equals(type))
-			payloadClass = PushPayload.class;
-		else if (TYPE_RELEASE.equals(type))
-			payloadClass = ReleasePayload.class;
-		else if (TYPE_TEAM_ADD.equals(type))
-			payloadClass = TeamAddPayload.class;
-		else if (TYPE_WATCH.equals(type))
-			payloadClass = WatchPayload.class;
-		else
-			return event;
+	/**
+	 * Get payload class of the event type
+	 *
+	 * @param type
+	 * @return payload class or null if the type has no typed payload
+	 */
+	static Class<? extends EventPayload> getPayloadClass(String type) {
+		return type != null ? PAYLOADS.get(type) : null;
+	}
+
+	/**
+	 * Adapter reading events in a single pass
+	 */
+	private static class EventAdapter extends TypeAdapter<Event> {
+
+		private final Gson gson;
+
+		private final TypeAdapter<Event> delegate;
+
+		private final TypeAdapter<String> strings;
+
+		private final TypeAdapter<Boolean> booleans;
+
+		private final TypeAdapter<Date> dates;
+
+		private final TypeAdapter<User> users;
+
+		private final TypeAdapter<EventRepository> repositories;
+
+		private final TypeAdapter<EventPayload> payloads;
+
+		private final TypeAdapter<JsonElement> trees;
 
-		try {
-			EventPayload typedPayload = context.deserialize(rawPayload,
-					payloadClass);
-			return event.setPayload(typedPayload);
-		} catch (JsonParseException jpe) {
-			// Parse exception here denotes legacy payloads with differing
-			// fields than built-in payload classes provide
+		EventAdapter(Gson gson, TypeAdapter<Event> delegate) {
+			this.gson = gson;
+			this.delegate = delegate;
+			strings = gson.getAdapter(String.class);
+			booleans = gson.getAdapter(Boolean.class);
+			dates = gson.getAdapter(Date.class);
+			users = gson.getAdapter(User.class);
+			repositories = gson.getAdapter(EventRepository.class);
+			payloads = gson.getAdapter(EventPayload.class);
+			trees = gson.getAdapter(JsonElement.class);
+		}
+
+		@Override
+		public void write(JsonWriter out, Event value) throws IOException {
+			delegate.write(out, value);
+		}
+
+		@Override
+		public Event read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+			final Event event = new Event();
+			boolean typeRead = false;
+			JsonElement buffered = null;
+			in.beginObject();
+			while (in.hasNext()) {
+				switch (in.nextName()) {
+				case "type": //$NON-NLS-1$
+					event.setType(strings.read(in));
+					typeRead = true;
+					break;
+				case "payload": //$NON-NLS-1$
+					if (in.peek() != JsonToken.BEGIN_OBJECT)
+						event.setPayload(payloads.read(in));
+					else if (!typeRead)
+						buffered = trees.read(in);
+					else
+						event.setPayload(readPayload(in, event.getType()));
+					break;
+				case "public": //$NON-NLS-1$
+					Boolean isPublic = booleans.read(in);
+					if (isPublic != null)
+						event.setPublic(isPublic.booleanValue());
+					break;
+				case "repo": //$NON-NLS-1$
+					event.setRepo(repositories.read(in));
+					break;
+				case "id": //$NON-NLS-1$
+					event.setId(strings.read(in));
+					break;
+				case "actor": //$NON-NLS-1$
+					event.setActor(users.read(in));
+					break;
+				case "org": //$NON-NLS-1$
+					event.setOrg(users.read(in));
+					break;
+				case "created_at": //$NON-NLS-1$
+					event.setCreatedAt(dates.read(in));
+					break;
+				default:
+					in.skipValue();
+				}
+			}
+			in.endObject();
+			if (buffered != null)
+				event.setPayload(readPayload(buffered, event.getType()));
 			return event;
 		}
+
+		private EventPayload readPayload(JsonReader in, String type)
+				throws IOException {
+			final Class<? extends EventPayload> payloadClass = getPayloadClass(type);
+			if (payloadClass == null)
+				return payloads.read(in);
+			final String path = in.getPath();
+			try {
+				return gson.getAdapter(payloadClass).read(in);
+			} catch (JsonParseException e) {
+				// Legacy payloads with differing fields than built-in payload
+				// classes provide are returned untyped
+				skipPayload(in, path);
+				return new EventPayload();
+			}
+		}
+
+		private EventPayload readPayload(JsonElement tree, String type) {
+			final Class<? extends EventPayload> payloadClass = getPayloadClass(type);
+			if (payloadClass != null)
+				try {
+					return gson.getAdapter(payloadClass).fromJsonTree(tree);
+				} catch (JsonParseException e) {
+					// Legacy payloads with differing fields than built-in
+					// payload classes provide are returned untyped
+				}
+			return payloads.fromJsonTree(tree);
+		}
+
+		/**
+		 * Skip the rest of a payload whose decoding failed part way
+		 *
+		 * @param in
+		 * @param path
+		 *            of the payload
+		 * @throws IOException
+		 */
+		private static void skipPayload(JsonReader in, String path)
+				throws IOException {
+			while (!path.equals(in.getPath()))
+				switch (in.peek()) {
+				case END_OBJECT:
+					in.endObject();
+					break;
+				case END_ARRAY:
+					in.endArray();
+					break;
+				case END_DOCUMENT:
+					return;
+				default:
+					in.skipValue();
+				}
+			if (in.peek() == JsonToken.BEGIN_OBJECT)
+				in.skipValue();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+		if (type.getRawType() != Event.class)
+			return null;
+		return (TypeAdapter<T>) new EventAdapter(gson,
+				gson.getDelegateAdapter(this, TypeToken.get(Event.class)));
+	}
+
+	/**
+	 * Deserialize event from a tree with the adapter created by this factory
+	 * for {@link GsonUtils#getGson()}. Register this formatter with
+	 * {@link com.google.gson.GsonBuilder#registerTypeAdapterFactory} instead
+	 * to read events from the stream.
+	 */
+	@Override
+	public Event deserialize(JsonElement json, Type typeOfT,
+			JsonDeserializationContext context) throws JsonParseException {
+		return GsonUtils.getGson().getAdapter(Event.class).fromJsonTree(json);
 	}
 }
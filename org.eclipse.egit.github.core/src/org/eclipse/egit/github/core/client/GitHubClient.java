@@ -22,12 +22,19 @@ import static java.net.HttpURLConnection.HTTP_FORBIDDEN;
 import static java.net.HttpURLConnection.HTTP_GONE;
 import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
 import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+import static java.net.HttpURLConnection.HTTP_NOT_MODIFIED;
 import static java.net.HttpURLConnection.HTTP_NO_CONTENT;
 import static java.net.HttpURLConnection.HTTP_OK;
 import static java.net.HttpURLConnection.HTTP_UNAUTHORIZED;
 import static org.eclipse.egit.github.core.client.IGitHubConstants.AUTH_TOKEN;
 import static org.eclipse.egit.github.core.client.IGitHubConstants.CHARSET_UTF8;
 import static org.eclipse.egit.github.core.client.IGitHubConstants.CONTENT_TYPE_JSON;
+import static org.eclipse.egit.github.core.client.IGitHubConstants.HEADER_LAST;
+import static org.eclipse.egit.github.core.client.IGitHubConstants.HEADER_LINK;
+import static org.eclipse.egit.github.core.client.IGitHubConstants.HEADER_NEXT;
+import static org.eclipse.egit.github.core.client.IGitHubConstants.HEADER_RATE_LIMIT;
+import static org.eclipse.egit.github.core.client.IGitHubConstants.HEADER_RATE_REMAINING;
+import static org.eclipse.egit.github.core.client.IGitHubConstants.HEADER_RATE_RESET;
 import static org.eclipse.egit.github.core.client.IGitHubConstants.HOST_API;
 import static org.eclipse.egit.github.core.client.IGitHubConstants.HOST_DEFAULT;
 import static org.eclipse.egit.github.core.client.IGitHubConstants.HOST_GISTS;
@@ -36,18 +43,45 @@ import static org.eclipse.egit.github.core.client.IGitHubConstants.SEGMENT_V3_AP
 import static org.eclipse.egit.github.core.service.GitHubService.ACCEPT_FULL;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
 import com.google.gson.JsonParseException;
 import com.google.gson.stream.JsonReader;
 
 import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.lang.reflect.Type;
 import java.net.HttpURLConnection;
 import java.net.Proxy;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
 
 import org.eclipse.egit.github.core.RequestError;
 import org.eclipse.egit.github.core.User;
@@ -80,6 +114,81 @@ public class GitHubClient {
 		}
 	}
 
+	/**
+	 * Create an executor for asynchronous requests that runs at most the given
+	 * number of requests concurrently and queues the remaining ones. Threads
+	 * of the returned executor are daemon threads that are released when
+	 * idle.
+	 *
+	 * @param maxConcurrentRequests
+	 * @return executor
+	 * @since 6.2
+	 */
+	public static ExecutorService createExecutor(int maxConcurrentRequests) {
+		if (maxConcurrentRequests < 1)
+			throw new IllegalArgumentException(
+					"Maximum concurrent requests must be greater than zero"); //$NON-NLS-1$
+		final AtomicInteger count = new AtomicInteger();
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(
+				maxConcurrentRequests, maxConcurrentRequests, 60L,
+				TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+				new ThreadFactory() {
+
+					@Override
+					public Thread newThread(Runnable runnable) {
+						Thread thread = new Thread(runnable,
+								"GitHubClient-" + count.incrementAndGet()); //$NON-NLS-1$
+						thread.setDaemon(true);
+						return thread;
+					}
+				});
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	/**
+	 * Default maximum number of asynchronous requests run concurrently by
+	 * clients that have no executor set
+	 *
+	 * @since 6.2
+	 */
+	public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 8;
+
+	/**
+	 * Default maximum number of milliseconds a request waits for a permit of
+	 * the rate limiter before failing
+	 *
+	 * @since 6.2
+	 */
+	public static final long DEFAULT_MAX_RATE_LIMIT_WAIT = 5 * 60 * 1000L;
+
+	/**
+	 * Marks threads running a callable submitted through
+	 * {@link #submit(IRequestCallable)} of any client
+	 */
+	private static final ThreadLocal<Boolean> SUBMITTED = new ThreadLocal<>();
+
+	/**
+	 * Is the current thread running a callable submitted through
+	 * {@link #submit(IRequestCallable)}? Such callables must not block on
+	 * other submitted callables, which may be queued behind them on a bounded
+	 * executor.
+	 *
+	 * @return true if running a submitted callable, false otherwise
+	 */
+	static boolean isSubmitted() {
+		return SUBMITTED.get() != null;
+	}
+
+	/**
+	 * Holder of the executor shared by clients that have no executor set
+	 */
+	private static class DefaultExecutor {
+
+		static final ExecutorService INSTANCE = createExecutor(
+				DEFAULT_MAX_CONCURRENT_REQUESTS);
+	}
+
 	/**
 	 * Content-Type header
 	 */
@@ -95,11 +204,52 @@ public class GitHubClient {
 	 */
 	protected static final String HEADER_AUTHORIZATION = "Authorization"; //$NON-NLS-1$
 
+	/**
+	 * Accept-Encoding header
+	 *
+	 * @since 6.2
+	 */
+	protected static final String HEADER_ACCEPT_ENCODING = "Accept-Encoding"; //$NON-NLS-1$
+
+	/**
+	 * Content-Encoding header
+	 *
+	 * @since 6.2
+	 */
+	protected static final String HEADER_CONTENT_ENCODING = "Content-Encoding"; //$NON-NLS-1$
+
+	/**
+	 * Encodings advertised in the Accept-Encoding header
+	 *
+	 * @since 6.2
+	 */
+	protected static final String ACCEPTED_ENCODINGS = "gzip, deflate"; //$NON-NLS-1$
+
 	/**
 	 * User-Agent header
 	 */
 	protected static final String HEADER_USER_AGENT = "User-Agent"; //$NON-NLS-1$
 
+	/**
+	 * ETag header
+	 */
+	protected static final String HEADER_ETAG = "ETag"; //$NON-NLS-1$
+
+	/**
+	 * Last-Modified header
+	 */
+	protected static final String HEADER_LAST_MODIFIED = "Last-Modified"; //$NON-NLS-1$
+
+	/**
+	 * If-None-Match header
+	 */
+	protected static final String HEADER_IF_NONE_MATCH = "If-None-Match"; //$NON-NLS-1$
+
+	/**
+	 * If-Modified-Since header
+	 */
+	protected static final String HEADER_IF_MODIFIED_SINCE = "If-Modified-Since"; //$NON-NLS-1$
+
 	/**
 	 * METHOD_GET
 	 */
@@ -149,6 +299,8 @@ public class GitHubClient {
 
 	private String credentials;
 
+	private String credentialsId;
+
 	private Proxy proxy;
 
 	private String userAgent = USER_AGENT;
@@ -157,12 +309,44 @@ public class GitHubClient {
 
 	private int bufferSize = 8192;
 
+	private int streamingThreshold = 1024 * 1024;
+
 	private int requestLimit = -1;
 
 	private int remainingRequests = -1;
 
+	private long rateLimitReset = -1;
+
+	private IRateLimiter rateLimiter;
+
+	private long maxRateLimitWait = DEFAULT_MAX_RATE_LIMIT_WAIT;
+
+	private TokenPool tokenPool;
+
+	private boolean compressionEnabled = true;
+
+	private RequestCoalescer requestCoalescer;
+
+	private RetryPolicy retryPolicy;
+
+	private final AtomicLong retryCount = new AtomicLong();
+
+	private final List<IRequestListener> requestListeners = new CopyOnWriteArrayList<>();
+
+	private final ThreadLocal<RequestRecorder> recorder = new ThreadLocal<>();
+
+	private final AtomicLong wireBytes = new AtomicLong();
+
+	private final AtomicLong decodedBytes = new AtomicLong();
+
 	private boolean userSet;
 
+	private IResponseCache responseCache;
+
+	private IConnectionFactory connectionFactory;
+
+	private Executor executor;
+
 	/**
 	 * Create default client
 	 */
@@ -265,10 +449,17 @@ public class GitHubClient {
 	 * @return configured request
 	 */
 	protected HttpURLConnection configureRequest(final HttpURLConnection request) {
-		if (credentials != null)
+		final TokenPool pool = tokenPool;
+		if (pool != null)
+			request.setRequestProperty(HEADER_AUTHORIZATION, AUTH_TOKEN + ' '
+					+ pool.assign(request));
+		else if (credentials != null)
 			request.setRequestProperty(HEADER_AUTHORIZATION, credentials);
 		request.setRequestProperty(HEADER_USER_AGENT, userAgent);
 		request.setRequestProperty(HEADER_ACCEPT, getHeaderAccept());
+		if (compressionEnabled)
+			request.setRequestProperty(HEADER_ACCEPT_ENCODING,
+					ACCEPTED_ENCODINGS);
 		return request;
 	}
 
@@ -295,6 +486,10 @@ public class GitHubClient {
 	protected HttpURLConnection createConnection(String uri) throws IOException {
 		URL url = new URL(createUri(uri));
 
+		final IConnectionFactory factory = connectionFactory;
+		if (factory != null)
+			return factory.createConnection(url, proxy);
+
 		if (proxy != null) {
 			return (HttpURLConnection) url.openConnection(proxy);
 		}
@@ -312,9 +507,13 @@ public class GitHubClient {
 	 */
 	protected HttpURLConnection createConnection(String uri, String method)
 			throws IOException {
+		acquirePermit(uri);
 		HttpURLConnection connection = createConnection(uri);
 		connection.setRequestMethod(method);
-		return configureRequest(connection);
+		configureRequest(connection);
+		if (!requestListeners.isEmpty())
+			recorder.set(new RequestRecorder(connection, method, uri));
+		return connection;
 	}
 
 	/**
@@ -376,6 +575,7 @@ public class GitHubClient {
 					+ EncodingUtils.toBase64(user + ':' + password);
 		else
 			credentials = null;
+		credentialsId = null;
 		return this;
 	}
 
@@ -392,6 +592,60 @@ public class GitHubClient {
 		return this;
 	}
 
+	/**
+	 * Set the transport used to open connections for requests made through
+	 * this client.
+	 *
+	 * @param factory
+	 *            to use; may be {@code null}, in which case connections are
+	 *            opened with {@link URL#openConnection()}
+	 * @return this client
+	 * @since 6.2
+	 */
+	public GitHubClient setConnectionFactory(IConnectionFactory factory) {
+		connectionFactory = factory;
+		return this;
+	}
+
+	/**
+	 * Get the transport used to open connections
+	 *
+	 * @return factory or null if the default transport is used
+	 * @since 6.2
+	 */
+	public IConnectionFactory getConnectionFactory() {
+		return connectionFactory;
+	}
+
+	/**
+	 * Set the executor running asynchronous requests made through this client.
+	 * The concurrency of asynchronous requests is bounded by the executor; see
+	 * {@link #createExecutor(int)}.
+	 *
+	 * @param executor
+	 *            to use; may be {@code null}, in which case an executor shared
+	 *            by all clients and running at most
+	 *            {@link #DEFAULT_MAX_CONCURRENT_REQUESTS} requests concurrently
+	 *            is used
+	 * @return this client
+	 * @since 6.2
+	 */
+	public GitHubClient setExecutor(Executor executor) {
+		this.executor = executor;
+		return this;
+	}
+
+	/**
+	 * Get the executor running asynchronous requests made through this client
+	 *
+	 * @return non-null executor
+	 * @since 6.2
+	 */
+	public Executor getExecutor() {
+		final Executor current = executor;
+		return current != null ? current : DefaultExecutor.INSTANCE;
+	}
+
 	/**
 	 * Set OAuth2 token
 	 *
@@ -403,9 +657,61 @@ public class GitHubClient {
 			credentials = AUTH_TOKEN + ' ' + token;
 		else
 			credentials = null;
+		credentialsId = null;
 		return this;
 	}
 
+	/**
+	 * Set pool of OAuth2 tokens to rotate through. While a pool is set, each
+	 * request is authenticated with the token of the pool that has the most
+	 * requests remaining instead of the credentials or token set on this
+	 * client.
+	 *
+	 * @param pool
+	 *            may be null to use the credentials or token of this client
+	 * @return this client
+	 * @since 6.2
+	 */
+	public GitHubClient setTokenPool(TokenPool pool) {
+		tokenPool = pool;
+		credentialsId = null;
+		return this;
+	}
+
+	/**
+	 * Set coalescer letting concurrent identical GET requests share a single
+	 * network call. A coalescer may be shared by several clients.
+	 *
+	 * @param coalescer
+	 *            may be null to send every request
+	 * @return this client
+	 * @since 6.2
+	 */
+	public GitHubClient setRequestCoalescer(RequestCoalescer coalescer) {
+		requestCoalescer = coalescer;
+		return this;
+	}
+
+	/**
+	 * Get coalescer of concurrent identical GET requests
+	 *
+	 * @return coalescer or null if none is configured
+	 * @since 6.2
+	 */
+	public RequestCoalescer getRequestCoalescer() {
+		return requestCoalescer;
+	}
+
+	/**
+	 * Get pool of OAuth2 tokens to rotate through
+	 *
+	 * @return pool or null if none is configured
+	 * @since 6.2
+	 */
+	public TokenPool getTokenPool() {
+		return tokenPool;
+	}
+
 	/**
 	 * Set buffer size used to send the request and read the response
 	 *
@@ -421,6 +727,80 @@ public class GitHubClient {
 		return this;
 	}
 
+	/**
+	 * Get buffer size used to send the request and read the response
+	 *
+	 * @return buffer size
+	 * @since 6.2
+	 */
+	public int getBufferSize() {
+		return bufferSize;
+	}
+
+	/**
+	 * Set the size in bytes above which JSON request bodies are streamed to
+	 * the connection with chunked transfer encoding as they are serialized.
+	 * Smaller bodies are buffered and sent with a fixed length. Defaults to
+	 * 1 MB.
+	 *
+	 * @param streamingThreshold
+	 *            size in bytes, 0 to stream all non-empty bodies and
+	 *            {@link Integer#MAX_VALUE} to never stream
+	 * @return this client
+	 * @since 6.2
+	 */
+	public GitHubClient setStreamingThreshold(int streamingThreshold) {
+		if (streamingThreshold < 0)
+			throw new IllegalArgumentException(
+					"Streaming threshold must not be negative"); //$NON-NLS-1$
+
+		this.streamingThreshold = streamingThreshold;
+		return this;
+	}
+
+	/**
+	 * Get the size in bytes above which JSON request bodies are streamed with
+	 * chunked transfer encoding
+	 *
+	 * @return streaming threshold
+	 * @since 6.2
+	 */
+	public int getStreamingThreshold() {
+		return streamingThreshold;
+	}
+
+	/**
+	 * Set the cache used to send conditional GET requests. Responses that
+	 * carry an 'ETag' or 'Last-Modified' header are stored in the cache and
+	 * later requests for the same resource send 'If-None-Match' and
+	 * 'If-Modified-Since' headers. A '304 Not Modified' response is then served
+	 * from the cached body and does not count against the rate limit.
+	 * <p>
+	 * A cache may be shared by several clients; cached responses are keyed by
+	 * the credentials of the client as well as the request URI and accept
+	 * header.
+	 *
+	 * @param cache
+	 *            to use; may be {@code null}, in which case no responses are
+	 *            cached
+	 * @return this client
+	 * @since 6.2
+	 */
+	public GitHubClient setResponseCache(IResponseCache cache) {
+		responseCache = cache;
+		return this;
+	}
+
+	/**
+	 * Get the cache used to send conditional GET requests
+	 *
+	 * @return cache or null if none is configured
+	 * @since 6.2
+	 */
+	public IResponseCache getResponseCache() {
+		return responseCache;
+	}
+
 	/**
 	 * Get the user that this client is currently authenticating as
 	 *
@@ -448,7 +828,12 @@ public class GitHubClient {
 	 * @param object
 	 * @return JSON string
 	 * @throws IOException
+	 * @deprecated request bodies are no longer converted to a string but
+	 *             streamed to the connection; override
+	 *             {@link #writeJson(Object, Writer)} to customize how they are
+	 *             written
 	 */
+	@Deprecated
 	protected String toJson(Object object) throws IOException {
 		try {
 			return gson.toJson(object);
@@ -460,6 +845,30 @@ public class GitHubClient {
 		}
 	}
 
+	/**
+	 * Write object as JSON to a writer
+	 *
+	 * @param object
+	 * @param writer
+	 * @throws IOException
+	 * @since 6.2
+	 */
+	protected void writeJson(Object object, Writer writer) throws IOException {
+		try {
+			gson.toJson(object, object.getClass(), gson.newJsonWriter(writer));
+		} catch (JsonIOException jie) {
+			if (jie.getCause() instanceof IOException)
+				throw (IOException) jie.getCause();
+			throw new IOException(
+					"Exception writing object as JSON", jie); //$NON-NLS-1$
+		} catch (JsonParseException jpe) {
+			IOException ioe = new IOException(
+					"Parse exception converting object to JSON"); //$NON-NLS-1$
+			ioe.initCause(jpe);
+			throw ioe;
+		}
+	}
+
 	/**
 	 * Parse JSON to specified type
 	 *
@@ -485,9 +894,42 @@ public class GitHubClient {
 	 */
 	protected <V> V parseJson(InputStream stream, Type type, Type listType)
 			throws IOException {
+		return parseJson(stream, type, listType, null);
+	}
+
+	/**
+	 * Parse JSON to specified type decoding only the given fields of each
+	 * resource
+	 *
+	 * @param <V>
+	 * @param stream
+	 * @param type
+	 * @param listType
+	 * @param fields
+	 *            fields to decode, null to decode all fields
+	 * @return parsed type
+	 * @throws IOException
+	 * @see GitHubRequest#setFields(String...)
+	 * @since 6.2
+	 */
+	protected <V> V parseJson(InputStream stream, Type type, Type listType,
+			Set<String> fields) throws IOException {
+		final RequestRecorder current = recorder.get();
+		if (current == null)
+			return readJson(stream, type, listType, fields);
+		final long start = System.nanoTime();
+		try {
+			return readJson(stream, type, listType, fields);
+		} finally {
+			current.parsed(System.nanoTime() - start);
+		}
+	}
+
+	private <V> V readJson(InputStream stream, Type type, Type listType,
+			Set<String> fields) throws IOException {
 		BufferedReader reader = new BufferedReader(new InputStreamReader(
 				stream, CHARSET_UTF8), bufferSize);
-		if (listType == null)
+		if (listType == null && fields == null)
 			try {
 				return gson.fromJson(reader, type);
 			} catch (JsonParseException jpe) {
@@ -503,9 +945,9 @@ public class GitHubClient {
 				}
 			}
 		else {
-			JsonReader jsonReader = new JsonReader(reader);
+			JsonReader jsonReader = ProjectingJsonReader.create(reader, fields);
 			try {
-				if (jsonReader.peek() == BEGIN_ARRAY)
+				if (listType != null && jsonReader.peek() == BEGIN_ARRAY)
 					return gson.fromJson(jsonReader, listType);
 				else
 					return gson.fromJson(jsonReader, type);
@@ -596,7 +1038,8 @@ public class GitHubClient {
 			throws IOException {
 		Type type = request.getType();
 		if (type != null)
-			return parseJson(stream, type, request.getArrayType());
+			return parseJson(stream, type, request.getArrayType(),
+					request.getFields());
 		else
 			return null;
 	}
@@ -631,7 +1074,7 @@ public class GitHubClient {
 			message = status + " (" + code + ')'; //$NON-NLS-1$
 		else
 			message = "Unknown error occurred (" + code + ')'; //$NON-NLS-1$
-		return new IOException(message);
+		return new ResponseStatusException(message, code);
 	}
 
 	/**
@@ -666,7 +1109,8 @@ public class GitHubClient {
 	}
 
 	/**
-	 * Send parameters to output stream of request
+	 * Send parameters to output stream of request. Parameters that are an
+	 * {@link IRequestBody} are written as they are, all others as JSON.
 	 *
 	 * @param request
 	 * @param params
@@ -675,23 +1119,28 @@ public class GitHubClient {
 	protected void sendParams(HttpURLConnection request, Object params)
 			throws IOException {
 		request.setDoOutput(true);
-		if (params != null) {
+		if (params instanceof IRequestBody) {
+			IRequestBody body = (IRequestBody) params;
+			request.setRequestProperty(HEADER_CONTENT_TYPE,
+					body.getContentType());
+			long length = body.getLength();
+			if (length >= 0)
+				request.setFixedLengthStreamingMode(length);
+			else
+				request.setChunkedStreamingMode(bufferSize);
+			OutputStream output = new BufferedOutputStream(
+					request.getOutputStream(), bufferSize);
+			body.writeTo(output);
+			output.close();
+		} else if (params != null) {
 			request.setRequestProperty(HEADER_CONTENT_TYPE, CONTENT_TYPE_JSON
 					+ "; charset=" + CHARSET_UTF8); //$NON-NLS-1$
-			byte[] data = toJson(params).getBytes(CHARSET_UTF8);
-			request.setFixedLengthStreamingMode(data.length);
-			BufferedOutputStream output = new BufferedOutputStream(
-					request.getOutputStream(), bufferSize);
-			try {
-				output.write(data);
-				output.flush();
-			} finally {
-				try {
-					output.close();
-				} catch (IOException ignored) {
-					// Ignored
-				}
-			}
+			// Closing sends bodies that fit the threshold, it is skipped when
+			// writing fails so that no partial body is sent
+			Writer writer = new OutputStreamWriter(new RequestBodyStream(
+					request, streamingThreshold, bufferSize), CHARSET_UTF8);
+			writeJson(params, writer);
+			writer.close();
 		} else {
 			request.setFixedLengthStreamingMode(0);
 			request.setRequestProperty("Content-Length", "0"); //$NON-NLS-1$ //$NON-NLS-2$
@@ -700,18 +1149,20 @@ public class GitHubClient {
 
 	private <V> V sendJson(final HttpURLConnection request,
 			final Object params, final Type type) throws IOException {
-		sendParams(request, params);
-		final int code = request.getResponseCode();
-		updateRateLimits(request);
-		if (isOk(code))
-			if (type != null)
-				return parseJson(getStream(request), type);
-			else
+		return record(request, () -> {
+			sendParams(request, params);
+			final int code = request.getResponseCode();
+			updateRateLimits(request);
+			if (isOk(code))
+				if (type != null)
+					return parseJson(getStream(request), type);
+				else
+					return null;
+			if (isEmpty(code))
 				return null;
-		if (isEmpty(code))
-			return null;
-		throw createException(getStream(request), code,
-				request.getResponseMessage());
+			throw createException(getStream(request), code,
+					request.getResponseMessage());
+		});
 	}
 
 	/**
@@ -734,12 +1185,15 @@ public class GitHubClient {
 	 */
 	public InputStream getStream(final GitHubRequest request)
 			throws IOException {
-		HttpURLConnection httpRequest = createGet(request.generateUri());
-		String accept = request.getResponseContentType();
-		if (accept != null) {
-			httpRequest.setRequestProperty(HEADER_ACCEPT, accept);
-		}
-		return getResponseStream(httpRequest);
+		final String uri = request.generateUri();
+		return executeWithRetry(METHOD_GET, uri, null, () -> {
+			HttpURLConnection httpRequest = createGet(uri);
+			String accept = request.getResponseContentType();
+			if (accept != null) {
+				httpRequest.setRequestProperty(HEADER_ACCEPT, accept);
+			}
+			return getResponseStream(httpRequest);
+		});
 	}
 
 	/**
@@ -753,9 +1207,11 @@ public class GitHubClient {
 	 */
 	public InputStream postStream(final String uri, final Object params)
 			throws IOException {
-		HttpURLConnection connection = createPost(uri);
-		sendParams(connection, params);
-		return getResponseStream(connection);
+		return executeWithRetry(METHOD_POST, uri, null, () -> {
+			HttpURLConnection connection = createPost(uri);
+			sendParams(connection, params);
+			return getResponseStream(connection);
+		});
 	}
 
 	/**
@@ -767,13 +1223,20 @@ public class GitHubClient {
 	 */
 	protected InputStream getResponseStream(final HttpURLConnection request)
 			throws IOException {
-		InputStream stream = getStream(request);
-		int code = request.getResponseCode();
-		updateRateLimits(request);
-		if (isOk(code))
-			return stream;
-		else
-			throw createException(stream, code, request.getResponseMessage());
+		try {
+			InputStream stream = getStream(request);
+			int code = request.getResponseCode();
+			updateRateLimits(request);
+			if (isOk(code)) {
+				completeOnClose(request);
+				return stream;
+			} else
+				throw createException(stream, code,
+						request.getResponseMessage());
+		} catch (IOException e) {
+			completeRequest(request, e);
+			throw e;
+		}
 	}
 
 	/**
@@ -785,35 +1248,424 @@ public class GitHubClient {
 	 */
 	protected InputStream getStream(HttpURLConnection request)
 			throws IOException {
+		InputStream stream;
 		if (request.getResponseCode() < HTTP_BAD_REQUEST)
-			return request.getInputStream();
+			stream = request.getInputStream();
 		else {
-			InputStream stream = request.getErrorStream();
-			return stream != null ? stream : request.getInputStream();
+			stream = request.getErrorStream();
+			if (stream == null)
+				stream = request.getInputStream();
 		}
+		return decode(request, stream);
+	}
+
+	/**
+	 * Decode the body of the response according to its 'Content-Encoding'
+	 * header and count the bytes read before and after decoding
+	 *
+	 * @param request
+	 * @param stream
+	 *            over the body as received
+	 * @return stream over the decoded body
+	 * @throws IOException
+	 * @since 6.2
+	 */
+	protected InputStream decode(HttpURLConnection request, InputStream stream)
+			throws IOException {
+		final RequestRecorder current = getRecorder(request);
+		if (current != null)
+			stream = new CountingInputStream(stream, current.wireBytes);
+		InputStream wire = new CountingInputStream(stream, wireBytes);
+		String encoding = request.getHeaderField(HEADER_CONTENT_ENCODING);
+		InputStream decoded;
+		if (encoding == null)
+			decoded = wire;
+		else if ("gzip".equalsIgnoreCase(encoding.trim()) //$NON-NLS-1$
+				|| "x-gzip".equalsIgnoreCase(encoding.trim())) //$NON-NLS-1$
+			decoded = new GZIPInputStream(wire, bufferSize);
+		else if ("deflate".equalsIgnoreCase(encoding.trim())) //$NON-NLS-1$
+			decoded = new InflaterInputStream(wire);
+		else
+			decoded = wire;
+		decoded = new CountingInputStream(decoded, decodedBytes);
+		if (current == null)
+			return decoded;
+		return new CountingInputStream(decoded, current.decodedBytes) {
+
+			@Override
+			public void close() throws IOException {
+				try {
+					super.close();
+				} finally {
+					if (current.completeOnClose)
+						fireRequestCompleted(current, null);
+				}
+			}
+		};
+	}
+
+	/**
+	 * Add listener notified of every request made through this client
+	 *
+	 * @param listener
+	 * @return this client
+	 * @since 6.2
+	 */
+	public GitHubClient addRequestListener(IRequestListener listener) {
+		if (listener == null)
+			throw new IllegalArgumentException("Listener cannot be null"); //$NON-NLS-1$
+		requestListeners.add(listener);
+		return this;
+	}
+
+	/**
+	 * Remove listener notified of every request made through this client
+	 *
+	 * @param listener
+	 * @return this client
+	 * @since 6.2
+	 */
+	public GitHubClient removeRequestListener(IRequestListener listener) {
+		requestListeners.remove(listener);
+		return this;
+	}
+
+	private RequestRecorder getRecorder(HttpURLConnection connection) {
+		RequestRecorder current = recorder.get();
+		return current != null && current.connection == connection ? current
+				: null;
+	}
+
+	private void fireRequestCompleted(RequestRecorder completed,
+			IOException failure) {
+		if (recorder.get() == completed)
+			recorder.remove();
+		RequestMetrics metrics = completed.complete(failure);
+		if (metrics == null)
+			return;
+		for (IRequestListener listener : requestListeners)
+			try {
+				listener.requestCompleted(metrics);
+			} catch (RuntimeException ignored) {
+				// Listeners cannot fail requests
+			}
+	}
+
+	/**
+	 * Notify listeners that the request completed
+	 *
+	 * @param connection
+	 * @param failure
+	 *            may be null
+	 */
+	void completeRequest(HttpURLConnection connection, IOException failure) {
+		RequestRecorder current = getRecorder(connection);
+		if (current != null)
+			fireRequestCompleted(current, failure);
+	}
+
+	/**
+	 * Notify listeners that the request completed once its response stream is
+	 * closed
+	 *
+	 * @param connection
+	 */
+	void completeOnClose(HttpURLConnection connection) {
+		RequestRecorder current = getRecorder(connection);
+		if (current != null)
+			current.completeOnClose = true;
+	}
+
+	/**
+	 * Run the callable reading the response of the connection and notify
+	 * listeners once it is done
+	 *
+	 * @param connection
+	 * @param callable
+	 * @return result of the callable
+	 * @throws IOException
+	 */
+	private <V> V record(HttpURLConnection connection,
+			IRequestCallable<V> callable) throws IOException {
+		IOException failure = null;
+		try {
+			return callable.call();
+		} catch (IOException e) {
+			failure = e;
+			throw e;
+		} finally {
+			completeRequest(connection, failure);
+		}
+	}
+
+	/**
+	 * Set whether compressed responses are requested. When enabled, which is
+	 * the default, requests advertise gzip and deflate encodings and
+	 * compressed responses are decoded transparently.
+	 *
+	 * @param enabled
+	 * @return this client
+	 * @since 6.2
+	 */
+	public GitHubClient setCompressionEnabled(boolean enabled) {
+		compressionEnabled = enabled;
+		return this;
+	}
+
+	/**
+	 * Are compressed responses requested?
+	 *
+	 * @return true if enabled, false otherwise
+	 * @since 6.2
+	 */
+	public boolean isCompressionEnabled() {
+		return compressionEnabled;
+	}
+
+	/**
+	 * Get number of response body bytes received from the server, before
+	 * decoding, by requests made through this client
+	 *
+	 * @return byte count
+	 * @since 6.2
+	 */
+	public long getWireBytes() {
+		return wireBytes.get();
+	}
+
+	/**
+	 * Get number of response body bytes read after decoding by requests made
+	 * through this client
+	 *
+	 * @return byte count
+	 * @since 6.2
+	 */
+	public long getDecodedBytes() {
+		return decodedBytes.get();
+	}
+
+	/**
+	 * Reset the counters of wire and decoded bytes
+	 *
+	 * @return this client
+	 * @since 6.2
+	 */
+	public GitHubClient resetByteCounters() {
+		wireBytes.set(0);
+		decodedBytes.set(0);
+		return this;
+	}
+
+	/**
+	 * Create the key of the request in the {@link IResponseCache}
+	 *
+	 * @param request
+	 * @return key
+	 * @since 6.2
+	 */
+	protected String createCacheKey(GitHubRequest request) {
+		String accept = request.getResponseContentType();
+		if (accept == null)
+			accept = getHeaderAccept();
+		StringBuilder key = new StringBuilder();
+		key.append(getCredentialsId()).append(' ');
+		key.append(accept).append(' ');
+		key.append(createUri(request.generateUri()));
+		return key.toString();
+	}
+
+	/**
+	 * Get digest identifying the credentials of this client without exposing
+	 * them
+	 *
+	 * @return id, empty if no credentials are set
+	 */
+	private String getCredentialsId() {
+		final TokenPool pool = tokenPool;
+		final String current = pool != null ? AUTH_TOKEN + ' '
+				+ pool.getPrimaryToken() : credentials;
+		if (current == null)
+			return ""; //$NON-NLS-1$
+		String id = credentialsId;
+		if (id != null)
+			return id;
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256") //$NON-NLS-1$
+					.digest(current.getBytes(StandardCharsets.UTF_8));
+			StringBuilder hex = new StringBuilder(digest.length * 2);
+			for (byte b : digest)
+				hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(
+						Character.forDigit(b & 0xF, 16));
+			id = hex.toString();
+		} catch (NoSuchAlgorithmException e) {
+			id = Integer.toHexString(current.hashCode());
+		}
+		credentialsId = id;
+		return id;
+	}
+
+	/**
+	 * Add the validators of the cached response to the request
+	 *
+	 * @param request
+	 * @param cached
+	 * @since 6.2
+	 */
+	protected void configureConditionalRequest(HttpURLConnection request,
+			CachedResponse cached) {
+		String etag = cached.getEtag();
+		if (etag != null)
+			request.setRequestProperty(HEADER_IF_NONE_MATCH, etag);
+		String lastModified = cached.getLastModified();
+		if (lastModified != null)
+			request.setRequestProperty(HEADER_IF_MODIFIED_SINCE, lastModified);
+	}
+
+	/**
+	 * Read the body of the response and store it in the cache if the response
+	 * carries a validator
+	 *
+	 * @param cache
+	 * @param key
+	 * @param request
+	 * @return stream over the body that was read
+	 * @throws IOException
+	 */
+	private InputStream cacheResponse(IResponseCache cache, String key,
+			HttpURLConnection request) throws IOException {
+		String etag = request.getHeaderField(HEADER_ETAG);
+		String lastModified = request.getHeaderField(HEADER_LAST_MODIFIED);
+		byte[] body = readBody(getStream(request));
+		if (etag == null && lastModified == null) {
+			cache.remove(key);
+			return new ByteArrayInputStream(body);
+		}
+		Map<String, String> headers = new HashMap<>();
+		for (String name : new String[] { HEADER_LINK, HEADER_NEXT,
+				HEADER_LAST }) {
+			String value = request.getHeaderField(name);
+			if (value != null)
+				headers.put(name, value);
+		}
+		cache.put(key, new CachedResponse(etag, lastModified, body, headers));
+		return new ByteArrayInputStream(body);
+	}
+
+	private byte[] readBody(InputStream stream) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream(bufferSize);
+		try {
+			byte[] buffer = new byte[bufferSize];
+			int read;
+			while ((read = stream.read(buffer)) != -1)
+				output.write(buffer, 0, read);
+		} finally {
+			try {
+				stream.close();
+			} catch (IOException ignored) {
+				// Ignored
+			}
+		}
+		return output.toByteArray();
 	}
 
 	/**
 	 * Get response from URI and bind to specified type
+	 * <p>
+	 * If a {@link IResponseCache} is configured the request is sent as a
+	 * conditional request when a cached response exists for it. If a
+	 * {@link RequestCoalescer} is configured, concurrent identical requests
+	 * share a single network call and response.
 	 *
 	 * @param request
 	 * @return response
 	 * @throws IOException
 	 */
-	public GitHubResponse get(GitHubRequest request) throws IOException {
+	public GitHubResponse get(final GitHubRequest request) throws IOException {
+		final IRequestCallable<GitHubResponse> get = () -> {
+			int[] retries = new int[1];
+			GitHubResponse response = executeWithRetry(METHOD_GET,
+					request.generateUri(), retries, () -> executeGet(request));
+			response.retries = retries[0];
+			return response;
+		};
+		final RequestCoalescer coalescer = requestCoalescer;
+		if (coalescer == null)
+			return get.call();
+		return coalescer.execute(createCoalescingKey(request), get);
+	}
+
+	/**
+	 * Create the key identifying identical requests in the
+	 * {@link RequestCoalescer}
+	 *
+	 * @param request
+	 * @return key
+	 * @since 6.2
+	 */
+	protected String createCoalescingKey(GitHubRequest request) {
+		return createCacheKey(request) + ' ' + request.getType() + ' '
+				+ request.getArrayType() + ' ' + request.getFields();
+	}
+
+	/**
+	 * Send GET request and bind the response to the specified type
+	 *
+	 * @param request
+	 * @return response
+	 * @throws IOException
+	 * @since 6.2
+	 */
+	protected GitHubResponse executeGet(GitHubRequest request)
+			throws IOException {
 		HttpURLConnection httpRequest = createGet(request.generateUri());
 		String accept = request.getResponseContentType();
 		if (accept != null)
 			httpRequest.setRequestProperty(HEADER_ACCEPT, accept);
-		final int code = httpRequest.getResponseCode();
-		updateRateLimits(httpRequest);
-		if (isOk(code))
-			return new GitHubResponse(httpRequest, getBody(request,
-					getStream(httpRequest)));
-		if (isEmpty(code))
-			return new GitHubResponse(httpRequest, null);
-		throw createException(getStream(httpRequest), code,
-				httpRequest.getResponseMessage());
+		return record(httpRequest, () -> {
+			final IResponseCache cache = responseCache;
+			final String cacheKey = cache != null && request.getType() != null
+					? createCacheKey(request) : null;
+			final CachedResponse cached = cacheKey != null
+					? cache.get(cacheKey) : null;
+			if (cached != null && cached.hasValidator())
+				configureConditionalRequest(httpRequest, cached);
+			final int code = httpRequest.getResponseCode();
+			updateRateLimits(httpRequest);
+			if (cached != null && code == HTTP_NOT_MODIFIED)
+				return new GitHubResponse(httpRequest, getBody(request,
+						cached.getBodyStream()), cached);
+			if (isOk(code))
+				if (cacheKey != null)
+					return new GitHubResponse(httpRequest, getBody(request,
+							cacheResponse(cache, cacheKey, httpRequest)));
+				else
+					return new GitHubResponse(httpRequest, getBody(request,
+							getStream(httpRequest)));
+			if (isEmpty(code))
+				return new GitHubResponse(httpRequest, null);
+			throw createException(getStream(httpRequest), code,
+					httpRequest.getResponseMessage());
+		});
+	}
+
+	/**
+	 * Get iterator over the resources of all pages of the request that decodes
+	 * one resource at a time straight from the response stream instead of
+	 * binding each page to a collection.
+	 * <p>
+	 * Pages are requested as the iterator advances and are not stored in the
+	 * {@link IResponseCache}. The request of a {@link PageIterator} returned by
+	 * a service can be passed to this method to stream its resources.
+	 *
+	 * @param <V>
+	 * @param request
+	 *            request whose type or array type is a collection or array
+	 *            type
+	 * @return iterator, to be closed when not iterated to the end
+	 * @since 6.2
+	 */
+	public <V> ResourceIterator<V> stream(PagedRequest<V> request) {
+		return new ResourceIterator<>(request, this);
 	}
 
 	/**
@@ -828,8 +1680,8 @@ public class GitHubClient {
 	 */
 	public <V> V post(final String uri, final Object params, final Type type)
 			throws IOException {
-		HttpURLConnection request = createPost(uri);
-		return sendJson(request, params, type);
+		return executeWithRetry(METHOD_POST, uri, null,
+				() -> sendJson(createPost(uri), params, type));
 	}
 
 	/**
@@ -844,8 +1696,8 @@ public class GitHubClient {
 	 */
 	public <V> V put(final String uri, final Object params, final Type type)
 			throws IOException {
-		HttpURLConnection request = createPut(uri);
-		return sendJson(request, params, type);
+		return executeWithRetry(METHOD_PUT, uri, null,
+				() -> sendJson(createPut(uri), params, type));
 	}
 
 	/**
@@ -858,13 +1710,125 @@ public class GitHubClient {
 	 */
 	public void delete(final String uri, final Object params)
 			throws IOException {
-		HttpURLConnection request = createDelete(uri);
-		if (params != null)
-			sendParams(request, params);
-		final int code = request.getResponseCode();
-		updateRateLimits(request);
-		if (!isEmpty(code))
-			throw new RequestException(parseError(getStream(request)), code);
+		executeWithRetry(METHOD_DELETE, uri, null, () -> {
+			HttpURLConnection request = createDelete(uri);
+			return record(request, () -> {
+				if (params != null)
+					sendParams(request, params);
+				final int code = request.getResponseCode();
+				updateRateLimits(request);
+				if (isEmpty(code))
+					return null;
+				if (isError(code))
+					throw new RequestException(
+							parseError(getStream(request)), code);
+				throw createException(getStream(request), code,
+						request.getResponseMessage());
+			});
+		});
+	}
+
+	/**
+	 * Run the callable on the executor of this client
+	 * <p>
+	 * Page iterators used by the callable fetch their pages on the thread
+	 * running it instead of submitting them, so callables waiting on pages
+	 * queued behind them cannot exhaust a bounded executor.
+	 *
+	 * @param <V>
+	 * @param callable
+	 * @return future completed with the result of the callable or
+	 *         exceptionally with the exception it threw
+	 * @since 6.2
+	 */
+	public <V> CompletableFuture<V> submit(final IRequestCallable<V> callable) {
+		final CompletableFuture<V> future = new CompletableFuture<>();
+		try {
+			getExecutor().execute(new Runnable() {
+
+				@Override
+				public void run() {
+					if (future.isDone())
+						return;
+					final boolean nested = isSubmitted();
+					SUBMITTED.set(Boolean.TRUE);
+					try {
+						future.complete(callable.call());
+					} catch (Throwable e) {
+						future.completeExceptionally(e);
+					} finally {
+						if (!nested)
+							SUBMITTED.remove();
+					}
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			future.completeExceptionally(e);
+		}
+		return future;
+	}
+
+	/**
+	 * Get response from URI and bind to specified type without blocking the
+	 * calling thread
+	 *
+	 * @param request
+	 * @return future response
+	 * @see #get(GitHubRequest)
+	 * @since 6.2
+	 */
+	public CompletableFuture<GitHubResponse> getAsync(
+			final GitHubRequest request) {
+		return submit(() -> get(request));
+	}
+
+	/**
+	 * Post data to URI without blocking the calling thread
+	 *
+	 * @param <V>
+	 * @param uri
+	 * @param params
+	 * @param type
+	 * @return future response
+	 * @see #post(String, Object, Type)
+	 * @since 6.2
+	 */
+	public <V> CompletableFuture<V> postAsync(final String uri,
+			final Object params, final Type type) {
+		return submit(() -> this.<V> post(uri, params, type));
+	}
+
+	/**
+	 * Put data to URI without blocking the calling thread
+	 *
+	 * @param <V>
+	 * @param uri
+	 * @param params
+	 * @param type
+	 * @return future response
+	 * @see #put(String, Object, Type)
+	 * @since 6.2
+	 */
+	public <V> CompletableFuture<V> putAsync(final String uri,
+			final Object params, final Type type) {
+		return submit(() -> this.<V> put(uri, params, type));
+	}
+
+	/**
+	 * Delete resource at URI without blocking the calling thread
+	 *
+	 * @param uri
+	 * @param params
+	 * @return future completed once the resource is deleted
+	 * @see #delete(String, Object)
+	 * @since 6.2
+	 */
+	public CompletableFuture<Void> deleteAsync(final String uri,
+			final Object params) {
+		return submit(() -> {
+			delete(uri, params);
+			return null;
+		});
 	}
 
 	/**
@@ -874,7 +1838,7 @@ public class GitHubClient {
 	 * @return this client
 	 */
 	protected GitHubClient updateRateLimits(HttpURLConnection request) {
-		String limit = request.getHeaderField("X-RateLimit-Limit"); //$NON-NLS-1$
+		String limit = request.getHeaderField(HEADER_RATE_LIMIT);
 		if (limit != null && limit.length() > 0)
 			try {
 				requestLimit = Integer.parseInt(limit);
@@ -884,7 +1848,7 @@ public class GitHubClient {
 		else
 			requestLimit = -1;
 
-		String remaining = request.getHeaderField("X-RateLimit-Remaining"); //$NON-NLS-1$
+		String remaining = request.getHeaderField(HEADER_RATE_REMAINING);
 		if (remaining != null && remaining.length() > 0)
 			try {
 				remainingRequests = Integer.parseInt(remaining);
@@ -894,6 +1858,25 @@ public class GitHubClient {
 		else
 			remainingRequests = -1;
 
+		String reset = request.getHeaderField(HEADER_RATE_RESET);
+		if (reset != null && reset.length() > 0)
+			try {
+				rateLimitReset = Long.parseLong(reset);
+			} catch (NumberFormatException nfe) {
+				rateLimitReset = -1;
+			}
+		else
+			rateLimitReset = -1;
+
+		final RequestRecorder current = getRecorder(request);
+		if (current != null)
+			current.responseReceived();
+		final TokenPool pool = tokenPool;
+		if (pool != null)
+			pool.update(request);
+		final IRateLimiter limiter = rateLimiter;
+		if (limiter != null)
+			limiter.update(request);
 		return this;
 	}
 
@@ -921,4 +1904,176 @@ public class GitHubClient {
 	public int getRequestLimit() {
 		return requestLimit;
 	}
+
+	/**
+	 * Get time at which the rate limit resets
+	 * <p>
+	 * This will be the value of the 'X-RateLimit-Reset' header from the last
+	 * request made
+	 *
+	 * @return seconds since the epoch or -1 if not present in the response
+	 * @since 6.2
+	 */
+	public long getRateLimitReset() {
+		return rateLimitReset;
+	}
+
+	/**
+	 * Set rate limiter deciding when requests may be sent. The limiter is
+	 * consulted before each connection is created and updated with the
+	 * headers of each response.
+	 *
+	 * @param rateLimiter
+	 *            may be null to send requests without delay
+	 * @return this client
+	 * @since 6.2
+	 */
+	public GitHubClient setRateLimiter(IRateLimiter rateLimiter) {
+		this.rateLimiter = rateLimiter;
+		return this;
+	}
+
+	/**
+	 * Get rate limiter deciding when requests may be sent
+	 *
+	 * @return rate limiter or null if none is configured
+	 * @since 6.2
+	 */
+	public IRateLimiter getRateLimiter() {
+		return rateLimiter;
+	}
+
+	/**
+	 * Set maximum time a request waits for a permit of the rate limiter.
+	 * Requests that would have to wait longer fail instead.
+	 *
+	 * @param maxWait
+	 *            milliseconds, at least 0
+	 * @return this client
+	 * @since 6.2
+	 */
+	public GitHubClient setMaxRateLimitWait(long maxWait) {
+		if (maxWait < 0)
+			throw new IllegalArgumentException(
+					"Maximum wait cannot be negative"); //$NON-NLS-1$
+		maxRateLimitWait = maxWait;
+		return this;
+	}
+
+	/**
+	 * Get maximum time a request waits for a permit of the rate limiter
+	 *
+	 * @return milliseconds
+	 * @since 6.2
+	 */
+	public long getMaxRateLimitWait() {
+		return maxRateLimitWait;
+	}
+
+	/**
+	 * Wait until the configured {@link IRateLimiter} permits sending a request
+	 *
+	 * @param uri
+	 *            of the request
+	 * @throws IOException
+	 *             if interrupted while waiting or if the wait would exceed
+	 *             {@link #getMaxRateLimitWait()}
+	 * @since 6.2
+	 */
+	protected void acquirePermit(String uri) throws IOException {
+		final IRateLimiter limiter = rateLimiter;
+		if (limiter == null)
+			return;
+		long delay = limiter.reserve(uri);
+		if (delay > maxRateLimitWait)
+			throw new IOException("Rate limit exceeded, next request permitted in " //$NON-NLS-1$
+					+ (delay + 999) / 1000 + " seconds"); //$NON-NLS-1$
+		sleep(delay);
+	}
+
+	private static void sleep(long delay) throws IOException {
+		if (delay > 0)
+			try {
+				Thread.sleep(delay);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException();
+			}
+	}
+
+	/**
+	 * Set policy deciding which failed requests are retried
+	 *
+	 * @param policy
+	 *            may be null to never retry requests
+	 * @return this client
+	 * @since 6.2
+	 */
+	public GitHubClient setRetryPolicy(RetryPolicy policy) {
+		retryPolicy = policy;
+		return this;
+	}
+
+	/**
+	 * Get policy deciding which failed requests are retried
+	 *
+	 * @return policy or null if none is configured
+	 * @since 6.2
+	 */
+	public RetryPolicy getRetryPolicy() {
+		return retryPolicy;
+	}
+
+	/**
+	 * Get number of retries made by requests through this client
+	 *
+	 * @return retry count
+	 * @since 6.2
+	 */
+	public long getRetryCount() {
+		return retryCount.get();
+	}
+
+	/**
+	 * Execute the request, retrying it according to the configured
+	 * {@link RetryPolicy} while it fails with a transient error
+	 *
+	 * @param <V>
+	 * @param method
+	 * @param uri
+	 * @param retries
+	 *            array whose first element is set to the number of retries
+	 *            made; may be null
+	 * @param request
+	 * @return result of the request
+	 * @throws IOException
+	 *             of the last attempt
+	 * @since 6.2
+	 */
+	protected <V> V executeWithRetry(String method, String uri, int[] retries,
+			IRequestCallable<V> request) throws IOException {
+		final RetryPolicy policy = retryPolicy;
+		if (policy == null || !policy.isRetryable(method, uri))
+			return request.call();
+		final long start = System.currentTimeMillis();
+		int retry = 0;
+		while (true) {
+			try {
+				return request.call();
+			} catch (IOException e) {
+				if (retry + 1 >= policy.getMaxAttempts()
+						|| !policy.isTransient(e))
+					throw e;
+				long delay = policy.getDelay(retry + 1);
+				if (System.currentTimeMillis() + delay - start > policy
+						.getDeadline())
+					throw e;
+				sleep(delay);
+				retry++;
+				retryCount.incrementAndGet();
+				if (retries != null)
+					retries[0] = retry;
+			}
+		}
+	}
 }
@@ -13,7 +13,11 @@
 package org.eclipse.egit.github.core.client;
 
 import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.egit.github.core.util.UrlUtils;
 
@@ -36,6 +40,8 @@ public class GitHubRequest {
 
 	private Type arrayType;
 
+	private Set<String> fields;
+
 	/**
 	 * Create empty request
 	 */
@@ -163,6 +169,41 @@ public class GitHubRequest {
 		return this;
 	}
 
+	/**
+	 * @return fields to decode from each resource, null to decode all fields
+	 * @since 6.2
+	 */
+	public Set<String> getFields() {
+		return fields;
+	}
+
+	/**
+	 * Set the fields to decode from each resource of the response
+	 * <p>
+	 * Models with {@link ModelAdapterFactory accessor-based adapters} skip the
+	 * values of all other fields instead of decoding them, leaving the
+	 * corresponding properties unset. The resources are the top-level JSON
+	 * value or the elements of a top-level JSON array, fields of nested models
+	 * are always decoded. The request sent is not changed.
+	 *
+	 * @param fields
+	 *            JSON field names such as {@code "number"}, none to decode
+	 *            all fields
+	 * @return this request
+	 * @since 6.2
+	 */
+	public GitHubRequest setFields(String... fields) {
+		if (fields != null && fields.length > 0) {
+			// Sorted so that equal projections have equal string forms
+			String[] sorted = fields.clone();
+			Arrays.sort(sorted);
+			this.fields = Collections.unmodifiableSet(new LinkedHashSet<>(
+					Arrays.asList(sorted)));
+		} else
+			this.fields = null;
+		return this;
+	}
+
 	@Override
 	public int hashCode() {
 		final String fullUri = generateUri();
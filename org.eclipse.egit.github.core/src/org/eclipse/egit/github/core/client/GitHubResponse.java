@@ -30,11 +30,21 @@ public class GitHubResponse {
 	 */
 	protected final Object body;
 
+	/**
+	 * Cached response that was revalidated by this response
+	 */
+	protected final CachedResponse cached;
+
 	/**
 	 * Links to other pages
 	 */
 	protected PageLinks links;
 
+	/**
+	 * Number of times the request was retried before this response
+	 */
+	protected int retries;
+
 	/**
 	 * Create response
 	 *
@@ -42,8 +52,24 @@ public class GitHubResponse {
 	 * @param body
 	 */
 	public GitHubResponse(HttpURLConnection response, Object body) {
+		this(response, body, null);
+	}
+
+	/**
+	 * Create response for a '304 Not Modified' revalidation of a cached
+	 * response. Headers not present on the given response are looked up in the
+	 * cached response.
+	 *
+	 * @param response
+	 * @param body
+	 * @param cached
+	 * @since 6.2
+	 */
+	public GitHubResponse(HttpURLConnection response, Object body,
+			CachedResponse cached) {
 		this.response = response;
 		this.body = body;
+		this.cached = cached;
 	}
 
 	/**
@@ -53,7 +79,31 @@ public class GitHubResponse {
 	 * @return value
 	 */
 	public String getHeader(String name) {
-		return response.getHeaderField(name);
+		String value = response.getHeaderField(name);
+		if (value == null && cached != null)
+			value = cached.getHeader(name);
+		return value;
+	}
+
+	/**
+	 * Was the body of this response served from a cached response?
+	 *
+	 * @return true if served from cache, false otherwise
+	 * @since 6.2
+	 */
+	public boolean isCached() {
+		return cached != null;
+	}
+
+	/**
+	 * Get number of times the request was retried before this response was
+	 * received
+	 *
+	 * @return retries, 0 if the first attempt succeeded
+	 * @since 6.2
+	 */
+	public int getRetries() {
+		return retries;
 	}
 
 	/**
@@ -21,8 +21,6 @@ import java.io.Reader;
 import java.lang.reflect.Type;
 import java.util.Date;
 
-import org.eclipse.egit.github.core.event.Event;
-
 /**
  * Gson utilities.
  */
@@ -52,7 +50,8 @@ public abstract class GsonUtils {
 	public static final Gson createGson(final boolean serializeNulls) {
 		final GsonBuilder builder = new GsonBuilder();
 		builder.registerTypeAdapter(Date.class, new DateFormatter());
-		builder.registerTypeAdapter(Event.class, new EventFormatter());
+		builder.registerTypeAdapterFactory(new EventFormatter());
+		builder.registerTypeAdapterFactory(new ModelAdapterFactory());
 		builder.setFieldNamingPolicy(LOWER_CASE_WITH_UNDERSCORES);
 		if (serializeNulls)
 			builder.serializeNulls();
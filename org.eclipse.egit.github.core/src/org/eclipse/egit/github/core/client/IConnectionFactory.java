@@ -0,0 +1,46 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.client;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.Proxy;
+import java.net.URL;
+
+/**
+ * Transport used by a {@link GitHubClient} to open connections. All requests
+ * made by a client, including those created through
+ * {@link GitHubClient#createGet(String)} and the other request methods, are
+ * opened through the factory configured on the client.
+ * <p>
+ * Implementations may return any {@link HttpURLConnection} subclass and are
+ * free to share connections and sockets between the connections they create.
+ * A single factory may be used by several clients concurrently.
+ *
+ * @since 6.2
+ */
+public interface IConnectionFactory {
+
+	/**
+	 * Create an unconnected connection to the URL
+	 *
+	 * @param url
+	 * @param proxy
+	 *            configured on the client; may be {@code null}, in which case
+	 *            the default proxy selection applies
+	 * @return connection
+	 * @throws IOException
+	 */
+	HttpURLConnection createConnection(URL url, Proxy proxy)
+			throws IOException;
+}
@@ -0,0 +1,37 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.client;
+
+/**
+ * Listener notified of the progress of a {@link RangeDownloader}
+ * <p>
+ * Listeners are called from the threads writing the downloaded bytes, at most
+ * once per buffer written, and must not block. Calls are serialized.
+ *
+ * @see RangeDownloader#setListener(IDownloadListener)
+ * @since 6.2
+ */
+public interface IDownloadListener {
+
+	/**
+	 * Bytes were written to the file
+	 *
+	 * @param received
+	 *            bytes written so far
+	 * @param length
+	 *            length of the resource or -1 if unknown
+	 * @param bytesPerSecond
+	 *            average throughput since the download started
+	 */
+	void progress(long received, long length, long bytesPerSecond);
+}
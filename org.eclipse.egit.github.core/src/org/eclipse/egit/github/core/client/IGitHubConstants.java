@@ -40,6 +40,16 @@ public interface IGitHubConstants {
 	String HEADER_NEXT = "X-Next"; //$NON-NLS-1$
 	/** */
 	String HEADER_LAST = "X-Last"; //$NON-NLS-1$
+	/** @since 6.2 */
+	String HEADER_RATE_LIMIT = "X-RateLimit-Limit"; //$NON-NLS-1$
+	/** @since 6.2 */
+	String HEADER_RATE_REMAINING = "X-RateLimit-Remaining"; //$NON-NLS-1$
+	/** @since 6.2 */
+	String HEADER_RATE_RESET = "X-RateLimit-Reset"; //$NON-NLS-1$
+	/** @since 6.2 */
+	String HEADER_RATE_RESOURCE = "X-RateLimit-Resource"; //$NON-NLS-1$
+	/** @since 6.2 */
+	String HEADER_RETRY_AFTER = "Retry-After"; //$NON-NLS-1$
 
 	/** */
 	String HOST_API = "api.github.com"; //$NON-NLS-1$
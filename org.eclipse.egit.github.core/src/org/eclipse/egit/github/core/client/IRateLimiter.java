@@ -0,0 +1,46 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.client;
+
+import java.net.HttpURLConnection;
+
+/**
+ * Scheduler deciding when a {@link GitHubClient} may send its next request so
+ * that the rate limit of the credentials in use is not exceeded. A single
+ * limiter is meant to be shared by all clients using the same credentials.
+ *
+ * @see RateLimitScheduler
+ * @since 6.2
+ */
+public interface IRateLimiter {
+
+	/**
+	 * Reserve a permit to send one request. This method does not block;
+	 * asynchronous callers can use the returned delay to schedule the request
+	 * themselves.
+	 *
+	 * @param uri
+	 *            absolute URI or path of the request, deciding which rate limit
+	 *            resource it counts against
+	 * @return number of milliseconds to wait before sending the request, 0 to
+	 *         send it immediately
+	 */
+	long reserve(String uri);
+
+	/**
+	 * Update the limiter from the status and rate limit headers of a response
+	 *
+	 * @param response
+	 */
+	void update(HttpURLConnection response);
+}
@@ -0,0 +1,50 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.client;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Request body written straight to the connection instead of being
+ * serialized to JSON.
+ * <p>
+ * Passing a body as the params of {@link GitHubClient#post(String, Object,
+ * java.lang.reflect.Type)} or {@link GitHubClient#put(String, Object,
+ * java.lang.reflect.Type)} sends it with a fixed length when its length is
+ * known and with chunked transfer encoding otherwise.
+ *
+ * @since 6.2
+ */
+public interface IRequestBody {
+
+	/**
+	 * @return value of the 'Content-Type' header of the body
+	 */
+	String getContentType();
+
+	/**
+	 * @return length of the body in bytes or -1 if unknown
+	 */
+	long getLength();
+
+	/**
+	 * Write body to the output stream of the connection. Bodies that can only
+	 * be written once throw an {@link IOException} when written again, for
+	 * example when a request is retried.
+	 *
+	 * @param output
+	 * @throws IOException
+	 */
+	void writeTo(OutputStream output) throws IOException;
+}
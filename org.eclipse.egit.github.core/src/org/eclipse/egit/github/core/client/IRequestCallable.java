@@ -0,0 +1,35 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.client;
+
+import java.io.IOException;
+
+/**
+ * Unit of work performed against the GitHub API that may be executed
+ * asynchronously through {@link GitHubClient#submit(IRequestCallable)}.
+ *
+ * @param <V>
+ *            type of the result
+ * @since 6.2
+ */
+@FunctionalInterface
+public interface IRequestCallable<V> {
+
+	/**
+	 * Perform the request
+	 *
+	 * @return result
+	 * @throws IOException
+	 */
+	V call() throws IOException;
+}
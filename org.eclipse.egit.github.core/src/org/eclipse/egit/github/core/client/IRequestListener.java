@@ -0,0 +1,34 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.client;
+
+/**
+ * Listener notified of every HTTP request made by a {@link GitHubClient}.
+ * <p>
+ * Listeners are called on the thread that made the request once its response
+ * has been read, or once the stream returned for it is closed. They must not
+ * block and exceptions they throw are ignored.
+ *
+ * @see GitHubClient#addRequestListener(IRequestListener)
+ * @see MetricsAggregator
+ * @since 6.2
+ */
+public interface IRequestListener {
+
+	/**
+	 * Request completed, successfully or not
+	 *
+	 * @param metrics
+	 */
+	void requestCompleted(RequestMetrics metrics);
+}
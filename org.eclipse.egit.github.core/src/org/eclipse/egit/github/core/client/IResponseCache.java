@@ -0,0 +1,55 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.client;
+
+/**
+ * Cache of GET responses keyed by request. Entries store the validators
+ * returned by the server ('ETag' and 'Last-Modified') so a
+ * {@link GitHubClient} can issue conditional requests and reuse the cached
+ * body when the server responds with '304 Not Modified'.
+ * <p>
+ * Implementations must be safe for use by multiple threads since a single
+ * cache may be shared by several clients.
+ *
+ * @since 6.2
+ */
+public interface IResponseCache {
+
+	/**
+	 * Get cached response for key
+	 *
+	 * @param key
+	 * @return cached response or null if not present
+	 */
+	CachedResponse get(String key);
+
+	/**
+	 * Store response for key, replacing any previously cached response
+	 *
+	 * @param key
+	 * @param response
+	 */
+	void put(String key, CachedResponse response);
+
+	/**
+	 * Remove cached response for key
+	 *
+	 * @param key
+	 */
+	void remove(String key);
+
+	/**
+	 * Remove all cached responses
+	 */
+	void clear();
+}
@@ -0,0 +1,90 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.client;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * In-memory {@link IResponseCache} that holds a bounded number of responses
+ * and evicts the least recently used response once that bound is exceeded.
+ *
+ * @since 6.2
+ */
+public class MemoryResponseCache implements IResponseCache {
+
+	/**
+	 * Default maximum number of cached responses
+	 */
+	public static final int DEFAULT_MAX_ENTRIES = 256;
+
+	private final Map<String, CachedResponse> entries;
+
+	/**
+	 * Create cache holding at most {@link #DEFAULT_MAX_ENTRIES} responses
+	 */
+	public MemoryResponseCache() {
+		this(DEFAULT_MAX_ENTRIES);
+	}
+
+	/**
+	 * Create cache holding at most the given number of responses
+	 *
+	 * @param maxEntries
+	 */
+	public MemoryResponseCache(final int maxEntries) {
+		if (maxEntries < 1)
+			throw new IllegalArgumentException(
+					"Maximum entries must be greater than zero"); //$NON-NLS-1$
+		entries = new LinkedHashMap<String, CachedResponse>(16, 0.75F, true) {
+
+			private static final long serialVersionUID = 5471839066470713367L;
+
+			@Override
+			protected boolean removeEldestEntry(
+					Entry<String, CachedResponse> eldest) {
+				return size() > maxEntries;
+			}
+		};
+	}
+
+	@Override
+	public synchronized CachedResponse get(String key) {
+		return entries.get(key);
+	}
+
+	@Override
+	public synchronized void put(String key, CachedResponse response) {
+		entries.put(key, response);
+	}
+
+	@Override
+	public synchronized void remove(String key) {
+		entries.remove(key);
+	}
+
+	@Override
+	public synchronized void clear() {
+		entries.clear();
+	}
+
+	/**
+	 * Get number of cached responses
+	 *
+	 * @return size
+	 */
+	public synchronized int size() {
+		return entries.size();
+	}
+}
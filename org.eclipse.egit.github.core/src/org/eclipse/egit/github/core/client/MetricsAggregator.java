@@ -0,0 +1,362 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.client;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Request listener aggregating metrics in memory per endpoint, identified by
+ * request method and URI template.
+ * <p>
+ * Latencies are recorded in a log-scale histogram with four buckets per power
+ * of two microseconds so percentiles are accurate to within 25% while the
+ * memory used per endpoint stays constant. Requests to new endpoints once
+ * the maximum number of endpoints is reached are aggregated under the
+ * {@link #OTHER} template so memory stays bounded as well.
+ *
+ * @see RequestMetrics#toTemplate(String)
+ * @since 6.2
+ */
+public class MetricsAggregator implements IRequestListener {
+
+	/**
+	 * Default maximum number of endpoints aggregated separately
+	 */
+	public static final int DEFAULT_MAX_ENDPOINTS = 1000;
+
+	/**
+	 * Template of the requests to endpoints beyond the maximum
+	 */
+	public static final String OTHER = "{other}"; //$NON-NLS-1$
+
+	/**
+	 * Metrics aggregated for a single endpoint
+	 */
+	public static class EndpointMetrics {
+
+		private static final int SUB_BUCKETS = 4;
+
+		private static final int BUCKETS = SUB_BUCKETS + (63 - 2) * SUB_BUCKETS;
+
+		private final String method;
+
+		private final String template;
+
+		private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+		private final AtomicLong count = new AtomicLong();
+
+		private final AtomicLong errors = new AtomicLong();
+
+		private final AtomicLong totalTime = new AtomicLong();
+
+		private final AtomicLong maxTime = new AtomicLong();
+
+		private final AtomicLong timeToFirstByte = new AtomicLong();
+
+		private final AtomicLong parseTime = new AtomicLong();
+
+		private final AtomicLong wireBytes = new AtomicLong();
+
+		private final AtomicLong decodedBytes = new AtomicLong();
+
+		/**
+		 * Create metrics for endpoint
+		 *
+		 * @param method
+		 * @param template
+		 */
+		public EndpointMetrics(String method, String template) {
+			this.method = method;
+			this.template = template;
+		}
+
+		/**
+		 * Get index of the histogram bucket holding the value
+		 *
+		 * @param micros
+		 * @return index
+		 */
+		static int getBucket(long micros) {
+			if (micros < SUB_BUCKETS)
+				return (int) Math.max(micros, 0);
+			int exponent = 63 - Long.numberOfLeadingZeros(micros);
+			int sub = (int) (micros >>> (exponent - 2)) & (SUB_BUCKETS - 1);
+			return SUB_BUCKETS + (exponent - 2) * SUB_BUCKETS + sub;
+		}
+
+		/**
+		 * Get largest value held by the histogram bucket
+		 *
+		 * @param bucket
+		 * @return microseconds
+		 */
+		static long getUpperBound(int bucket) {
+			if (bucket < SUB_BUCKETS)
+				return bucket;
+			int exponent = (bucket - SUB_BUCKETS) / SUB_BUCKETS + 2;
+			int sub = (bucket - SUB_BUCKETS) % SUB_BUCKETS;
+			long lower = (long) (SUB_BUCKETS + sub) << (exponent - 2);
+			return lower + (1L << (exponent - 2)) - 1;
+		}
+
+		/**
+		 * Add request to the metrics
+		 *
+		 * @param metrics
+		 */
+		public void add(RequestMetrics metrics) {
+			long time = Math.max(metrics.getTotalTime(), 0);
+			histogram.incrementAndGet(getBucket(TimeUnit.NANOSECONDS
+					.toMicros(time)));
+			count.incrementAndGet();
+			int status = metrics.getStatus();
+			if (metrics.getFailure() != null || status == -1 || status >= 400)
+				errors.incrementAndGet();
+			totalTime.addAndGet(time);
+			long max = maxTime.get();
+			while (time > max && !maxTime.compareAndSet(max, time))
+				max = maxTime.get();
+			if (metrics.getTimeToFirstByte() > 0)
+				timeToFirstByte.addAndGet(metrics.getTimeToFirstByte());
+			parseTime.addAndGet(metrics.getParseTime());
+			wireBytes.addAndGet(metrics.getWireBytes());
+			decodedBytes.addAndGet(metrics.getDecodedBytes());
+		}
+
+		/**
+		 * @return method
+		 */
+		public String getMethod() {
+			return method;
+		}
+
+		/**
+		 * @return uri template
+		 */
+		public String getTemplate() {
+			return template;
+		}
+
+		/**
+		 * @return number of requests
+		 */
+		public long getCount() {
+			return count.get();
+		}
+
+		/**
+		 * @return number of requests that failed or received an error status
+		 */
+		public long getErrorCount() {
+			return errors.get();
+		}
+
+		/**
+		 * @return sum of the total times of all requests in nanoseconds
+		 */
+		public long getTotalTime() {
+			return totalTime.get();
+		}
+
+		/**
+		 * @return mean total time of a request in nanoseconds
+		 */
+		public long getMeanTime() {
+			long requests = count.get();
+			return requests > 0 ? totalTime.get() / requests : 0;
+		}
+
+		/**
+		 * @return largest total time of a request in nanoseconds
+		 */
+		public long getMaxTime() {
+			return maxTime.get();
+		}
+
+		/**
+		 * @return sum of the times to first byte of all requests in
+		 *         nanoseconds
+		 */
+		public long getTimeToFirstByte() {
+			return timeToFirstByte.get();
+		}
+
+		/**
+		 * @return sum of the parse times of all requests in nanoseconds
+		 */
+		public long getParseTime() {
+			return parseTime.get();
+		}
+
+		/**
+		 * @return number of body bytes received before decoding
+		 */
+		public long getWireBytes() {
+			return wireBytes.get();
+		}
+
+		/**
+		 * @return number of body bytes read after decoding
+		 */
+		public long getDecodedBytes() {
+			return decodedBytes.get();
+		}
+
+		/**
+		 * Get total time below which the given percentage of requests
+		 * completed
+		 *
+		 * @param percentile
+		 *            between 0 and 100
+		 * @return upper bound in nanoseconds, never more than
+		 *         {@link #getMaxTime()}
+		 */
+		public long getPercentile(double percentile) {
+			if (percentile < 0 || percentile > 100)
+				throw new IllegalArgumentException(
+						"Percentile must be between 0 and 100"); //$NON-NLS-1$
+			long total = 0;
+			long[] counts = new long[BUCKETS];
+			for (int i = 0; i < BUCKETS; i++)
+				total += counts[i] = histogram.get(i);
+			if (total == 0)
+				return 0;
+			long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+			long seen = 0;
+			int bucket = 0;
+			for (; bucket < BUCKETS - 1; bucket++) {
+				seen += counts[bucket];
+				if (seen >= rank)
+					break;
+			}
+			long bound = TimeUnit.MICROSECONDS.toNanos(getUpperBound(bucket)
+					+ 1) - 1;
+			return Math.min(bound, maxTime.get());
+		}
+
+		/**
+		 * Clear all metrics
+		 */
+		public void reset() {
+			for (int i = 0; i < BUCKETS; i++)
+				histogram.set(i, 0);
+			count.set(0);
+			errors.set(0);
+			totalTime.set(0);
+			maxTime.set(0);
+			timeToFirstByte.set(0);
+			parseTime.set(0);
+			wireBytes.set(0);
+			decodedBytes.set(0);
+		}
+
+		@Override
+		public String toString() {
+			return method + ' ' + template + " count=" + getCount() //$NON-NLS-1$
+					+ " errors=" + getErrorCount() + " p50=" //$NON-NLS-1$ //$NON-NLS-2$
+					+ TimeUnit.NANOSECONDS.toMillis(getPercentile(50))
+					+ "ms p99=" //$NON-NLS-1$
+					+ TimeUnit.NANOSECONDS.toMillis(getPercentile(99))
+					+ "ms max=" //$NON-NLS-1$
+					+ TimeUnit.NANOSECONDS.toMillis(getMaxTime()) + "ms"; //$NON-NLS-1$
+		}
+	}
+
+	private final ConcurrentMap<String, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+
+	private final int maxEndpoints;
+
+	/**
+	 * Create aggregator for at most {@link #DEFAULT_MAX_ENDPOINTS} endpoints
+	 */
+	public MetricsAggregator() {
+		this(DEFAULT_MAX_ENDPOINTS);
+	}
+
+	/**
+	 * Create aggregator
+	 *
+	 * @param maxEndpoints
+	 *            maximum number of endpoints aggregated separately, not
+	 *            counting those aggregated under {@link #OTHER}
+	 */
+	public MetricsAggregator(int maxEndpoints) {
+		if (maxEndpoints < 1)
+			throw new IllegalArgumentException(
+					"Maximum endpoints must be positive"); //$NON-NLS-1$
+		this.maxEndpoints = maxEndpoints;
+	}
+
+	@Override
+	public void requestCompleted(RequestMetrics metrics) {
+		String method = metrics.getMethod();
+		String template = metrics.getTemplate();
+		String key = method + ' ' + template;
+		EndpointMetrics endpoint = endpoints.get(key);
+		if (endpoint == null && endpoints.size() >= maxEndpoints) {
+			template = OTHER;
+			key = method + ' ' + template;
+			endpoint = endpoints.get(key);
+		}
+		if (endpoint == null) {
+			endpoint = new EndpointMetrics(method, template);
+			EndpointMetrics existing = endpoints.putIfAbsent(key, endpoint);
+			if (existing != null)
+				endpoint = existing;
+		}
+		endpoint.add(metrics);
+	}
+
+	/**
+	 * Get metrics of the endpoint
+	 *
+	 * @param method
+	 * @param template
+	 * @return metrics or null if no request was made to the endpoint
+	 */
+	public EndpointMetrics getEndpoint(String method, String template) {
+		return endpoints.get(method + ' ' + template);
+	}
+
+	/**
+	 * Get metrics of all endpoints requests were made to
+	 *
+	 * @return unmodifiable map of 'method template' to metrics, sorted by key
+	 */
+	public Map<String, EndpointMetrics> getEndpoints() {
+		return Collections.unmodifiableMap(new TreeMap<>(endpoints));
+	}
+
+	/**
+	 * Clear the metrics of all endpoints
+	 */
+	public void reset() {
+		endpoints.clear();
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		for (EndpointMetrics endpoint : getEndpoints().values())
+			builder.append(endpoint).append('\n');
+		return builder.toString();
+	}
+}
@@ -0,0 +1,578 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.client;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+
+import org.eclipse.egit.github.core.Comment;
+import org.eclipse.egit.github.core.Commit;
+import org.eclipse.egit.github.core.CommitComment;
+import org.eclipse.egit.github.core.CommitFile;
+import org.eclipse.egit.github.core.CommitStats;
+import org.eclipse.egit.github.core.CommitUser;
+import org.eclipse.egit.github.core.Issue;
+import org.eclipse.egit.github.core.IssueComment;
+import org.eclipse.egit.github.core.Label;
+import org.eclipse.egit.github.core.Milestone;
+import org.eclipse.egit.github.core.PullRequest;
+import org.eclipse.egit.github.core.PullRequestMarker;
+import org.eclipse.egit.github.core.Repository;
+import org.eclipse.egit.github.core.RepositoryCommit;
+import org.eclipse.egit.github.core.RepositoryIssue;
+import org.eclipse.egit.github.core.Tree;
+import org.eclipse.egit.github.core.TreeEntry;
+import org.eclipse.egit.github.core.User;
+import org.eclipse.egit.github.core.UserPlan;
+
+/**
+ * Factory of adapters reading the core model classes through their setters
+ * instead of reflection.
+ * <p>
+ * The adapters read the same JSON field names the reflective adapter derives
+ * with {@link com.google.gson.FieldNamingPolicy#LOWER_CASE_WITH_UNDERSCORES},
+ * so this factory must only be registered together with that policy. Writing
+ * is delegated to the adapter Gson would otherwise use, which is only created
+ * once a model is first written.
+ * <p>
+ * Models read as the top-level JSON value, or as elements of a top-level JSON
+ * array, from the response of a request with
+ * {@link GitHubRequest#setFields(String...) fields} only decode these fields
+ * and skip all others.
+ *
+ * @see GsonUtils#createGson(boolean)
+ * @since 6.2
+ */
+public class ModelAdapterFactory implements TypeAdapterFactory {
+
+	/**
+	 * Reader of a single property into a model
+	 *
+	 * @param <T>
+	 */
+	private interface Property<T> {
+
+		void read(JsonReader in, T model) throws IOException;
+	}
+
+	/**
+	 * Setter of a boolean property
+	 *
+	 * @param <T>
+	 */
+	private interface BooleanSetter<T> {
+
+		void set(T model, boolean value);
+	}
+
+	/**
+	 * Adapter reading a model property by property
+	 *
+	 * @param <T>
+	 */
+	private static class ModelAdapter<T> extends TypeAdapter<T> {
+
+		private final Map<String, Property<T>> properties = new HashMap<>();
+
+		private final Gson gson;
+
+		private final TypeAdapterFactory factory;
+
+		private final Class<T> type;
+
+		private final Supplier<T> constructor;
+
+		private volatile TypeAdapter<T> delegate;
+
+		ModelAdapter(Gson gson, TypeAdapterFactory factory, Class<T> type,
+				Supplier<T> constructor) {
+			this.gson = gson;
+			this.factory = factory;
+			this.type = type;
+			this.constructor = constructor;
+		}
+
+		ModelAdapter<T> string(String name, BiConsumer<T, String> setter) {
+			properties.put(name, (in, model) -> {
+				switch (in.peek()) {
+				case NULL:
+					in.nextNull();
+					setter.accept(model, null);
+					break;
+				case BOOLEAN:
+					setter.accept(model, Boolean.toString(in.nextBoolean()));
+					break;
+				default:
+					setter.accept(model, in.nextString());
+				}
+			});
+			return this;
+		}
+
+		ModelAdapter<T> date(String name, String field) {
+			return field(name, Date.class, field);
+		}
+
+		ModelAdapter<T> intValue(String name, ObjIntConsumer<T> setter) {
+			properties.put(name, (in, model) -> {
+				if (in.peek() == JsonToken.NULL)
+					in.nextNull();
+				else
+					try {
+						setter.accept(model, in.nextInt());
+					} catch (NumberFormatException e) {
+						throw new JsonSyntaxException(e);
+					}
+			});
+			return this;
+		}
+
+		ModelAdapter<T> longValue(String name, ObjLongConsumer<T> setter) {
+			properties.put(name, (in, model) -> {
+				if (in.peek() == JsonToken.NULL)
+					in.nextNull();
+				else
+					try {
+						setter.accept(model, in.nextLong());
+					} catch (NumberFormatException e) {
+						throw new JsonSyntaxException(e);
+					}
+			});
+			return this;
+		}
+
+		ModelAdapter<T> booleanValue(String name, BooleanSetter<T> setter) {
+			final TypeAdapter<Boolean> adapter = gson.getAdapter(Boolean.class);
+			properties.put(name, (in, model) -> {
+				Boolean value = adapter.read(in);
+				if (value != null)
+					setter.set(model, value.booleanValue());
+			});
+			return this;
+		}
+
+		<V> ModelAdapter<T> object(String name, Class<V> valueType,
+				BiConsumer<T, V> setter) {
+			final TypeAdapter<V> adapter = gson.getAdapter(valueType);
+			properties.put(name,
+					(in, model) -> setter.accept(model, adapter.read(in)));
+			return this;
+		}
+
+		ModelAdapter<T> list(String name, Class<?> elementType, String field) {
+			return field(name,
+					TypeToken.getParameterized(List.class, elementType)
+							.getType(), field);
+		}
+
+		/**
+		 * Bind the property to a field of the model, assigned directly like by
+		 * the reflective adapter so that setters copying dates and lists are
+		 * bypassed
+		 *
+		 * @param name
+		 * @param valueType
+		 * @param field
+		 * @return this adapter
+		 */
+		ModelAdapter<T> field(String name, Type valueType, String field) {
+			final TypeAdapter<?> adapter = gson
+					.getAdapter(TypeToken.get(valueType));
+			final Field target = getField(type, field);
+			properties.put(name, (in, model) -> {
+				Object value = adapter.read(in);
+				try {
+					target.set(model, value);
+				} catch (IllegalAccessException e) {
+					throw new AssertionError(e);
+				}
+			});
+			return this;
+		}
+
+		private static Field getField(Class<?> type, String name) {
+			for (Class<?> current = type; current != null; current = current
+					.getSuperclass())
+				try {
+					Field field = current.getDeclaredField(name);
+					field.setAccessible(true);
+					return field;
+				} catch (NoSuchFieldException e) {
+					// Continue with super class
+				}
+			throw new IllegalArgumentException(
+					"No field " + name + " in " + type.getName()); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+
+		/**
+		 * Read property into the model
+		 *
+		 * @param in
+		 * @param name
+		 * @param model
+		 * @throws IOException
+		 */
+		protected void readProperty(JsonReader in, String name, T model)
+				throws IOException {
+			final Property<T> property = properties.get(name);
+			if (property != null)
+				property.read(in, model);
+			else
+				in.skipValue();
+		}
+
+		@Override
+		public T read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+			final T model = constructor.get();
+			final Set<String> fields = ProjectingJsonReader.getFields(in);
+			in.beginObject();
+			while (in.hasNext()) {
+				String name = in.nextName();
+				if (fields == null || fields.contains(name))
+					readProperty(in, name, model);
+				else
+					in.skipValue();
+			}
+			in.endObject();
+			return model;
+		}
+
+		@Override
+		public void write(JsonWriter out, T value) throws IOException {
+			TypeAdapter<T> writer = delegate;
+			if (writer == null) {
+				writer = gson.getDelegateAdapter(factory, TypeToken.get(type));
+				delegate = writer;
+			}
+			writer.write(out, value);
+		}
+	}
+
+	/**
+	 * Adapter of repositories resolving the legacy 'watchers' field the way
+	 * {@link Repository#getWatchers()} does
+	 */
+	private static class RepositoryAdapter extends ModelAdapter<Repository> {
+
+		private final TypeAdapter<Integer> ints;
+
+		RepositoryAdapter(Gson gson, TypeAdapterFactory factory) {
+			super(gson, factory, Repository.class, Repository::new);
+			ints = gson.getAdapter(Integer.class);
+		}
+
+		@Override
+		public Repository read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+			final Repository repository = new Repository();
+			Integer watchers = null;
+			Integer subscribers = null;
+			final Set<String> fields = ProjectingJsonReader.getFields(in);
+			in.beginObject();
+			while (in.hasNext()) {
+				String name = in.nextName();
+				if (fields != null && !fields.contains(name))
+					in.skipValue();
+				else if ("watchers".equals(name)) //$NON-NLS-1$
+					watchers = ints.read(in);
+				else if ("subscribers_count".equals(name)) //$NON-NLS-1$
+					subscribers = ints.read(in);
+				else
+					readProperty(in, name, repository);
+			}
+			in.endObject();
+			if (subscribers != null && subscribers.intValue() >= 0)
+				repository.setWatchers(subscribers.intValue());
+			else if (watchers != null)
+				repository.setWatchers(watchers.intValue());
+			return repository;
+		}
+	}
+
+	private static <T extends Comment> ModelAdapter<T> comment(
+			ModelAdapter<T> adapter) {
+		return adapter
+				.date("created_at", "createdAt") //$NON-NLS-1$ //$NON-NLS-2$
+				.date("updated_at", "updatedAt") //$NON-NLS-1$ //$NON-NLS-2$
+				.string("body", Comment::setBody) //$NON-NLS-1$
+				.string("body_html", Comment::setBodyHtml) //$NON-NLS-1$
+				.string("body_text", Comment::setBodyText) //$NON-NLS-1$
+				.longValue("id", Comment::setId) //$NON-NLS-1$
+				.string("url", Comment::setUrl) //$NON-NLS-1$
+				.object("user", User.class, Comment::setUser); //$NON-NLS-1$
+	}
+
+	private static <T extends Issue> ModelAdapter<T> issue(
+			ModelAdapter<T> adapter) {
+		return adapter
+				.longValue("id", Issue::setId) //$NON-NLS-1$
+				.date("closed_at", "closedAt") //$NON-NLS-1$ //$NON-NLS-2$
+				.date("created_at", "createdAt") //$NON-NLS-1$ //$NON-NLS-2$
+				.date("updated_at", "updatedAt") //$NON-NLS-1$ //$NON-NLS-2$
+				.intValue("comments", Issue::setComments) //$NON-NLS-1$
+				.intValue("number", Issue::setNumber) //$NON-NLS-1$
+				.list("labels", Label.class, "labels") //$NON-NLS-1$ //$NON-NLS-2$
+				.object("milestone", Milestone.class, Issue::setMilestone) //$NON-NLS-1$
+				.object("pull_request", //$NON-NLS-1$
+						PullRequest.class, Issue::setPullRequest)
+				.string("body", Issue::setBody) //$NON-NLS-1$
+				.string("body_html", Issue::setBodyHtml) //$NON-NLS-1$
+				.string("body_text", Issue::setBodyText) //$NON-NLS-1$
+				.string("html_url", Issue::setHtmlUrl) //$NON-NLS-1$
+				.string("state", Issue::setState) //$NON-NLS-1$
+				.string("title", Issue::setTitle) //$NON-NLS-1$
+				.string("url", Issue::setUrl) //$NON-NLS-1$
+				.object("assignee", User.class, Issue::setAssignee) //$NON-NLS-1$
+				.object("user", User.class, Issue::setUser) //$NON-NLS-1$
+				.object("closed_by", User.class, Issue::setClosedBy); //$NON-NLS-1$
+	}
+
+	private final Map<Class<?>, Function<Gson, TypeAdapter<?>>> adapters = new HashMap<>();
+
+	/**
+	 * Create factory
+	 */
+	public ModelAdapterFactory() {
+		register(Commit.class, Commit::new, adapter -> adapter
+				.object("author", CommitUser.class, Commit::setAuthor) //$NON-NLS-1$
+				.object("committer", CommitUser.class, Commit::setCommitter) //$NON-NLS-1$
+				.intValue("comment_count", Commit::setCommentCount) //$NON-NLS-1$
+				.list("parents", Commit.class, "parents") //$NON-NLS-1$ //$NON-NLS-2$
+				.string("message", Commit::setMessage) //$NON-NLS-1$
+				.string("sha", Commit::setSha) //$NON-NLS-1$
+				.string("url", Commit::setUrl) //$NON-NLS-1$
+				.object("tree", Tree.class, Commit::setTree)); //$NON-NLS-1$
+		register(CommitComment.class, CommitComment::new,
+				adapter -> comment(adapter)
+				.intValue("line", CommitComment::setLine) //$NON-NLS-1$
+				.intValue("position", CommitComment::setPosition) //$NON-NLS-1$
+				.intValue("original_position", //$NON-NLS-1$
+						CommitComment::setOriginalPosition)
+				.string("commit_id", CommitComment::setCommitId) //$NON-NLS-1$
+				.string("original_commit_id", //$NON-NLS-1$
+						CommitComment::setOriginalCommitId)
+				.string("path", CommitComment::setPath) //$NON-NLS-1$
+				.string("diff_hunk", CommitComment::setDiffHunk)); //$NON-NLS-1$
+		register(IssueComment.class, IssueComment::new,
+				adapter -> comment(adapter)
+				.string("issue_url", IssueComment::setIssueUrl)); //$NON-NLS-1$
+		register(CommitFile.class, CommitFile::new, adapter -> adapter
+				.intValue("additions", CommitFile::setAdditions) //$NON-NLS-1$
+				.intValue("changes", CommitFile::setChanges) //$NON-NLS-1$
+				.intValue("deletions", CommitFile::setDeletions) //$NON-NLS-1$
+				.string("blob_url", CommitFile::setBlobUrl) //$NON-NLS-1$
+				.string("filename", CommitFile::setFilename) //$NON-NLS-1$
+				.string("patch", CommitFile::setPatch) //$NON-NLS-1$
+				.string("raw_url", CommitFile::setRawUrl) //$NON-NLS-1$
+				.string("sha", CommitFile::setSha) //$NON-NLS-1$
+				.string("status", CommitFile::setStatus)); //$NON-NLS-1$
+		register(CommitStats.class, CommitStats::new, adapter -> adapter
+				.intValue("additions", CommitStats::setAdditions) //$NON-NLS-1$
+				.intValue("deletions", CommitStats::setDeletions) //$NON-NLS-1$
+				.intValue("total", CommitStats::setTotal)); //$NON-NLS-1$
+		register(CommitUser.class, CommitUser::new, adapter -> adapter
+				.date("date", "date") //$NON-NLS-1$ //$NON-NLS-2$
+				.string("email", CommitUser::setEmail) //$NON-NLS-1$
+				.string("name", CommitUser::setName)); //$NON-NLS-1$
+		register(Issue.class, Issue::new,
+				adapter -> issue(adapter));
+		register(Label.class, Label::new, adapter -> adapter
+				.string("color", Label::setColor) //$NON-NLS-1$
+				.string("name", Label::setName) //$NON-NLS-1$
+				.string("url", Label::setUrl)); //$NON-NLS-1$
+		register(Milestone.class, Milestone::new, adapter -> adapter
+				.date("created_at", "createdAt") //$NON-NLS-1$ //$NON-NLS-2$
+				.date("due_on", "dueOn") //$NON-NLS-1$ //$NON-NLS-2$
+				.intValue("closed_issues", Milestone::setClosedIssues) //$NON-NLS-1$
+				.intValue("number", Milestone::setNumber) //$NON-NLS-1$
+				.intValue("open_issues", Milestone::setOpenIssues) //$NON-NLS-1$
+				.string("description", Milestone::setDescription) //$NON-NLS-1$
+				.string("state", Milestone::setState) //$NON-NLS-1$
+				.string("title", Milestone::setTitle) //$NON-NLS-1$
+				.string("url", Milestone::setUrl) //$NON-NLS-1$
+				.object("creator", User.class, Milestone::setCreator)); //$NON-NLS-1$
+		register(PullRequest.class, PullRequest::new, adapter -> adapter
+				.object("mergeable", Boolean.class, PullRequest::setMergeable) //$NON-NLS-1$
+				.string("mergeable_state", PullRequest::setMergeableState) //$NON-NLS-1$
+				.booleanValue("merged", PullRequest::setMerged) //$NON-NLS-1$
+				.date("closed_at", "closedAt") //$NON-NLS-1$ //$NON-NLS-2$
+				.date("merged_at", "mergedAt") //$NON-NLS-1$ //$NON-NLS-2$
+				.date("updated_at", "updatedAt") //$NON-NLS-1$ //$NON-NLS-2$
+				.date("created_at", "createdAt") //$NON-NLS-1$ //$NON-NLS-2$
+				.longValue("id", PullRequest::setId) //$NON-NLS-1$
+				.intValue("additions", PullRequest::setAdditions) //$NON-NLS-1$
+				.intValue("changed_files", PullRequest::setChangedFiles) //$NON-NLS-1$
+				.intValue("comments", PullRequest::setComments) //$NON-NLS-1$
+				.intValue("review_comments", PullRequest::setReviewComments) //$NON-NLS-1$
+				.intValue("commits", PullRequest::setCommits) //$NON-NLS-1$
+				.intValue("deletions", PullRequest::setDeletions) //$NON-NLS-1$
+				.intValue("number", PullRequest::setNumber) //$NON-NLS-1$
+				.object("milestone", Milestone.class, PullRequest::setMilestone) //$NON-NLS-1$
+				.object("base", PullRequestMarker.class, PullRequest::setBase) //$NON-NLS-1$
+				.object("head", PullRequestMarker.class, PullRequest::setHead) //$NON-NLS-1$
+				.string("body", PullRequest::setBody) //$NON-NLS-1$
+				.string("body_html", PullRequest::setBodyHtml) //$NON-NLS-1$
+				.string("body_text", PullRequest::setBodyText) //$NON-NLS-1$
+				.string("diff_url", PullRequest::setDiffUrl) //$NON-NLS-1$
+				.string("html_url", PullRequest::setHtmlUrl) //$NON-NLS-1$
+				.string("issue_url", PullRequest::setIssueUrl) //$NON-NLS-1$
+				.string("patch_url", PullRequest::setPatchUrl) //$NON-NLS-1$
+				.string("state", PullRequest::setState) //$NON-NLS-1$
+				.string("title", PullRequest::setTitle) //$NON-NLS-1$
+				.string("url", PullRequest::setUrl) //$NON-NLS-1$
+				.object("assignee", User.class, PullRequest::setAssignee) //$NON-NLS-1$
+				.object("merged_by", User.class, PullRequest::setMergedBy) //$NON-NLS-1$
+				.object("user", User.class, PullRequest::setUser) //$NON-NLS-1$
+				.list("assignees", User.class, "assignees")); //$NON-NLS-1$ //$NON-NLS-2$
+		register(PullRequestMarker.class, PullRequestMarker::new,
+				adapter -> adapter
+				.object("repo", Repository.class, PullRequestMarker::setRepo) //$NON-NLS-1$
+				.string("label", PullRequestMarker::setLabel) //$NON-NLS-1$
+				.string("ref", PullRequestMarker::setRef) //$NON-NLS-1$
+				.string("sha", PullRequestMarker::setSha) //$NON-NLS-1$
+				.object("user", User.class, PullRequestMarker::setUser)); //$NON-NLS-1$
+		adapters.put(Repository.class,
+				gson -> new RepositoryAdapter(gson, this)
+				.booleanValue("fork", Repository::setFork) //$NON-NLS-1$
+				.booleanValue("has_downloads", Repository::setHasDownloads) //$NON-NLS-1$
+				.booleanValue("has_issues", Repository::setHasIssues) //$NON-NLS-1$
+				.booleanValue("has_wiki", Repository::setHasWiki) //$NON-NLS-1$
+				.booleanValue("private", Repository::setPrivate) //$NON-NLS-1$
+				.date("created_at", "createdAt") //$NON-NLS-1$ //$NON-NLS-2$
+				.date("pushed_at", "pushedAt") //$NON-NLS-1$ //$NON-NLS-2$
+				.date("updated_at", "updatedAt") //$NON-NLS-1$ //$NON-NLS-2$
+				.intValue("forks", Repository::setForks) //$NON-NLS-1$
+				.longValue("id", Repository::setId) //$NON-NLS-1$
+				.intValue("open_issues", Repository::setOpenIssues) //$NON-NLS-1$
+				.intValue("size", Repository::setSize) //$NON-NLS-1$
+				.intValue("stargazers_count", Repository::setStars) //$NON-NLS-1$
+				.object("parent", Repository.class, Repository::setParent) //$NON-NLS-1$
+				.object("source", Repository.class, Repository::setSource) //$NON-NLS-1$
+				.string("clone_url", Repository::setCloneUrl) //$NON-NLS-1$
+				.string("description", Repository::setDescription) //$NON-NLS-1$
+				.string("homepage", Repository::setHomepage) //$NON-NLS-1$
+				.string("git_url", Repository::setGitUrl) //$NON-NLS-1$
+				.string("html_url", Repository::setHtmlUrl) //$NON-NLS-1$
+				.string("language", Repository::setLanguage) //$NON-NLS-1$
+				.string("default_branch", Repository::setDefaultBranch) //$NON-NLS-1$
+				.string("mirror_url", Repository::setMirrorUrl) //$NON-NLS-1$
+				.string("name", Repository::setName) //$NON-NLS-1$
+				.string("ssh_url", Repository::setSshUrl) //$NON-NLS-1$
+				.string("svn_url", Repository::setSvnUrl) //$NON-NLS-1$
+				.string("url", Repository::setUrl) //$NON-NLS-1$
+				.object("owner", User.class, Repository::setOwner)); //$NON-NLS-1$
+		register(RepositoryCommit.class, RepositoryCommit::new,
+				adapter -> adapter
+				.object("commit", Commit.class, RepositoryCommit::setCommit) //$NON-NLS-1$
+				.object("stats", CommitStats.class, RepositoryCommit::setStats) //$NON-NLS-1$
+				.list("parents", Commit.class, "parents") //$NON-NLS-1$ //$NON-NLS-2$
+				.list("files", CommitFile.class, "files") //$NON-NLS-1$ //$NON-NLS-2$
+				.string("sha", RepositoryCommit::setSha) //$NON-NLS-1$
+				.string("url", RepositoryCommit::setUrl) //$NON-NLS-1$
+				.object("author", User.class, RepositoryCommit::setAuthor) //$NON-NLS-1$
+				.object("committer", User.class, //$NON-NLS-1$
+						RepositoryCommit::setCommitter));
+		register(RepositoryIssue.class, RepositoryIssue::new,
+				adapter -> issue(adapter)
+				.object("repository", Repository.class, //$NON-NLS-1$
+						RepositoryIssue::setRepository));
+		register(Tree.class, Tree::new, adapter -> adapter
+				.list("tree", TreeEntry.class, "tree") //$NON-NLS-1$ //$NON-NLS-2$
+				.string("sha", Tree::setSha) //$NON-NLS-1$
+				.string("url", Tree::setUrl)); //$NON-NLS-1$
+		register(TreeEntry.class, TreeEntry::new, adapter -> adapter
+				.longValue("size", TreeEntry::setSize) //$NON-NLS-1$
+				.string("mode", TreeEntry::setMode) //$NON-NLS-1$
+				.string("path", TreeEntry::setPath) //$NON-NLS-1$
+				.string("sha", TreeEntry::setSha) //$NON-NLS-1$
+				.string("type", TreeEntry::setType) //$NON-NLS-1$
+				.string("url", TreeEntry::setUrl)); //$NON-NLS-1$
+		register(User.class, User::new, adapter -> adapter
+				.booleanValue("hireable", User::setHireable) //$NON-NLS-1$
+				.date("created_at", "createdAt") //$NON-NLS-1$ //$NON-NLS-2$
+				.intValue("collaborators", User::setCollaborators) //$NON-NLS-1$
+				.intValue("disk_usage", User::setDiskUsage) //$NON-NLS-1$
+				.intValue("followers", User::setFollowers) //$NON-NLS-1$
+				.intValue("following", User::setFollowing) //$NON-NLS-1$
+				.intValue("id", User::setId) //$NON-NLS-1$
+				.intValue("owned_private_repos", User::setOwnedPrivateRepos) //$NON-NLS-1$
+				.intValue("private_gists", User::setPrivateGists) //$NON-NLS-1$
+				.intValue("public_gists", User::setPublicGists) //$NON-NLS-1$
+				.intValue("public_repos", User::setPublicRepos) //$NON-NLS-1$
+				.intValue("total_private_repos", User::setTotalPrivateRepos) //$NON-NLS-1$
+				.string("avatar_url", User::setAvatarUrl) //$NON-NLS-1$
+				.string("bio", User::setBio) //$NON-NLS-1$
+				.string("blog", User::setBlog) //$NON-NLS-1$
+				.string("company", User::setCompany) //$NON-NLS-1$
+				.string("email", User::setEmail) //$NON-NLS-1$
+				.field("gravatar_id", String.class, "gravatarId") //$NON-NLS-1$ //$NON-NLS-2$
+				.string("html_url", User::setHtmlUrl) //$NON-NLS-1$
+				.string("location", User::setLocation) //$NON-NLS-1$
+				.string("login", User::setLogin) //$NON-NLS-1$
+				.string("name", User::setName) //$NON-NLS-1$
+				.string("type", User::setType) //$NON-NLS-1$
+				.string("url", User::setUrl) //$NON-NLS-1$
+				.object("plan", UserPlan.class, User::setPlan)); //$NON-NLS-1$
+		register(UserPlan.class, UserPlan::new, adapter -> adapter
+				.longValue("collaborators", UserPlan::setCollaborators) //$NON-NLS-1$
+				.longValue("private_repos", UserPlan::setPrivateRepos) //$NON-NLS-1$
+				.longValue("space", UserPlan::setSpace) //$NON-NLS-1$
+				.string("name", UserPlan::setName)); //$NON-NLS-1$
+	}
+
+	private <T> void register(Class<T> type, Supplier<T> constructor,
+			Consumer<ModelAdapter<T>> properties) {
+		adapters.put(type, gson -> {
+			ModelAdapter<T> adapter = new ModelAdapter<>(gson, this, type,
+					constructor);
+			properties.accept(adapter);
+			return adapter;
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+		final Function<Gson, TypeAdapter<?>> adapter = adapters.get(type
+				.getType());
+		return adapter != null ? (TypeAdapter<T>) adapter.apply(gson) : null;
+	}
+}
@@ -15,6 +15,7 @@ package org.eclipse.egit.github.core.client;
 import static org.eclipse.egit.github.core.client.IGitHubConstants.PARAM_PAGE;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -23,6 +24,9 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.eclipse.egit.github.core.IResourceProvider;
 import org.eclipse.egit.github.core.util.UrlUtils;
@@ -158,8 +162,112 @@ public class PageIterator<V> implements Iterator<Collection<V>>,
 		throw new UnsupportedOperationException("Remove not supported"); //$NON-NLS-1$
 	}
 
-	@Override
+	/**
+	 * Get resources contained in the body of a page response
+	 *
+	 * @param response
+	 * @return non-null collection of resources
+	 * @since 6.2
+	 */
 	@SuppressWarnings("unchecked")
+	protected Collection<V> getResources(GitHubResponse response) {
+		Collection<V> resources = null;
+		Object body = response.getBody();
+		if (body != null)
+			if (body instanceof Collection)
+				resources = (Collection<V>) body;
+			else if (body instanceof IResourceProvider)
+				resources = ((IResourceProvider<V>) body).getResources();
+			else
+				resources = (Collection<V>) Collections.singletonList(body);
+		if (resources == null)
+			resources = Collections.emptyList();
+		return resources;
+	}
+
+	/**
+	 * Convert a page URI returned in a response to the URI of a request
+	 *
+	 * @param uri
+	 * @return request URI
+	 * @since 6.2
+	 */
+	protected String toRequestUri(String uri) {
+		return getRequestUri(uri);
+	}
+
+	/**
+	 * Convert a page URI returned in a response to the URI of a request by
+	 * stripping the scheme and host of absolute URIs
+	 *
+	 * @param uri
+	 * @return request URI
+	 */
+	static String getRequestUri(String uri) {
+		try {
+			return new URL(uri).getFile();
+		} catch (MalformedURLException e) {
+			return uri;
+		}
+	}
+
+	/**
+	 * Create request for the page at a URI returned in a response
+	 *
+	 * @param uri
+	 * @return request
+	 * @since 6.2
+	 */
+	protected GitHubRequest createPageRequest(String uri) {
+		GitHubRequest pageRequest = new GitHubRequest()
+				.setUri(toRequestUri(uri)).setType(request.getType())
+				.setArrayType(request.getArrayType())
+				.setResponseContentType(request.getResponseContentType());
+		Set<String> fields = request.getFields();
+		if (fields != null)
+			pageRequest.setFields(fields.toArray(new String[fields.size()]));
+		return pageRequest;
+	}
+
+	/**
+	 * Stop iterating. Subclasses fetching pages in the background cancel all
+	 * pages that were requested but not yet returned.
+	 *
+	 * @since 6.2
+	 */
+	public void cancel() {
+		nextPage = -1;
+		next = null;
+	}
+
+	/**
+	 * Wait for a page requested in the background. All outstanding pages are
+	 * cancelled if the page could not be fetched.
+	 *
+	 * @param page
+	 * @return response
+	 * @throws NoSuchPageException
+	 * @since 6.2
+	 */
+	protected GitHubResponse await(Future<GitHubResponse> page) {
+		try {
+			return page.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			cancel();
+			throw new NoSuchPageException(new InterruptedIOException());
+		} catch (ExecutionException e) {
+			cancel();
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException)
+				throw new NoSuchPageException((IOException) cause);
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			throw new NoSuchPageException(new IOException(cause));
+		}
+	}
+
+	@Override
 	public Collection<V> next() {
 		if (!hasNext())
 			throw new NoSuchElementException();
@@ -167,11 +275,7 @@ public class PageIterator<V> implements Iterator<Collection<V>>,
 			if (nextPage < 1)
 				request.setUri(next);
 			else
-				try {
-					request.setUri(new URL(next).getFile());
-				} catch (MalformedURLException e) {
-					request.setUri(next);
-				}
+				request.setUri(toRequestUri(next));
 
 		GitHubResponse response;
 		try {
@@ -179,17 +283,7 @@ public class PageIterator<V> implements Iterator<Collection<V>>,
 		} catch (IOException e) {
 			throw new NoSuchPageException(e);
 		}
-		Collection<V> resources = null;
-		Object body = response.getBody();
-		if (body != null)
-			if (body instanceof Collection)
-				resources = (Collection<V>) body;
-			else if (body instanceof IResourceProvider)
-				resources = ((IResourceProvider<V>) body).getResources();
-			else
-				resources = (Collection<V>) Collections.singletonList(body);
-		if (resources == null)
-			resources = Collections.emptyList();
+		Collection<V> resources = getResources(response);
 		nextPage++;
 		next = response.getNext();
 		nextPage = parsePageNumber(next);
@@ -0,0 +1,180 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.client;
+
+import static org.eclipse.egit.github.core.client.IGitHubConstants.PARAM_PAGE;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Page iterator that fetches pages concurrently once the number of the last
+ * page is known.
+ * <p>
+ * The first page is fetched like by a {@link PageIterator}. If its response
+ * links to the last page, the URIs of the remaining pages are generated from
+ * that link and up to a fixed number of pages are requested concurrently
+ * through {@link GitHubClient#getAsync(GitHubRequest)}. Pages are still
+ * returned by {@link #next()} in order.
+ * <p>
+ * Pages are fetched one at a time on the calling thread when iterating from
+ * a callable run by {@link GitHubClient#submit(IRequestCallable)}, since
+ * waiting there on pages queued on the same executor could block it
+ * indefinitely.
+ * <p>
+ * The set of pages is fixed by the first response; resources added while
+ * iterating may therefore shift between pages or be missed, just as when
+ * iterating sequentially.
+ *
+ * @param <V>
+ * @since 6.2
+ */
+public class ParallelPageIterator<V> extends PageIterator<V> {
+
+	/**
+	 * Default maximum number of pages fetched concurrently
+	 */
+	public static final int DEFAULT_WINDOW = 4;
+
+	private static final Pattern PAGE_PARAM = Pattern.compile("([?&]" //$NON-NLS-1$
+			+ PARAM_PAGE + "=)\\d+"); //$NON-NLS-1$
+
+	private final int window;
+
+	private final LinkedList<CompletableFuture<GitHubResponse>> pending = new LinkedList<>();
+
+	private boolean parallel;
+
+	private int scheduled;
+
+	/**
+	 * Create page iterator fetching at most {@link #DEFAULT_WINDOW} pages
+	 * concurrently
+	 *
+	 * @param request
+	 * @param client
+	 */
+	public ParallelPageIterator(PagedRequest<V> request, GitHubClient client) {
+		this(request, client, DEFAULT_WINDOW);
+	}
+
+	/**
+	 * Create page iterator fetching at most the given number of pages
+	 * concurrently
+	 *
+	 * @param request
+	 * @param client
+	 * @param window
+	 */
+	public ParallelPageIterator(PagedRequest<V> request, GitHubClient client,
+			int window) {
+		super(request, client);
+		if (window < 1)
+			throw new IllegalArgumentException(
+					"Window must be greater than zero"); //$NON-NLS-1$
+		this.window = window;
+	}
+
+	/**
+	 * Get maximum number of pages fetched concurrently
+	 *
+	 * @return window
+	 */
+	public int getWindow() {
+		return window;
+	}
+
+	/**
+	 * Generate the URI of a page from the URI of the last page
+	 *
+	 * @param page
+	 * @return uri or null if the last page URI contains no page number
+	 */
+	protected String createPageUri(int page) {
+		if (last == null)
+			return null;
+		Matcher matcher = PAGE_PARAM.matcher(last);
+		if (!matcher.find())
+			return null;
+		return last.substring(0, matcher.start()) + matcher.group(1) + page
+				+ last.substring(matcher.end());
+	}
+
+	private void schedule() {
+		final boolean inline = GitHubClient.isSubmitted();
+		while (pending.size() < (inline ? 1 : window) && scheduled < lastPage) {
+			scheduled++;
+			GitHubRequest page = createPageRequest(createPageUri(scheduled));
+			pending.add(inline ? fetch(page) : client.getAsync(page));
+		}
+	}
+
+	private CompletableFuture<GitHubResponse> fetch(GitHubRequest page) {
+		final CompletableFuture<GitHubResponse> future = new CompletableFuture<>();
+		try {
+			future.complete(client.get(page));
+		} catch (IOException e) {
+			future.completeExceptionally(e);
+		}
+		return future;
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (parallel)
+			return !pending.isEmpty();
+		return super.hasNext();
+	}
+
+	@Override
+	public Collection<V> next() {
+		if (!parallel) {
+			Collection<V> resources = super.next();
+			if (window > 1 && nextPage > 0 && lastPage > nextPage
+					&& createPageUri(nextPage) != null) {
+				parallel = true;
+				scheduled = nextPage - 1;
+				schedule();
+			}
+			return resources;
+		}
+
+		if (pending.isEmpty())
+			throw new NoSuchElementException();
+		GitHubResponse response = await(pending.removeFirst());
+		Collection<V> resources = getResources(response);
+		if (nextPage < lastPage) {
+			nextPage++;
+			next = createPageUri(nextPage);
+		} else {
+			nextPage = -1;
+			next = null;
+		}
+		schedule();
+		return resources;
+	}
+
+	@Override
+	public void cancel() {
+		for (CompletableFuture<GitHubResponse> future : pending)
+			future.cancel(false);
+		pending.clear();
+		scheduled = lastPage;
+		super.cancel();
+	}
+}
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.client;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Page iterator that fetches the following pages in the background while the
+ * current page is being processed.
+ * <p>
+ * Each page links to the next one so pages are still fetched one after the
+ * other, but up to a fixed number of pages are requested ahead of the page
+ * last returned by {@link #next()} using
+ * {@link GitHubClient#getAsync(GitHubRequest)}. Callers that stop iterating
+ * before the last page should call {@link #cancel()} so pages requested ahead
+ * are not fetched needlessly.
+ * <p>
+ * No pages are fetched ahead when iterating from a callable run by
+ * {@link GitHubClient#submit(IRequestCallable)}, since waiting there on pages
+ * queued on the same executor could block it indefinitely.
+ *
+ * @param <V>
+ * @since 6.2
+ */
+public class PrefetchingPageIterator<V> extends PageIterator<V> {
+
+	/**
+	 * Default number of pages fetched ahead
+	 */
+	public static final int DEFAULT_DEPTH = 2;
+
+	private final int depth;
+
+	private final LinkedList<CompletableFuture<GitHubResponse>> pending = new LinkedList<>();
+
+	private CompletableFuture<GitHubResponse> tail;
+
+	private boolean started;
+
+	/**
+	 * Create page iterator fetching {@link #DEFAULT_DEPTH} pages ahead
+	 *
+	 * @param request
+	 * @param client
+	 */
+	public PrefetchingPageIterator(PagedRequest<V> request,
+			GitHubClient client) {
+		this(request, client, DEFAULT_DEPTH);
+	}
+
+	/**
+	 * Create page iterator fetching the given number of pages ahead
+	 *
+	 * @param request
+	 * @param client
+	 * @param depth
+	 */
+	public PrefetchingPageIterator(PagedRequest<V> request,
+			GitHubClient client, int depth) {
+		super(request, client);
+		if (depth < 1)
+			throw new IllegalArgumentException(
+					"Depth must be greater than zero"); //$NON-NLS-1$
+		this.depth = depth;
+	}
+
+	/**
+	 * Get number of pages fetched ahead
+	 *
+	 * @return depth
+	 */
+	public int getDepth() {
+		return depth;
+	}
+
+	private CompletableFuture<GitHubResponse> fetchNext(
+			GitHubResponse previous) {
+		if (previous == null || previous.getNext() == null)
+			return CompletableFuture.completedFuture(null);
+		return client.getAsync(createPageRequest(previous.getNext()));
+	}
+
+	private void prefetch() {
+		while (pending.size() < depth) {
+			if (tail == null)
+				tail = client.getAsync(createPageRequest(next));
+			else if (tail.isDone() && !tail.isCompletedExceptionally()
+					&& tail.join() == null)
+				return;
+			else
+				tail = tail.thenCompose(this::fetchNext);
+			pending.add(tail);
+		}
+	}
+
+	@Override
+	public Collection<V> next() {
+		if (!started || pending.isEmpty() && GitHubClient.isSubmitted()) {
+			Collection<V> resources = super.next();
+			started = true;
+			if (next != null && !GitHubClient.isSubmitted())
+				prefetch();
+			return resources;
+		}
+		if (!hasNext())
+			throw new NoSuchElementException();
+		if (pending.isEmpty())
+			prefetch();
+		GitHubResponse response = await(pending.removeFirst());
+		if (response == null)
+			throw new NoSuchElementException();
+		Collection<V> resources = getResources(response);
+		next = response.getNext();
+		nextPage = parsePageNumber(next);
+		last = response.getLast();
+		lastPage = parsePageNumber(last);
+		if (next != null)
+			prefetch();
+		return resources;
+	}
+
+	@Override
+	public void cancel() {
+		for (CompletableFuture<GitHubResponse> future : pending)
+			future.cancel(false);
+		pending.clear();
+		tail = null;
+		super.cancel();
+	}
+}
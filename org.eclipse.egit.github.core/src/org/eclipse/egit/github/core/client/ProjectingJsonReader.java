@@ -0,0 +1,97 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.client;
+
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Set;
+
+/**
+ * JSON reader carrying the fields of the resources to decode
+ * <p>
+ * The resources are the top-level JSON value or the elements of a top-level
+ * JSON array. Adapters of the {@link ModelAdapterFactory} skip all other
+ * fields of these resources. Fields of nested values, and all fields of
+ * resources read by other adapters, are always decoded.
+ *
+ * @see GitHubRequest#setFields(String...)
+ */
+class ProjectingJsonReader extends JsonReader {
+
+	/**
+	 * Create reader projecting to the given fields if non-null
+	 *
+	 * @param reader
+	 * @param fields
+	 * @return reader
+	 */
+	static JsonReader create(Reader reader, Set<String> fields) {
+		return fields != null ? new ProjectingJsonReader(reader, fields)
+				: new JsonReader(reader);
+	}
+
+	/**
+	 * Get fields to read from the object the reader is positioned at
+	 *
+	 * @param in
+	 * @return fields to read from the object or null to read all fields
+	 */
+	static Set<String> getFields(JsonReader in) {
+		if (!(in instanceof ProjectingJsonReader))
+			return null;
+		ProjectingJsonReader projecting = (ProjectingJsonReader) in;
+		return projecting.isResource() ? projecting.fields : null;
+	}
+
+	private final Set<String> fields;
+
+	private int depth;
+
+	private boolean list;
+
+	private ProjectingJsonReader(Reader reader, Set<String> fields) {
+		super(reader);
+		this.fields = fields;
+	}
+
+	private boolean isResource() {
+		return depth == 0 || (depth == 1 && list);
+	}
+
+	@Override
+	public void beginArray() throws IOException {
+		super.beginArray();
+		if (depth++ == 0)
+			list = true;
+	}
+
+	@Override
+	public void endArray() throws IOException {
+		super.endArray();
+		depth--;
+	}
+
+	@Override
+	public void beginObject() throws IOException {
+		super.beginObject();
+		depth++;
+	}
+
+	@Override
+	public void endObject() throws IOException {
+		super.endObject();
+		depth--;
+	}
+}
@@ -0,0 +1,512 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.client;
+
+import static java.net.HttpURLConnection.HTTP_OK;
+import static java.net.HttpURLConnection.HTTP_PARTIAL;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.HttpURLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Downloader of the body of a response into a file that resumes from the last
+ * byte received when the connection fails.
+ * <p>
+ * Resumed requests send a 'Range' header starting at the first missing byte
+ * and an 'If-Range' header with the strong 'ETag' or the 'Last-Modified' date
+ * of the first response, so a resource changed in the meantime is downloaded
+ * again from the start instead of being spliced. Servers that do not support
+ * ranges are requested again without one. Transient error responses, as
+ * decided by the {@link RetryPolicy} of the client or a default one, are
+ * requested again after the delay of the policy.
+ * <p>
+ * With a parallelism greater than one the resource is requested in parts of
+ * {@link #setPartSize(int)} bytes, the first synchronously and the others on
+ * the {@link GitHubClient#getExecutor()} of the client, and each part is
+ * written at its offset in the file.
+ * <p>
+ * This suits raw content, diffs and release assets; JSON resources should be
+ * requested through {@link GitHubClient#get(GitHubRequest)}.
+ *
+ * @since 6.2
+ */
+public class RangeDownloader {
+
+	private static final String HEADER_RANGE = "Range"; //$NON-NLS-1$
+
+	private static final String HEADER_IF_RANGE = "If-Range"; //$NON-NLS-1$
+
+	private static final String HEADER_CONTENT_RANGE = "Content-Range"; //$NON-NLS-1$
+
+	private static final String HEADER_CONTENT_LENGTH = "Content-Length"; //$NON-NLS-1$
+
+	private static final String HEADER_ACCEPT_RANGES = "Accept-Ranges"; //$NON-NLS-1$
+
+	private static final String HEADER_ETAG = "ETag"; //$NON-NLS-1$
+
+	private static final String HEADER_LAST_MODIFIED = "Last-Modified"; //$NON-NLS-1$
+
+	private static final String BYTES = "bytes"; //$NON-NLS-1$
+
+	private static final String IDENTITY = "identity"; //$NON-NLS-1$
+
+	private static final int HTTP_RANGE_NOT_SATISFIABLE = 416;
+
+	private static final RetryPolicy DEFAULT_RETRY_POLICY = new RetryPolicy();
+
+	private final GitHubClient client;
+
+	private int maxAttempts = 5;
+
+	private int parallelism = 1;
+
+	private int partSize = 8 * 1024 * 1024;
+
+	private IDownloadListener listener;
+
+	/**
+	 * Create downloader sending requests through the client
+	 *
+	 * @param client
+	 */
+	public RangeDownloader(GitHubClient client) {
+		if (client == null)
+			throw new IllegalArgumentException("Client cannot be null"); //$NON-NLS-1$
+		this.client = client;
+	}
+
+	/**
+	 * Set the number of requests made for each range before failing
+	 *
+	 * @param maxAttempts
+	 *            at least 1, defaults to 5
+	 * @return this downloader
+	 */
+	public RangeDownloader setMaxAttempts(int maxAttempts) {
+		if (maxAttempts < 1)
+			throw new IllegalArgumentException(
+					"Max attempts must be at least 1"); //$NON-NLS-1$
+		this.maxAttempts = maxAttempts;
+		return this;
+	}
+
+	/**
+	 * @return maximum number of requests made for each range
+	 */
+	public int getMaxAttempts() {
+		return maxAttempts;
+	}
+
+	/**
+	 * Set the number of ranges downloaded at the same time
+	 *
+	 * @param parallelism
+	 *            at least 1, defaults to 1
+	 * @return this downloader
+	 */
+	public RangeDownloader setParallelism(int parallelism) {
+		if (parallelism < 1)
+			throw new IllegalArgumentException(
+					"Parallelism must be at least 1"); //$NON-NLS-1$
+		this.parallelism = parallelism;
+		return this;
+	}
+
+	/**
+	 * @return number of ranges downloaded at the same time
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * Set the size of the ranges requested when the parallelism is greater
+	 * than one
+	 *
+	 * @param partSize
+	 *            at least 1, defaults to 8 MB
+	 * @return this downloader
+	 */
+	public RangeDownloader setPartSize(int partSize) {
+		if (partSize < 1)
+			throw new IllegalArgumentException(
+					"Part size must be at least 1"); //$NON-NLS-1$
+		this.partSize = partSize;
+		return this;
+	}
+
+	/**
+	 * @return size of the ranges requested in parallel
+	 */
+	public int getPartSize() {
+		return partSize;
+	}
+
+	/**
+	 * Set listener notified of the progress of downloads
+	 *
+	 * @param listener
+	 *            may be null
+	 * @return this downloader
+	 */
+	public RangeDownloader setListener(IDownloadListener listener) {
+		this.listener = listener;
+		return this;
+	}
+
+	/**
+	 * Download the body of the response to the request into the file,
+	 * replacing its content
+	 *
+	 * @param request
+	 * @param file
+	 * @return number of bytes written
+	 * @throws IOException
+	 */
+	public long download(GitHubRequest request, Path file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, CREATE, WRITE,
+				TRUNCATE_EXISTING)) {
+			Download download = new Download(request, channel);
+			long size = download.run();
+			channel.truncate(size);
+			return size;
+		}
+	}
+
+	/**
+	 * State of one download shared by the threads writing its parts
+	 */
+	private class Download {
+
+		private final String uri;
+
+		private final String accept;
+
+		private final FileChannel channel;
+
+		private final long start = System.nanoTime();
+
+		private final AtomicLong received = new AtomicLong();
+
+		private final AtomicLong nextPart = new AtomicLong();
+
+		private volatile long length = -1;
+
+		private volatile String validator;
+
+		private volatile boolean ranges;
+
+		private volatile boolean whole;
+
+		private volatile boolean failed;
+
+		Download(GitHubRequest request, FileChannel channel) {
+			uri = request.generateUri();
+			accept = request.getResponseContentType();
+			this.channel = channel;
+		}
+
+		long run() throws IOException {
+			if (parallelism == 1)
+				return fetch(0, -1);
+			long end = fetch(0, partSize - 1);
+			if (whole || end < partSize)
+				return end;
+			if (length < 0)
+				return fetch(end, -1);
+			if (length <= end)
+				return end;
+			nextPart.set(end);
+			List<CompletableFuture<Void>> workers = new ArrayList<>();
+			for (int i = 1; i < parallelism; i++)
+				workers.add(client.submit(() -> {
+					fetchParts();
+					return null;
+				}));
+			IOException failure = null;
+			try {
+				fetchParts();
+			} catch (IOException e) {
+				failure = e;
+			}
+			for (CompletableFuture<Void> worker : workers)
+				try {
+					worker.get();
+				} catch (InterruptedException e) {
+					failed = true;
+					Thread.currentThread().interrupt();
+					if (failure == null)
+						failure = new IOException(
+								"Interrupted waiting for download"); //$NON-NLS-1$
+				} catch (ExecutionException e) {
+					Throwable cause = e.getCause();
+					if (failure == null)
+						failure = cause instanceof IOException ? (IOException) cause
+								: new IOException(cause);
+				}
+			if (failure != null)
+				throw failure;
+			return length;
+		}
+
+		private void fetchParts() throws IOException {
+			try {
+				long offset;
+				while (!failed
+						&& (offset = nextPart.getAndAdd(partSize)) < length)
+					fetch(offset, Math.min(offset + partSize, length) - 1);
+			} catch (IOException e) {
+				failed = true;
+				throw e;
+			}
+		}
+
+		/**
+		 * Fetch the bytes from the offset to the end into the file, requesting
+		 * the missing bytes again when the connection fails
+		 *
+		 * @param offset
+		 * @param end
+		 *            inclusive end or -1 to fetch the remaining bytes
+		 * @return position after the last byte written
+		 * @throws IOException
+		 */
+		private long fetch(final long offset, long end) throws IOException {
+			byte[] buffer = new byte[client.getBufferSize()];
+			long position = offset;
+			int attempt = 0;
+			long delay = 0;
+			while (true) {
+				if (delay > 0)
+					try {
+						Thread.sleep(delay);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						throw new InterruptedIOException();
+					}
+				HttpURLConnection connection = client.createGet(uri);
+				IOException failure = null;
+				try {
+					if (accept != null)
+						connection.setRequestProperty(
+								GitHubClient.HEADER_ACCEPT, accept);
+					connection.setRequestProperty(
+							GitHubClient.HEADER_ACCEPT_ENCODING, IDENTITY);
+					if (position > 0 || end >= 0) {
+						String range = BYTES + '=' + position + '-';
+						if (end >= 0)
+							range += end;
+						connection.setRequestProperty(HEADER_RANGE, range);
+						String current = validator;
+						if (current != null)
+							connection.setRequestProperty(HEADER_IF_RANGE,
+									current);
+					}
+					int code = connection.getResponseCode();
+					client.updateRateLimits(connection);
+					if (code == HTTP_PARTIAL) {
+						String header = connection
+								.getHeaderField(HEADER_CONTENT_RANGE);
+						long[] range = parseContentRange(header);
+						if (range == null || range[0] != position)
+							throw new IOException(
+									"Unexpected content range: " + header); //$NON-NLS-1$
+						ranges = true;
+						if (length < 0 && range[2] >= 0)
+							length = range[2];
+						// a resource shorter than the requested range ends
+						// at its last byte
+						long last = range[2] >= 0 ? range[2] - 1 : range[1];
+						if (end < 0 || end > last)
+							end = last;
+						if (offset == 0 && position == 0)
+							setValidator(connection);
+					} else if (code == HTTP_OK) {
+						if (offset > 0) {
+							failed = true;
+							throw new IOException(
+									"Resource changed during download"); //$NON-NLS-1$
+						}
+						received.addAndGet(-position);
+						position = 0;
+						end = -1;
+						whole = true;
+						if (connection.getHeaderField(
+								GitHubClient.HEADER_CONTENT_ENCODING) == null)
+							length = connection.getHeaderFieldLong(
+									HEADER_CONTENT_LENGTH, -1);
+						ranges = BYTES.equalsIgnoreCase(connection
+								.getHeaderField(HEADER_ACCEPT_RANGES));
+						setValidator(connection);
+					} else if (code == HTTP_RANGE_NOT_SATISFIABLE
+							&& isComplete(connection, position))
+						return position;
+					else
+						throw client.createException(
+								client.getStream(connection), code,
+								connection.getResponseMessage());
+
+					InputStream stream = client.getStream(connection);
+					try {
+						int read;
+						while ((read = stream.read(buffer)) != -1) {
+							if (end >= 0 && position + read > end + 1)
+								read = (int) (end + 1 - position);
+							ByteBuffer bytes = ByteBuffer.wrap(buffer, 0, read);
+							while (bytes.hasRemaining())
+								position += channel.write(bytes, position);
+							progress(read);
+							if (end >= 0 && position > end)
+								break;
+						}
+					} finally {
+						stream.close();
+					}
+					long expected = end >= 0 ? end + 1 : length;
+					if (expected >= 0 && position < expected)
+						throw new EOFException("Response ended at byte " //$NON-NLS-1$
+								+ position + " of " + expected); //$NON-NLS-1$
+					return position;
+				} catch (IOException e) {
+					failure = e;
+					if (failed || ++attempt >= maxAttempts)
+						throw e;
+					delay = 0;
+					if (e instanceof RequestException
+							|| e instanceof ResponseStatusException) {
+						RetryPolicy policy = client.getRetryPolicy();
+						if (policy == null)
+							policy = DEFAULT_RETRY_POLICY;
+						if (!policy.isTransient(e))
+							throw e;
+						delay = policy.getDelay(attempt);
+					}
+					if (!ranges && position > offset) {
+						received.addAndGet(offset - position);
+						position = offset;
+					}
+				} finally {
+					client.completeRequest(connection, failure);
+				}
+			}
+		}
+
+		/**
+		 * Is a range starting at the position not satisfiable because the
+		 * resource ends before it, e.g. the first part of an empty resource
+		 *
+		 * @param connection
+		 *            with a 416 response
+		 * @param position
+		 * @return true if all bytes up to the position were fetched
+		 */
+		private boolean isComplete(HttpURLConnection connection,
+				long position) {
+			if (length < 0) {
+				long total = parseUnsatisfiedRange(connection
+						.getHeaderField(HEADER_CONTENT_RANGE));
+				if (total >= 0)
+					length = total;
+			}
+			return length >= 0 && position >= length;
+		}
+
+		private void setValidator(HttpURLConnection connection) {
+			String etag = connection.getHeaderField(HEADER_ETAG);
+			if (etag != null && !etag.startsWith("W/")) //$NON-NLS-1$
+				validator = etag;
+			else
+				validator = connection.getHeaderField(HEADER_LAST_MODIFIED);
+		}
+
+		private void progress(int bytes) {
+			long total = received.addAndGet(bytes);
+			IDownloadListener current = listener;
+			if (current == null)
+				return;
+			long elapsed = Math.max(System.nanoTime() - start, 1);
+			synchronized (this) {
+				current.progress(total, length,
+						(long) (total * 1000000000D / elapsed));
+			}
+		}
+	}
+
+	/**
+	 * Parse a 'Content-Range' header value of the form 'bytes {@literal *}/length'
+	 * sent with a 416 response
+	 *
+	 * @param value
+	 * @return length or -1 if the value is not an unsatisfied byte range
+	 */
+	static long parseUnsatisfiedRange(String value) {
+		if (value == null)
+			return -1;
+		value = value.trim();
+		if (!value.regionMatches(true, 0, BYTES, 0, BYTES.length()))
+			return -1;
+		String range = value.substring(BYTES.length()).trim();
+		if (!range.startsWith("*/")) //$NON-NLS-1$
+			return -1;
+		try {
+			return Long.parseLong(range.substring(2).trim());
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	/**
+	 * Parse a 'Content-Range' header value of the form 'bytes
+	 * first-last/length'
+	 *
+	 * @param value
+	 * @return first byte, last byte and length or -1 if unknown, null if the
+	 *         value is not a byte range
+	 */
+	static long[] parseContentRange(String value) {
+		if (value == null)
+			return null;
+		value = value.trim();
+		if (!value.regionMatches(true, 0, BYTES, 0, BYTES.length()))
+			return null;
+		int dash = value.indexOf('-');
+		int slash = value.indexOf('/');
+		if (dash == -1 || slash < dash)
+			return null;
+		try {
+			long first = Long.parseLong(value.substring(BYTES.length(), dash)
+					.trim());
+			long last = Long.parseLong(value.substring(dash + 1, slash)
+					.trim());
+			String total = value.substring(slash + 1).trim();
+			return new long[] { first, last,
+					"*".equals(total) ? -1 : Long.parseLong(total) }; //$NON-NLS-1$
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+}
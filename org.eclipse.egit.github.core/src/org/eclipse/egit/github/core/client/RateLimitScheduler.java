@@ -0,0 +1,344 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.client;
+
+import static org.eclipse.egit.github.core.client.IGitHubConstants.HEADER_RATE_LIMIT;
+import static org.eclipse.egit.github.core.client.IGitHubConstants.HEADER_RATE_REMAINING;
+import static org.eclipse.egit.github.core.client.IGitHubConstants.HEADER_RATE_RESET;
+import static org.eclipse.egit.github.core.client.IGitHubConstants.HEADER_RATE_RESOURCE;
+import static org.eclipse.egit.github.core.client.IGitHubConstants.HEADER_RETRY_AFTER;
+import static org.eclipse.egit.github.core.client.IGitHubConstants.SEGMENT_LEGACY;
+import static org.eclipse.egit.github.core.client.IGitHubConstants.SEGMENT_SEARCH;
+import static org.eclipse.egit.github.core.client.IGitHubConstants.SEGMENT_V3_API;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+
+/**
+ * Rate limiter tracking the 'X-RateLimit-*' headers of responses.
+ * <p>
+ * GitHub keeps a separate budget per rate limit resource, such as searches
+ * and all other requests, and so does this scheduler. The resource of a
+ * request is decided from its path before it is sent, and the budget a
+ * response updates from its 'X-RateLimit-Resource' header.
+ * <p>
+ * Requests are sent immediately while plenty of the budget is left. Once the
+ * remaining requests drop below a fraction of the limit, requests are spread
+ * evenly over the time left until the limit resets, and when no requests
+ * remain they are held until the reset. A 'Retry-After' header on an error
+ * response, a 429 response not caused by an exhausted budget, or a 403
+ * response reporting remaining requests (secondary rate limits), holds
+ * requests of all resources for the indicated time or
+ * {@link #DEFAULT_RETRY_DELAY}.
+ * <p>
+ * Permits are counted against the remaining budget as they are reserved so
+ * concurrent users of the same scheduler cannot exhaust it between responses.
+ *
+ * @since 6.2
+ */
+public class RateLimitScheduler implements IRateLimiter {
+
+	/**
+	 * Default fraction of the limit below which requests are paced
+	 */
+	public static final double DEFAULT_PACING_THRESHOLD = 0.1;
+
+	/**
+	 * Default delay in milliseconds after a secondary rate limit response
+	 * without a 'Retry-After' header
+	 */
+	public static final long DEFAULT_RETRY_DELAY = 60 * 1000L;
+
+	/**
+	 * Rate limit resource of all requests that are not searches
+	 */
+	public static final String RESOURCE_CORE = "core"; //$NON-NLS-1$
+
+	/**
+	 * Rate limit resource of search requests
+	 */
+	public static final String RESOURCE_SEARCH = "search"; //$NON-NLS-1$
+
+	/**
+	 * Rate limit resource of code search requests
+	 */
+	public static final String RESOURCE_CODE_SEARCH = "code_search"; //$NON-NLS-1$
+
+	/**
+	 * Rate limit resource of GraphQL requests
+	 */
+	public static final String RESOURCE_GRAPHQL = "graphql"; //$NON-NLS-1$
+
+	private static final int HTTP_TOO_MANY_REQUESTS = 429;
+
+	private static final String HTTP_DATE = "EEE, dd MMM yyyy HH:mm:ss zzz"; //$NON-NLS-1$
+
+	private final double pacingThreshold;
+
+	/**
+	 * Budget of a single rate limit resource
+	 */
+	private static class Budget {
+
+		int limit = -1;
+
+		int remaining = -1;
+
+		long reset = -1;
+
+		long nextSlot;
+	}
+
+	private final Map<String, Budget> budgets = new HashMap<>();
+
+	private long blockedUntil;
+
+	/**
+	 * Create scheduler pacing requests below
+	 * {@link #DEFAULT_PACING_THRESHOLD} of the limit
+	 */
+	public RateLimitScheduler() {
+		this(DEFAULT_PACING_THRESHOLD);
+	}
+
+	/**
+	 * Create scheduler pacing requests below the given fraction of the limit
+	 *
+	 * @param pacingThreshold
+	 *            between 0 (never pace) and 1 (always pace)
+	 */
+	public RateLimitScheduler(double pacingThreshold) {
+		if (pacingThreshold < 0 || pacingThreshold > 1)
+			throw new IllegalArgumentException(
+					"Pacing threshold must be between 0 and 1"); //$NON-NLS-1$
+		this.pacingThreshold = pacingThreshold;
+	}
+
+	/**
+	 * Get current time
+	 *
+	 * @return milliseconds since the epoch
+	 */
+	protected long currentTimeMillis() {
+		return System.currentTimeMillis();
+	}
+
+	/**
+	 * Get last known request limit of the {@link #RESOURCE_CORE} resource
+	 *
+	 * @return limit or -1 if unknown
+	 */
+	public int getLimit() {
+		return getLimit(RESOURCE_CORE);
+	}
+
+	/**
+	 * Get last known request limit of a resource
+	 *
+	 * @param resource
+	 * @return limit or -1 if unknown
+	 */
+	public synchronized int getLimit(String resource) {
+		Budget budget = budgets.get(resource);
+		return budget != null ? budget.limit : -1;
+	}
+
+	/**
+	 * Get estimated number of remaining requests of the {@link #RESOURCE_CORE}
+	 * resource, counting permits reserved since the last response
+	 *
+	 * @return remaining requests or -1 if unknown
+	 */
+	public int getRemaining() {
+		return getRemaining(RESOURCE_CORE);
+	}
+
+	/**
+	 * Get estimated number of remaining requests of a resource, counting
+	 * permits reserved since the last response
+	 *
+	 * @param resource
+	 * @return remaining requests or -1 if unknown
+	 */
+	public synchronized int getRemaining(String resource) {
+		Budget budget = budgets.get(resource);
+		return budget != null ? budget.remaining : -1;
+	}
+
+	/**
+	 * Get time at which the limit of the {@link #RESOURCE_CORE} resource
+	 * resets
+	 *
+	 * @return milliseconds since the epoch or -1 if unknown
+	 */
+	public long getReset() {
+		return getReset(RESOURCE_CORE);
+	}
+
+	/**
+	 * Get time at which the limit of a resource resets
+	 *
+	 * @param resource
+	 * @return milliseconds since the epoch or -1 if unknown
+	 */
+	public synchronized long getReset(String resource) {
+		Budget budget = budgets.get(resource);
+		return budget != null ? budget.reset : -1;
+	}
+
+	/**
+	 * Get time until which all requests are held because of a 'Retry-After'
+	 * header or a secondary rate limit
+	 *
+	 * @return milliseconds since the epoch, 0 if requests were never held
+	 */
+	public synchronized long getBlockedUntil() {
+		return blockedUntil;
+	}
+
+	/**
+	 * Get the rate limit resource a request counts against
+	 *
+	 * @param uri
+	 *            absolute URI or path of the request
+	 * @return resource name
+	 */
+	public static String getResource(String uri) {
+		String path = uri;
+		int scheme = path.indexOf("://"); //$NON-NLS-1$
+		if (scheme != -1) {
+			int slash = path.indexOf('/', scheme + 3);
+			path = slash != -1 ? path.substring(slash) : "/"; //$NON-NLS-1$
+		}
+		int query = path.indexOf('?');
+		if (query != -1)
+			path = path.substring(0, query);
+		if (path.startsWith(SEGMENT_V3_API + '/'))
+			path = path.substring(SEGMENT_V3_API.length());
+		if (path.startsWith(SEGMENT_SEARCH + "/code")) //$NON-NLS-1$
+			return RESOURCE_CODE_SEARCH;
+		if (path.equals(SEGMENT_SEARCH) || path.startsWith(SEGMENT_SEARCH + '/')
+				|| path.startsWith(SEGMENT_LEGACY + '/')
+				&& path.contains(SEGMENT_SEARCH + '/'))
+			return RESOURCE_SEARCH;
+		if (path.equals("/graphql")) //$NON-NLS-1$
+			return RESOURCE_GRAPHQL;
+		return RESOURCE_CORE;
+	}
+
+	private Budget getBudget(String resource) {
+		Budget budget = budgets.get(resource);
+		if (budget == null) {
+			budget = new Budget();
+			budgets.put(resource, budget);
+		}
+		return budget;
+	}
+
+	@Override
+	public synchronized long reserve(String uri) {
+		Budget budget = getBudget(getResource(uri));
+		long now = currentTimeMillis();
+		long start = Math.max(now, blockedUntil);
+		if (budget.remaining >= 0 && budget.reset > start)
+			if (budget.remaining == 0)
+				start = budget.reset;
+			else {
+				if (budget.remaining < budget.limit * pacingThreshold) {
+					start = Math.max(start, budget.nextSlot);
+					budget.nextSlot = start + (budget.reset - start)
+							/ budget.remaining;
+				}
+				budget.remaining--;
+			}
+		return start - now;
+	}
+
+	@Override
+	public void update(HttpURLConnection response) {
+		int code;
+		try {
+			code = response.getResponseCode();
+		} catch (IOException e) {
+			code = -1;
+		}
+		long limitValue = parseLong(response.getHeaderField(HEADER_RATE_LIMIT));
+		long remainingValue = parseLong(response
+				.getHeaderField(HEADER_RATE_REMAINING));
+		long resetValue = parseLong(response.getHeaderField(HEADER_RATE_RESET));
+		String retryAfter = response.getHeaderField(HEADER_RETRY_AFTER);
+		String resource = response.getHeaderField(HEADER_RATE_RESOURCE);
+		if (resource == null || resource.length() == 0)
+			resource = getResource(response.getURL().toString());
+		synchronized (this) {
+			Budget budget = getBudget(resource);
+			long now = currentTimeMillis();
+			if (limitValue >= 0)
+				budget.limit = (int) limitValue;
+			if (remainingValue >= 0)
+				budget.remaining = (int) remainingValue;
+			if (resetValue >= 0)
+				budget.reset = resetValue * 1000;
+			if (code < HttpURLConnection.HTTP_BAD_REQUEST)
+				return;
+			long delay = retryAfter != null ? parseRetryAfter(retryAfter, now)
+					: -1;
+			if (delay >= 0)
+				blockedUntil = Math.max(blockedUntil, now + delay);
+			// An exhausted primary limit only holds requests of its resource
+			else if (code == HTTP_TOO_MANY_REQUESTS
+					&& (budget.remaining != 0 || budget.reset <= now))
+				blockedUntil = Math.max(blockedUntil, now + DEFAULT_RETRY_DELAY);
+			// Secondary limits are also reported as 403 with requests left
+			else if (code == HttpURLConnection.HTTP_FORBIDDEN
+					&& remainingValue > 0)
+				blockedUntil = Math.max(blockedUntil, now + DEFAULT_RETRY_DELAY);
+		}
+	}
+
+	static long parseLong(String value) {
+		if (value == null || value.length() == 0)
+			return -1;
+		try {
+			return Long.parseLong(value.trim());
+		} catch (NumberFormatException nfe) {
+			return -1;
+		}
+	}
+
+	/**
+	 * Parse 'Retry-After' header value given in seconds or as an HTTP date
+	 *
+	 * @param value
+	 * @param now
+	 * @return delay in milliseconds or -1 if the value is invalid
+	 */
+	private static long parseRetryAfter(String value, long now) {
+		long seconds = parseLong(value);
+		if (seconds >= 0)
+			return seconds * 1000;
+		SimpleDateFormat format = new SimpleDateFormat(HTTP_DATE, Locale.US);
+		format.setTimeZone(TimeZone.getTimeZone("GMT")); //$NON-NLS-1$
+		try {
+			return Math.max(0, format.parse(value.trim()).getTime() - now);
+		} catch (ParseException e) {
+			return -1;
+		}
+	}
+}
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.client;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.util.Arrays;
+
+/**
+ * Output stream of a request body that is sent with a fixed length if it does
+ * not exceed a threshold and with chunked transfer encoding otherwise.
+ * <p>
+ * Bytes are buffered until the threshold is exceeded, the connection is then
+ * switched to chunked streaming mode and the buffered and all following bytes
+ * are written to it directly. A body that fits the threshold is sent with a
+ * fixed length on {@link #close()}.
+ */
+class RequestBodyStream extends OutputStream {
+
+	private final HttpURLConnection connection;
+
+	private final int threshold;
+
+	private final int chunkSize;
+
+	private byte[] buffer;
+
+	private int count;
+
+	private OutputStream output;
+
+	private boolean closed;
+
+	/**
+	 * Create stream for the body of the connection
+	 *
+	 * @param connection
+	 * @param threshold
+	 *            maximum size of a body sent with a fixed length
+	 * @param chunkSize
+	 *            size of chunks of bodies exceeding the threshold
+	 */
+	RequestBodyStream(HttpURLConnection connection, int threshold,
+			int chunkSize) {
+		this.connection = connection;
+		this.threshold = threshold;
+		this.chunkSize = chunkSize;
+		buffer = new byte[Math.min(threshold, chunkSize)];
+	}
+
+	private void ensureOpen() throws IOException {
+		if (closed)
+			throw new IOException("Stream closed"); //$NON-NLS-1$
+	}
+
+	private void startChunked() throws IOException {
+		connection.setChunkedStreamingMode(chunkSize);
+		output = connection.getOutputStream();
+		output.write(buffer, 0, count);
+		buffer = null;
+		count = 0;
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		write(new byte[] { (byte) b }, 0, 1);
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		ensureOpen();
+		if (output == null) {
+			if (len <= threshold - count) {
+				if (count + len > buffer.length)
+					buffer = Arrays.copyOf(buffer, Math.min(threshold,
+							Math.max(count + len, buffer.length << 1)));
+				System.arraycopy(b, off, buffer, count, len);
+				count += len;
+				return;
+			}
+			startChunked();
+		}
+		output.write(b, off, len);
+	}
+
+	@Override
+	public void flush() throws IOException {
+		// Bodies are only sent once the threshold is exceeded or on close
+		if (output != null)
+			output.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (closed)
+			return;
+		closed = true;
+		if (output == null) {
+			connection.setFixedLengthStreamingMode(count);
+			output = connection.getOutputStream();
+			output.write(buffer, 0, count);
+			buffer = null;
+		}
+		output.close();
+	}
+}
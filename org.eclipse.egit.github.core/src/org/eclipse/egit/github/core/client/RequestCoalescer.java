@@ -0,0 +1,114 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.client;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Coalescer letting concurrent identical GET requests share a single network
+ * call.
+ * <p>
+ * The first caller for a key executes the request; callers arriving with the
+ * same key while it is in flight wait for it and receive the same response,
+ * including the same parsed body instance, or the same exception. Once the
+ * request completes, the next caller for the key executes a new request.
+ * <p>
+ * A coalescer may be shared by several clients. Keys created by
+ * {@link GitHubClient} include the credentials, accept header, URI and
+ * response type of the request so responses are never shared between
+ * identities or bound to a different type.
+ *
+ * @see GitHubClient#setRequestCoalescer(RequestCoalescer)
+ * @since 6.2
+ */
+public class RequestCoalescer {
+
+	private final ConcurrentMap<String, CompletableFuture<GitHubResponse>> inFlight = new ConcurrentHashMap<>();
+
+	private final AtomicLong coalesced = new AtomicLong();
+
+	/**
+	 * Execute the request unless an identical request is in flight, in which
+	 * case its outcome is returned
+	 *
+	 * @param key
+	 *            identifying the request
+	 * @param request
+	 * @return response
+	 * @throws IOException
+	 */
+	public GitHubResponse execute(String key,
+			IRequestCallable<GitHubResponse> request) throws IOException {
+		CompletableFuture<GitHubResponse> own = new CompletableFuture<>();
+		CompletableFuture<GitHubResponse> existing = inFlight.putIfAbsent(key,
+				own);
+		if (existing != null) {
+			coalesced.incrementAndGet();
+			return await(existing);
+		}
+		try {
+			GitHubResponse response = request.call();
+			own.complete(response);
+			return response;
+		} catch (IOException | RuntimeException | Error e) {
+			own.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, own);
+		}
+	}
+
+	private static GitHubResponse await(
+			CompletableFuture<GitHubResponse> future) throws IOException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException)
+				throw (IOException) cause;
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			if (cause instanceof Error)
+				throw (Error) cause;
+			throw new IOException(cause);
+		}
+	}
+
+	/**
+	 * Get number of requests currently in flight
+	 *
+	 * @return count
+	 */
+	public int getInFlightCount() {
+		return inFlight.size();
+	}
+
+	/**
+	 * Get number of requests that were served by the outcome of an identical
+	 * request in flight
+	 *
+	 * @return count
+	 */
+	public long getCoalescedCount() {
+		return coalesced.get();
+	}
+}
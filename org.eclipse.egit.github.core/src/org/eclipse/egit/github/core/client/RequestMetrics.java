@@ -0,0 +1,359 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.client;
+
+import static org.eclipse.egit.github.core.client.IGitHubConstants.SEGMENT_V3_API;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Measurements of a single HTTP request made by a {@link GitHubClient}. Times
+ * are given in nanoseconds.
+ *
+ * @see IRequestListener
+ * @since 6.2
+ */
+public class RequestMetrics {
+
+	private static final Set<String> OWNED = new HashSet<>(Arrays.asList(
+			"repos", "users", "orgs", "gists", "teams")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+
+	private static final Set<String> REST_PATHS = new HashSet<>(Arrays.asList(
+			"contents", "readme", "refs", "raw")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+
+	/**
+	 * Segments of the API paths requested by the services, the only segments
+	 * kept literal in templates
+	 */
+	private static final Set<String> RESOURCES = new HashSet<>();
+
+	static {
+		for (String segment : Arrays.asList(
+				IGitHubConstants.SEGMENT_AUTHORIZATIONS,
+				IGitHubConstants.SEGMENT_BLOBS,
+				IGitHubConstants.SEGMENT_BRANCHES,
+				IGitHubConstants.SEGMENT_COLLABORATORS,
+				IGitHubConstants.SEGMENT_COMMENTS,
+				IGitHubConstants.SEGMENT_CONTENTS,
+				IGitHubConstants.SEGMENT_CONTRIBUTORS,
+				IGitHubConstants.SEGMENT_COMMITS,
+				IGitHubConstants.SEGMENT_COMPARE,
+				IGitHubConstants.SEGMENT_CREATE,
+				IGitHubConstants.SEGMENT_DOWNLOADS,
+				IGitHubConstants.SEGMENT_EMAILS,
+				IGitHubConstants.SEGMENT_EVENTS,
+				IGitHubConstants.SEGMENT_FILES,
+				IGitHubConstants.SEGMENT_FOLLOWERS,
+				IGitHubConstants.SEGMENT_FOLLOWING,
+				IGitHubConstants.SEGMENT_FORK,
+				IGitHubConstants.SEGMENT_FORKS,
+				IGitHubConstants.SEGMENT_GISTS,
+				IGitHubConstants.SEGMENT_GIT,
+				IGitHubConstants.SEGMENT_HEADS,
+				IGitHubConstants.SEGMENT_HOOKS,
+				IGitHubConstants.SEGMENT_ISSUES,
+				IGitHubConstants.SEGMENT_KEYS,
+				IGitHubConstants.SEGMENT_LABELS,
+				IGitHubConstants.SEGMENT_LEGACY,
+				IGitHubConstants.SEGMENT_LANGUAGES,
+				IGitHubConstants.SEGMENT_MARKDOWN,
+				IGitHubConstants.SEGMENT_MEMBERS,
+				IGitHubConstants.SEGMENT_MERGE,
+				IGitHubConstants.SEGMENT_MERGES,
+				IGitHubConstants.SEGMENT_MILESTONES,
+				IGitHubConstants.SEGMENT_NETWORKS,
+				IGitHubConstants.SEGMENT_ORGANIZATIONS,
+				IGitHubConstants.SEGMENT_MEMBERSHIPS,
+				IGitHubConstants.SEGMENT_ORGS,
+				IGitHubConstants.SEGMENT_PUBLIC,
+				IGitHubConstants.SEGMENT_PUBLIC_MEMBERS,
+				IGitHubConstants.SEGMENT_PULLS,
+				IGitHubConstants.SEGMENT_README,
+				IGitHubConstants.SEGMENT_RECEIVED_EVENTS,
+				IGitHubConstants.SEGMENT_REFS,
+				IGitHubConstants.SEGMENT_REPOS,
+				IGitHubConstants.SEGMENT_REPOSITORIES,
+				IGitHubConstants.SEGMENT_SEARCH,
+				IGitHubConstants.SEGMENT_SHOW,
+				IGitHubConstants.SEGMENT_STAR,
+				IGitHubConstants.SEGMENT_STARGAZERS,
+				IGitHubConstants.SEGMENT_STARRED,
+				IGitHubConstants.SEGMENT_STATUSES,
+				IGitHubConstants.SEGMENT_TAGS,
+				IGitHubConstants.SEGMENT_TEAMS,
+				IGitHubConstants.SEGMENT_TEST,
+				IGitHubConstants.SEGMENT_TREES,
+				IGitHubConstants.SEGMENT_USER,
+				IGitHubConstants.SEGMENT_USERS,
+				IGitHubConstants.SEGMENT_WATCHED,
+				IGitHubConstants.SEGMENT_WATCHERS))
+			RESOURCES.add(segment.substring(1));
+	}
+
+	/**
+	 * Create URI template from the URI of a request by replacing owner,
+	 * repository, user and organization names, numbers, ids, SHA-1s and file
+	 * paths with placeholders, e.g. {@code /repos/octocat/hello/issues/3}
+	 * becomes {@code /repos/{owner}/{repo}/issues/{number}}. Any other segment
+	 * that is not a resource name of the API, such as a label or branch name,
+	 * is replaced with {@code {name}} so the number of templates stays bounded.
+	 *
+	 * @param uri
+	 *            relative to the API root, may include a query
+	 * @return template
+	 */
+	public static String toTemplate(String uri) {
+		int query = uri.indexOf('?');
+		String path = query != -1 ? uri.substring(0, query) : uri;
+		if (path.startsWith(SEGMENT_V3_API))
+			path = path.substring(SEGMENT_V3_API.length());
+		String[] segments = path.split("/"); //$NON-NLS-1$
+		StringBuilder template = new StringBuilder(path.length());
+		String previous = null;
+		for (int i = 0; i < segments.length; i++) {
+			String segment = segments[i];
+			if (segment.length() == 0)
+				continue;
+			template.append('/');
+			if ("repos".equals(previous) && i + 1 < segments.length) { //$NON-NLS-1$
+				template.append("{owner}/{repo}"); //$NON-NLS-1$
+				i++;
+				previous = "{repo}"; //$NON-NLS-1$
+				continue;
+			}
+			if (previous != null && REST_PATHS.contains(previous)) {
+				template.append("{path}"); //$NON-NLS-1$
+				break;
+			}
+			if (previous != null && OWNED.contains(previous))
+				template.append(placeholder(previous, segment));
+			else if (isNumber(segment))
+				template.append("{number}"); //$NON-NLS-1$
+			else if (isSha(segment))
+				template.append("{sha}"); //$NON-NLS-1$
+			else if (RESOURCES.contains(segment))
+				template.append(segment);
+			else
+				template.append("{name}"); //$NON-NLS-1$
+			previous = segment;
+		}
+		if (template.length() == 0)
+			template.append('/');
+		return template.toString();
+	}
+
+	private static String placeholder(String collection, String segment) {
+		switch (collection) {
+		case "users": //$NON-NLS-1$
+			return "{user}"; //$NON-NLS-1$
+		case "orgs": //$NON-NLS-1$
+			return "{org}"; //$NON-NLS-1$
+		case "repos": //$NON-NLS-1$
+			return "{owner}"; //$NON-NLS-1$
+		default:
+			return isNumber(segment) ? "{number}" : "{id}"; //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	private static boolean isNumber(String segment) {
+		for (int i = 0; i < segment.length(); i++)
+			if (!Character.isDigit(segment.charAt(i)))
+				return false;
+		return true;
+	}
+
+	private static boolean isSha(String segment) {
+		if (segment.length() != 40)
+			return false;
+		for (int i = 0; i < segment.length(); i++)
+			if (Character.digit(segment.charAt(i), 16) == -1)
+				return false;
+		return true;
+	}
+
+	private final String method;
+
+	private final String uri;
+
+	private final String template;
+
+	private final int status;
+
+	private final long timeToFirstByte;
+
+	private final long parseTime;
+
+	private final long totalTime;
+
+	private final long wireBytes;
+
+	private final long decodedBytes;
+
+	private final int page;
+
+	private final int rateLimit;
+
+	private final int rateLimitRemaining;
+
+	private final long rateLimitReset;
+
+	private final IOException failure;
+
+	/**
+	 * Create metrics
+	 *
+	 * @param method
+	 * @param uri
+	 * @param status
+	 * @param timeToFirstByte
+	 * @param parseTime
+	 * @param totalTime
+	 * @param wireBytes
+	 * @param decodedBytes
+	 * @param page
+	 * @param rateLimit
+	 * @param rateLimitRemaining
+	 * @param rateLimitReset
+	 * @param failure
+	 */
+	public RequestMetrics(String method, String uri, int status,
+			long timeToFirstByte, long parseTime, long totalTime,
+			long wireBytes, long decodedBytes, int page, int rateLimit,
+			int rateLimitRemaining, long rateLimitReset, IOException failure) {
+		this.method = method;
+		this.uri = uri;
+		this.template = toTemplate(uri);
+		this.status = status;
+		this.timeToFirstByte = timeToFirstByte;
+		this.parseTime = parseTime;
+		this.totalTime = totalTime;
+		this.wireBytes = wireBytes;
+		this.decodedBytes = decodedBytes;
+		this.page = page;
+		this.rateLimit = rateLimit;
+		this.rateLimitRemaining = rateLimitRemaining;
+		this.rateLimitReset = rateLimitReset;
+		this.failure = failure;
+	}
+
+	/**
+	 * @return method
+	 */
+	public String getMethod() {
+		return method;
+	}
+
+	/**
+	 * @return uri relative to the API root
+	 */
+	public String getUri() {
+		return uri;
+	}
+
+	/**
+	 * @return uri template
+	 * @see #toTemplate(String)
+	 */
+	public String getTemplate() {
+		return template;
+	}
+
+	/**
+	 * @return response status or -1 if no response was received
+	 */
+	public int getStatus() {
+		return status;
+	}
+
+	/**
+	 * @return time from sending the request until the response status was
+	 *         received or -1 if no response was received
+	 */
+	public long getTimeToFirstByte() {
+		return timeToFirstByte;
+	}
+
+	/**
+	 * @return time spent parsing the response body
+	 */
+	public long getParseTime() {
+		return parseTime;
+	}
+
+	/**
+	 * @return time from sending the request until the response was read
+	 */
+	public long getTotalTime() {
+		return totalTime;
+	}
+
+	/**
+	 * @return number of body bytes received before decoding
+	 */
+	public long getWireBytes() {
+		return wireBytes;
+	}
+
+	/**
+	 * @return number of body bytes read after decoding
+	 */
+	public long getDecodedBytes() {
+		return decodedBytes;
+	}
+
+	/**
+	 * @return page number requested or -1 if not a paged request
+	 */
+	public int getPage() {
+		return page;
+	}
+
+	/**
+	 * @return value of the 'X-RateLimit-Limit' header or -1 if not present
+	 */
+	public int getRateLimit() {
+		return rateLimit;
+	}
+
+	/**
+	 * @return value of the 'X-RateLimit-Remaining' header or -1 if not
+	 *         present
+	 */
+	public int getRateLimitRemaining() {
+		return rateLimitRemaining;
+	}
+
+	/**
+	 * @return value of the 'X-RateLimit-Reset' header in seconds since the
+	 *         epoch or -1 if not present
+	 */
+	public long getRateLimitReset() {
+		return rateLimitReset;
+	}
+
+	/**
+	 * @return exception the request failed with or null if it succeeded
+	 */
+	public IOException getFailure() {
+		return failure;
+	}
+
+	@Override
+	public String toString() {
+		return method + ' ' + uri + ' ' + status + ' ' + totalTime / 1000000
+				+ "ms"; //$NON-NLS-1$
+	}
+}
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.client;
+
+import static org.eclipse.egit.github.core.client.IGitHubConstants.HEADER_RATE_LIMIT;
+import static org.eclipse.egit.github.core.client.IGitHubConstants.HEADER_RATE_REMAINING;
+import static org.eclipse.egit.github.core.client.IGitHubConstants.HEADER_RATE_RESET;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Recorder collecting the measurements of one request while it is made
+ */
+class RequestRecorder {
+
+	private static final Pattern PAGE = Pattern.compile("[?&]" //$NON-NLS-1$
+			+ IGitHubConstants.PARAM_PAGE + "=(\\d+)"); //$NON-NLS-1$
+
+	final HttpURLConnection connection;
+
+	final AtomicLong wireBytes = new AtomicLong();
+
+	final AtomicLong decodedBytes = new AtomicLong();
+
+	private final String method;
+
+	private final String uri;
+
+	private final long start = System.nanoTime();
+
+	private final AtomicBoolean completed = new AtomicBoolean();
+
+	private volatile long timeToFirstByte = -1;
+
+	private volatile long parseTime;
+
+	private volatile int status = -1;
+
+	private volatile int rateLimit = -1;
+
+	private volatile int rateLimitRemaining = -1;
+
+	private volatile long rateLimitReset = -1;
+
+	/**
+	 * Complete the request when the response stream is closed
+	 */
+	volatile boolean completeOnClose;
+
+	RequestRecorder(HttpURLConnection connection, String method, String uri) {
+		this.connection = connection;
+		this.method = method;
+		this.uri = uri;
+	}
+
+	void responseReceived() {
+		timeToFirstByte = System.nanoTime() - start;
+		try {
+			status = connection.getResponseCode();
+		} catch (IOException e) {
+			status = -1;
+		}
+		rateLimit = (int) RateLimitScheduler.parseLong(connection
+				.getHeaderField(HEADER_RATE_LIMIT));
+		rateLimitRemaining = (int) RateLimitScheduler.parseLong(connection
+				.getHeaderField(HEADER_RATE_REMAINING));
+		rateLimitReset = RateLimitScheduler.parseLong(connection
+				.getHeaderField(HEADER_RATE_RESET));
+	}
+
+	void parsed(long time) {
+		parseTime += time;
+	}
+
+	/**
+	 * Complete the request
+	 *
+	 * @param failure
+	 * @return metrics or null if already completed
+	 */
+	RequestMetrics complete(IOException failure) {
+		if (!completed.compareAndSet(false, true))
+			return null;
+		Matcher matcher = PAGE.matcher(uri);
+		int page = -1;
+		if (matcher.find())
+			try {
+				page = Integer.parseInt(matcher.group(1));
+			} catch (NumberFormatException e) {
+				page = -1;
+			}
+		return new RequestMetrics(method, uri, status, timeToFirstByte,
+				parseTime, System.nanoTime() - start, wireBytes.get(),
+				decodedBytes.get(), page, rateLimit, rateLimitRemaining,
+				rateLimitReset, failure);
+	}
+}
@@ -0,0 +1,232 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.client;
+
+import static com.google.gson.stream.JsonToken.BEGIN_ARRAY;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+
+/**
+ * Iterator over the resources of all pages of a paged request that decodes
+ * one resource at a time from the response stream.
+ * <p>
+ * Pages are requested lazily by following the next page link of the previous
+ * response once all its resources have been returned, so only the resource
+ * being decoded is held in memory. Failures reading a page are thrown as
+ * {@link NoSuchPageException} from {@link #hasNext()} or {@link #next()}.
+ * <p>
+ * The iterator holds an open connection while iterating; {@link #close()}
+ * should be called when iteration stops before the last resource.
+ *
+ * @param <V>
+ *            type of resource being iterated over
+ * @see GitHubClient#stream(PagedRequest)
+ * @since 6.2
+ */
+public class ResourceIterator<V> implements Iterator<V>, Closeable {
+
+	private final GitHubClient client;
+
+	private final String accept;
+
+	private final TypeAdapter<V> adapter;
+
+	private final Set<String> fields;
+
+	private String next;
+
+	private JsonReader reader;
+
+	/**
+	 * Create iterator over the resources of the paged request
+	 *
+	 * @param request
+	 *            request whose type or array type is a collection or array
+	 *            type
+	 * @param client
+	 */
+	@SuppressWarnings("unchecked")
+	public ResourceIterator(PagedRequest<V> request, GitHubClient client) {
+		Type arrayType = request.getArrayType();
+		Type elementType = getElementType(arrayType != null ? arrayType
+				: request.getType());
+		if (elementType == null)
+			throw new IllegalArgumentException(
+					"Request type must be a collection or array type"); //$NON-NLS-1$
+		this.client = client;
+		accept = request.getResponseContentType();
+		fields = request.getFields();
+		adapter = (TypeAdapter<V>) client.gson.getAdapter(TypeToken
+				.get(elementType));
+		next = request.generateUri();
+	}
+
+	private static Type getElementType(Type type) {
+		if (type instanceof Class && ((Class<?>) type).isArray())
+			return ((Class<?>) type).getComponentType();
+		if (type instanceof GenericArrayType)
+			return ((GenericArrayType) type).getGenericComponentType();
+		if (type instanceof ParameterizedType) {
+			ParameterizedType parameterized = (ParameterizedType) type;
+			Type raw = parameterized.getRawType();
+			Type[] arguments = parameterized.getActualTypeArguments();
+			if (raw instanceof Class
+					&& Collection.class.isAssignableFrom((Class<?>) raw)
+					&& arguments.length == 1)
+				return arguments[0];
+		}
+		return null;
+	}
+
+	/**
+	 * Request the next page and position the reader at its first resource
+	 * <p>
+	 * The request is retried according to the {@link RetryPolicy} of the
+	 * client while it fails before any resource of the page is read.
+	 *
+	 * @throws IOException
+	 */
+	private void openPage() throws IOException {
+		final String uri = next;
+		next = null;
+		reader = client.executeWithRetry(GitHubClient.METHOD_GET, uri, null,
+				() -> requestPage(uri));
+	}
+
+	/**
+	 * Request the page at the URI and set the URI of the next page
+	 *
+	 * @param uri
+	 * @return reader positioned at the first resource, null if the page is
+	 *         empty
+	 * @throws IOException
+	 */
+	private JsonReader requestPage(String uri) throws IOException {
+		HttpURLConnection request = client.createGet(uri);
+		if (accept != null)
+			request.setRequestProperty(GitHubClient.HEADER_ACCEPT, accept);
+		JsonReader page = null;
+		try {
+			int code = request.getResponseCode();
+			client.updateRateLimits(request);
+			if (!client.isOk(code)) {
+				if (client.isEmpty(code)) {
+					client.completeRequest(request, null);
+					return null;
+				}
+				throw client.createException(client.getStream(request), code,
+						request.getResponseMessage());
+			}
+			client.completeOnClose(request);
+			page = ProjectingJsonReader.create(new BufferedReader(
+					new InputStreamReader(client.getStream(request),
+							StandardCharsets.UTF_8), client.getBufferSize()),
+					fields);
+			if (page.peek() != BEGIN_ARRAY)
+				throw new IOException("Response is not a JSON array"); //$NON-NLS-1$
+			page.beginArray();
+			String link = new GitHubResponse(request, null).getNext();
+			next = link != null ? PageIterator.getRequestUri(link) : null;
+			return page;
+		} catch (IOException e) {
+			client.completeRequest(request, e);
+			if (page != null)
+				try {
+					page.close();
+				} catch (IOException ignored) {
+					// Ignored
+				}
+			throw e;
+		}
+	}
+
+	private void closeReader() {
+		if (reader == null)
+			return;
+		try {
+			reader.close();
+		} catch (IOException ignored) {
+			// Ignored
+		}
+		reader = null;
+	}
+
+	@Override
+	public boolean hasNext() {
+		try {
+			while (true) {
+				if (reader != null) {
+					if (reader.hasNext())
+						return true;
+					reader.endArray();
+					closeReader();
+				}
+				if (next == null)
+					return false;
+				openPage();
+			}
+		} catch (IOException e) {
+			close();
+			throw new NoSuchPageException(e);
+		}
+	}
+
+	@Override
+	public V next() {
+		if (!hasNext())
+			throw new NoSuchElementException();
+		try {
+			return adapter.read(reader);
+		} catch (JsonParseException | IllegalStateException e) {
+			close();
+			IOException ioe = new IOException(
+					"Parse exception converting JSON to object"); //$NON-NLS-1$
+			ioe.initCause(e);
+			throw new NoSuchPageException(ioe);
+		} catch (IOException e) {
+			close();
+			throw new NoSuchPageException(e);
+		}
+	}
+
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException("Remove not supported"); //$NON-NLS-1$
+	}
+
+	/**
+	 * Stop iterating and release the connection of the current page
+	 */
+	@Override
+	public void close() {
+		closeReader();
+		next = null;
+	}
+}
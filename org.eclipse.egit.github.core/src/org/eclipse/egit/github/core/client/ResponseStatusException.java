@@ -0,0 +1,51 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.client;
+
+import java.io.IOException;
+
+/**
+ * Exception thrown for an unsuccessful response whose body does not describe
+ * a {@link RequestException}, such as a gateway error returned by a proxy.
+ *
+ * @since 6.2
+ */
+public class ResponseStatusException extends IOException {
+
+	/**
+	 * serialVersionUID
+	 */
+	private static final long serialVersionUID = -2474530937216846418L;
+
+	private final int status;
+
+	/**
+	 * Create exception for response status
+	 *
+	 * @param message
+	 * @param status
+	 */
+	public ResponseStatusException(String message, int status) {
+		super(message);
+		this.status = status;
+	}
+
+	/**
+	 * Get status
+	 *
+	 * @return status
+	 */
+	public int getStatus() {
+		return status;
+	}
+}
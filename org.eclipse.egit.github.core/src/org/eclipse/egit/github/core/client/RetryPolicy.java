@@ -0,0 +1,217 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.client;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Policy deciding which failed requests a {@link GitHubClient} retries and
+ * how long it waits before each retry.
+ * <p>
+ * Idempotent requests (GET, HEAD, PUT and DELETE) are retried when they fail
+ * with a transient error: a 502, 503 or 504 response, a connection failure or
+ * timeout, or a response cut short. POST and PATCH requests are only retried
+ * when their path was marked safe with {@link #addSafePath(String)}.
+ * <p>
+ * The delay before retry n is chosen randomly between half and all of
+ * {@code initialDelay * 2^(n-1)}, capped at the maximum delay. No retry is
+ * made once the maximum number of attempts is reached or when waiting would
+ * exceed the deadline measured from the first attempt.
+ *
+ * @see GitHubClient#setRetryPolicy(RetryPolicy)
+ * @since 6.2
+ */
+public class RetryPolicy {
+
+	/**
+	 * Default maximum number of attempts including the first one
+	 */
+	public static final int DEFAULT_MAX_ATTEMPTS = 4;
+
+	/**
+	 * Default delay in milliseconds before the first retry
+	 */
+	public static final long DEFAULT_INITIAL_DELAY = 500;
+
+	/**
+	 * Default maximum delay in milliseconds between attempts
+	 */
+	public static final long DEFAULT_MAX_DELAY = 30 * 1000L;
+
+	/**
+	 * Default deadline in milliseconds for all attempts of a request
+	 */
+	public static final long DEFAULT_DEADLINE = 2 * 60 * 1000L;
+
+	private final int maxAttempts;
+
+	private final long initialDelay;
+
+	private final long maxDelay;
+
+	private final long deadline;
+
+	private final List<String> safePaths = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Create policy with default limits
+	 */
+	public RetryPolicy() {
+		this(DEFAULT_MAX_ATTEMPTS, DEFAULT_INITIAL_DELAY, DEFAULT_MAX_DELAY,
+				DEFAULT_DEADLINE);
+	}
+
+	/**
+	 * Create policy
+	 *
+	 * @param maxAttempts
+	 *            including the first attempt, must be greater than zero
+	 * @param initialDelay
+	 *            in milliseconds before the first retry
+	 * @param maxDelay
+	 *            in milliseconds between attempts
+	 * @param deadline
+	 *            in milliseconds for all attempts of a request
+	 */
+	public RetryPolicy(int maxAttempts, long initialDelay, long maxDelay,
+			long deadline) {
+		if (maxAttempts < 1)
+			throw new IllegalArgumentException(
+					"Max attempts must be greater than zero"); //$NON-NLS-1$
+		if (initialDelay < 0 || maxDelay < initialDelay || deadline < 0)
+			throw new IllegalArgumentException("Invalid delays"); //$NON-NLS-1$
+		this.maxAttempts = maxAttempts;
+		this.initialDelay = initialDelay;
+		this.maxDelay = maxDelay;
+		this.deadline = deadline;
+	}
+
+	/**
+	 * Get maximum number of attempts including the first one
+	 *
+	 * @return max attempts
+	 */
+	public int getMaxAttempts() {
+		return maxAttempts;
+	}
+
+	/**
+	 * Get deadline for all attempts of a request
+	 *
+	 * @return milliseconds
+	 */
+	public long getDeadline() {
+		return deadline;
+	}
+
+	/**
+	 * Mark POST and PATCH requests to the path and to paths below it safe to
+	 * retry
+	 *
+	 * @param path
+	 *            relative to the API root, e.g. {@code /markdown}
+	 * @return this policy
+	 */
+	public RetryPolicy addSafePath(String path) {
+		if (path == null || path.length() == 0)
+			throw new IllegalArgumentException(
+					"Path cannot be null or empty"); //$NON-NLS-1$
+		safePaths.add(path);
+		return this;
+	}
+
+	/**
+	 * May the request be retried?
+	 *
+	 * @param method
+	 * @param uri
+	 *            relative to the API root
+	 * @return true if retryable, false otherwise
+	 */
+	public boolean isRetryable(String method, String uri) {
+		switch (method) {
+		case "GET": //$NON-NLS-1$
+		case "HEAD": //$NON-NLS-1$
+		case "PUT": //$NON-NLS-1$
+		case "DELETE": //$NON-NLS-1$
+			return true;
+		default:
+			break;
+		}
+		int query = uri.indexOf('?');
+		String path = query != -1 ? uri.substring(0, query) : uri;
+		for (String safe : safePaths)
+			if (path.startsWith(safe)
+					&& (path.length() == safe.length() || path.charAt(safe
+							.length()) == '/'))
+				return true;
+		return false;
+	}
+
+	/**
+	 * Is the response status transient?
+	 *
+	 * @param status
+	 * @return true if transient, false otherwise
+	 */
+	public boolean isTransient(int status) {
+		switch (status) {
+		case 502:
+		case 503:
+		case 504:
+			return true;
+		default:
+			return false;
+		}
+	}
+
+	/**
+	 * Is the failure transient?
+	 *
+	 * @param failure
+	 * @return true if transient, false otherwise
+	 */
+	public boolean isTransient(IOException failure) {
+		if (failure instanceof RequestException)
+			return isTransient(((RequestException) failure).getStatus());
+		if (failure instanceof ResponseStatusException)
+			return isTransient(((ResponseStatusException) failure)
+					.getStatus());
+		return failure instanceof SocketException
+				|| failure instanceof SocketTimeoutException
+				|| failure instanceof EOFException;
+	}
+
+	/**
+	 * Get delay before a retry
+	 *
+	 * @param retry
+	 *            number of the retry, starting at 1
+	 * @return milliseconds
+	 */
+	public long getDelay(int retry) {
+		long delay = initialDelay;
+		for (int i = 1; i < retry && delay < maxDelay; i++)
+			delay *= 2;
+		delay = Math.min(delay, maxDelay);
+		if (delay < 2)
+			return delay;
+		return delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+	}
+}
@@ -0,0 +1,290 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.client;
+
+import static org.eclipse.egit.github.core.client.IGitHubConstants.HEADER_RATE_LIMIT;
+import static org.eclipse.egit.github.core.client.IGitHubConstants.HEADER_RATE_REMAINING;
+import static org.eclipse.egit.github.core.client.IGitHubConstants.HEADER_RATE_RESET;
+import static org.eclipse.egit.github.core.client.IGitHubConstants.SEGMENT_V3_API;
+
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Pool of OAuth2 tokens a {@link GitHubClient} rotates through to spread
+ * requests over the rate limits of several tokens.
+ * <p>
+ * Each request is sent with the token that has the most requests remaining
+ * according to the 'X-RateLimit-*' headers of the responses to that token.
+ * Tokens without remaining requests are skipped until their limit resets.
+ * <p>
+ * Requests for which the identity of the caller matters always use the
+ * primary token, which is the first token of the pool. These are all requests
+ * other than GET requests as well as requests to sticky paths, which by
+ * default are {@code /user} and {@code /notifications} and everything below
+ * them.
+ *
+ * @see GitHubClient#setTokenPool(TokenPool)
+ * @since 6.2
+ */
+public class TokenPool {
+
+	private static class TokenState {
+
+		final String token;
+
+		int limit = -1;
+
+		int remaining = -1;
+
+		long reset = -1;
+
+		TokenState(String token) {
+			this.token = token;
+		}
+	}
+
+	private final List<TokenState> tokens;
+
+	private final List<String> stickyPaths = new CopyOnWriteArrayList<>(
+			Arrays.asList("/user", "/notifications")); //$NON-NLS-1$ //$NON-NLS-2$
+
+	private final Map<HttpURLConnection, TokenState> assigned = new WeakHashMap<>();
+
+	/**
+	 * Create pool of tokens
+	 *
+	 * @param tokens
+	 *            at least one token, the first one being the primary token
+	 */
+	public TokenPool(String... tokens) {
+		this(Arrays.asList(tokens));
+	}
+
+	/**
+	 * Create pool of tokens
+	 *
+	 * @param tokens
+	 *            at least one token, the first one being the primary token
+	 */
+	public TokenPool(Collection<String> tokens) {
+		if (tokens == null || tokens.isEmpty())
+			throw new IllegalArgumentException(
+					"Tokens cannot be null or empty"); //$NON-NLS-1$
+		this.tokens = new ArrayList<>(tokens.size());
+		for (String token : tokens) {
+			if (token == null || token.length() == 0)
+				throw new IllegalArgumentException(
+						"Token cannot be null or empty"); //$NON-NLS-1$
+			this.tokens.add(new TokenState(token));
+		}
+	}
+
+	/**
+	 * Get current time
+	 *
+	 * @return milliseconds since the epoch
+	 */
+	protected long currentTimeMillis() {
+		return System.currentTimeMillis();
+	}
+
+	/**
+	 * Get number of tokens in the pool
+	 *
+	 * @return size
+	 */
+	public int size() {
+		return tokens.size();
+	}
+
+	/**
+	 * Get token used for requests for which identity matters
+	 *
+	 * @return primary token
+	 */
+	public String getPrimaryToken() {
+		return tokens.get(0).token;
+	}
+
+	/**
+	 * Add path whose requests always use the primary token. Requests to the
+	 * path itself and to paths below it are sticky.
+	 *
+	 * @param path
+	 *            relative to the API root, e.g. {@code /user}
+	 * @return this pool
+	 */
+	public TokenPool addStickyPath(String path) {
+		if (path == null || path.length() == 0)
+			throw new IllegalArgumentException(
+					"Path cannot be null or empty"); //$NON-NLS-1$
+		stickyPaths.add(path);
+		return this;
+	}
+
+	/**
+	 * Must the request use the primary token?
+	 *
+	 * @param method
+	 * @param path
+	 *            relative to the API root
+	 * @return true if sticky, false if any token may be used
+	 */
+	public boolean isSticky(String method, String path) {
+		if (!GitHubClient.METHOD_GET.equals(method))
+			return true;
+		for (String sticky : stickyPaths)
+			if (path.startsWith(sticky)
+					&& (path.length() == sticky.length() || path.charAt(sticky
+							.length()) == '/'))
+				return true;
+		return false;
+	}
+
+	/**
+	 * Select token for a request and count the request against its remaining
+	 * requests
+	 *
+	 * @param method
+	 * @param path
+	 *            relative to the API root
+	 * @return token
+	 */
+	public String select(String method, String path) {
+		return selectState(method, path).token;
+	}
+
+	private synchronized TokenState selectState(String method, String path) {
+		TokenState selected = null;
+		if (isSticky(method, path))
+			selected = tokens.get(0);
+		else {
+			long now = currentTimeMillis();
+			for (TokenState state : tokens) {
+				if (state.reset > 0 && state.reset <= now) {
+					state.remaining = -1;
+					state.reset = -1;
+				}
+				if (state.remaining == 0)
+					continue;
+				if (selected == null || state.remaining < 0
+						|| selected.remaining >= 0
+						&& state.remaining > selected.remaining)
+					selected = state;
+				if (selected.remaining < 0)
+					break;
+			}
+			// All tokens are exhausted, use the one that resets first
+			if (selected == null)
+				for (TokenState state : tokens)
+					if (selected == null || state.reset < selected.reset)
+						selected = state;
+		}
+		if (selected.remaining > 0)
+			selected.remaining--;
+		return selected;
+	}
+
+	/**
+	 * Select token for the connection. The token is recorded so that
+	 * {@link #update(HttpURLConnection)} attributes the rate limits of the
+	 * response to it.
+	 *
+	 * @param connection
+	 *            unconnected connection
+	 * @return token
+	 */
+	public String assign(HttpURLConnection connection) {
+		String path = connection.getURL().getPath();
+		if (path.startsWith(SEGMENT_V3_API))
+			path = path.substring(SEGMENT_V3_API.length());
+		TokenState state = selectState(connection.getRequestMethod(), path);
+		synchronized (assigned) {
+			assigned.put(connection, state);
+		}
+		return state.token;
+	}
+
+	/**
+	 * Update the rate limits of the token assigned to the connection from the
+	 * headers of its response
+	 *
+	 * @param response
+	 */
+	public void update(HttpURLConnection response) {
+		TokenState state;
+		synchronized (assigned) {
+			state = assigned.remove(response);
+		}
+		if (state == null)
+			return;
+		long limit = RateLimitScheduler.parseLong(response
+				.getHeaderField(HEADER_RATE_LIMIT));
+		long remaining = RateLimitScheduler.parseLong(response
+				.getHeaderField(HEADER_RATE_REMAINING));
+		long reset = RateLimitScheduler.parseLong(response
+				.getHeaderField(HEADER_RATE_RESET));
+		synchronized (this) {
+			if (limit >= 0)
+				state.limit = (int) limit;
+			if (remaining >= 0)
+				state.remaining = (int) remaining;
+			if (reset >= 0)
+				state.reset = reset * 1000;
+		}
+	}
+
+	private synchronized TokenState getState(String token) {
+		for (TokenState state : tokens)
+			if (state.token.equals(token))
+				return state;
+		throw new IllegalArgumentException("Token not in pool"); //$NON-NLS-1$
+	}
+
+	/**
+	 * Get last known request limit of the token
+	 *
+	 * @param token
+	 * @return limit or -1 if unknown
+	 */
+	public synchronized int getLimit(String token) {
+		return getState(token).limit;
+	}
+
+	/**
+	 * Get estimated number of requests remaining for the token
+	 *
+	 * @param token
+	 * @return remaining requests or -1 if unknown
+	 */
+	public synchronized int getRemaining(String token) {
+		return getState(token).remaining;
+	}
+
+	/**
+	 * Get time at which the limit of the token resets
+	 *
+	 * @param token
+	 * @return milliseconds since the epoch or -1 if unknown
+	 */
+	public synchronized long getReset(String token) {
+		return getState(token).reset;
+	}
+}
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.service;
+
+import static org.eclipse.egit.github.core.client.IGitHubConstants.CHARSET_UTF8;
+import static org.eclipse.egit.github.core.client.IGitHubConstants.CONTENT_TYPE_JSON;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.egit.github.core.Blob;
+import org.eclipse.egit.github.core.client.IRequestBody;
+import org.eclipse.egit.github.core.util.EncodingUtils;
+
+/**
+ * JSON body of a blob whose base64 encoded content is read from a stream as
+ * the body is written
+ */
+class BlobBody implements IRequestBody {
+
+	private static final byte[] PREFIX = ("{\"encoding\":\"" //$NON-NLS-1$
+			+ Blob.ENCODING_BASE64 + "\",\"content\":\"") //$NON-NLS-1$
+			.getBytes(StandardCharsets.UTF_8);
+
+	private static final byte[] SUFFIX = "\"}" //$NON-NLS-1$
+			.getBytes(StandardCharsets.UTF_8);
+
+	private final InputStream content;
+
+	private final long length;
+
+	private final int bufferSize;
+
+	private boolean written;
+
+	/**
+	 * Create body of the given number of bytes read from the stream
+	 *
+	 * @param content
+	 * @param length
+	 * @param bufferSize
+	 */
+	BlobBody(InputStream content, long length, int bufferSize) {
+		this.content = content;
+		this.length = length;
+		this.bufferSize = bufferSize;
+	}
+
+	@Override
+	public String getContentType() {
+		return CONTENT_TYPE_JSON + "; charset=" + CHARSET_UTF8; //$NON-NLS-1$
+	}
+
+	@Override
+	public long getLength() {
+		return PREFIX.length + (length + 2) / 3 * 4 + SUFFIX.length;
+	}
+
+	@Override
+	public void writeTo(final OutputStream output) throws IOException {
+		if (written)
+			throw new IOException("Blob content can only be sent once"); //$NON-NLS-1$
+		written = true;
+		output.write(PREFIX);
+		// Closing the encoder writes the padding but must leave the output open
+		OutputStream encoder = EncodingUtils.toBase64(new FilterOutputStream(
+				output) {
+
+			@Override
+			public void write(byte[] b, int off, int len) throws IOException {
+				out.write(b, off, len);
+			}
+
+			@Override
+			public void close() throws IOException {
+				flush();
+			}
+		});
+		byte[] buffer = new byte[bufferSize];
+		long remaining = length;
+		while (remaining > 0) {
+			int read = content.read(buffer, 0,
+					(int) Math.min(buffer.length, remaining));
+			if (read == -1)
+				throw new IOException("Blob content ended " + remaining //$NON-NLS-1$
+						+ " bytes before its length"); //$NON-NLS-1$
+			encoder.write(buffer, 0, read);
+			remaining -= read;
+		}
+		encoder.close();
+		output.write(SUFFIX);
+	}
+}
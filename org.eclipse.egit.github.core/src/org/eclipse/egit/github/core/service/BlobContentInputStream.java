@@ -0,0 +1,236 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.egit.github.core.service;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Stream of the characters of the 'content' string of a JSON blob object read
+ * from the response stream as it is read.
+ * <p>
+ * The fields before the content are skipped without being decoded and the
+ * stream ends at the closing quote of the content, so memory use does not
+ * depend on the size of the blob. JSON escapes in the content are resolved.
+ */
+class BlobContentInputStream extends InputStream {
+
+	private static final String CONTENT = "content"; //$NON-NLS-1$
+
+	private final InputStream input;
+
+	private final byte[] buffer;
+
+	private int position;
+
+	private int limit;
+
+	private boolean started;
+
+	private boolean ended;
+
+	/**
+	 * Create stream of the content of the blob read from the given stream
+	 *
+	 * @param input
+	 * @param bufferSize
+	 */
+	BlobContentInputStream(InputStream input, int bufferSize) {
+		this.input = input;
+		buffer = new byte[bufferSize];
+	}
+
+	private int next() throws IOException {
+		if (position == limit) {
+			limit = input.read(buffer, 0, buffer.length);
+			position = 0;
+			if (limit <= 0) {
+				limit = 0;
+				throw new EOFException("Unterminated blob JSON"); //$NON-NLS-1$
+			}
+		}
+		return buffer[position++] & 0xff;
+	}
+
+	private int nextToken() throws IOException {
+		int c;
+		do
+			c = next();
+		while (isWhitespace(c));
+		return c;
+	}
+
+	private IOException syntaxError(int c) {
+		return new IOException("Unexpected character '" + (char) c //$NON-NLS-1$
+				+ "' in blob JSON"); //$NON-NLS-1$
+	}
+
+	/**
+	 * Read the next character of a string, resolving escapes
+	 *
+	 * @return character or -1 at the closing quote
+	 * @throws IOException
+	 */
+	private int nextChar() throws IOException {
+		int c = next();
+		if (c == '"')
+			return -1;
+		if (c != '\\')
+			return c;
+		c = next();
+		switch (c) {
+		case 'n':
+			return '\n';
+		case 'r':
+			return '\r';
+		case 't':
+			return '\t';
+		case 'b':
+			return '\b';
+		case 'f':
+			return '\f';
+		case 'u':
+			int value = 0;
+			for (int i = 0; i < 4; i++) {
+				int digit = Character.digit(next(), 16);
+				if (digit == -1)
+					throw new IOException(
+							"Invalid unicode escape in blob JSON"); //$NON-NLS-1$
+				value = (value << 4) | digit;
+			}
+			return value;
+		default:
+			return c;
+		}
+	}
+
+	private String nextName() throws IOException {
+		int c = nextToken();
+		if (c != '"')
+			throw syntaxError(c);
+		StringBuilder name = new StringBuilder();
+		while ((c = nextChar()) != -1)
+			name.append((char) c);
+		c = nextToken();
+		if (c != ':')
+			throw syntaxError(c);
+		return name.toString();
+	}
+
+	private static boolean isWhitespace(int c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+	}
+
+	/**
+	 * Skip value whose first character was read
+	 *
+	 * @param first
+	 * @return first token following the value
+	 * @throws IOException
+	 */
+	private int skipValue(int first) throws IOException {
+		int c = first;
+		if (c == '"') {
+			skipString();
+			return nextToken();
+		}
+		if (c == '{' || c == '[') {
+			int depth = 1;
+			while (depth > 0) {
+				c = nextToken();
+				if (c == '"')
+					skipString();
+				else if (c == '{' || c == '[')
+					depth++;
+				else if (c == '}' || c == ']')
+					depth--;
+			}
+			return nextToken();
+		}
+		// Number or literal
+		do
+			c = next();
+		while (c != ',' && c != '}' && c != ']' && !isWhitespace(c));
+		return isWhitespace(c) ? nextToken() : c;
+	}
+
+	private void skipString() throws IOException {
+		while (nextChar() != -1) {
+			// Skip characters
+		}
+	}
+
+	/**
+	 * Position the stream at the first character of the content
+	 *
+	 * @return true if positioned, false if the blob has no content
+	 * @throws IOException
+	 */
+	private boolean seekContent() throws IOException {
+		int c = nextToken();
+		if (c != '{')
+			throw syntaxError(c);
+		c = nextToken();
+		if (c == '}')
+			return false;
+		position--;
+		while (true) {
+			String name = nextName();
+			c = nextToken();
+			if (CONTENT.equals(name) && c == '"')
+				return true;
+			c = skipValue(c);
+			if (c == '}')
+				return false;
+			if (c != ',')
+				throw syntaxError(c);
+		}
+	}
+
+	@Override
+	public int read() throws IOException {
+		if (!started) {
+			started = true;
+			ended = !seekContent();
+		}
+		if (ended)
+			return -1;
+		int c = nextChar();
+		if (c == -1)
+			ended = true;
+		return c;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (len == 0)
+			return 0;
+		int count = 0;
+		while (count < len) {
+			// Stop at the end of the buffer rather than block for more input
+			if (count > 0 && position == limit)
+				break;
+			int c = read();
+			if (c == -1)
+				break;
+			b[off + count++] = (byte) c;
+		}
+		return count > 0 ? count : -1;
+	}
+
+	@Override
+	public void close() throws IOException {
+		input.close();
+	}
+}
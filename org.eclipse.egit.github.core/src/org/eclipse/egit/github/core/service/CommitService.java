@@ -27,6 +27,7 @@ import java.io.InputStream;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.egit.github.core.CommitComment;
 import org.eclipse.egit.github.core.CommitStatus;
@@ -174,6 +175,19 @@ public class CommitService extends GitHubService {
 		return (RepositoryCommit) client.get(request).getBody();
 	}
 
+	/**
+	 * Get commit for given SHA-1 without blocking the calling thread
+	 *
+	 * @param repository
+	 * @param sha
+	 * @return future commit
+	 * @since 6.2
+	 */
+	public CompletableFuture<RepositoryCommit> getCommitAsync(
+			final IRepositoryIdProvider repository, final String sha) {
+		return submit(() -> getCommit(repository, sha));
+	}
+
 	/**
 	 * Get diff for commit with given SHA-1 from given repository. It is the
 	 * responsibility of the calling method to close the returned stream.
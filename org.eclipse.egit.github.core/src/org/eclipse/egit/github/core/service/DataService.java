@@ -24,6 +24,7 @@ import static org.eclipse.egit.github.core.client.IGitHubConstants.SEGMENT_TREES
 import com.google.gson.reflect.TypeToken;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -43,6 +44,7 @@ import org.eclipse.egit.github.core.TypedResource;
 import org.eclipse.egit.github.core.client.GitHubClient;
 import org.eclipse.egit.github.core.client.GitHubRequest;
 import org.eclipse.egit.github.core.client.PagedRequest;
+import org.eclipse.egit.github.core.util.EncodingUtils;
 
 /**
  * Data service class for low-level access to Git repository data.
@@ -120,6 +122,74 @@ public class DataService extends GitHubService {
 		return created != null ? created.getSha() : null;
 	}
 
+	/**
+	 * Get stream of the content of the blob with given SHA-1. The base64
+	 * encoded content is decoded as the stream is read so that memory use does
+	 * not depend on the size of the blob. It is the responsibility of the
+	 * calling method to close the returned stream.
+	 *
+	 * @param repository
+	 * @param sha
+	 * @return stream of the decoded content
+	 * @throws IOException
+	 * @since 6.2
+	 */
+	public InputStream getBlobStream(IRepositoryIdProvider repository,
+			String sha) throws IOException {
+		final String id = getId(repository);
+		if (sha == null)
+			throw new IllegalArgumentException("SHA-1 cannot be null"); //$NON-NLS-1$
+		if (sha.length() == 0)
+			throw new IllegalArgumentException("SHA-1 cannot be empty"); //$NON-NLS-1$
+
+		StringBuilder uri = new StringBuilder();
+		uri.append(SEGMENT_REPOS);
+		uri.append('/').append(id);
+		uri.append(SEGMENT_GIT);
+		uri.append(SEGMENT_BLOBS);
+		uri.append('/').append(sha);
+		GitHubRequest request = createRequest();
+		request.setUri(uri);
+		return EncodingUtils.fromBase64(new BlobContentInputStream(
+				client.getStream(request), client.getBufferSize()));
+	}
+
+	/**
+	 * Create blob with the content read from the given stream. The content is
+	 * base64 encoded as it is sent so that memory use does not depend on the
+	 * size of the blob.
+	 * <p>
+	 * The stream is not closed and can only be sent once, so a request that
+	 * failed is not retried.
+	 *
+	 * @param repository
+	 * @param content
+	 * @param length
+	 *            number of bytes to read from the stream
+	 * @return SHA-1 of created blob
+	 * @throws IOException
+	 * @since 6.2
+	 */
+	public String createBlob(IRepositoryIdProvider repository,
+			InputStream content, long length) throws IOException {
+		final String id = getId(repository);
+		if (content == null)
+			throw new IllegalArgumentException("Content cannot be null"); //$NON-NLS-1$
+		if (length < 0)
+			throw new IllegalArgumentException(
+					"Length cannot be negative"); //$NON-NLS-1$
+
+		StringBuilder uri = new StringBuilder();
+		uri.append(SEGMENT_REPOS);
+		uri.append('/').append(id);
+		uri.append(SEGMENT_GIT);
+		uri.append(SEGMENT_BLOBS);
+		ShaResource created = client.post(uri.toString(),
+				new BlobBody(content, length, client.getBufferSize()),
+				ShaResource.class);
+		return created != null ? created.getSha() : null;
+	}
+
 	/**
 	 * Get tree with given SHA-1
 	 *
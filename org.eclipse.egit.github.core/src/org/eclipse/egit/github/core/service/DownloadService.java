@@ -24,7 +24,6 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.HttpURLConnection;
-import java.nio.file.Files;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -241,6 +240,7 @@ public class DownloadService extends GitHubService {
 	 * @param resource
 	 * @param content
 	 * @param size
+	 *            number of bytes of content to upload, -1 if unknown
 	 * @throws IOException
 	 */
 	public void uploadResource(DownloadResource resource, InputStream content,
@@ -252,6 +252,33 @@ public class DownloadService extends GitHubService {
 			throw new IllegalArgumentException(
 					"Content input stream cannot be null"); //$NON-NLS-1$
 
+		upload(resource, size >= 0 ? new MultiPartUtils.StreamPart(content,
+				size) : content);
+	}
+
+	/**
+	 * Upload the content of a file to be available as the download described
+	 * by the given resource. The file is sent from its channel without being
+	 * buffered in memory.
+	 *
+	 * @param resource
+	 * @param file
+	 * @throws IOException
+	 * @since 6.2
+	 */
+	public void uploadResource(DownloadResource resource, File file)
+			throws IOException {
+		if (resource == null)
+			throw new IllegalArgumentException(
+					"Download resource cannot be null"); //$NON-NLS-1$
+		if (file == null)
+			throw new IllegalArgumentException("File cannot be null"); //$NON-NLS-1$
+
+		upload(resource, file);
+	}
+
+	private void upload(DownloadResource resource, Object content)
+			throws IOException {
 		Map<String, Object> parts = new LinkedHashMap<>();
 		parts.put(UPLOAD_KEY, resource.getPath());
 		parts.put(UPLOAD_ACL, resource.getAcl());
@@ -312,7 +339,8 @@ public class DownloadService extends GitHubService {
 		if (file == null)
 			throw new IllegalArgumentException("File cannot be null"); //$NON-NLS-1$
 
-		return createDownload(repository, download, Files.newInputStream(file.toPath()),
-				file.length());
+		DownloadResource resource = createResource(repository, download);
+		uploadResource(resource, file);
+		return resource;
 	}
 }
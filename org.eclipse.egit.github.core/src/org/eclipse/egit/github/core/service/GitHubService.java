@@ -19,13 +19,17 @@ import static org.eclipse.egit.github.core.client.PagedRequest.PAGE_SIZE;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.egit.github.core.IRepositoryIdProvider;
 import org.eclipse.egit.github.core.client.GitHubClient;
 import org.eclipse.egit.github.core.client.GitHubRequest;
+import org.eclipse.egit.github.core.client.IRequestCallable;
 import org.eclipse.egit.github.core.client.NoSuchPageException;
 import org.eclipse.egit.github.core.client.PageIterator;
 import org.eclipse.egit.github.core.client.PagedRequest;
+import org.eclipse.egit.github.core.client.ParallelPageIterator;
+import org.eclipse.egit.github.core.client.PrefetchingPageIterator;
 import org.eclipse.egit.github.core.client.RequestException;
 
 /**
@@ -89,6 +93,10 @@ public abstract class GitHubService {
 	 */
 	protected final GitHubClient client;
 
+	private int pageWindow = 1;
+
+	private int prefetchDepth;
+
 	/**
 	 * Create service using a default {@link GitHubClient}
 	 */
@@ -117,6 +125,81 @@ public abstract class GitHubService {
 		return client;
 	}
 
+	/**
+	 * Get maximum number of pages fetched concurrently by iterators created by
+	 * this service
+	 *
+	 * @return page window, 1 if pages are fetched sequentially
+	 * @since 6.2
+	 */
+	public int getPageWindow() {
+		return pageWindow;
+	}
+
+	/**
+	 * Set maximum number of pages fetched concurrently by iterators created by
+	 * this service. Values greater than one fetch the remaining pages of a
+	 * paged request concurrently once the last page is known, using the
+	 * executor of the client.
+	 *
+	 * @param pageWindow
+	 *            must be greater than zero, defaults to 1
+	 * @return this service
+	 * @see ParallelPageIterator
+	 * @since 6.2
+	 */
+	public GitHubService setPageWindow(int pageWindow) {
+		if (pageWindow < 1)
+			throw new IllegalArgumentException(
+					"Page window must be greater than zero"); //$NON-NLS-1$
+		this.pageWindow = pageWindow;
+		return this;
+	}
+
+	/**
+	 * Get number of pages fetched ahead by iterators created by this service
+	 *
+	 * @return prefetch depth, 0 if pages are only fetched when requested
+	 * @since 6.2
+	 */
+	public int getPrefetchDepth() {
+		return prefetchDepth;
+	}
+
+	/**
+	 * Set number of pages fetched ahead by iterators created by this service.
+	 * Values greater than zero fetch the following pages in the background
+	 * while the current page is being processed. This setting is ignored when
+	 * a page window greater than one is configured.
+	 *
+	 * @param prefetchDepth
+	 *            must not be negative, defaults to 0
+	 * @return this service
+	 * @see PrefetchingPageIterator
+	 * @since 6.2
+	 */
+	public GitHubService setPrefetchDepth(int prefetchDepth) {
+		if (prefetchDepth < 0)
+			throw new IllegalArgumentException(
+					"Prefetch depth cannot be negative"); //$NON-NLS-1$
+		this.prefetchDepth = prefetchDepth;
+		return this;
+	}
+
+	/**
+	 * Run the callable on the executor of the client of this service. This is
+	 * the method all asynchronous variants of service methods use so
+	 * overriding classes can configure how they are run.
+	 *
+	 * @param <V>
+	 * @param callable
+	 * @return future result of the callable
+	 * @since 6.2
+	 */
+	protected <V> CompletableFuture<V> submit(IRequestCallable<V> callable) {
+		return client.submit(callable);
+	}
+
 	/**
 	 * Unified request creation method that all sub-classes should use so
 	 * overriding classes can extend and configure the default request.
@@ -157,6 +240,11 @@ public abstract class GitHubService {
 	 * @return iterator
 	 */
 	protected <V> PageIterator<V> createPageIterator(PagedRequest<V> request) {
+		if (pageWindow > 1)
+			return new ParallelPageIterator<>(request, client, pageWindow);
+		if (prefetchDepth > 0)
+			return new PrefetchingPageIterator<>(request, client,
+					prefetchDepth);
 		return new PageIterator<>(request, client);
 	}
 
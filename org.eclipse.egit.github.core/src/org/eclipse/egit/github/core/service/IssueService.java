@@ -13,6 +13,7 @@
 package org.eclipse.egit.github.core.service;
 
 import static org.eclipse.egit.github.core.client.IGitHubConstants.CHARSET_UTF8;
+import static org.eclipse.egit.github.core.client.IGitHubConstants.DATE_FORMAT;
 import static org.eclipse.egit.github.core.client.IGitHubConstants.SEGMENT_COMMENTS;
 import static org.eclipse.egit.github.core.client.IGitHubConstants.SEGMENT_EVENTS;
 import static org.eclipse.egit.github.core.client.IGitHubConstants.SEGMENT_ISSUES;
@@ -26,15 +27,21 @@ import com.google.gson.reflect.TypeToken;
 
 import java.io.IOException;
 import java.net.URLEncoder;
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.egit.github.core.Comment;
 import org.eclipse.egit.github.core.IRepositoryIdProvider;
 import org.eclipse.egit.github.core.IResourceProvider;
 import org.eclipse.egit.github.core.Issue;
+import org.eclipse.egit.github.core.IssueComment;
 import org.eclipse.egit.github.core.IssueEvent;
 import org.eclipse.egit.github.core.Label;
 import org.eclipse.egit.github.core.Milestone;
@@ -264,6 +271,28 @@ public class IssueService extends GitHubService {
 		return createPageIterator(request);
 	}
 
+	/**
+	 * Page issues for currently authenticated user decoding only the given
+	 * fields of each issue
+	 *
+	 * @param filterData
+	 * @param start
+	 * @param size
+	 * @param fields
+	 *            JSON fields to decode, none to decode all fields
+	 * @return iterator over pages of issues
+	 * @see org.eclipse.egit.github.core.client.GitHubRequest#setFields(String...)
+	 * @since 6.2
+	 */
+	public PageIterator<RepositoryIssue> pageIssues(
+			Map<String, String> filterData, int start, int size,
+			String... fields) {
+		PageIterator<RepositoryIssue> iterator = pageIssues(filterData, start,
+				size);
+		iterator.getRequest().setFields(fields);
+		return iterator;
+	}
+
 	/**
 	 * Get issue
 	 *
@@ -322,6 +351,19 @@ public class IssueService extends GitHubService {
 		return getIssue(repoId, issueNumber);
 	}
 
+	/**
+	 * Get issue without blocking the calling thread
+	 *
+	 * @param repository
+	 * @param issueNumber
+	 * @return future issue
+	 * @since 6.2
+	 */
+	public CompletableFuture<Issue> getIssueAsync(
+			final IRepositoryIdProvider repository, final int issueNumber) {
+		return submit(() -> getIssue(repository, issueNumber));
+	}
+
 	private Issue getIssue(String repoId, String issueNumber)
 			throws IOException {
 		if (issueNumber == null)
@@ -396,6 +438,19 @@ public class IssueService extends GitHubService {
 		return getComments(repoId, issueNumber);
 	}
 
+	/**
+	 * Get an issue's comments without blocking the calling thread
+	 *
+	 * @param repository
+	 * @param issueNumber
+	 * @return future list of comments
+	 * @since 6.2
+	 */
+	public CompletableFuture<List<Comment>> getCommentsAsync(
+			final IRepositoryIdProvider repository, final int issueNumber) {
+		return submit(() -> getComments(repository, issueNumber));
+	}
+
 	/**
 	 * Get an issue's comments
 	 *
@@ -424,6 +479,60 @@ public class IssueService extends GitHubService {
 		return getAll(request);
 	}
 
+	/**
+	 * Page comments on all issues in the repository
+	 *
+	 * @param repository
+	 * @param since
+	 *            only comments updated at or after this date, may be null
+	 * @return iterator over pages of comments
+	 * @since 6.2
+	 */
+	public PageIterator<IssueComment> pageRepositoryComments(
+			IRepositoryIdProvider repository, Date since) {
+		return pageRepositoryComments(repository, since, PAGE_FIRST,
+				PAGE_SIZE);
+	}
+
+	/**
+	 * Page comments on all issues in the repository
+	 * <p>
+	 * Comments are returned in the order they were created, so the comments
+	 * of each issue are in the same order as from
+	 * {@link #getComments(IRepositoryIdProvider, int)}.
+	 *
+	 * @param repository
+	 * @param since
+	 *            only comments updated at or after this date, may be null
+	 * @param start
+	 * @param size
+	 * @return iterator over pages of comments
+	 * @since 6.2
+	 */
+	public PageIterator<IssueComment> pageRepositoryComments(
+			IRepositoryIdProvider repository, Date since, int start, int size) {
+		String repoId = getId(repository);
+		StringBuilder uri = new StringBuilder(SEGMENT_REPOS);
+		uri.append('/').append(repoId);
+		uri.append(SEGMENT_ISSUES);
+		uri.append(SEGMENT_COMMENTS);
+		PagedRequest<IssueComment> request = createPagedRequest(start, size);
+		request.setUri(uri);
+		Map<String, String> params = new HashMap<>();
+		params.put(FIELD_SORT, SORT_CREATED);
+		params.put(FIELD_DIRECTION, DIRECTION_ASCENDING);
+		if (since != null) {
+			DateFormat format = new SimpleDateFormat(DATE_FORMAT);
+			format.setTimeZone(TimeZone.getTimeZone("GMT")); //$NON-NLS-1$
+			params.put(FIELD_SINCE, format.format(since));
+		}
+		request.setParams(params);
+		request.setType(new TypeToken<List<IssueComment>>() {
+			// make protected type visible
+		}.getType());
+		return createPageIterator(request);
+	}
+
 	/**
 	 * Get bulk issues request
 	 *
@@ -473,6 +582,21 @@ public class IssueService extends GitHubService {
 		return getAll(pageIssues(repository, filterData));
 	}
 
+	/**
+	 * Get a list of {@link Issue} objects that match the specified filter data
+	 * without blocking the calling thread
+	 *
+	 * @param repository
+	 * @param filterData
+	 * @return future list of issues
+	 * @since 6.2
+	 */
+	public CompletableFuture<List<Issue>> getIssuesAsync(
+			final IRepositoryIdProvider repository,
+			final Map<String, String> filterData) {
+		return submit(() -> getIssues(repository, filterData));
+	}
+
 	/**
 	 * Get page iterator over issues query
 	 *
@@ -586,6 +710,31 @@ public class IssueService extends GitHubService {
 		return createPageIterator(request);
 	}
 
+	/**
+	 * Get page iterator over issues query decoding only the given fields of
+	 * each issue
+	 *
+	 * @param repository
+	 * @param filterData
+	 * @param start
+	 *            starting page number
+	 * @param size
+	 *            page size
+	 * @param fields
+	 *            JSON fields to decode, none to decode all fields
+	 * @return iterator
+	 * @see org.eclipse.egit.github.core.client.GitHubRequest#setFields(String...)
+	 * @since 6.2
+	 */
+	public PageIterator<Issue> pageIssues(IRepositoryIdProvider repository,
+			Map<String, String> filterData, int start, int size,
+			String... fields) {
+		PageIterator<Issue> iterator = pageIssues(repository, filterData,
+				start, size);
+		iterator.getRequest().setFields(fields);
+		return iterator;
+	}
+
 	/**
 	 * Create issue map for issue
 	 *
@@ -28,6 +28,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.egit.github.core.CommitComment;
 import org.eclipse.egit.github.core.CommitFile;
@@ -115,6 +116,19 @@ public class PullRequestService extends GitHubService {
 		return (PullRequest) client.get(request).getBody();
 	}
 
+	/**
+	 * Get single pull request without blocking the calling thread
+	 *
+	 * @param repository
+	 * @param id
+	 * @return future pull request
+	 * @since 6.2
+	 */
+	public CompletableFuture<PullRequest> getPullRequestAsync(
+			final IRepositoryIdProvider repository, final int id) {
+		return submit(() -> getPullRequest(repository, id));
+	}
+
 	/**
 	 * Create paged request for fetching pull requests
 	 *
@@ -155,6 +169,20 @@ public class PullRequestService extends GitHubService {
 		return getAll(pagePullRequests(repository, state));
 	}
 
+	/**
+	 * Get pull requests from repository matching state without blocking the
+	 * calling thread
+	 *
+	 * @param repository
+	 * @param state
+	 * @return future list of pull requests
+	 * @since 6.2
+	 */
+	public CompletableFuture<List<PullRequest>> getPullRequestsAsync(
+			final IRepositoryIdProvider repository, final String state) {
+		return submit(() -> getPullRequests(repository, state));
+	}
+
 	/**
 	 * Page pull requests with given state
 	 *
@@ -196,6 +224,29 @@ public class PullRequestService extends GitHubService {
 		return createPageIterator(request);
 	}
 
+	/**
+	 * Page pull requests with given state decoding only the given fields of
+	 * each pull request
+	 *
+	 * @param repository
+	 * @param state
+	 * @param start
+	 * @param size
+	 * @param fields
+	 *            JSON fields to decode, none to decode all fields
+	 * @return iterator over pages of pull requests
+	 * @see org.eclipse.egit.github.core.client.GitHubRequest#setFields(String...)
+	 * @since 6.2
+	 */
+	public PageIterator<PullRequest> pagePullRequests(
+			IRepositoryIdProvider repository, String state, int start,
+			int size, String... fields) {
+		PageIterator<PullRequest> iterator = pagePullRequests(repository,
+				state, start, size);
+		iterator.getRequest().setFields(fields);
+		return iterator;
+	}
+
 	private Map<String, String> createPrMap(PullRequest request) {
 		Map<String, String> params = new HashMap<>();
 		if (request != null) {
@@ -323,6 +374,20 @@ public class PullRequestService extends GitHubService {
 		return getAll(request);
 	}
 
+	/**
+	 * Get all commits associated with given pull request id without blocking
+	 * the calling thread
+	 *
+	 * @param repository
+	 * @param id
+	 * @return future list of commits
+	 * @since 6.2
+	 */
+	public CompletableFuture<List<RepositoryCommit>> getCommitsAsync(
+			final IRepositoryIdProvider repository, final int id) {
+		return submit(() -> getCommits(repository, id));
+	}
+
 	/**
 	 * Get all changed files associated with given pull request id
 	 *
@@ -347,6 +412,20 @@ public class PullRequestService extends GitHubService {
 		return getAll(request);
 	}
 
+	/**
+	 * Get all changed files associated with given pull request id without
+	 * blocking the calling thread
+	 *
+	 * @param repository
+	 * @param id
+	 * @return future list of commit files
+	 * @since 6.2
+	 */
+	public CompletableFuture<List<CommitFile>> getFilesAsync(
+			final IRepositoryIdProvider repository, final int id) {
+		return submit(() -> getFiles(repository, id));
+	}
+
 	/**
 	 * Is the given pull request id merged?
 	 *
@@ -42,6 +42,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.egit.github.core.Contributor;
 import org.eclipse.egit.github.core.IRepositoryIdProvider;
@@ -616,6 +617,18 @@ public class RepositoryService extends GitHubService {
 		return (Repository) client.get(request).getBody();
 	}
 
+	/**
+	 * Get repository without blocking the calling thread
+	 *
+	 * @param provider
+	 * @return future repository
+	 * @since 6.2
+	 */
+	public CompletableFuture<Repository> getRepositoryAsync(
+			final IRepositoryIdProvider provider) {
+		return submit(() -> getRepository(provider));
+	}
+
 	/**
 	 * Create paged request for iterating over repositories forks
 	 *
@@ -25,6 +25,7 @@ import com.google.gson.reflect.TypeToken;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.egit.github.core.Key;
 import org.eclipse.egit.github.core.User;
@@ -84,6 +85,17 @@ public class UserService extends GitHubService {
 		return (User) client.get(request).getBody();
 	}
 
+	/**
+	 * Get user with given login name without blocking the calling thread
+	 *
+	 * @param login
+	 * @return future user
+	 * @since 6.2
+	 */
+	public CompletableFuture<User> getUserAsync(final String login) {
+		return submit(() -> getUser(login));
+	}
+
 	/**
 	 * Get currently authenticated user
 	 *
@@ -14,6 +14,8 @@ package org.eclipse.egit.github.core.util;
 
 import static org.eclipse.egit.github.core.client.IGitHubConstants.CHARSET_UTF8;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 
 /**
@@ -60,4 +62,29 @@ public final class EncodingUtils {
 		}
 		return toBase64(bytes);
 	}
+
+	/**
+	 * Create stream decoding the base64 encoded content read from the given
+	 * stream as it is read. Line separators in the content are ignored.
+	 *
+	 * @param content
+	 * @return decoding stream
+	 * @since 6.2
+	 */
+	public static final InputStream fromBase64(final InputStream content) {
+		return java.util.Base64.getMimeDecoder().wrap(content);
+	}
+
+	/**
+	 * Create stream base64 encoding the bytes written to it to the given
+	 * stream. Closing the returned stream writes the final padding and closes
+	 * the given stream.
+	 *
+	 * @param output
+	 * @return encoding stream
+	 * @since 6.2
+	 */
+	public static final OutputStream toBase64(final OutputStream output) {
+		return java.util.Base64.getEncoder().wrap(output);
+	}
 }
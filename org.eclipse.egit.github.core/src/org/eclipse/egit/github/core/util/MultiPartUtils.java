@@ -15,22 +15,121 @@ package org.eclipse.egit.github.core.util;
 import static org.eclipse.egit.github.core.client.IGitHubConstants.CHARSET_UTF8;
 
 import java.io.BufferedOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Utilities for writing multiple HTTP requests
+ * <p>
+ * Part values can be a {@link File} or {@link Path} whose content is
+ * transferred from a {@link FileChannel}, a {@link StreamPart} of known
+ * length, an {@link InputStream} of unknown length or any other object that is
+ * sent as its string value. Requests whose parts all have a known length are
+ * sent with a fixed length, all others with chunked transfer encoding. Neither
+ * buffers the request in memory.
  */
 public final class MultiPartUtils {
 
+	/**
+	 * Part whose content of a known length is read from a stream. The stream
+	 * is closed once the content was sent.
+	 *
+	 * @since 6.2
+	 */
+	public static final class StreamPart {
+
+		private final InputStream content;
+
+		private final long length;
+
+		/**
+		 * Create part of the given number of bytes read from the stream
+		 *
+		 * @param content
+		 * @param length
+		 */
+		public StreamPart(InputStream content, long length) {
+			if (content == null)
+				throw new IllegalArgumentException(
+						"Content cannot be null"); //$NON-NLS-1$
+			if (length < 0)
+				throw new IllegalArgumentException(
+						"Length cannot be negative"); //$NON-NLS-1$
+			this.content = content;
+			this.length = length;
+		}
+
+		/**
+		 * @return content
+		 */
+		public InputStream getContent() {
+			return content;
+		}
+
+		/**
+		 * @return length
+		 */
+		public long getLength() {
+			return length;
+		}
+	}
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private static final byte[] NEWLINE = "\r\n" //$NON-NLS-1$
+			.getBytes(StandardCharsets.UTF_8);
+
 	private MultiPartUtils() {
 		// utility class
 	}
 
+	/**
+	 * Create random boundary of a request
+	 *
+	 * @return boundary
+	 */
+	private static String createBoundary() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		return "00content0boundary" //$NON-NLS-1$
+				+ Long.toHexString(random.nextLong() | Long.MIN_VALUE)
+				+ Long.toHexString(random.nextLong() | Long.MIN_VALUE);
+	}
+
+	/**
+	 * Get length of the content of a part value
+	 *
+	 * @param value
+	 * @return length in bytes or -1 if unknown
+	 * @throws IOException
+	 */
+	private static long getLength(Object value) throws IOException {
+		if (value instanceof File)
+			return ((File) value).length();
+		if (value instanceof Path)
+			return Files.size((Path) value);
+		if (value instanceof StreamPart)
+			return ((StreamPart) value).getLength();
+		if (value instanceof InputStream)
+			return -1;
+		return value.toString().getBytes(CHARSET_UTF8).length;
+	}
+
 	/**
 	 * Post parts to URL
 	 *
@@ -57,43 +156,120 @@ public final class MultiPartUtils {
 	 */
 	public static HttpURLConnection post(HttpURLConnection post,
 			Map<String, Object> parts) throws IOException {
-		String boundary = "00content0boundary00"; //$NON-NLS-1$
+		String boundary = createBoundary();
+		byte[] boundarySeparator = ("--" + boundary + "\r\n") //$NON-NLS-1$ //$NON-NLS-2$
+				.getBytes(CHARSET_UTF8);
+		byte[] end = ("--" + boundary + "--\r\n").getBytes(CHARSET_UTF8); //$NON-NLS-1$ //$NON-NLS-2$
+
+		List<byte[]> headers = new ArrayList<>(parts.size());
+		long length = end.length;
+		for (Entry<String, Object> part : parts.entrySet()) {
+			StringBuilder partBuffer = new StringBuilder(
+					"Content-Disposition: "); //$NON-NLS-1$
+			partBuffer.append("form-data; name=\""); //$NON-NLS-1$
+			partBuffer.append(part.getKey());
+			partBuffer.append('"');
+			byte[] header = partBuffer.toString().getBytes(CHARSET_UTF8);
+			headers.add(header);
+			long partLength = getLength(part.getValue());
+			if (length >= 0 && partLength >= 0)
+				length += boundarySeparator.length + header.length
+						+ 3 * NEWLINE.length + partLength;
+			else
+				length = -1;
+		}
+
 		post.setDoOutput(true);
 		post.setRequestProperty("Content-Type", //$NON-NLS-1$
 				"multipart/form-data; boundary=" + boundary); //$NON-NLS-1$
-		BufferedOutputStream output = new BufferedOutputStream(
-				post.getOutputStream());
-		byte[] buffer = new byte[8192];
-		byte[] boundarySeparator = ("--" + boundary + "\r\n") //$NON-NLS-1$ //$NON-NLS-2$
-				.getBytes(CHARSET_UTF8);
-		byte[] newline = "\r\n".getBytes(CHARSET_UTF8); //$NON-NLS-1$
+		if (length >= 0)
+			post.setFixedLengthStreamingMode(length);
+		else
+			post.setChunkedStreamingMode(BUFFER_SIZE);
+		OutputStream raw = post.getOutputStream();
+		BufferedOutputStream output = new BufferedOutputStream(raw,
+				BUFFER_SIZE);
 		try {
+			int index = 0;
 			for (Entry<String, Object> part : parts.entrySet()) {
 				output.write(boundarySeparator);
-				StringBuilder partBuffer = new StringBuilder(
-						"Content-Disposition: "); //$NON-NLS-1$
-				partBuffer.append("form-data; name=\""); //$NON-NLS-1$
-				partBuffer.append(part.getKey());
-				partBuffer.append('"');
-				output.write(partBuffer.toString().getBytes(CHARSET_UTF8));
-				output.write(newline);
-				output.write(newline);
+				output.write(headers.get(index++));
+				output.write(NEWLINE);
+				output.write(NEWLINE);
 				final Object value = part.getValue();
-				if (value instanceof InputStream) {
-					InputStream input = (InputStream) value;
-					int read;
-					while ((read = input.read(buffer)) != -1)
-						output.write(buffer, 0, read);
-					input.close();
-				} else
-					output.write(part.getValue().toString()
-							.getBytes(CHARSET_UTF8));
-				output.write(newline);
+				if (value instanceof File || value instanceof Path) {
+					output.flush();
+					transfer(value instanceof File ? ((File) value).toPath()
+							: (Path) value, getLength(value), raw);
+				} else if (value instanceof StreamPart) {
+					StreamPart stream = (StreamPart) value;
+					copy(stream.getContent(), stream.getLength(), output);
+				} else if (value instanceof InputStream)
+					copy((InputStream) value, -1, output);
+				else
+					output.write(value.toString().getBytes(CHARSET_UTF8));
+				output.write(NEWLINE);
 			}
-			output.write(("--" + boundary + "--\r\n").getBytes(CHARSET_UTF8)); //$NON-NLS-1$ //$NON-NLS-2$
+			output.write(end);
 		} finally {
 			output.close();
 		}
 		return post;
 	}
+
+	/**
+	 * Copy content from stream to output and close the stream
+	 *
+	 * @param input
+	 * @param length
+	 *            number of bytes to copy or -1 to copy all bytes
+	 * @param output
+	 * @throws IOException
+	 */
+	private static void copy(InputStream input, long length,
+			OutputStream output) throws IOException {
+		try {
+			byte[] buffer = new byte[BUFFER_SIZE];
+			long remaining = length >= 0 ? length : Long.MAX_VALUE;
+			while (remaining > 0) {
+				int read = input.read(buffer, 0,
+						(int) Math.min(buffer.length, remaining));
+				if (read == -1) {
+					if (length >= 0)
+						throw new IOException("Part content ended " //$NON-NLS-1$
+								+ remaining + " bytes before its length"); //$NON-NLS-1$
+					break;
+				}
+				output.write(buffer, 0, read);
+				remaining -= read;
+			}
+		} finally {
+			input.close();
+		}
+	}
+
+	/**
+	 * Transfer content of file to output through its channel
+	 *
+	 * @param file
+	 * @param length
+	 * @param output
+	 * @throws IOException
+	 */
+	private static void transfer(Path file, long length, OutputStream output)
+			throws IOException {
+		try (FileChannel channel = FileChannel.open(file,
+				StandardOpenOption.READ)) {
+			WritableByteChannel target = Channels.newChannel(output);
+			long position = 0;
+			while (position < length) {
+				long transferred = channel.transferTo(position,
+						length - position, target);
+				if (transferred <= 0)
+					throw new IOException("File " + file //$NON-NLS-1$
+							+ " ended before its length"); //$NON-NLS-1$
+				position += transferred;
+			}
+		}
+	}
 }
@@ -15,15 +15,28 @@
 package org.eclipse.mylyn.internal.github.core;
 
 import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.egit.github.core.RepositoryId;
+import org.eclipse.egit.github.core.client.DiskResponseCache;
 import org.eclipse.egit.github.core.client.GitHubClient;
+import org.eclipse.egit.github.core.client.IRateLimiter;
+import org.eclipse.egit.github.core.client.IResponseCache;
+import org.eclipse.egit.github.core.client.MemoryResponseCache;
+import org.eclipse.egit.github.core.client.MetricsAggregator;
+import org.eclipse.egit.github.core.client.RateLimitScheduler;
+import org.eclipse.egit.github.core.client.RequestCoalescer;
 import org.eclipse.egit.github.core.client.RequestException;
+import org.eclipse.egit.github.core.client.RetryPolicy;
 import org.eclipse.mylyn.commons.net.AuthenticationCredentials;
 import org.eclipse.mylyn.commons.net.AuthenticationType;
 import org.eclipse.mylyn.tasks.core.TaskRepository;
@@ -60,6 +73,79 @@ public class GitHub {
 	public static final String PROPERTY_USE_TOKEN = GitHub.class.getPackage()
 			.getName() + ".REPO_USE_TOKEN"; //$NON-NLS-1$
 
+	/**
+	 * Cache shared by all clients so that repeated synchronizations send
+	 * conditional requests
+	 */
+	private static IResponseCache responseCache;
+
+	/**
+	 * Get the response cache shared by all clients. Responses are stored in
+	 * the state location of this bundle when the platform is running and in
+	 * memory otherwise.
+	 *
+	 * @return cache
+	 */
+	public static synchronized IResponseCache getResponseCache() {
+		if (responseCache == null) {
+			try {
+				IPath state = Platform.getStateLocation(Platform
+						.getBundle(BUNDLE_ID));
+				responseCache = new DiskResponseCache(state.append(
+						"responses").toFile()); //$NON-NLS-1$
+			} catch (RuntimeException e) {
+				responseCache = new MemoryResponseCache();
+			}
+		}
+		return responseCache;
+	}
+
+	/**
+	 * Coalescer shared by all clients so that concurrent connectors and editor
+	 * parts requesting the same resource share one request
+	 */
+	private static final RequestCoalescer requestCoalescer = new RequestCoalescer();
+
+	/**
+	 * Retry policy of all clients; rendering markdown has no side effects so
+	 * it is safe to retry even though it is a POST
+	 */
+	private static final RetryPolicy retryPolicy = new RetryPolicy()
+			.addSafePath("/markdown"); //$NON-NLS-1$
+
+	/**
+	 * Metrics of the requests made by all clients
+	 */
+	private static final MetricsAggregator metrics = new MetricsAggregator();
+
+	/**
+	 * Rate limiters shared by all clients using the same credentials on the
+	 * same host
+	 */
+	private static final Map<String, IRateLimiter> rateLimiters = new ConcurrentHashMap<>();
+
+	/**
+	 * Get the rate limiter shared by all clients of the repository using the
+	 * given user's credentials
+	 *
+	 * @param repository
+	 * @param user
+	 *            may be null for anonymous access
+	 * @return rate limiter
+	 */
+	public static IRateLimiter getRateLimiter(TaskRepository repository,
+			String user) {
+		String host = repository.getRepositoryUrl();
+		try {
+			host = new URL(host).getHost();
+		} catch (MalformedURLException e) {
+			// Use repository URL as is
+		}
+		String key = user != null ? user + '@' + host : host;
+		return rateLimiters.computeIfAbsent(key,
+				k -> new RateLimitScheduler());
+	}
+
 	/**
 	 * Configure client with standard configuration
 	 *
@@ -67,7 +153,19 @@ public class GitHub {
 	 * @return given client
 	 */
 	public static GitHubClient configureClient(GitHubClient client) {
-		return client.setUserAgent(USER_AGENT);
+		return client.setUserAgent(USER_AGENT)
+				.setResponseCache(getResponseCache())
+				.setRequestCoalescer(requestCoalescer)
+				.setRetryPolicy(retryPolicy).addRequestListener(metrics);
+	}
+
+	/**
+	 * Get metrics of the requests made by all configured clients
+	 *
+	 * @return metrics
+	 */
+	public static MetricsAggregator getMetrics() {
+		return metrics;
 	}
 
 	/**
@@ -90,6 +188,9 @@ public class GitHub {
 						credentials.getPassword());
 			}
 		}
+		// Rate limits apply per credentials, so pace all clients using them
+		client.setRateLimiter(getRateLimiter(repository,
+				credentials != null ? credentials.getUserName() : null));
 		return client;
 	}
 
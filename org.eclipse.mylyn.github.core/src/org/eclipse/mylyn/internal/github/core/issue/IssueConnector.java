@@ -15,7 +15,9 @@
 package org.eclipse.mylyn.internal.github.core.issue;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -31,12 +33,17 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.egit.github.core.Comment;
 import org.eclipse.egit.github.core.IRepositoryIdProvider;
 import org.eclipse.egit.github.core.Issue;
+import org.eclipse.egit.github.core.IssueComment;
 import org.eclipse.egit.github.core.Label;
 import org.eclipse.egit.github.core.Milestone;
 import org.eclipse.egit.github.core.PullRequest;
 import org.eclipse.egit.github.core.Repository;
 import org.eclipse.egit.github.core.RepositoryId;
 import org.eclipse.egit.github.core.client.GitHubClient;
+import org.eclipse.egit.github.core.client.NoSuchPageException;
+import org.eclipse.egit.github.core.client.PageIterator;
+import org.eclipse.egit.github.core.client.PagedRequest;
+import org.eclipse.egit.github.core.client.PrefetchingPageIterator;
 import org.eclipse.egit.github.core.service.IssueService;
 import org.eclipse.egit.github.core.service.LabelService;
 import org.eclipse.egit.github.core.service.MilestoneService;
@@ -49,6 +56,7 @@ import org.eclipse.mylyn.internal.github.core.GitHub;
 import org.eclipse.mylyn.internal.github.core.QueryUtils;
 import org.eclipse.mylyn.internal.github.core.RepositoryConnector;
 import org.eclipse.mylyn.tasks.core.IRepositoryQuery;
+import org.eclipse.mylyn.tasks.core.ITask;
 import org.eclipse.mylyn.tasks.core.TaskRepository;
 import org.eclipse.mylyn.tasks.core.data.AbstractTaskDataHandler;
 import org.eclipse.mylyn.tasks.core.data.TaskData;
@@ -301,6 +309,7 @@ public class IssueConnector extends RepositoryConnector {
 
 			GitHubClient client = createClient(repository);
 			IssueService service = new IssueService(client);
+			service.setPrefetchDepth(PrefetchingPageIterator.DEFAULT_DEPTH);
 
 			Map<String, String> filterData = new HashMap<>();
 			String mentions = query.getAttribute(IssueService.FILTER_MENTIONED);
@@ -328,25 +337,68 @@ public class IssueConnector extends RepositoryConnector {
 
 			String owner = repo.getOwner();
 			String name = repo.getName();
-			for (String status : statuses) {
-				filterData.put(IssueService.FILTER_STATE, status);
-				List<Issue> issues = service.getIssues(repo.getOwner(),
-						repo.getName(), filterData);
-
-				// collect task data
-				for (Issue issue : issues) {
-					if (isPullRequest(issue))
-						continue;
-					List<Comment> comments = null;
-					if (issue.getComments() > 0)
-						comments = service.getComments(owner, name,
-								Integer.toString(issue.getNumber()));
-					TaskData taskData = taskDataHandler.createTaskData(
-							repository, monitor, owner, name, issue, comments);
-					collector.accept(taskData);
+			IssueQuerySync sync = new IssueQuerySync(query, statuses,
+					new HashMap<>(filterData));
+			Date since = session != null ? sync.getSince(System
+					.currentTimeMillis()) : null;
+			if (since == null) {
+				// the comments of a query covering the whole repository may be
+				// paged at once after all its issues are known
+				boolean deferComments = sync.coversRepository();
+				List<Issue> commented = new ArrayList<>();
+				for (String status : statuses) {
+					filterData.put(IssueService.FILTER_STATE, status);
+					PageIterator<Issue> pages = service.pageIssues(owner,
+							name, filterData);
+					try {
+						while (pages.hasNext())
+							for (Issue issue : pages.next()) {
+								if (isPullRequest(issue))
+									continue;
+								sync.addIssue(issue);
+								if (deferComments && issue.getComments() > 0)
+									commented.add(issue);
+								else
+									collect(repository, service, repo, issue,
+											collector, monitor);
+							}
+					} catch (NoSuchPageException e) {
+						throw e.getCause();
+					} finally {
+						pages.cancel();
+					}
+					monitor.worked(1);
+				}
+				collectCommented(repository, service, repo, commented,
+						collector, monitor);
+			} else {
+				// request issues in any state updated since the last
+				// synchronization and match them against the query locally
+				// so issues that no longer match are dropped
+				PageIterator<Issue> pages = service.pageIssues(owner, name,
+						sync.startIncremental(since));
+				try {
+					while (pages.hasNext())
+						for (Issue issue : pages.next())
+							if (!isPullRequest(issue)
+									&& sync.addChangedIssue(issue))
+								collect(repository, service, repo, issue,
+										collector, monitor);
+				} catch (NoSuchPageException e) {
+					throw e.getCause();
+				} finally {
+					pages.cancel();
 				}
-				monitor.worked(1);
+
+				// keep unchanged issues of the previous synchronization in
+				// the query without requesting them again
+				for (ITask task : sync.getUnchangedTasks(session.getTasks(),
+						repository.getRepositoryUrl()))
+					collector.accept(taskDataHandler.createPartialTaskData(
+							repository, task));
+				monitor.worked(statuses.size());
 			}
+			sync.complete(since == null, System.currentTimeMillis());
 		} catch (IOException e) {
 			result = GitHub.createWrappedStatus(e);
 		}
@@ -355,6 +407,113 @@ public class IssueConnector extends RepositoryConnector {
 		return result;
 	}
 
+	private void collect(TaskRepository repository, IssueService service,
+			RepositoryId repo, Issue issue, TaskDataCollector collector,
+			IProgressMonitor monitor) throws IOException {
+		List<Comment> comments = null;
+		if (issue.getComments() > 0)
+			comments = service.getComments(repo, issue.getNumber());
+		collect(repository, repo, issue, comments, collector, monitor);
+	}
+
+	private void collect(TaskRepository repository, RepositoryId repo,
+			Issue issue, List<Comment> comments, TaskDataCollector collector,
+			IProgressMonitor monitor) {
+		collector.accept(taskDataHandler.createTaskData(repository, monitor,
+				repo.getOwner(), repo.getName(), issue, comments));
+	}
+
+	/**
+	 * Get the number of pages needed to request a number of comments
+	 *
+	 * @param comments
+	 * @return page count
+	 */
+	private static int getPageCount(long comments) {
+		return (int) ((comments + PagedRequest.PAGE_SIZE - 1)
+				/ PagedRequest.PAGE_SIZE);
+	}
+
+	/**
+	 * Collect the task data of issues with comments, paging the comments of
+	 * the whole repository once instead of requesting them issue by issue when
+	 * that is estimated to take fewer requests. The estimate only counts the
+	 * comments of the given issues, so it is only used for queries covering
+	 * all issues of the repository.
+	 * <p>
+	 * The task data of an issue is collected as soon as all its comments were
+	 * received, and paging stops once no issue lacks comments.
+	 *
+	 * @param repository
+	 * @param service
+	 * @param repo
+	 * @param issues
+	 * @param collector
+	 * @param monitor
+	 * @throws IOException
+	 */
+	private void collectCommented(TaskRepository repository,
+			IssueService service, RepositoryId repo, List<Issue> issues,
+			TaskDataCollector collector, IProgressMonitor monitor)
+			throws IOException {
+		int requests = 0;
+		long total = 0;
+		Date since = null;
+		boolean all = false;
+		for (Issue issue : issues) {
+			requests += getPageCount(issue.getComments());
+			total += issue.getComments();
+			// comments are never updated before the issue was created
+			Date created = issue.getCreatedAt();
+			if (created == null)
+				all = true;
+			else if (since == null || created.before(since))
+				since = created;
+		}
+		if (getPageCount(total) >= requests) {
+			for (Issue issue : issues)
+				collect(repository, service, repo, issue, collector, monitor);
+			return;
+		}
+
+		Map<Integer, Issue> pending = new HashMap<>();
+		for (Issue issue : issues)
+			pending.put(Integer.valueOf(issue.getNumber()), issue);
+		Map<Integer, List<Comment>> comments = new HashMap<>();
+		PageIterator<IssueComment> pages = service.pageRepositoryComments(
+				repo, all ? null : since);
+		try {
+			while (!pending.isEmpty() && pages.hasNext())
+				for (IssueComment comment : pages.next()) {
+					Integer number = Integer.valueOf(comment.getIssueNumber());
+					Issue issue = pending.get(number);
+					if (issue == null)
+						continue;
+					List<Comment> issueComments = comments.get(number);
+					if (issueComments == null) {
+						issueComments = new ArrayList<>();
+						comments.put(number, issueComments);
+					}
+					issueComments.add(comment);
+					if (issueComments.size() >= issue.getComments()) {
+						pending.remove(number);
+						comments.remove(number);
+						collect(repository, repo, issue, issueComments,
+								collector, monitor);
+					}
+				}
+		} catch (NoSuchPageException e) {
+			throw e.getCause();
+		} finally {
+			pages.cancel();
+		}
+		// comments deleted since the issue was requested
+		for (Issue issue : pending.values())
+			collect(repository, repo, issue,
+					comments.get(Integer.valueOf(issue.getNumber())),
+					collector, monitor);
+	}
+
 	private boolean isPullRequest(Issue issue) {
 		PullRequest request = issue.getPullRequest();
 		return request != null && request.getDiffUrl() != null;
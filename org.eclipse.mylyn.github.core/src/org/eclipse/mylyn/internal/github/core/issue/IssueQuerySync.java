@@ -0,0 +1,315 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.mylyn.internal.github.core.issue;
+
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.TreeMap;
+
+import org.eclipse.egit.github.core.Issue;
+import org.eclipse.egit.github.core.Label;
+import org.eclipse.egit.github.core.Milestone;
+import org.eclipse.egit.github.core.User;
+import org.eclipse.egit.github.core.client.IGitHubConstants;
+import org.eclipse.egit.github.core.service.IssueService;
+import org.eclipse.mylyn.internal.github.core.QueryUtils;
+import org.eclipse.mylyn.tasks.core.IRepositoryQuery;
+import org.eclipse.mylyn.tasks.core.ITask;
+
+/**
+ * State of the incremental synchronization of an issue query.
+ * <p>
+ * A query is synchronized fully at least once every
+ * {@link #FULL_SYNC_INTERVAL}. In between, only the issues updated since the
+ * previous synchronization are requested in any state and matched against the
+ * filters of the query locally, while unchanged issues of the previous
+ * synchronization are kept without being requested again. The state is kept
+ * in attributes of the query.
+ */
+public class IssueQuerySync {
+
+	/**
+	 * Interval between full synchronizations of a query
+	 */
+	public static final long FULL_SYNC_INTERVAL = 24 * 60 * 60 * 1000L;
+
+	/**
+	 * Overlap of incremental synchronizations with the previous one
+	 */
+	public static final long SYNC_MARGIN = 60 * 1000L;
+
+	/**
+	 * Query attribute with the filter the query was last synchronized with
+	 */
+	static final String SYNC_FILTER = "syncFilter"; //$NON-NLS-1$
+
+	/**
+	 * Query attribute with the newest update date of the synchronized issues
+	 */
+	static final String SYNC_SINCE = "syncSince"; //$NON-NLS-1$
+
+	/**
+	 * Query attribute with the time of the last full synchronization
+	 */
+	static final String SYNC_FULL = "syncFull"; //$NON-NLS-1$
+
+	/**
+	 * Query attribute with the numbers of the issues in the query
+	 */
+	static final String SYNC_ISSUES = "syncIssues"; //$NON-NLS-1$
+
+	private static final String STATE_ALL = "all"; //$NON-NLS-1$
+
+	private static final String FILTER_NONE = "none"; //$NON-NLS-1$
+
+	private static final String FILTER_ANY = "*"; //$NON-NLS-1$
+
+	private final IRepositoryQuery query;
+
+	private final List<String> statuses;
+
+	private final Map<String, String> filterData;
+
+	private final String filter;
+
+	private final Set<String> issues = new HashSet<>();
+
+	private final Set<String> changed = new HashSet<>();
+
+	private Date newest;
+
+	/**
+	 * Create synchronization state of query
+	 *
+	 * @param query
+	 * @param statuses
+	 *            states of the issues in the query
+	 * @param filterData
+	 *            other filters of the query
+	 */
+	public IssueQuerySync(IRepositoryQuery query, List<String> statuses,
+			Map<String, String> filterData) {
+		this.query = query;
+		this.statuses = statuses;
+		this.filterData = filterData;
+		filter = statuses + new TreeMap<>(filterData).toString();
+	}
+
+	/**
+	 * Get the update date from which the issues of the query can be
+	 * synchronized incrementally
+	 *
+	 * @param now
+	 *            current time in milliseconds since the epoch
+	 * @return date or null if the query must be synchronized fully
+	 */
+	public Date getSince(long now) {
+		// local matching cannot tell whether an issue mentions a user or
+		// which of several users it is assigned to
+		if (filterData.containsKey(IssueService.FILTER_MENTIONED))
+			return null;
+		String assignee = filterData.get(IssueService.FILTER_ASSIGNEE);
+		if (assignee != null && !FILTER_NONE.equals(assignee)
+				&& !FILTER_ANY.equals(assignee))
+			return null;
+		if (!filter.equals(query.getAttribute(SYNC_FILTER)))
+			return null;
+		String full = query.getAttribute(SYNC_FULL);
+		String since = query.getAttribute(SYNC_SINCE);
+		if (full == null || since == null)
+			return null;
+		try {
+			long last = Long.parseLong(full);
+			Date date = createDateFormat().parse(since);
+			// full synchronization is also the only way to notice deleted
+			// and transferred issues
+			if (last > now || now - last > FULL_SYNC_INTERVAL)
+				return null;
+			// an update date in the future means the clocks disagree
+			if (date.getTime() > now + SYNC_MARGIN)
+				return null;
+			return date;
+		} catch (NumberFormatException | ParseException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Start an incremental synchronization from a date
+	 *
+	 * @param since
+	 *            date returned by {@link #getSince(long)}
+	 * @return filter data requesting the issues updated since the date in any
+	 *         state, overlapping the previous synchronization by
+	 *         {@link #SYNC_MARGIN}
+	 */
+	public Map<String, String> startIncremental(Date since) {
+		newest = since;
+		Map<String, String> deltaData = new HashMap<>();
+		deltaData.put(IssueService.FILTER_STATE, STATE_ALL);
+		deltaData.put(IssueService.FIELD_SINCE,
+				formatDate(new Date(since.getTime() - SYNC_MARGIN)));
+		deltaData.put(IssueService.FIELD_SORT, IssueService.SORT_UPDATED);
+		return deltaData;
+	}
+
+	/**
+	 * Add an issue returned by a full synchronization to the query
+	 *
+	 * @param issue
+	 */
+	public void addIssue(Issue issue) {
+		issues.add(Integer.toString(issue.getNumber()));
+		updateNewest(issue);
+	}
+
+	/**
+	 * Record an issue updated since the previous synchronization and add it
+	 * to the query if it still matches the filters
+	 *
+	 * @param issue
+	 * @return true if the issue is in the query, false otherwise
+	 */
+	public boolean addChangedIssue(Issue issue) {
+		String number = Integer.toString(issue.getNumber());
+		changed.add(number);
+		updateNewest(issue);
+		if (!matches(issue))
+			return false;
+		issues.add(number);
+		return true;
+	}
+
+	/**
+	 * Get the tasks of the previous synchronization that did not change since,
+	 * adding them to the query
+	 *
+	 * @param tasks
+	 *            tasks of the synchronization session
+	 * @param repositoryUrl
+	 *            of the query
+	 * @return tasks whose partial task data is to be collected
+	 */
+	public List<ITask> getUnchangedTasks(Collection<ITask> tasks,
+			String repositoryUrl) {
+		Set<String> previous = new HashSet<>(
+				QueryUtils.getAttributes(SYNC_ISSUES, query));
+		List<ITask> unchanged = new ArrayList<>();
+		for (ITask task : tasks) {
+			String number = task.getTaskId();
+			if (!previous.contains(number) || changed.contains(number)
+					|| !repositoryUrl.equals(task.getRepositoryUrl()))
+				continue;
+			unchanged.add(task);
+			issues.add(number);
+		}
+		return unchanged;
+	}
+
+	/**
+	 * Store the state of a completed synchronization in the query
+	 *
+	 * @param full
+	 *            true if the query was synchronized fully
+	 * @param now
+	 *            current time in milliseconds since the epoch
+	 */
+	public void complete(boolean full, long now) {
+		if (full)
+			query.setAttribute(SYNC_FULL, Long.toString(now));
+		query.setAttribute(SYNC_FILTER, filter);
+		query.setAttribute(SYNC_SINCE,
+				newest != null ? formatDate(newest) : null);
+		QueryUtils.setAttribute(SYNC_ISSUES, issues, query);
+	}
+
+	/**
+	 * Does the query cover all issues of the repository?
+	 *
+	 * @return true if the query is in all states and not filtered otherwise
+	 */
+	public boolean coversRepository() {
+		return filterData.isEmpty()
+				&& statuses.contains(IssueService.STATE_OPEN)
+				&& statuses.contains(IssueService.STATE_CLOSED);
+	}
+
+	/**
+	 * Does the issue match the filters of the query?
+	 *
+	 * @param issue
+	 * @return true if matching, false otherwise
+	 */
+	public boolean matches(Issue issue) {
+		if (!statuses.contains(issue.getState()))
+			return false;
+		User assignee = issue.getAssignee();
+		if (!matches(filterData.get(IssueService.FILTER_ASSIGNEE),
+				assignee != null ? assignee.getLogin() : null))
+			return false;
+		Milestone milestone = issue.getMilestone();
+		if (!matches(filterData.get(IssueService.FILTER_MILESTONE),
+				milestone != null ? Integer.toString(milestone.getNumber())
+						: null))
+			return false;
+		String labels = filterData.get(IssueService.FILTER_LABELS);
+		if (labels == null)
+			return true;
+		Set<String> names = new HashSet<>();
+		if (issue.getLabels() != null)
+			for (Label label : issue.getLabels())
+				names.add(label.getName().toLowerCase(Locale.ROOT));
+		for (String label : labels.split(",")) //$NON-NLS-1$
+			if (label.length() > 0
+					&& !names.contains(label.toLowerCase(Locale.ROOT)))
+				return false;
+		return true;
+	}
+
+	private static boolean matches(String filter, String value) {
+		if (filter == null)
+			return true;
+		if (FILTER_NONE.equals(filter))
+			return value == null;
+		if (FILTER_ANY.equals(filter))
+			return value != null;
+		return filter.equalsIgnoreCase(value);
+	}
+
+	private void updateNewest(Issue issue) {
+		Date updated = issue.getUpdatedAt();
+		if (updated != null && (newest == null || updated.after(newest)))
+			newest = updated;
+	}
+
+	private static DateFormat createDateFormat() {
+		DateFormat format = new SimpleDateFormat(IGitHubConstants.DATE_FORMAT);
+		format.setTimeZone(TimeZone.getTimeZone("GMT")); //$NON-NLS-1$
+		return format;
+	}
+
+	private static String formatDate(Date date) {
+		return createDateFormat().format(date);
+	}
+}
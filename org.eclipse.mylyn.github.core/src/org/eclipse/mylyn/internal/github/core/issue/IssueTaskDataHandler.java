@@ -33,6 +33,7 @@ import org.eclipse.egit.github.core.service.IssueService;
 import org.eclipse.egit.github.core.service.LabelService;
 import org.eclipse.mylyn.internal.github.core.GitHub;
 import org.eclipse.mylyn.internal.github.core.GitHubTaskDataHandler;
+import org.eclipse.mylyn.tasks.core.ITask;
 import org.eclipse.mylyn.tasks.core.ITaskMapping;
 import org.eclipse.mylyn.tasks.core.RepositoryResponse;
 import org.eclipse.mylyn.tasks.core.RepositoryResponse.ResponseKind;
@@ -117,6 +118,30 @@ public class IssueTaskDataHandler extends GitHubTaskDataHandler {
 		return data;
 	}
 
+	/**
+	 * Create partial task data for an issue that did not change since the
+	 * task was last synchronized
+	 *
+	 * @param repository
+	 * @param task
+	 * @return task data
+	 */
+	public TaskData createPartialTaskData(TaskRepository repository,
+			ITask task) {
+		TaskData data = new TaskData(getAttributeMapper(repository),
+				IssueConnector.KIND, repository.getRepositoryUrl(),
+				task.getTaskId());
+		data.setVersion(DATA_VERSION);
+		data.setPartial(true);
+		createAttribute(data, IssueAttribute.KEY.getMetadata(),
+				task.getTaskId());
+		createAttribute(data, IssueAttribute.TITLE.getMetadata(),
+				task.getSummary());
+		createAttribute(data, IssueAttribute.MODIFICATION_DATE.getMetadata(),
+				task.getModificationDate());
+		return data;
+	}
+
 	private void createMilestones(TaskRepository repository, TaskData data,
 			Issue issue) {
 		Milestone current = issue.getMilestone();
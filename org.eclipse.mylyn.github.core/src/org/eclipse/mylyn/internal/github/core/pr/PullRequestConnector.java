@@ -13,7 +13,16 @@
 package org.eclipse.mylyn.internal.github.core.pr;
 
 import java.io.IOException;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -57,6 +66,33 @@ public class PullRequestConnector extends RepositoryConnector {
 	 */
 	public static final String KIND = "githubPullRequests"; //$NON-NLS-1$
 
+	/**
+	 * Number of pull requests fetched at a time when performing a query
+	 */
+	private static final int MAX_CONCURRENT_PULL_REQUESTS = GitHubClient.DEFAULT_MAX_CONCURRENT_REQUESTS;
+
+	/**
+	 * Interval in milliseconds at which a query checks for cancellation while
+	 * waiting for pull requests
+	 */
+	private static final long POLL_INTERVAL = 100;
+
+	/**
+	 * Pull request with its commits and comments fetched by a query
+	 */
+	private static class FetchedPullRequest {
+
+		final PullRequestComposite request;
+
+		final List<Comment> comments;
+
+		FetchedPullRequest(PullRequestComposite request,
+				List<Comment> comments) {
+			this.request = request;
+			this.comments = comments;
+		}
+	}
+
 	/**
 	 * Get repository label for id provider.
 	 *
@@ -206,23 +242,10 @@ public class PullRequestConnector extends RepositoryConnector {
 
 			for (String status : statuses) {
 				List<PullRequest> pulls = service.getPullRequests(repo, status);
-
-				// collect task data
-				for (PullRequest pr : pulls) {
-					pr = service.getPullRequest(repo, pr.getNumber());
-					PullRequestComposite prComp = new PullRequestComposite();
-					prComp.setRequest(pr);
-					List<Comment> comments = null;
-					if (pr.getComments() > 0)
-						comments = commentService.getComments(repo.getOwner(),
-								repo.getName(),
-								Integer.toString(pr.getNumber()));
-					if (pr.getCommits() > 0)
-						prComp.setCommits(service.getCommits(repo,
-								pr.getNumber()));
-					TaskData taskData = taskDataHandler.createTaskData(
-							repository, monitor, repo, prComp, comments);
-					collector.accept(taskData);
+				if (!collect(repository, repo, client, service,
+						commentService, pulls, collector, monitor)) {
+					result = Status.CANCEL_STATUS;
+					break;
 				}
 				monitor.worked(1);
 			}
@@ -234,6 +257,94 @@ public class PullRequestConnector extends RepositoryConnector {
 		return result;
 	}
 
+	/**
+	 * Fetch the pull request, its comments and its commits for each listed
+	 * pull request on the executor of the client and pass the task data to
+	 * the collector as the pull requests complete
+	 * <p>
+	 * At most {@link #MAX_CONCURRENT_PULL_REQUESTS} pull requests are fetched
+	 * at a time so that cancellation does not have to wait for a long queue.
+	 * The collector is only called from the calling thread.
+	 *
+	 * @param repository
+	 * @param repo
+	 * @param client
+	 * @param service
+	 * @param commentService
+	 * @param pulls
+	 * @param collector
+	 * @param monitor
+	 * @return true if all pull requests were collected, false if canceled
+	 * @throws IOException
+	 */
+	private boolean collect(final TaskRepository repository,
+			final RepositoryId repo, GitHubClient client,
+			final PullRequestService service,
+			final IssueService commentService, List<PullRequest> pulls,
+			TaskDataCollector collector, IProgressMonitor monitor)
+			throws IOException {
+		final BlockingQueue<CompletableFuture<FetchedPullRequest>> completed = new LinkedBlockingQueue<>();
+		Set<CompletableFuture<FetchedPullRequest>> running = new HashSet<>();
+		Iterator<PullRequest> pending = pulls.iterator();
+		try {
+			while (pending.hasNext() || !running.isEmpty()) {
+				while (pending.hasNext()
+						&& running.size() < MAX_CONCURRENT_PULL_REQUESTS) {
+					final int number = pending.next().getNumber();
+					final CompletableFuture<FetchedPullRequest> future = client
+							.submit(() -> fetch(repo, service, commentService,
+									number));
+					running.add(future);
+					future.whenComplete((value, error) -> completed.add(future));
+				}
+				if (monitor.isCanceled())
+					return false;
+				CompletableFuture<FetchedPullRequest> done = completed.poll(
+						POLL_INTERVAL, TimeUnit.MILLISECONDS);
+				if (done == null)
+					continue;
+				running.remove(done);
+				FetchedPullRequest fetched = getResult(done);
+				collector.accept(taskDataHandler.createTaskData(repository,
+						monitor, repo, fetched.request, fetched.comments));
+			}
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		} finally {
+			// pull requests still queued are not fetched once canceled
+			for (CompletableFuture<FetchedPullRequest> future : running)
+				future.cancel(false);
+		}
+	}
+
+	private static FetchedPullRequest fetch(RepositoryId repo,
+			PullRequestService service, IssueService commentService,
+			int number) throws IOException {
+		PullRequest pr = service.getPullRequest(repo, number);
+		PullRequestComposite prComp = new PullRequestComposite();
+		prComp.setRequest(pr);
+		List<Comment> comments = null;
+		if (pr.getComments() > 0)
+			comments = commentService.getComments(repo, number);
+		if (pr.getCommits() > 0)
+			prComp.setCommits(service.getCommits(repo, number));
+		return new FetchedPullRequest(prComp, comments);
+	}
+
+	private static <V> V getResult(Future<V> future) throws IOException,
+			InterruptedException {
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException)
+				throw (IOException) cause;
+			throw new IOException(cause);
+		}
+	}
+
 	@Override
 	public TaskData getTaskData(TaskRepository repository, String taskId,
 			IProgressMonitor monitor) throws CoreException {
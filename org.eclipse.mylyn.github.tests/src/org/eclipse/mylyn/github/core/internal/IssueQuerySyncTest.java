@@ -0,0 +1,265 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse EGit GitHub contributors and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *    Eclipse EGit GitHub contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.mylyn.github.core.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.egit.github.core.Issue;
+import org.eclipse.egit.github.core.Label;
+import org.eclipse.egit.github.core.Milestone;
+import org.eclipse.egit.github.core.User;
+import org.eclipse.egit.github.core.service.IssueService;
+import org.eclipse.mylyn.internal.github.core.GitHub;
+import org.eclipse.mylyn.internal.github.core.issue.IssueQuerySync;
+import org.eclipse.mylyn.internal.tasks.core.RepositoryQuery;
+import org.eclipse.mylyn.internal.tasks.core.TaskTask;
+import org.eclipse.mylyn.tasks.core.ITask;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link IssueQuerySync}
+ */
+@SuppressWarnings("restriction")
+public class IssueQuerySyncTest {
+
+	private static final long NOW = 1500000000000L;
+
+	private static final String URL = "https://github.com/o/r";
+
+	private static final List<String> OPEN = Collections
+			.singletonList(IssueService.STATE_OPEN);
+
+	private RepositoryQuery query;
+
+	@Before
+	public void before() {
+		query = new RepositoryQuery(GitHub.CONNECTOR_KIND, "query");
+	}
+
+	private static Issue issue(int number, String state, long updated) {
+		return new Issue().setNumber(number).setState(state)
+				.setUpdatedAt(new Date(updated));
+	}
+
+	private static Map<String, String> filter(String key, String value) {
+		Map<String, String> filterData = new HashMap<>();
+		filterData.put(key, value);
+		return filterData;
+	}
+
+	private IssueQuerySync synchronizeFully(Map<String, String> filterData,
+			Issue... issues) {
+		IssueQuerySync sync = new IssueQuerySync(query, OPEN, filterData);
+		for (Issue issue : issues)
+			sync.addIssue(issue);
+		sync.complete(true, NOW);
+		return new IssueQuerySync(query, OPEN, filterData);
+	}
+
+	@Test
+	public void firstSyncIsFull() {
+		IssueQuerySync sync = new IssueQuerySync(query, OPEN,
+				new HashMap<String, String>());
+		assertNull(sync.getSince(NOW));
+	}
+
+	@Test
+	public void incrementalSinceNewestUpdate() {
+		IssueQuerySync sync = synchronizeFully(new HashMap<String, String>(),
+				issue(1, IssueService.STATE_OPEN, NOW - 5000),
+				issue(2, IssueService.STATE_OPEN, NOW - 2000));
+		assertEquals(new Date(NOW - 2000), sync.getSince(NOW + 1000));
+	}
+
+	@Test
+	public void changedFilterIsFull() {
+		synchronizeFully(new HashMap<String, String>(),
+				issue(1, IssueService.STATE_OPEN, NOW - 5000));
+		IssueQuerySync sync = new IssueQuerySync(query, OPEN,
+				filter(IssueService.FILTER_MILESTONE, "1"));
+		assertNull(sync.getSince(NOW + 1000));
+	}
+
+	@Test
+	public void expiredFullSyncIsFull() {
+		IssueQuerySync sync = synchronizeFully(new HashMap<String, String>(),
+				issue(1, IssueService.STATE_OPEN, NOW - 5000));
+		assertNull(sync.getSince(NOW + IssueQuerySync.FULL_SYNC_INTERVAL + 1));
+		// clock moved back before the last full synchronization
+		assertNull(sync.getSince(NOW - 1));
+	}
+
+	@Test
+	public void futureUpdateIsFull() {
+		IssueQuerySync sync = synchronizeFully(new HashMap<String, String>(),
+				issue(1, IssueService.STATE_OPEN,
+						NOW + 2 * IssueQuerySync.SYNC_MARGIN));
+		assertNull(sync.getSince(NOW));
+	}
+
+	@Test
+	public void mentionedIsFull() {
+		IssueQuerySync sync = synchronizeFully(
+				filter(IssueService.FILTER_MENTIONED, "user"),
+				issue(1, IssueService.STATE_OPEN, NOW - 5000));
+		assertNull(sync.getSince(NOW + 1000));
+	}
+
+	@Test
+	public void assigneeIsFull() {
+		IssueQuerySync sync = synchronizeFully(
+				filter(IssueService.FILTER_ASSIGNEE, "user"),
+				issue(1, IssueService.STATE_OPEN, NOW - 5000));
+		assertNull(sync.getSince(NOW + 1000));
+	}
+
+	@Test
+	public void anyOrNoAssigneeIsIncremental() {
+		IssueQuerySync sync = synchronizeFully(
+				filter(IssueService.FILTER_ASSIGNEE, "*"),
+				issue(1, IssueService.STATE_OPEN, NOW - 5000));
+		assertEquals(new Date(NOW - 5000), sync.getSince(NOW + 1000));
+		sync = synchronizeFully(filter(IssueService.FILTER_ASSIGNEE, "none"),
+				issue(1, IssueService.STATE_OPEN, NOW - 5000));
+		assertEquals(new Date(NOW - 5000), sync.getSince(NOW + 1000));
+	}
+
+	@Test
+	public void incrementalFilter() {
+		IssueQuerySync sync = new IssueQuerySync(query, OPEN,
+				new HashMap<String, String>());
+		Map<String, String> deltaData = sync.startIncremental(new Date(
+				NOW + IssueQuerySync.SYNC_MARGIN));
+		assertEquals("all", deltaData.get(IssueService.FILTER_STATE));
+		assertEquals(IssueService.SORT_UPDATED,
+				deltaData.get(IssueService.FIELD_SORT));
+		assertEquals("2017-07-14T02:40:00Z",
+				deltaData.get(IssueService.FIELD_SINCE));
+	}
+
+	@Test
+	public void incrementalKeepsSinceWithoutChanges() {
+		IssueQuerySync sync = synchronizeFully(new HashMap<String, String>(),
+				issue(1, IssueService.STATE_OPEN, NOW - 5000));
+		Date since = sync.getSince(NOW + 1000);
+		sync.startIncremental(since);
+		sync.complete(false, NOW + 1000);
+		assertEquals(since, new IssueQuerySync(query, OPEN,
+				new HashMap<String, String>()).getSince(NOW + 2000));
+	}
+
+	@Test
+	public void coversRepository() {
+		List<String> all = Arrays.asList(IssueService.STATE_OPEN,
+				IssueService.STATE_CLOSED);
+		assertTrue(new IssueQuerySync(query, all,
+				new HashMap<String, String>()).coversRepository());
+		assertFalse(new IssueQuerySync(query, OPEN,
+				new HashMap<String, String>()).coversRepository());
+		assertFalse(new IssueQuerySync(query, all,
+				filter(IssueService.FILTER_LABELS, "bug")).coversRepository());
+	}
+
+	@Test
+	public void matchesState() {
+		IssueQuerySync sync = new IssueQuerySync(query, OPEN,
+				new HashMap<String, String>());
+		assertTrue(sync.matches(issue(1, IssueService.STATE_OPEN, NOW)));
+		assertFalse(sync.matches(issue(1, IssueService.STATE_CLOSED, NOW)));
+	}
+
+	@Test
+	public void matchesAssignee() {
+		Issue assigned = issue(1, IssueService.STATE_OPEN, NOW)
+				.setAssignee(new User().setLogin("User"));
+		Issue unassigned = issue(2, IssueService.STATE_OPEN, NOW);
+		IssueQuerySync none = new IssueQuerySync(query, OPEN,
+				filter(IssueService.FILTER_ASSIGNEE, "none"));
+		assertFalse(none.matches(assigned));
+		assertTrue(none.matches(unassigned));
+		IssueQuerySync any = new IssueQuerySync(query, OPEN,
+				filter(IssueService.FILTER_ASSIGNEE, "*"));
+		assertTrue(any.matches(assigned));
+		assertFalse(any.matches(unassigned));
+		IssueQuerySync user = new IssueQuerySync(query, OPEN,
+				filter(IssueService.FILTER_ASSIGNEE, "user"));
+		assertTrue(user.matches(assigned));
+		assertFalse(user.matches(unassigned));
+	}
+
+	@Test
+	public void matchesMilestone() {
+		IssueQuerySync sync = new IssueQuerySync(query, OPEN,
+				filter(IssueService.FILTER_MILESTONE, "3"));
+		assertTrue(sync.matches(issue(1, IssueService.STATE_OPEN, NOW)
+				.setMilestone(new Milestone().setNumber(3))));
+		assertFalse(sync.matches(issue(1, IssueService.STATE_OPEN, NOW)
+				.setMilestone(new Milestone().setNumber(4))));
+		assertFalse(sync.matches(issue(1, IssueService.STATE_OPEN, NOW)));
+	}
+
+	@Test
+	public void matchesLabels() {
+		IssueQuerySync sync = new IssueQuerySync(query, OPEN,
+				filter(IssueService.FILTER_LABELS, "bug,UI,"));
+		assertTrue(sync.matches(issue(1, IssueService.STATE_OPEN, NOW)
+				.setLabels(Arrays.asList(new Label().setName("Bug"),
+						new Label().setName("ui"),
+						new Label().setName("other")))));
+		assertFalse(sync.matches(issue(1, IssueService.STATE_OPEN, NOW)
+				.setLabels(Collections.singletonList(new Label()
+						.setName("bug")))));
+		assertFalse(sync.matches(issue(1, IssueService.STATE_OPEN, NOW)));
+	}
+
+	@Test
+	public void unchangedTasks() {
+		IssueQuerySync sync = synchronizeFully(new HashMap<String, String>(),
+				issue(1, IssueService.STATE_OPEN, NOW - 5000),
+				issue(2, IssueService.STATE_OPEN, NOW - 5000),
+				issue(3, IssueService.STATE_OPEN, NOW - 5000));
+		sync.startIncremental(sync.getSince(NOW + 1000));
+		assertTrue(sync.addChangedIssue(issue(2, IssueService.STATE_OPEN,
+				NOW)));
+		assertFalse(sync.addChangedIssue(issue(3,
+				IssueService.STATE_CLOSED, NOW)));
+		ITask first = new TaskTask(GitHub.CONNECTOR_KIND, URL, "1");
+		ITask second = new TaskTask(GitHub.CONNECTOR_KIND, URL, "2");
+		ITask third = new TaskTask(GitHub.CONNECTOR_KIND, URL, "3");
+		ITask other = new TaskTask(GitHub.CONNECTOR_KIND,
+				"https://github.com/o/other", "1");
+		ITask added = new TaskTask(GitHub.CONNECTOR_KIND, URL, "4");
+		List<ITask> tasks = Arrays.asList(first, second, third, other, added);
+		assertEquals(Collections.singletonList(first),
+				sync.getUnchangedTasks(tasks, URL));
+		sync.complete(false, NOW + 1000);
+
+		// the changed issue stays in the query, the closed one is dropped
+		IssueQuerySync next = new IssueQuerySync(query, OPEN,
+				new HashMap<String, String>());
+		next.startIncremental(next.getSince(NOW + 2000));
+		assertEquals(Arrays.asList(first, second),
+				next.getUnchangedTasks(tasks, URL));
+	}
+}